@@ -0,0 +1,102 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 버퍼 비교: {@code ConcurrentHashMap<Long, LongAdder>}(기존) vs {@link ConcurrentLongCountMap}.
+ *
+ * <p>실행: {@code ./gradlew jmh} (gc 프로파일러로 {@code gc.alloc.rate.norm} 확인)</p>
+ * <ul>
+ * <li><b>increment:</b> {@code songs}개 곡 ID(TSID 형태) 중 임의의 곡에 좋아요 1 증가. 8 스레드 동시 실행</li>
+ * <li><b>snapshot:</b> {@code songs}개 곡이 쌓인 버퍼를 DB Writer 입력으로 변환 (기존: Map&lt;Long, Long&gt;, 신규: 정렬된 primitive 배열)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LikeCounterBenchmark {
+
+    private static final int KEY_MASK = (1 << 20) - 1; // 미리 생성할 접근 순서 수 (2^20)
+
+    @Param({"1000000"})
+    private int songs;
+
+    private long[] songIds;
+    private int[] accessOrder;
+
+    private ConcurrentHashMap<Long, LongAdder> boxedBuffer;
+    private ConcurrentLongCountMap primitiveBuffer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        songIds = new long[songs];
+        long base = 794169986393843584L; // TSID 범위
+        for (int i = 0; i < songs; i++) {
+            songIds[i] = base + ((long) i << 22) + random.nextInt(1 << 22);
+        }
+        accessOrder = new int[KEY_MASK + 1];
+        for (int i = 0; i < accessOrder.length; i++) {
+            accessOrder[i] = random.nextInt(songs);
+        }
+
+        boxedBuffer = new ConcurrentHashMap<>();
+        primitiveBuffer = new ConcurrentLongCountMap(1024);
+        for (long songId : songIds) { // 모든 곡이 한 번 이상 기록된 상태에서 측정
+            boxedBuffer.computeIfAbsent(songId, k -> new LongAdder()).increment();
+            primitiveBuffer.add(songId, 1L);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = new SplittableRandom().nextInt();
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    public void incrementBoxed(Cursor cursor) {
+        long songId = songIds[accessOrder[cursor.next++ & KEY_MASK]];
+        boxedBuffer.computeIfAbsent(songId, k -> new LongAdder()).increment();
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    public void incrementPrimitive(Cursor cursor) {
+        long songId = songIds[accessOrder[cursor.next++ & KEY_MASK]];
+        primitiveBuffer.add(songId, 1L);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<Long, Long> snapshotBoxed() {
+        return boxedBuffer.entrySet().stream()
+                .filter(e -> e.getValue().sum() != 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LongCountSnapshot snapshotPrimitive() {
+        return primitiveBuffer.snapshot();
+    }
+}
@@ -0,0 +1,107 @@
+package com.seonghyeon.jukebox.service.like.strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 요청 경로 전체: {@link MemoryLikeWriteStrategy#addLike(Long)} (Mono 생성/구독, 버퍼 누적, 인기 곡 분 버킷 기록).
+ *
+ * <p>실행: {@code ./gradlew jmh} (gc 프로파일러로 {@code gc.alloc.rate.norm} 확인)
+ * {@link com.seonghyeon.jukebox.common.collection.LikeCounterBenchmark}가 버퍼 자료구조만 비교하는 것과 달리, 요청 한 건이 실제로 거치는 경로를 측정합니다.</p>
+ * <ul>
+ * <li><b>addLike:</b> {@code songs}개 곡 ID(TSID 형태) 중 임의의 곡에 좋아요. 8 스레드 동시 실행</li>
+ * <li><b>addLikeDuringFlush:</b> 7 스레드가 좋아요를 기록하는 동안 1 스레드가 Flush(버퍼 교체 + 스냅샷)를 반복. 버퍼 교체가 기록을 막는 정도를 확인</li>
+ * </ul>
+ * <p>DB 반영과 트랜잭션은 즉시 완료되는 구현으로 대체하며, 저널은 연결하지 않습니다. (세그먼트 파일 생성이 측정을 좌우하지 않도록)</p>
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoryLikeWriteStrategyBenchmark {
+
+    private static final int KEY_MASK = (1 << 20) - 1; // 미리 생성할 접근 순서 수 (2^20)
+
+    private static final TransactionalOperator NO_TRANSACTION = new TransactionalOperator() {
+        @Override
+        public <T> Mono<T> transactional(Mono<T> mono) {
+            return mono;
+        }
+
+        @Override
+        public <T> Flux<T> execute(TransactionCallback<T> action) {
+            return Flux.from(action.doInTransaction(null));
+        }
+    };
+
+    @Param({"100000"})
+    private int songs;
+
+    private long[] songIds;
+    private int[] accessOrder;
+
+    private MemoryLikeWriteStrategy strategy;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        songIds = new long[songs];
+        long base = 794169986393843584L; // TSID 범위
+        for (int i = 0; i < songs; i++) {
+            songIds[i] = base + ((long) i << 22) + random.nextInt(1 << 22);
+        }
+        accessOrder = new int[KEY_MASK + 1];
+        for (int i = 0; i < accessOrder.length; i++) {
+            accessOrder[i] = random.nextInt(songs);
+        }
+
+        strategy = new MemoryLikeWriteStrategy(snapshot -> Mono.empty(), NO_TRANSACTION, Clock.systemUTC());
+        for (long songId : songIds) { // 모든 곡이 한 번 이상 기록된 상태에서 측정
+            strategy.addLike(songId).block();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = new SplittableRandom().nextInt();
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    public void addLike(Cursor cursor) {
+        strategy.addLike(songIds[accessOrder[cursor.next++ & KEY_MASK]]).block();
+    }
+
+    @Benchmark
+    @Group("addLikeDuringFlush")
+    @GroupThreads(7)
+    @BenchmarkMode(Mode.Throughput)
+    public void addLikeWhileFlushing(Cursor cursor) {
+        strategy.addLike(songIds[accessOrder[cursor.next++ & KEY_MASK]]).block();
+    }
+
+    @Benchmark
+    @Group("addLikeDuringFlush")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    public void flush() {
+        strategy.flushToDatabase().block();
+    }
+}
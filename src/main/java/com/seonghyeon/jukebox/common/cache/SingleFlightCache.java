@@ -0,0 +1,75 @@
+package com.seonghyeon.jukebox.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 짧은 TTL의 조회 결과 캐시. 동시에 발생한 Miss는 하나의 로드로 합치고(Single-Flight), 만료된 값은 갱신 중에도 계속 응답합니다.
+ *
+ * <ul>
+ * <li><b>Fresh:</b> TTL 이내의 값은 그대로 반환합니다.</li>
+ * <li><b>Stale:</b> TTL이 지났지만 {@code maxStale} 이내인 값은 즉시 반환하고, 백그라운드에서 한 번만 갱신합니다.
+ * 갱신이 실패하면 기존 값을 유지하며 다음 요청에서 다시 갱신을 시도합니다.</li>
+ * <li><b>Miss:</b> 값이 없거나 {@code maxStale}을 넘은 경우, 진행 중인 로드가 있으면 그 결과를 함께 기다리고 없으면 새로 로드합니다.</li>
+ * </ul>
+ * <p>키 수에 상한이 없으므로, 키의 종류가 제한된 조회(고정 파라미터 API 등)에만 사용해야 합니다.</p>
+ */
+@Slf4j
+public final class SingleFlightCache<K, V> {
+
+    private final Duration ttl;
+    private final Duration maxStale;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightCache(Duration ttl, Duration maxStale, Clock clock) {
+        if (ttl.isNegative() || maxStale.isNegative()) throw new IllegalArgumentException("TTL cannot be negative.");
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+        this.clock = clock;
+    }
+
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        if (ttl.isZero()) {
+            return loader.apply(key); // 캐시 비활성화
+        }
+        return Mono.defer(() -> {
+            Entry<V> entry = entries.get(key);
+            long now = clock.millis();
+            if (entry == null || now - entry.loadedAt() >= ttl.toMillis() + maxStale.toMillis()) {
+                return load(key, loader);
+            }
+            if (now - entry.loadedAt() >= ttl.toMillis()) {
+                load(key, loader).subscribe(
+                        null,
+                        e -> log.warn("[SingleFlightCache] Refresh failed, serving stale value. key={}, error={}", key, e.getMessage())
+                );
+            }
+            return Mono.just(entry.value());
+        });
+    }
+
+    private Mono<V> load(K key, Function<K, Mono<V>> loader) {
+        return inFlight.computeIfAbsent(key, k -> {
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> flight = Mono.defer(() -> loader.apply(k))
+                    .doOnNext(value -> entries.put(k, new Entry<>(value, clock.millis())))
+                    // 완료 후 제거하여 이후 Miss/Stale 요청이 새로 로드하도록 함 (에러도 캐시하지 않음)
+                    .doFinally(signal -> inFlight.remove(k, self.get()))
+                    .cache();
+            self.set(flight);
+            return flight;
+        });
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
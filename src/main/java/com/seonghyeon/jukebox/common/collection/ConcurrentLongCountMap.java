@@ -0,0 +1,212 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * primitive long 키별 카운트를 누적하는 Striped Open Addressing(Linear Probing) 기반 동시성 Map.
+ *
+ * <p>{@code ConcurrentHashMap<Long, LongAdder>} 대비 증감 시 boxing, 노드, {@code LongAdder} 할당이 없습니다.</p>
+ * <ul>
+ * <li><b>Striping:</b> 키 해시의 상위 비트로 Stripe를 나누고, Stripe마다 {@code [key, count]}가 교대로 놓인 {@code AtomicLongArray}를 가집니다.</li>
+ * <li><b>증감:</b> Stripe의 읽기 잠금({@link StampedLock}, 할당 없음) 안에서 빈 슬롯은 CAS로 키를 선점하고, 카운트는 {@code getAndAdd}로 누적합니다.</li>
+ * <li><b>확장:</b> Stripe의 사용률이 0.75를 넘으면 해당 Stripe만 쓰기 잠금을 잡고 2배로 확장합니다. 다른 Stripe의 증감은 막지 않습니다.</li>
+ * <li><b>스냅샷:</b> {@link #snapshot()}은 카운트가 0이 아닌 항목을 키 오름차순 {@link LongCountSnapshot}으로 반환합니다.</li>
+ * </ul>
+ * <p>삭제는 지원하지 않습니다. 버퍼처럼 주기적으로 새 인스턴스로 교체하는 용도를 전제로 합니다.</p>
+ */
+public final class ConcurrentLongCountMap {
+
+    private static final long EMPTY = 0L; // 0은 빈 슬롯 표시로 사용하며, 실제 0 키는 별도 필드로 관리
+    private static final int MIN_STRIPE_CAPACITY = 16;
+    private static final int MAX_STRIPE_CAPACITY = 1 << 29; // 슬롯 수 (배열 길이는 2배)
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final AtomicLong zeroKeyCount = new AtomicLong();
+    private volatile boolean containsZeroKey;
+
+    public ConcurrentLongCountMap(int expectedSize) {
+        this(expectedSize, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public ConcurrentLongCountMap(int expectedSize, int concurrency) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size cannot be negative.");
+        if (concurrency <= 0) throw new IllegalArgumentException("Concurrency must be positive.");
+
+        int stripeCount = Integer.highestOneBit(Math.min(concurrency, 1 << 16) * 2 - 1); // 2의 거듭제곱으로 올림
+        this.stripes = new Stripe[stripeCount];
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripeCount);
+        int stripeCapacity = capacityFor((int) Math.min(Integer.MAX_VALUE, (long) expectedSize / stripeCount + 1));
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    public void add(long key, long delta) {
+        if (key == EMPTY) {
+            containsZeroKey = true;
+            zeroKeyCount.getAndAdd(delta);
+            return;
+        }
+        int hash = hash(key);
+        Stripe stripe = stripeFor(hash);
+        while (true) {
+            AtomicLongArray table;
+            long stamp = stripe.lock.readLock();
+            try {
+                table = stripe.table;
+                if (tryAdd(stripe, table, hash, key, delta)) return;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+            stripe.grow(table);
+        }
+    }
+
+    public long get(long key) {
+        if (key == EMPTY) return zeroKeyCount.get();
+
+        int hash = hash(key);
+        Stripe stripe = stripeFor(hash);
+        long stamp = stripe.lock.readLock();
+        try {
+            AtomicLongArray table = stripe.table;
+            int mask = (table.length() >> 1) - 1;
+            int index = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                long slot = table.get(index << 1);
+                if (slot == key) return table.get((index << 1) + 1);
+                if (slot == EMPTY) return 0L;
+                index = (index + 1) & mask;
+            }
+            return 0L;
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    // 저장된 키 수 (카운트가 0으로 돌아온 키 포함)
+    public int size() {
+        int size = containsZeroKey ? 1 : 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size.get();
+        }
+        return size;
+    }
+
+    /**
+     * 카운트가 0이 아닌 항목을 키 오름차순으로 복사합니다.
+     * 복사 도중 발생한 증감은 스냅샷에 포함되지 않을 수 있습니다.
+     */
+    public LongCountSnapshot snapshot() {
+        long[] keys = new long[size()];
+        int count = 0;
+        if (containsZeroKey && zeroKeyCount.get() != 0) keys[count++] = EMPTY;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                AtomicLongArray table = stripe.table;
+                for (int i = 0; i < table.length(); i += 2) {
+                    long key = table.get(i);
+                    if (key != EMPTY && table.get(i + 1) != 0) {
+                        if (count == keys.length) keys = Arrays.copyOf(keys, keys.length * 2 + 1); // 복사 도중 추가된 키
+                        keys[count++] = key;
+                    }
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        keys = Arrays.copyOf(keys, count);
+        Arrays.sort(keys);
+
+        long[] counts = new long[count];
+        for (int i = 0; i < count; i++) {
+            counts[i] = get(keys[i]);
+        }
+        return new LongCountSnapshot(keys, counts);
+    }
+
+    // 키가 있거나 빈 슬롯을 선점하면 누적 후 true, 확장이 필요하면 false
+    private static boolean tryAdd(Stripe stripe, AtomicLongArray table, int hash, long key, long delta) {
+        int capacity = table.length() >> 1;
+        int mask = capacity - 1;
+        int index = hash & mask;
+        for (int probes = 0; probes < capacity; probes++) {
+            int keyIndex = index << 1;
+            long slot = table.get(keyIndex);
+            if (slot == EMPTY) {
+                if ((stripe.size.get() + 1) * 4L > capacity * 3L) return false; // load factor 0.75 초과
+                if (table.compareAndSet(keyIndex, EMPTY, key)) {
+                    stripe.size.incrementAndGet();
+                    table.getAndAdd(keyIndex + 1, delta);
+                    return true;
+                }
+                slot = table.get(keyIndex); // 다른 스레드가 선점한 키 확인
+            }
+            if (slot == key) {
+                table.getAndAdd(keyIndex + 1, delta);
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private Stripe stripeFor(int hash) {
+        return stripes[stripeShift == 32 ? 0 : hash >>> stripeShift];
+    }
+
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L; // TSID 등 하위 비트 편향이 있는 ID를 고르게 분산
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(MIN_STRIPE_CAPACITY, (long) expectedSize * 4 / 3 + 1);
+        if (required > MAX_STRIPE_CAPACITY) throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+        return Integer.highestOneBit((int) (required - 1)) << 1;
+    }
+
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+        private final AtomicInteger size = new AtomicInteger();
+        private volatile AtomicLongArray table;
+
+        private Stripe(int capacity) {
+            this.table = new AtomicLongArray(capacity << 1);
+        }
+
+        // 다른 스레드가 이미 확장했으면 아무것도 하지 않음
+        private void grow(AtomicLongArray expected) {
+            long stamp = lock.writeLock();
+            try {
+                AtomicLongArray old = table;
+                if (old != expected) return;
+                int capacity = old.length() >> 1;
+                if (capacity >= MAX_STRIPE_CAPACITY) throw new IllegalStateException("ConcurrentLongCountMap capacity exceeded.");
+
+                AtomicLongArray resized = new AtomicLongArray(old.length() << 1);
+                int mask = capacity * 2 - 1;
+                for (int i = 0; i < old.length(); i += 2) {
+                    long key = old.get(i);
+                    if (key == EMPTY) continue;
+                    int index = hash(key) & mask;
+                    while (resized.get(index << 1) != EMPTY) {
+                        index = (index + 1) & mask;
+                    }
+                    resized.set(index << 1, key);
+                    resized.set((index << 1) + 1, old.get(i + 1));
+                }
+                table = resized;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+}
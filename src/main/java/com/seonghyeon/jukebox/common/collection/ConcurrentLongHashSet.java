@@ -0,0 +1,98 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * primitive long 값을 저장하는 Open Addressing(Linear Probing) 기반 Set.
+ *
+ * <p>{@code Set<Long>} 대비 원소당 boxing 객체와 노드 할당이 없어, 수십만 건의 ID를 보관할 때 메모리 사용량이 작습니다.</p>
+ * <ul>
+ * <li><b>읽기:</b> 락 없이 수행됩니다. 확장(resize) 시에는 새 테이블을 완성한 뒤 교체하므로, 읽기 스레드는 항상 완전한 테이블을 봅니다.</li>
+ * <li><b>쓰기:</b> 단일 모니터로 직렬화됩니다. 쓰기는 데이터 적재 시점에만 발생하는 것을 전제로 합니다.</li>
+ * </ul>
+ * <p>삭제는 지원하지 않습니다.</p>
+ */
+public final class ConcurrentLongHashSet {
+
+    private static final long EMPTY = 0L; // 0은 빈 슬롯 표시로 사용하며, 실제 0 값은 별도 플래그로 관리
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private volatile AtomicLongArray table;
+    private volatile boolean containsZero;
+    private int size; // guarded by this
+
+    public ConcurrentLongHashSet(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size cannot be negative.");
+        this.table = new AtomicLongArray(capacityFor(expectedSize));
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return containsZero;
+
+        AtomicLongArray current = table;
+        int mask = current.length() - 1;
+        int index = hash(value) & mask;
+        while (true) {
+            long slot = current.get(index);
+            if (slot == value) return true;
+            if (slot == EMPTY) return false;
+            index = (index + 1) & mask;
+        }
+    }
+
+    public synchronized boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if ((long) (size + 1) * 4 > (long) table.length() * 3) { // load factor 0.75 초과 시 확장
+            resize();
+        }
+        boolean added = insert(table, value);
+        if (added) size++;
+        return added;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void resize() {
+        AtomicLongArray old = table;
+        if (old.length() >= MAX_CAPACITY) throw new IllegalStateException("ConcurrentLongHashSet capacity exceeded.");
+
+        AtomicLongArray resized = new AtomicLongArray(old.length() << 1);
+        for (int i = 0; i < old.length(); i++) {
+            long slot = old.get(i);
+            if (slot != EMPTY) insert(resized, slot);
+        }
+        table = resized; // 완성된 테이블을 한 번에 공개
+    }
+
+    private static boolean insert(AtomicLongArray target, long value) {
+        int mask = target.length() - 1;
+        int index = hash(value) & mask;
+        while (true) {
+            long slot = target.get(index);
+            if (slot == value) return false;
+            if (slot == EMPTY) {
+                target.set(index, value);
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L; // TSID 등 하위 비트 편향이 있는 ID를 고르게 분산
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(16L, (long) expectedSize * 4 / 3 + 1);
+        if (required > MAX_CAPACITY) throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+        return Integer.highestOneBit((int) (required - 1)) << 1;
+    }
+}
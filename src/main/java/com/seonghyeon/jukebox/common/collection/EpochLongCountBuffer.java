@@ -0,0 +1,132 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주기적으로 교체(Flush)되는 {@link ConcurrentLongCountMap} 버퍼를 공유 잠금 없이 누적하기 위한 Epoch 기반 Double Buffer.
+ *
+ * <p>현재 버퍼(Epoch)를 volatile 참조로 두고, 누적 중인 스레드 수를 Epoch마다 Striped 카운터로 추적합니다.</p>
+ * <ul>
+ * <li><b>누적:</b> 스레드별 Stripe 카운터를 증가시킨 뒤 현재 Epoch가 그대로인지 다시 확인하고 누적합니다. 그 사이 교체되었다면 새 Epoch로 다시 시도합니다.
+ * 모든 스레드가 하나의 잠금 워드를 공유하지 않으므로, 누적끼리는 서로를 막지 않습니다.</li>
+ * <li><b>봉인:</b> {@link #seal()}은 새 Epoch로 교체한 뒤 이전 Epoch의 카운터가 모두 0이 될 때까지(진행 중인 누적이 끝날 때까지) 기다리고 이전 버퍼를 반환합니다.
+ * 반환된 버퍼에는 이후 누적이 들어오지 않습니다.</li>
+ * <li><b>개방:</b> 새 Epoch는 {@link #open()} 전까지 누적을 대기시킵니다. 봉인과 개방 사이에 저널 회전 등을 실행하면,
+ * 누적 중 함께 실행한 작업({@link #add(long, long, LongLongConsumer)})과 버퍼가 같은 Epoch 경계로 나뉩니다.</li>
+ * </ul>
+ * <p>봉인과 개방은 한 스레드에서 순서대로 호출해야 합니다. 봉인부터 개방까지 교체 잠금을 유지하므로, 다른 스레드의 봉인은 개방 이후에 진행됩니다.
+ * (누적은 교체 잠금을 사용하지 않음)</p>
+ */
+public final class EpochLongCountBuffer {
+
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+    private static final int PADDING = 8; // Stripe 카운터 간 False Sharing 방지 (64바이트 간격)
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final int expectedSize;
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private volatile Epoch current;
+
+    public EpochLongCountBuffer(int expectedSize) {
+        this.expectedSize = expectedSize;
+        this.current = new Epoch(new ConcurrentLongCountMap(expectedSize), true);
+    }
+
+    public void add(long key, long delta) {
+        add(key, delta, null);
+    }
+
+    /**
+     * 버퍼에 누적합니다. {@code beforeAdd}는 누적과 같은 Epoch 안에서 먼저 실행됩니다. (저널 기록 등)
+     */
+    public void add(long key, long delta, LongLongConsumer beforeAdd) {
+        int stripe = stripeIndex();
+        while (true) {
+            Epoch epoch = current;
+            epoch.inflight.getAndIncrement(stripe);
+            try {
+                if (epoch != current) continue; // 교체됨: 봉인 중인 Epoch에는 누적하지 않음
+                epoch.awaitOpen();
+                if (beforeAdd != null) beforeAdd.accept(key, delta);
+                epoch.buffer.add(key, delta);
+                return;
+            } finally {
+                epoch.inflight.getAndDecrement(stripe);
+            }
+        }
+    }
+
+    // 현재 버퍼의 키 수 (카운트가 0으로 돌아온 키 포함)
+    public int size() {
+        return current.buffer.size();
+    }
+
+    /**
+     * 새 버퍼로 교체하고 진행 중인 누적이 끝날 때까지 기다린 뒤 이전 버퍼를 반환합니다.
+     * 새 버퍼는 {@link #open()}을 호출할 때까지 누적을 받지 않습니다.
+     */
+    public ConcurrentLongCountMap seal() {
+        swapLock.lock();
+        Epoch sealed = current;
+        // 직전 버퍼 크기로 새 버퍼를 생성하여 키 수가 많을 때 반복 확장을 피함
+        current = new Epoch(new ConcurrentLongCountMap(Math.max(expectedSize, sealed.buffer.size())), false);
+        sealed.awaitQuiescence();
+        return sealed.buffer;
+    }
+
+    /**
+     * {@link #seal()}로 교체한 새 버퍼의 누적을 시작합니다.
+     */
+    public void open() {
+        if (!swapLock.isHeldByCurrentThread()) throw new IllegalStateException("Buffer is not sealed by current thread.");
+        current.open = true;
+        swapLock.unlock();
+    }
+
+    private static int stripeIndex() {
+        long id = Thread.currentThread().threadId();
+        return (int) ((id ^ (id >>> 16)) & (STRIPES - 1)) * PADDING;
+    }
+
+    private static void backOff(int spins) {
+        if (spins < SPINS_BEFORE_YIELD) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+
+    private static final class Epoch {
+
+        private final ConcurrentLongCountMap buffer;
+        private final AtomicLongArray inflight = new AtomicLongArray(STRIPES * PADDING);
+        private volatile boolean open;
+
+        private Epoch(ConcurrentLongCountMap buffer, boolean open) {
+            this.buffer = buffer;
+            this.open = open;
+        }
+
+        private void awaitOpen() {
+            for (int spins = 0; !open; spins++) {
+                backOff(spins);
+            }
+        }
+
+        // 교체 이후 카운터를 올린 스레드는 Epoch가 바뀐 것을 보고 누적 없이 빠져나가므로, 모든 Stripe가 0이면 이후 누적은 없음
+        private void awaitQuiescence() {
+            for (int spins = 0; ; spins++) {
+                boolean quiescent = true;
+                for (int i = 0; i < inflight.length(); i += PADDING) {
+                    if (inflight.get(i) != 0) {
+                        quiescent = false;
+                        break;
+                    }
+                }
+                if (quiescent) return;
+                backOff(spins);
+            }
+        }
+    }
+}
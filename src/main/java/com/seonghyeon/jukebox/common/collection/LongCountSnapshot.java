@@ -0,0 +1,86 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 키 오름차순으로 정렬된 primitive long 키/카운트 스냅샷. (카운트가 0인 항목은 포함하지 않음)
+ *
+ * <p>키와 카운트를 두 개의 {@code long[]}으로 보관하여, 항목당 boxing 객체나 Map 노드를 만들지 않습니다.</p>
+ */
+public final class LongCountSnapshot {
+
+    private static final LongCountSnapshot EMPTY = new LongCountSnapshot(new long[0], new long[0]);
+
+    private final long[] keys;
+    private final long[] counts;
+
+    // keys는 오름차순 정렬, counts는 0이 아닌 값이어야 함
+    LongCountSnapshot(long[] keys, long[] counts) {
+        this.keys = keys;
+        this.counts = counts;
+    }
+
+    public static LongCountSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static LongCountSnapshot of(Map<Long, Long> counts) {
+        long[] keys = counts.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() != 0)
+                .mapToLong(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+        long[] values = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = counts.get(keys[i]);
+        }
+        return new LongCountSnapshot(keys, values);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    public long keyAt(int index) {
+        return keys[index];
+    }
+
+    public long countAt(int index) {
+        return counts[index];
+    }
+
+    public void forEach(LongLongConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            consumer.accept(keys[i], counts[i]);
+        }
+    }
+
+    public Map<Long, Long> toMap() {
+        Map<Long, Long> map = new HashMap<>(keys.length * 4 / 3 + 1);
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongCountSnapshot other)) return false;
+        return Arrays.equals(keys, other.keys) && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(keys) + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "LongCountSnapshot" + toMap();
+    }
+}
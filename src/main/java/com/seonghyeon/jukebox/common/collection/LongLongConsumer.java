@@ -0,0 +1,10 @@
+package com.seonghyeon.jukebox.common.collection;
+
+/**
+ * boxing 없이 primitive long 키/값 쌍을 전달받는 Consumer.
+ */
+@FunctionalInterface
+public interface LongLongConsumer {
+
+    void accept(long key, long value);
+}
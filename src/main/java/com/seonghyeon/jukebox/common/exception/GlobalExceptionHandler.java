@@ -3,6 +3,8 @@ package com.seonghyeon.jukebox.common.exception;
 import com.seonghyeon.jukebox.common.exception.like.AlreadyLikedException;
 import com.seonghyeon.jukebox.common.exception.like.NotLikedException;
 import com.seonghyeon.jukebox.common.exception.like.SongNotFoundException;
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsIndexNotReadyException;
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsSearchUnavailableException;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -52,6 +54,20 @@ public class GlobalExceptionHandler {
         return Mono.just(ErrorResponse.of("SONG_NOT_FOUND", ex.getMessage()));
     }
 
+    @ExceptionHandler(AlbumStatsIndexNotReadyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Mono<ErrorResponse> handleAlbumStatsIndexNotReady(AlbumStatsIndexNotReadyException ex) {
+        log.warn("Service Unavailable: {}", ex.getMessage());
+        return Mono.just(ErrorResponse.of("STATS_INDEX_NOT_READY", ex.getMessage()));
+    }
+
+    @ExceptionHandler(AlbumStatsSearchUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Mono<ErrorResponse> handleAlbumStatsSearchUnavailable(AlbumStatsSearchUnavailableException ex) {
+        log.warn("Service Unavailable: {}", ex.getMessage());
+        return Mono.just(ErrorResponse.of("STATS_SEARCH_UNAVAILABLE", ex.getMessage()));
+    }
+
     @ExceptionHandler(WebExchangeBindException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Mono<ErrorResponse> handleValidationException(WebExchangeBindException e) {
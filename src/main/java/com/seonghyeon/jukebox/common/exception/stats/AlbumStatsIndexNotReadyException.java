@@ -0,0 +1,8 @@
+package com.seonghyeon.jukebox.common.exception.stats;
+
+public class AlbumStatsIndexNotReadyException extends RuntimeException {
+
+    public AlbumStatsIndexNotReadyException(String message) {
+        super(message);
+    }
+}
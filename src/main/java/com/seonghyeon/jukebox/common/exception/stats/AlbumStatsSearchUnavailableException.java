@@ -0,0 +1,8 @@
+package com.seonghyeon.jukebox.common.exception.stats;
+
+public class AlbumStatsSearchUnavailableException extends RuntimeException {
+
+    public AlbumStatsSearchUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,112 @@
+package com.seonghyeon.jukebox.common.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 관측된 지연 시간으로 동시 처리 한도를 조정하는 AIMD(Additive Increase, Multiplicative Decrease) 동시성 제한.
+ *
+ * <ul>
+ * <li><b>증가:</b> 요청이 {@code latencyThreshold} 이내에 성공하고, 한도의 절반 이상을 사용 중이었던 경우 한도를 1 늘립니다.
+ * (한도를 다 쓰지 않는 저부하 구간에서는 한도를 늘리지 않음)</li>
+ * <li><b>감소:</b> 요청이 {@code latencyThreshold}를 넘기거나 서버 오류로 끝나면 한도에 {@code backoffRatio}를 곱해 줄입니다.
+ * 감소는 {@code latencyThreshold}마다 한 번만 적용합니다. 직전 감소 이후에 끝난 요청은 대부분 줄이기 전 한도에서 시작된 요청이므로,
+ * 한 번의 과부하로 동시에 끝난 요청 수만큼 반복해서 줄이지 않도록 합니다.</li>
+ * <li><b>거절:</b> 처리 중인 요청 수가 한도에 도달하면 {@link #tryAcquire()}가 false를 반환합니다.</li>
+ * </ul>
+ * <p>한도는 {@code [minLimit, maxLimit]} 범위를 벗어나지 않습니다.</p>
+ */
+public final class AimdConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private long lastDecreaseNanos; // decrease()에서만 접근 (synchronized)
+
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, System::nanoTime);
+    }
+
+    AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max.");
+        if (initialLimit < minLimit || initialLimit > maxLimit) throw new IllegalArgumentException("Initial limit must be within [min, max].");
+        if (!latencyThreshold.isPositive()) throw new IllegalArgumentException("Latency threshold must be positive.");
+        if (backoffRatio <= 0 || backoffRatio >= 1) throw new IllegalArgumentException("Backoff ratio must be in (0, 1).");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = nanoClock.getAsLong() - latencyThresholdNanos; // 첫 감소는 바로 적용
+    }
+
+    /**
+     * 한도 내에서 처리 슬롯을 획득합니다. 획득한 경우 요청 종료 시 {@code on*} 메서드 중 하나를 반드시 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청이 정상 종료됨. 지연 시간이 기준을 넘으면 한도를 줄입니다.
+     */
+    public void onSuccess(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlightBefore * 2 >= limit) {
+            increase();
+        }
+    }
+
+    /**
+     * 요청이 서버 오류로 종료됨. 한도를 줄입니다.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    /**
+     * 요청이 클라이언트 취소 등으로 종료되어 지연 시간을 판단에 사용하지 않음.
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+
+    private synchronized void decrease() {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreaseNanos < latencyThresholdNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        limit = Math.max(minLimit, (int) (limit * backoffRatio));
+    }
+}
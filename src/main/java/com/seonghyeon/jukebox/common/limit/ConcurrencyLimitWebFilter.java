@@ -0,0 +1,156 @@
+package com.seonghyeon.jukebox.common.limit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seonghyeon.jukebox.common.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 지정한 경로의 동시 처리 요청 수를 {@link AimdConcurrencyLimit}으로 제한하는 WebFilter.
+ *
+ * <p>DB가 느려지면 요청이 커넥션 풀 앞에 쌓여 모든 요청이 타임아웃되므로, 한도를 넘는 요청은 처리하지 않고
+ * 즉시 429(Too Many Requests)와 {@code Retry-After}로 응답합니다. 받아들인 요청의 지연 시간은 한도 조정에 사용됩니다.</p>
+ * <ul>
+ * <li><b>경로별 한도:</b> 경로마다 독립된 한도를 사용하므로, 한 경로의 지연이 다른 경로의 한도를 줄이지 않습니다.</li>
+ * <li><b>판정:</b> 5xx 응답과 에러는 한도 감소, 클라이언트 취소는 판정에서 제외, 나머지(4xx 포함)는 지연 시간으로 판정합니다.</li>
+ * <li><b>지표:</b> {@code jukebox.concurrency.limit}, {@code jukebox.concurrency.in-flight}, {@code jukebox.concurrency.rejected} (route 태그)</li>
+ * </ul>
+ */
+@Slf4j
+public class ConcurrencyLimitWebFilter implements WebFilter {
+
+    private final List<LimitedRoute> routes;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitWebFilter(List<LimitedRoute> routes, ObjectMapper objectMapper, MeterRegistry meterRegistry, Duration retryAfter) {
+        if (retryAfter.isNegative()) throw new IllegalArgumentException("Retry-After must not be negative.");
+        this.routes = List.copyOf(routes);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.routes.forEach(route -> route.bindMetrics(meterRegistry));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        LimitedRoute route = findRoute(exchange);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        AimdConcurrencyLimit limit = route.limit();
+        if (!limit.tryAcquire()) {
+            route.rejected.increment();
+            log.debug("[ConcurrencyLimit] Rejected request. route={}, limit={}", route.name(), limit.getLimit());
+            return reject(exchange.getResponse());
+        }
+
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        limit.onIgnored();
+                    } else if (signal == SignalType.ON_ERROR || isServerError(exchange.getResponse().getStatusCode())) {
+                        limit.onDropped();
+                    } else {
+                        limit.onSuccess(System.nanoTime() - startNanos);
+                    }
+                });
+    }
+
+    private LimitedRoute findRoute(ServerWebExchange exchange) {
+        for (LimitedRoute route : routes) {
+            if (route.matches(exchange)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ErrorResponse.of("TOO_MANY_REQUESTS", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static boolean isServerError(HttpStatusCode status) {
+        return status != null && status.is5xxServerError();
+    }
+
+    /**
+     * 동시성 제한을 적용할 경로.
+     *
+     * @param name    지표의 route 태그 값
+     * @param pattern 경로 패턴 (예: {@code /api/v1/songs/{songId}/likes})
+     */
+    public static final class LimitedRoute {
+
+        private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+        private final String name;
+        private final HttpMethod method;
+        private final PathPattern pattern;
+        private final AimdConcurrencyLimit limit;
+        private Counter rejected;
+
+        public LimitedRoute(String name, HttpMethod method, String pattern, AimdConcurrencyLimit limit) {
+            this.name = name;
+            this.method = method;
+            this.pattern = PARSER.parse(pattern);
+            this.limit = limit;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public AimdConcurrencyLimit limit() {
+            return limit;
+        }
+
+        private boolean matches(ServerWebExchange exchange) {
+            return method.equals(exchange.getRequest().getMethod())
+                    && pattern.matches(exchange.getRequest().getPath().pathWithinApplication());
+        }
+
+        private void bindMetrics(MeterRegistry meterRegistry) {
+            Gauge.builder("jukebox.concurrency.limit", limit, AimdConcurrencyLimit::getLimit)
+                    .description("Adaptive concurrency limit")
+                    .tag("route", name)
+                    .register(meterRegistry);
+            Gauge.builder("jukebox.concurrency.in-flight", limit, AimdConcurrencyLimit::getInFlight)
+                    .description("Requests currently being processed")
+                    .tag("route", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("jukebox.concurrency.rejected")
+                    .description("Requests rejected by the concurrency limit")
+                    .tag("route", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.seonghyeon.jukebox.common.pagination;
+
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지. 전체 개수를 계산하지 않으며, 다음 페이지가 없으면 {@code nextCursor}는 null입니다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        @Nullable String nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
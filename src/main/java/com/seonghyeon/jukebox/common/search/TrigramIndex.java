@@ -0,0 +1,163 @@
+package com.seonghyeon.jukebox.common.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * 문자열 목록에 대한 Trigram(연속한 3글자) 역색인.
+ *
+ * <p>대소문자와 악센트를 구분하지 않는 부분 문자열 검색과 유사 문자열(오타 허용) 검색을 지원합니다.
+ * 결과는 생성 시 전달한 목록의 번호(term 번호)입니다.</p>
+ * <ul>
+ * <li><b>정규화:</b> NFD로 분해하여 결합 문자(악센트)를 제거하고 소문자로 변환합니다.</li>
+ * <li><b>부분 문자열:</b> 질의 trigram별 posting list(term 번호 오름차순)를 짧은 것부터 교집합한 뒤, 남은 후보만 실제 포함 여부를 확인합니다.
+ * 3글자 미만 질의는 trigram이 없으므로 전체 term을 확인합니다.</li>
+ * <li><b>유사 검색:</b> 공유 trigram 수로 유사도 {@code 공유 / (질의 + term - 공유)}를 계산합니다. (pg_trgm의 similarity와 같은 정의)</li>
+ * </ul>
+ * <p>생성 후 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.</p>
+ */
+public final class TrigramIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] normalizedTerms;
+    private final int[] trigramCounts; // term별 서로 다른 trigram 수
+    private final Map<Long, int[]> postings;
+
+    public TrigramIndex(List<String> terms) {
+        int size = terms.size();
+        this.normalizedTerms = new String[size];
+        this.trigramCounts = new int[size];
+
+        long[][] termTrigrams = new long[size][];
+        Map<Long, Integer> postingSizes = new HashMap<>();
+        for (int term = 0; term < size; term++) {
+            normalizedTerms[term] = normalize(terms.get(term));
+            termTrigrams[term] = trigrams(normalizedTerms[term]);
+            trigramCounts[term] = termTrigrams[term].length;
+            for (long trigram : termTrigrams[term]) {
+                postingSizes.merge(trigram, 1, Integer::sum);
+            }
+        }
+
+        // term 번호 순서로 채우므로 posting list는 오름차순
+        this.postings = new HashMap<>(postingSizes.size() * 4 / 3 + 1);
+        postingSizes.forEach((trigram, postingSize) -> postings.put(trigram, new int[postingSize]));
+        Map<Long, Integer> filled = new HashMap<>(postingSizes.size() * 4 / 3 + 1);
+        for (int term = 0; term < size; term++) {
+            for (long trigram : termTrigrams[term]) {
+                int index = filled.merge(trigram, 1, Integer::sum) - 1;
+                postings.get(trigram)[index] = term;
+            }
+        }
+    }
+
+    public int size() {
+        return normalizedTerms.length;
+    }
+
+    /**
+     * 정규화한 질의를 포함하는 term 번호를 오름차순으로 반환합니다.
+     */
+    public int[] containing(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return EMPTY;
+        }
+        long[] queryTrigrams = trigrams(normalized);
+        if (queryTrigrams.length == 0) {
+            return IntStream.range(0, size()).filter(term -> normalizedTerms[term].contains(normalized)).toArray();
+        }
+
+        int[][] lists = new int[queryTrigrams.length][];
+        for (int i = 0; i < queryTrigrams.length; i++) {
+            lists[i] = postings.get(queryTrigrams[i]);
+            if (lists[i] == null) {
+                return EMPTY;
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+        int[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+        // trigram을 모두 포함해도 순서가 다를 수 있으므로 실제 포함 여부 확인
+        return Arrays.stream(candidates).filter(term -> normalizedTerms[term].contains(normalized)).toArray();
+    }
+
+    /**
+     * 질의와의 유사도가 {@code minSimilarity} 이상인 term 번호를 유사도가 높은 순으로 최대 {@code limit}개 반환합니다.
+     */
+    public int[] similar(String query, double minSimilarity, int limit) {
+        long[] queryTrigrams = trigrams(normalize(query));
+        if (queryTrigrams.length == 0 || limit <= 0) {
+            return EMPTY;
+        }
+
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (long trigram : queryTrigrams) {
+            int[] posting = postings.get(trigram);
+            if (posting == null) continue;
+            for (int term : posting) {
+                shared.merge(term, 1, Integer::sum);
+            }
+        }
+
+        int queryCount = queryTrigrams.length;
+        return shared.entrySet().stream()
+                .map(entry -> new Match(entry.getKey(), (double) entry.getValue() / (queryCount + trigramCounts[entry.getKey()] - entry.getValue())))
+                .filter(match -> match.similarity() >= minSimilarity)
+                .sorted(Comparator.comparingDouble(Match::similarity).reversed().thenComparingInt(Match::term))
+                .limit(limit)
+                .mapToInt(Match::term)
+                .toArray();
+    }
+
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).strip();
+    }
+
+    /**
+     * 서로 다른 trigram을 오름차순으로 반환합니다. 세 글자(UTF-16 단위)를 16비트씩 하나의 long으로 묶습니다.
+     */
+    private static long[] trigrams(String normalized) {
+        if (normalized.length() < 3) {
+            return new long[0];
+        }
+        long[] trigrams = new long[normalized.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) normalized.charAt(i) << 32) | ((long) normalized.charAt(i + 1) << 16) | normalized.charAt(i + 2);
+        }
+        return Arrays.stream(trigrams).sorted().distinct().toArray();
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) i++;
+            else if (left[i] > right[j]) j++;
+            else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private record Match(int term, double similarity) {
+    }
+}
@@ -1,35 +1,131 @@
 package com.seonghyeon.jukebox.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seonghyeon.jukebox.common.cache.SingleFlightCache;
+import com.seonghyeon.jukebox.common.limit.AimdConcurrencyLimit;
+import com.seonghyeon.jukebox.common.limit.ConcurrencyLimitWebFilter;
+import com.seonghyeon.jukebox.common.limit.ConcurrencyLimitWebFilter.LimitedRoute;
+import com.seonghyeon.jukebox.repository.SongLikeRepository;
+import com.seonghyeon.jukebox.repository.dto.SongLikeCountDto;
 import com.seonghyeon.jukebox.service.like.LikeBatchWriter;
+import com.seonghyeon.jukebox.service.like.LikeFlushCheckpoints;
+import com.seonghyeon.jukebox.service.like.LikeRollupWriter;
+import com.seonghyeon.jukebox.service.like.journal.LikeJournal;
+import com.seonghyeon.jukebox.service.like.strategy.HybridLikeWriteStrategy;
 import com.seonghyeon.jukebox.service.like.strategy.LikeWriteStrategy;
 import com.seonghyeon.jukebox.service.like.strategy.MemoryLikeWriteStrategy;
 import com.seonghyeon.jukebox.service.like.strategy.RedisLikeWriteStrategy;
+import com.seonghyeon.jukebox.service.like.trending.TopLikedQuery;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.HttpMethod;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import java.nio.file.Paths;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Slf4j
 @Configuration
 @EnableScheduling
 public class AppConfig {
 
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    public SingleFlightCache<TopLikedQuery, List<SongLikeCountDto>> topLikedCache(
+            @Value("${jukebox.like.top-liked-cache.ttl:3s}") Duration ttl,
+            @Value("${jukebox.like.top-liked-cache.max-stale:30s}") Duration maxStale,
+            Clock clock) {
+        return new SingleFlightCache<>(ttl, maxStale, clock);
+    }
+
     @Bean
     @ConditionalOnProperty(name = "jukebox.like.strategy", havingValue = "memory", matchIfMissing = true)
-    public LikeWriteStrategy memoryLikeStrategy(LikeBatchWriter likeBatchWriter, TransactionalOperator to) {
+    public LikeWriteStrategy memoryLikeStrategy(LikeBatchWriter likeBatchWriter, LikeRollupWriter likeRollupWriter,
+                                                LikeFlushCheckpoints likeFlushCheckpoints, TransactionalOperator to, Clock clock,
+                                                @Value("${jukebox.like.outbox.path:outbox}") String outboxPath,
+                                                @Value("${jukebox.like.journal.enabled:true}") boolean journalEnabled,
+                                                @Value("${jukebox.like.journal.path:journal}") String journalPath,
+                                                @Value("${jukebox.like.journal.segment-records:1048576}") int segmentRecords) {
         log.debug("[Bean Initialization] Using MemoryLikeWriteStrategy");
-        return new MemoryLikeWriteStrategy(likeBatchWriter::updateLike, to);
+        MemoryLikeWriteStrategy strategy = new MemoryLikeWriteStrategy(likeBatchWriter::updateLikeCounts, to, clock);
+        strategy.setBackupPath(outboxPath);
+        if (journalEnabled) {
+            strategy.attachJournal(LikeJournal.open(Paths.get(journalPath), segmentRecords),
+                    likeFlushCheckpoints::claim, likeFlushCheckpoints::findLastSequence);
+        }
+        // 백업 파일 재반영 기록도 청크 기록에 남으므로 함께 정리
+        strategy.setPostFlushTask(() -> likeRollupWriter.rollUp().then(likeFlushCheckpoints.purgeExpired()));
+        return strategy;
     }
 
     @Bean
     @ConditionalOnProperty(name = "jukebox.like.strategy", havingValue = "redis")
-    public LikeWriteStrategy redisLikeStrategy(ReactiveRedisTemplate<String, String> reactiveRedisTemplate, LikeBatchWriter likeBatchWriter, TransactionalOperator to) {
+    public LikeWriteStrategy redisLikeStrategy(ReactiveRedisTemplate<String, String> reactiveRedisTemplate, LikeBatchWriter likeBatchWriter,
+                                               LikeRollupWriter likeRollupWriter, LikeFlushCheckpoints likeFlushCheckpoints,
+                                               SongLikeRepository songLikeRepository, TransactionalOperator to, Clock clock,
+                                               @Value("${jukebox.like.redis.buffer-shards:16}") int bufferShards) {
         log.debug("[Bean Initialization] Using RedisLikeWriteStrategy");
-        return new RedisLikeWriteStrategy(reactiveRedisTemplate, likeBatchWriter::updateLike, to);
+        LikeWriteStrategy strategy = newRedisStrategy(reactiveRedisTemplate, likeBatchWriter, likeFlushCheckpoints,
+                songLikeRepository, to, clock, bufferShards);
+        strategy.setPostFlushTask(() -> likeRollupWriter.rollUp().then(likeFlushCheckpoints.purgeExpired()));
+        return strategy;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jukebox.like.strategy", havingValue = "hybrid")
+    public LikeWriteStrategy hybridLikeStrategy(ReactiveRedisTemplate<String, String> reactiveRedisTemplate, LikeBatchWriter likeBatchWriter,
+                                                LikeRollupWriter likeRollupWriter, LikeFlushCheckpoints likeFlushCheckpoints,
+                                                SongLikeRepository songLikeRepository, TransactionalOperator to, Clock clock,
+                                                @Value("${jukebox.like.redis.buffer-shards:16}") int bufferShards,
+                                                @Value("${jukebox.like.hybrid.push-interval:200ms}") Duration pushInterval) {
+        log.debug("[Bean Initialization] Using HybridLikeWriteStrategy (pushInterval={})", pushInterval);
+        RedisLikeWriteStrategy redisStrategy = newRedisStrategy(reactiveRedisTemplate, likeBatchWriter, likeFlushCheckpoints,
+                songLikeRepository, to, clock, bufferShards);
+        LikeWriteStrategy strategy = new HybridLikeWriteStrategy(redisStrategy, pushInterval);
+        strategy.setPostFlushTask(() -> likeRollupWriter.rollUp().then(likeFlushCheckpoints.purgeExpired()));
+        return strategy;
+    }
+
+    /**
+     * 좋아요(단건/대량)/인기 곡 조회 경로의 적응형 동시성 제한. 경로마다 독립된 한도를 사용합니다.
+     * 최대 한도는 R2DBC 커넥션 풀 크기보다 크게 설정해도 풀 대기만 늘어나므로, 풀 크기 이하로 설정합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "jukebox.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                                               @Value("${jukebox.concurrency-limit.initial-limit:20}") int initialLimit,
+                                                               @Value("${jukebox.concurrency-limit.min-limit:5}") int minLimit,
+                                                               @Value("${jukebox.concurrency-limit.max-limit:70}") int maxLimit,
+                                                               @Value("${jukebox.concurrency-limit.latency-threshold:200ms}") Duration latencyThreshold,
+                                                               @Value("${jukebox.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+                                                               @Value("${jukebox.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        log.debug("[Bean Initialization] Using ConcurrencyLimitWebFilter (limit={}..{}, latencyThreshold={})", minLimit, maxLimit, latencyThreshold);
+        Supplier<AimdConcurrencyLimit> newLimit = () -> new AimdConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio);
+        return new ConcurrencyLimitWebFilter(List.of(
+                new LimitedRoute("like", HttpMethod.POST, "/api/v1/songs/{songId}/likes", newLimit.get()),
+                new LimitedRoute("bulk-like", HttpMethod.POST, "/api/v1/songs/likes/bulk", newLimit.get()),
+                new LimitedRoute("top-liked", HttpMethod.GET, "/api/v1/songs/top-liked", newLimit.get())
+        ), objectMapper, meterRegistry, retryAfter);
+    }
+
+    private static RedisLikeWriteStrategy newRedisStrategy(ReactiveRedisTemplate<String, String> reactiveRedisTemplate, LikeBatchWriter likeBatchWriter,
+                                                           LikeFlushCheckpoints likeFlushCheckpoints, SongLikeRepository songLikeRepository,
+                                                           TransactionalOperator to, Clock clock, int bufferShards) {
+        if (bufferShards < 1) throw new IllegalArgumentException("Buffer shards must be positive.");
+        return new RedisLikeWriteStrategy(reactiveRedisTemplate, likeBatchWriter::updateLike, to, clock,
+                songLikeRepository::findLikedUserIds, bufferShards, likeFlushCheckpoints::claim);
     }
 }
@@ -1,10 +1,14 @@
 package com.seonghyeon.jukebox.controller;
 
+import com.seonghyeon.jukebox.controller.dto.request.BulkLikeRequest;
 import com.seonghyeon.jukebox.controller.dto.request.LikeRequest;
 import com.seonghyeon.jukebox.controller.dto.response.AlbumStatsResponse;
+import com.seonghyeon.jukebox.controller.dto.response.BulkLikeResponse;
+import com.seonghyeon.jukebox.controller.dto.response.CursorPageResponse;
 import com.seonghyeon.jukebox.controller.dto.response.TopLikedResponse;
 import com.seonghyeon.jukebox.service.SongStatisticsQueryService;
 import com.seonghyeon.jukebox.service.like.SongLikeService;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -19,15 +23,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 
 @Slf4j
 @RestController
@@ -36,15 +41,23 @@ import java.time.LocalDateTime;
 @Tag(name = "Song", description = "곡 관련 API")
 public class SongController {
 
+    private static final Duration TOP_LIKED_WINDOW = Duration.ofHours(1);
+    private static final int TOP_LIKED_LIMIT = 10;
+
     private final SongStatisticsQueryService songStatisticsQueryService;
     private final SongLikeService songLikeService;
+    private final BulkLikeService bulkLikeService;
 
     @Operation(
             summary = "연도/가수별 앨범 수 조회",
-            description = "연도별 가수가 발매한 앨범 수를 페이징하여 조회합니다. 정렬 필드는 releaseYear, artist, albumCount가 가능합니다."
+            description = "연도별 가수가 발매한 앨범 수를 페이징하여 조회합니다. 정렬 필드는 releaseYear, artist, albumCount가 가능합니다. "
+                    + "artistQuery는 가수명 일부로 검색하며(대소문자/악센트 무시), 일치하는 가수가 없으면 유사한 가수명으로 검색합니다. "
+                    + "artistQuery는 artist와 함께 사용할 수 없고, 페이지(offset) 조회에서만 지원합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색어 또는 artist와 artistQuery 동시 사용"),
+            @ApiResponse(responseCode = "503", description = "가수 검색 인덱스 준비 중"),
     })
     @GetMapping("/stats/album-counts")
     public Mono<Page<AlbumStatsResponse>> getAlbumStatsByYearAndArtist(
@@ -54,14 +67,75 @@ public class SongController {
             @Parameter(description = "가수명 (정확히 일치)", example = "King Gizzard & The Lizard Wizard")
             @RequestParam(required = false) String artist,
 
+            @Parameter(description = "가수명 검색어 (부분 일치, 대소문자/악센트 무시, 오타 허용)", example = "gizzard")
+            @RequestParam(required = false) String artistQuery,
+
             @ParameterObject
             @PageableDefault(size = 20, sort = "releaseYear", direction = Sort.Direction.DESC)
             Pageable pageable
     ) {
+        if (artistQuery != null) {
+            if (artist != null) {
+                return Mono.error(new IllegalArgumentException("artist와 artistQuery는 함께 사용할 수 없습니다."));
+            }
+            return songStatisticsQueryService.searchAlbumStats(year, artistQuery, pageable)
+                    .map(page -> page.map(AlbumStatsResponse::from));
+        }
         return songStatisticsQueryService.getAlbumStatsByYearAndArtist(year, artist, pageable)
                 .map(page -> page.map(AlbumStatsResponse::from));
     }
 
+    @Operation(
+            summary = "연도/가수별 앨범 수 조회 (전체 개수 생략)",
+            description = "slice=true이면 전체 개수를 계산하지 않고, 페이지 크기보다 한 건 더 조회하여 다음 페이지 존재 여부(hasNext)만 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+    })
+    @GetMapping(value = "/stats/album-counts", params = {"slice=true", "!cursor", "!artistQuery"})
+    public Mono<Slice<AlbumStatsResponse>> getAlbumStatsSlice(
+            @Parameter(description = "조회 연도 (예: 2024)", example = "2024")
+            @RequestParam(required = false) Integer year,
+
+            @Parameter(description = "가수명 (정확히 일치)", example = "King Gizzard & The Lizard Wizard")
+            @RequestParam(required = false) String artist,
+
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "releaseYear", direction = Sort.Direction.DESC)
+            Pageable pageable
+    ) {
+        return songStatisticsQueryService.getAlbumStatsSlice(year, artist, pageable)
+                .map(slice -> slice.map(AlbumStatsResponse::from));
+    }
+
+    @Operation(
+            summary = "연도/가수별 앨범 수 커서 기반 조회",
+            description = "cursor 파라미터가 있으면 OFFSET 대신 마지막 행 이후부터 조회합니다. 첫 페이지는 빈 cursor로 요청하고, "
+                    + "이후 페이지는 응답의 nextCursor를 전달합니다. 전체 개수는 계산하지 않으며, 정렬은 첫 페이지의 정렬이 유지됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+    })
+    @GetMapping(value = "/stats/album-counts", params = {"cursor", "!artistQuery"})
+    public Mono<CursorPageResponse<AlbumStatsResponse>> getAlbumStatsByCursor(
+            @Parameter(description = "조회 연도 (예: 2024)", example = "2024")
+            @RequestParam(required = false) Integer year,
+
+            @Parameter(description = "가수명 (정확히 일치)", example = "King Gizzard & The Lizard Wizard")
+            @RequestParam(required = false) String artist,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor,
+
+            @ParameterObject
+            @PageableDefault(size = 20, sort = "releaseYear", direction = Sort.Direction.DESC)
+            Pageable pageable
+    ) {
+        return songStatisticsQueryService.getAlbumStatsByCursor(year, artist, cursor, pageable)
+                .map(page -> CursorPageResponse.from(page.map(AlbumStatsResponse::from)));
+    }
+
     @Operation(
             summary = "곡 좋아요/좋아요 취소 처리",
             description = "특정 곡에 대해 사용자가 좋아요 또는 좋아요 취소를 할 수 있습니다."
@@ -84,6 +158,21 @@ public class SongController {
         return mono.thenReturn(ResponseEntity.ok().build());
     }
 
+    @Operation(
+            summary = "곡 좋아요/좋아요 취소 일괄 처리",
+            description = "오프라인 동안 쌓인 좋아요/좋아요 취소를 NDJSON 스트림 또는 JSON 배열로 한 번에 처리합니다. "
+                    + "항목별 처리 결과를 요청 순서대로 NDJSON 스트림으로 응답하며, 일부 항목이 실패해도 나머지 항목은 처리됩니다."
+    )
+    @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과는 status 참고)",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BulkLikeResponse.class)))
+    @PostMapping(value = "/likes/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkLikeResponse> handleBulkLikes(@RequestBody Flux<BulkLikeRequest> requests) {
+        return bulkLikeService.applyLikes(requests.index((index, request) -> request.toCommand(index)))
+                .map(BulkLikeResponse::from);
+    }
+
     @Operation(
             summary = "최근 1시간 내 최다 좋아요 곡 조회",
             description = "최근 1시간 동안 가장 많은 좋아요를 받은 상위 10개 곡을 조회합니다."
@@ -92,8 +181,7 @@ public class SongController {
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = TopLikedResponse.class))))
     @GetMapping("/top-liked")
     public Flux<TopLikedResponse> getTopLikedSongs() {
-        LocalDateTime since = LocalDateTime.now().minus(Duration.ofHours(1));
-        return songLikeService.getTopLikedSongs(since, 10)
+        return songLikeService.getTopLikedSongs(TOP_LIKED_WINDOW, TOP_LIKED_LIMIT)
                 .map(TopLikedResponse::from);
     }
 
@@ -0,0 +1,22 @@
+package com.seonghyeon.jukebox.controller.dto.request;
+
+import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeCommand;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// 스트림으로 받으므로 Bean Validation 대신 항목별 결과(INVALID)로 검증 실패를 응답
+public record BulkLikeRequest(
+        @Schema(description = "곡 고유 ID", example = "794169986393843584")
+        Long songId,
+
+        @Schema(description = "사용자 ID", example = "1")
+        Long userId,
+
+        @Schema(description = "액션 (LIKE 또는 UNLIKE)", example = "LIKE")
+        Action action
+) {
+
+    public BulkLikeCommand toCommand(long index) {
+        return new BulkLikeCommand(index, songId, userId, action);
+    }
+}
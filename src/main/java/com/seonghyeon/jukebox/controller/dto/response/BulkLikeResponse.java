@@ -0,0 +1,23 @@
+package com.seonghyeon.jukebox.controller.dto.response;
+
+import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record BulkLikeResponse(
+        @Schema(description = "요청 내 순번 (0부터 시작)", example = "0")
+        long index,
+        @Schema(description = "곡 고유 ID", example = "794169986393843584")
+        Long songId,
+        @Schema(description = "사용자 ID", example = "1")
+        Long userId,
+        @Schema(description = "액션 (LIKE 또는 UNLIKE)", example = "LIKE")
+        Action action,
+        @Schema(description = "처리 결과 (APPLIED, ALREADY_LIKED, NOT_LIKED, SONG_NOT_FOUND, INVALID, FAILED)", example = "APPLIED")
+        BulkLikeResult.Status status
+) {
+
+    public static BulkLikeResponse from(BulkLikeResult r) {
+        return new BulkLikeResponse(r.index(), r.songId(), r.userId(), r.action(), r.status());
+    }
+}
@@ -0,0 +1,22 @@
+package com.seonghyeon.jukebox.controller.dto.response;
+
+import com.seonghyeon.jukebox.common.pagination.CursorPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        @Schema(description = "조회 결과")
+        List<T> content,
+
+        @Schema(description = "다음 페이지 커서 (다음 페이지가 없으면 null)", example = "MQpyZWxlYXNlWWVhcjpERVNDCjIwMjMKMwo0Mkk")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+
+    public static <T> CursorPageResponse<T> from(CursorPage<T> page) {
+        return new CursorPageResponse<>(page.content(), page.nextCursor(), page.hasNext());
+    }
+}
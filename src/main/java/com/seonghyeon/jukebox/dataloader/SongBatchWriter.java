@@ -6,8 +6,11 @@ import com.seonghyeon.jukebox.entity.SimilarSongEntity;
 import com.seonghyeon.jukebox.entity.SongEntity;
 import com.seonghyeon.jukebox.entity.SongMetricsEntity;
 import com.seonghyeon.jukebox.repository.SongStatisticsRepository;
+import com.seonghyeon.jukebox.service.SongStatisticsUpdatedEvent;
+import com.seonghyeon.jukebox.service.song.SongCatalogIndex;
 import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -17,7 +20,9 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -28,6 +33,8 @@ public class SongBatchWriter {
     private final TransactionalOperator transactionalOperator;
     private final R2dbcEntityTemplate template;
     private final SongStatisticsRepository songStatisticsRepository;
+    private final SongCatalogIndex songCatalogIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // [Songs Table]
     private static final String SONGS_TABLE = "songs";
@@ -44,6 +51,12 @@ public class SongBatchWriter {
     private static final String SIMILAR_COLUMNS = "(song_id, similar_artist, similar_title, similarity_score)";
     private static final String SIMILAR_PLACEHOLDERS = makePlaceholders(4);
 
+    // [Song Statistics Table] (연도, 가수) 유니크 키 기준으로 곡 수를 누적. 가수는 콜레이션 기준으로 같으면 같은 행 (먼저 적재된 표기 유지)
+    private static final String STATISTICS_TABLE = "song_statistics";
+    private static final String STATISTICS_COLUMNS = "(release_year, artist, album_count)";
+    private static final String STATISTICS_PLACEHOLDERS = makePlaceholders(3);
+    private static final String STATISTICS_UPSERT_CLAUSE = " AS d ON DUPLICATE KEY UPDATE album_count = song_statistics.album_count + d.album_count";
+
     /**
      * 수집된 {@link SongDto} 리스트를 대용량 배치(Batch) 방식으로 데이터베이스에 영속화합니다.
      * * <p>성능 최적화를 위해 다음과 같은 전략을 사용합니다:
@@ -51,6 +64,9 @@ public class SongBatchWriter {
      * <li><b>Multi-row Insert:</b> 각 테이블당 1,000건씩 묶어 단일 SQL 문으로 실행하여 네트워크 I/O 오버헤드를 최소화합니다.</li>
      * <li><b>Concurrency Control:</b> {@code flatMap}의 동시성 계수를 4로 설정하여 CPU 및 커넥션 자원을 효율적으로 분배합니다.</li>
      * <li><b>Transactional Integrity:</b> 부모(Songs)와 자식(Metrics, Similars) 엔티티 간의 원자성을 {@link TransactionalOperator}로 보장합니다.</li>
+     * <li><b>Incremental Statistics:</b> 배치 내 곡을 (연도, 가수)별로 합산하여 같은 트랜잭션에서 song_statistics에 누적(upsert)합니다.
+     * songs 전체를 다시 집계하지 않으며, 통계 기반 캐시 반영은 적재 완료 후 {@link #publishStatisticsUpdated()}로 알립니다.</li>
+     * <li><b>Catalog Index:</b> 커밋이 완료된 곡 ID만 {@link SongCatalogIndex}에 반영합니다.</li>
      * </ul>
      * * <p>이 메서드는 비동기 파이프라인으로 구성되어 있으나, 호출부(가상 스레드)에서의
      * 순차적 흐름 제어를 위해 마지막에 {@code .block()}을 수행합니다.</p>
@@ -62,17 +78,35 @@ public class SongBatchWriter {
         if (songDtoList == null) throw new IllegalArgumentException("songDtoList cannot be null");
         if (songDtoList.isEmpty()) return;
 
-        Mono<Void> flushProcess = Flux.fromIterable(songDtoList)
+        List<IdentifiedSong> identifiedSongs = songDtoList.stream()
                 .map(dto -> new IdentifiedSong(TsidCreator.getTsid256().toLong(), dto))
+                .toList();
+
+        Mono<Void> flushProcess = Flux.fromIterable(identifiedSongs)
                 .buffer(1000)
                 .flatMap(list -> insertAllSongs(list).then(Mono.defer(() -> insertChildEntities(list))), 4)
-                .then();
+                .then(Mono.defer(() -> upsertStatistics(identifiedSongs)));
 
         transactionalOperator.transactional(flushProcess).block();
+        songCatalogIndex.addAll(identifiedSongs.stream().map(IdentifiedSong::id).toList());
     }
 
+    /**
+     * songs 전체를 집계하여 연도/가수별 통계를 재구축하고, 통계 기반 캐시가 무효화되도록 {@link SongStatisticsUpdatedEvent}를 발행합니다.
+     * 통계는 {@link #flushAll(List)}에서 증분 반영되므로, 통계가 어긋났을 때 복구하는 용도입니다.
+     */
     public void buildYearArtistStats() {
-        songStatisticsRepository.buildYearArtistStats().block();
+        Long rows = songStatisticsRepository.buildYearArtistStats().block();
+        eventPublisher.publishEvent(new SongStatisticsUpdatedEvent(rows != null ? rows : 0L));
+    }
+
+    /**
+     * {@link #flushAll(List)}로 반영된 통계를 통계 기반 캐시가 다시 읽도록 {@link SongStatisticsUpdatedEvent}를 발행합니다.
+     * 배치마다 발행하면 캐시를 반복해서 다시 적재하므로, 적재가 끝난 뒤 한 번 호출합니다.
+     */
+    public void publishStatisticsUpdated() {
+        Long rows = songStatisticsRepository.count().block();
+        eventPublisher.publishEvent(new SongStatisticsUpdatedEvent(rows != null ? rows : 0L));
     }
 
     record IdentifiedSong(Long id, SongDto dto) {
@@ -182,6 +216,40 @@ public class SongBatchWriter {
         });
     }
 
+    /**
+     * 배치 내 곡을 (연도, 가수)별로 합산하여 누적합니다. 발매일 또는 가수가 없는 곡은 집계에서 제외합니다.
+     */
+    private Mono<Void> upsertStatistics(List<IdentifiedSong> songs) {
+        Map<StatisticsKey, Integer> counts = new LinkedHashMap<>();
+        for (IdentifiedSong song : songs) {
+            SongEntity s = SongEntity.fromDto(song.dto());
+            if (s.releaseDate() == null || s.artist() == null) continue;
+            counts.merge(new StatisticsKey(s.releaseDate().getYear(), s.artist()), 1, Integer::sum);
+        }
+        return Flux.fromIterable(counts.entrySet())
+                .buffer(1000)
+                .concatMap(this::upsertStatisticsChunk)
+                .then();
+    }
+
+    private Mono<Void> upsertStatisticsChunk(List<Map.Entry<StatisticsKey, Integer>> chunk) {
+        String sql = buildBulkInsertSql(STATISTICS_TABLE, STATISTICS_COLUMNS, STATISTICS_PLACEHOLDERS, chunk.size()) + STATISTICS_UPSERT_CLAUSE;
+
+        return template.getDatabaseClient().inConnection(connection -> {
+            Statement statement = connection.createStatement(sql);
+            int idx = 0;
+            for (Map.Entry<StatisticsKey, Integer> entry : chunk) {
+                bindNext(statement, idx++, entry.getKey().releaseYear(), Integer.class);
+                bindNext(statement, idx++, entry.getKey().artist(), String.class);
+                bindNext(statement, idx++, entry.getValue(), Integer.class);
+            }
+            return Flux.from(statement.execute()).then();
+        });
+    }
+
+    private record StatisticsKey(int releaseYear, String artist) {
+    }
+
     // ---------- Helper Methods ----------
 
     private String buildBulkInsertSql(String table, String columns, String placeholders, int count) {
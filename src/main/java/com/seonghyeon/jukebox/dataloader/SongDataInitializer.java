@@ -1,6 +1,8 @@
 package com.seonghyeon.jukebox.dataloader;
 
 import com.seonghyeon.jukebox.dataloader.dto.SongDto;
+import com.seonghyeon.jukebox.service.AlbumStatsIndex;
+import com.seonghyeon.jukebox.service.song.SongCatalogIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,6 +28,8 @@ public class SongDataInitializer implements ApplicationRunner {
 
     private final JsonBatchReader jsonBatchReader;
     private final SongBatchWriter songBatchWriter;
+    private final SongCatalogIndex songCatalogIndex;
+    private final AlbumStatsIndex albumStatsIndex;
 
     @Override
     public void run(ApplicationArguments args) {
@@ -33,10 +37,13 @@ public class SongDataInitializer implements ApplicationRunner {
             Path path = Path.of(dataSetLocation);
             Thread.ofVirtual().name("data-init-worker").start(() -> {
                 jsonBatchReader.process(path, songBatchWriter::flushAll, dataSetBatchSize, SongDto.class, 0);
-                songBatchWriter.buildYearArtistStats(); // 통계 정보 구축
+                songBatchWriter.publishStatisticsUpdated(); // 적재 중 증분 반영된 통계를 통계 인덱스/캐시에 반영
+                songCatalogIndex.rebuild(); // 곡 존재 여부 인덱스 구축
             });
         } else {
             log.info("Dataset loading is disabled. (jukebox.dataset.enabled: false)");
+            Thread.ofVirtual().name("catalog-index-worker").start(songCatalogIndex::rebuild); // 기존 적재 데이터로 인덱스 구축
+            Thread.ofVirtual().name("stats-index-worker").start(albumStatsIndex::reload); // 기존 통계로 인메모리 인덱스 적재
         }
     }
 }
@@ -1,23 +1,133 @@
 package com.seonghyeon.jukebox.repository;
 
 import com.seonghyeon.jukebox.entity.SongLikeEntity;
+import com.seonghyeon.jukebox.entity.like.Action;
 import com.seonghyeon.jukebox.repository.dto.SongLikeCountDto;
+import com.seonghyeon.jukebox.repository.dto.SongUserPairDto;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 
 public interface SongLikeRepository extends R2dbcRepository<SongLikeEntity, Long> {
 
+    /**
+     * 이력 기준 사용자의 좋아요 상태(순증감)를 계산합니다.
+     * 보관 기간이 지나 삭제된 파티션의 이력은 song_like_compacted_states에 압축된 값을, 이후 이력은 song_likes 원본을 합산합니다.
+     * 압축 워터마크 이전 날짜라도 압축 이후 늦게 기록된 이력(id > compacted_id)은 원본에서 합산합니다.
+     */
     @Query("""
-        SELECT COALESCE(SUM(IF(action = 'LIKE', 1, -1)), 0)
-        FROM song_likes
-        WHERE song_id = :songId AND user_id = :userId
+        SELECT COALESCE(SUM(delta), 0)
+        FROM (
+            SELECT c.like_status AS delta
+            FROM song_like_compacted_states c
+            WHERE c.song_id = :songId AND c.user_id = :userId
+            UNION ALL
+            SELECT IF(sl.action = 'LIKE', 1, -1)
+            FROM song_likes sl
+            JOIN song_like_compaction_watermark w ON w.id = 1
+            WHERE sl.song_id = :songId AND sl.user_id = :userId AND (sl.created_at >= w.compacted_until OR sl.id > w.compacted_id)
+        ) d
     """)
     Mono<Integer> countUserLikeStatus(Long songId, Long userId);
 
+    @Query("""
+        SELECT user_id
+        FROM (
+            SELECT c.user_id, c.like_status AS delta
+            FROM song_like_compacted_states c
+            WHERE c.song_id = :songId
+            UNION ALL
+            SELECT sl.user_id, IF(sl.action = 'LIKE', 1, -1)
+            FROM song_likes sl
+            JOIN song_like_compaction_watermark w ON w.id = 1
+            WHERE sl.song_id = :songId AND (sl.created_at >= w.compacted_until OR sl.id > w.compacted_id)
+        ) d
+        GROUP BY user_id
+        HAVING SUM(delta) > 0
+    """)
+    Flux<Long> findLikedUserIds(Long songId);
+
+    /**
+     * 사용자의 현재 좋아요 상태를 조건부로 변경합니다. (user_song_likes)
+     *
+     * <p>상태 검증과 변경을 하나의 조건부 쓰기로 처리하므로, 동시에 들어온 같은 요청 중 하나만 반영됩니다.
+     * 비용은 이력 건수와 관계없이 기본 키 한 건의 조회/갱신입니다.</p>
+     * <ul>
+     * <li><b>LIKE:</b> 상태가 없으면 INSERT IGNORE로 추가하고, 취소 상태인 경우에만 UPDATE 합니다.</li>
+     * <li><b>UNLIKE:</b> 좋아요 상태인 경우에만 UPDATE 합니다.</li>
+     * </ul>
+     *
+     * @return 상태가 변경되었으면 true, 이미 요청한 상태이면 false
+     */
+    default Mono<Boolean> changeLikeState(Long songId, Long userId, Action action) {
+        if (action == Action.UNLIKE) {
+            return updateLikeState(songId, userId, false).map(rows -> rows > 0);
+        }
+        return insertLikeState(songId, userId)
+                .flatMap(inserted -> inserted > 0
+                        ? Mono.just(true)
+                        : updateLikeState(songId, userId, true).map(rows -> rows > 0));
+    }
+
+    @Modifying
+    @Query("""
+        INSERT IGNORE INTO user_song_likes (song_id, user_id, liked)
+        VALUES (:songId, :userId, 1)
+    """)
+    Mono<Long> insertLikeState(Long songId, Long userId);
+
+    @Modifying
+    @Query("""
+        UPDATE user_song_likes
+        SET liked = :liked
+        WHERE song_id = :songId AND user_id = :userId AND liked <> :liked
+    """)
+    Mono<Long> updateLikeState(Long songId, Long userId, boolean liked);
+
+    @Query("""
+        SELECT COUNT(*)
+        FROM user_song_likes
+        WHERE song_id = :songId AND user_id = :userId AND liked = 1
+    """)
+    Mono<Integer> countLikeState(Long songId, Long userId);
+
+    @Query("""
+        SELECT user_id
+        FROM user_song_likes
+        WHERE song_id = :songId AND liked = 1
+    """)
+    Flux<Long> findCurrentLikedUserIds(Long songId);
+
+    /**
+     * 여러 (곡, 사용자)의 현재 좋아요 상태를 한 번에 조회합니다. (대량 좋아요 요청의 일괄 검증용)
+     * 곡 ID와 사용자 ID 각각의 IN 조건으로 조회하므로, 호출부에서 요청한 조합만 골라 사용해야 합니다.
+     */
+    @Query("""
+        SELECT song_id, user_id
+        FROM user_song_likes
+        WHERE song_id IN (:songIds) AND user_id IN (:userIds) AND liked = 1
+    """)
+    Flux<SongUserPairDto> findCurrentLikedPairs(Collection<Long> songIds, Collection<Long> userIds);
+
+    /**
+     * {@code since} 이후 좋아요 순증가 상위 곡을 조회합니다.
+     * 롤업된 이력(rolled_up_id 이하)은 song_like_rollups의 분 단위 집계를, 나머지(첫 분의 일부, 롤업 이후 기록된 이력)는 song_likes 원본을 합산합니다.
+     * 롤업은 기록 순서(id) 기준이므로, 늦게 기록되어 지난 분에 속하는 이력도 롤업 전에는 원본으로, 롤업 후에는 해당 분 집계로 한 번만 합산됩니다.
+     */
+    default Flux<SongLikeCountDto> findTopLikedSongs(LocalDateTime since, int limit) {
+        LocalDateTime firstBucket = since.truncatedTo(ChronoUnit.MINUTES);
+        if (firstBucket.isBefore(since)) {
+            firstBucket = firstBucket.plusMinutes(1);
+        }
+        return findTopLikedSongs(since, firstBucket, limit);
+    }
+
     @Query("""
         SELECT
             s.id AS song_id,
@@ -27,16 +137,26 @@ public interface SongLikeRepository extends R2dbcRepository<SongLikeEntity, Long
             l.like_count AS like_count
         FROM songs s
         JOIN (
-            SELECT
-                song_id,
-                SUM(IF(action = 'LIKE', 1, -1)) AS like_count
-            FROM song_likes
-            WHERE created_at >= :since
+            SELECT song_id, SUM(delta) AS like_count
+            FROM (
+                SELECT r.song_id, r.like_count AS delta
+                FROM song_like_rollups r
+                WHERE r.bucket_start >= :firstBucket
+                UNION ALL
+                SELECT sl.song_id, IF(sl.action = 'LIKE', 1, -1)
+                FROM song_likes sl
+                WHERE sl.created_at >= :since AND sl.created_at < :firstBucket
+                UNION ALL
+                SELECT sl.song_id, IF(sl.action = 'LIKE', 1, -1)
+                FROM song_likes sl
+                JOIN song_like_rollup_watermark w ON w.id = 1
+                WHERE sl.id > w.rolled_up_id AND sl.created_at >= :firstBucket
+            ) d
             GROUP BY song_id
             HAVING like_count > 0
         ) l ON s.id = l.song_id
         ORDER BY l.like_count DESC
         LIMIT :limit
     """)
-    Flux<SongLikeCountDto> findTopLikedSongs(LocalDateTime since, int limit);
+    Flux<SongLikeCountDto> findTopLikedSongs(LocalDateTime since, LocalDateTime firstBucket, int limit);
 }
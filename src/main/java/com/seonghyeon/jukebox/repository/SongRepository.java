@@ -1,7 +1,26 @@
 package com.seonghyeon.jukebox.repository;
 
 import com.seonghyeon.jukebox.entity.SongEntity;
+import com.seonghyeon.jukebox.repository.dto.SongSummaryDto;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
 
 public interface SongRepository extends R2dbcRepository<SongEntity, Long> {
+
+    @Query("""
+        SELECT id AS song_id, title, artist, album
+        FROM songs
+        WHERE id IN (:songIds)
+    """)
+    Flux<SongSummaryDto> findSummariesByIdIn(Collection<Long> songIds);
+
+    @Query("""
+        SELECT id
+        FROM songs
+        WHERE id IN (:songIds)
+    """)
+    Flux<Long> findExistingIds(Collection<Long> songIds);
 }
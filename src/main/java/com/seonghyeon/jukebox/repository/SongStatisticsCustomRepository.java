@@ -2,6 +2,7 @@ package com.seonghyeon.jukebox.repository;
 
 import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -9,4 +10,17 @@ public interface SongStatisticsCustomRepository {
     Flux<SongStatisticsEntity> findAllByYearAndArtist(Integer year, String artist, Pageable pageable);
 
     Mono<Long> countByYearAndArtist(Integer year, String artist);
+
+    /**
+     * 다음 페이지 존재 여부를 판단할 수 있도록 페이지 크기보다 한 건 더 조회합니다. (Slice 조회용)
+     */
+    Flux<SongStatisticsEntity> findSliceByYearAndArtist(Integer year, String artist, Pageable pageable);
+
+    /**
+     * {@code after} 이후의 행을 정렬 순서대로 최대 {@code limit}건 조회합니다. (Keyset Pagination)
+     * OFFSET 없이 마지막 행의 정렬 키 이후부터 탐색하므로, 뒤쪽 페이지도 앞쪽 행을 읽고 버리지 않습니다.
+     *
+     * @param after 이전 페이지의 마지막 행. null이면 첫 페이지를 조회합니다.
+     */
+    Flux<SongStatisticsEntity> findAllByYearAndArtistAfter(Integer year, String artist, Sort sort, SongStatisticsEntity after, int limit);
 }
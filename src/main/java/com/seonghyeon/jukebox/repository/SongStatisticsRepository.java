@@ -8,13 +8,20 @@ import reactor.core.publisher.Mono;
 
 public interface SongStatisticsRepository extends R2dbcRepository<SongStatisticsEntity, Long>, SongStatisticsCustomRepository {
 
+    /**
+     * songs 전체를 집계하여 연도/가수별 통계를 재구축합니다. 이미 있는 (연도, 가수)는 집계 값으로 덮어쓰므로 다시 실행해도 중복되지 않습니다.
+     * 가수명은 콜레이션 기준으로 묶으며, 유니크 키(artist_hash)도 콜레이션 정렬 키 기준이므로 적재 시 증분 반영과 결과가 같습니다.
+     */
     @Modifying
     @Query("""
         INSERT INTO song_statistics (release_year, artist, album_count)
-        SELECT YEAR(release_date), artist, COUNT(*)
-        FROM songs
-        WHERE release_date IS NOT NULL
-        GROUP BY YEAR(release_date), artist
+        SELECT * FROM (
+            SELECT YEAR(release_date) AS release_year, ANY_VALUE(artist) AS artist, COUNT(*) AS album_count
+            FROM songs
+            WHERE release_date IS NOT NULL AND artist IS NOT NULL
+            GROUP BY YEAR(release_date), artist
+        ) s
+        ON DUPLICATE KEY UPDATE album_count = s.album_count
     """)
     Mono<Long> buildYearArtistStats();
 
@@ -0,0 +1,9 @@
+package com.seonghyeon.jukebox.repository.dto;
+
+public record SongSummaryDto(
+        Long songId,
+        String title,
+        String artist,
+        String album
+) {
+}
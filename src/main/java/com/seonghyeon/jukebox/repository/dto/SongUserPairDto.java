@@ -0,0 +1,7 @@
+package com.seonghyeon.jukebox.repository.dto;
+
+public record SongUserPairDto(
+        Long songId,
+        Long userId
+) {
+}
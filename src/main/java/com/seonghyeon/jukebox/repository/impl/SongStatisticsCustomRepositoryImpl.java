@@ -14,6 +14,9 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Repository
@@ -25,6 +28,12 @@ public class SongStatisticsCustomRepositoryImpl implements SongStatisticsCustomR
     /// DB 에러 방지 및 컬럼 노출 제어를 위한 허용 정렬 필드 및 기본 정렬 설정
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("releaseYear", "artist", "albumCount");
     private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("releaseYear"), Sort.Order.asc("artist"));
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "releaseYear", "release_year",
+            "artist", "artist",
+            "albumCount", "album_count",
+            "id", "id"
+    );
 
     @Override
     public Flux<SongStatisticsEntity> findAllByYearAndArtist(@Nullable Integer year, @Nullable String artist, Pageable pageable) {
@@ -37,11 +46,83 @@ public class SongStatisticsCustomRepositoryImpl implements SongStatisticsCustomR
                 .all();
     }
 
+    @Override
+    public Flux<SongStatisticsEntity> findSliceByYearAndArtist(@Nullable Integer year, @Nullable String artist, Pageable pageable) {
+        Pageable validatedPageable = validatePageable(pageable);
+
+        Query query = Query.query(createCriteria(year, artist))
+                .sort(validatedPageable.getSort())
+                .offset(validatedPageable.getOffset())
+                .limit(validatedPageable.getPageSize() + 1);
+        return template.select(SongStatisticsEntity.class)
+                .from("song_statistics")
+                .matching(query)
+                .all();
+    }
+
+    @Override
+    public Flux<SongStatisticsEntity> findAllByYearAndArtistAfter(@Nullable Integer year, @Nullable String artist, Sort sort,
+                                                                  @Nullable SongStatisticsEntity after, int limit) {
+        // 정렬 키가 같은 행의 순서를 고정하기 위해 id를 마지막 정렬 키로 사용
+        List<Sort.Order> orders = new ArrayList<>(validateSort(sort).toList());
+        orders.add(Sort.Order.asc("id"));
+
+        Criteria criteria = createCriteria(year, artist);
+        if (after != null) {
+            criteria = criteria.and(createSeekCriteria(orders, after));
+        }
+        Query query = Query.query(criteria).sort(Sort.by(orders)).limit(limit);
+        return template.select(SongStatisticsEntity.class)
+                .from("song_statistics")
+                .matching(query)
+                .all();
+    }
+
     @Override
     public Mono<Long> countByYearAndArtist(@Nullable Integer year, @Nullable String artist) {
         return template.count(Query.query(createCriteria(year, artist)), SongStatisticsEntity.class);
     }
 
+    private Sort validateSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return DEFAULT_SORT;
+        }
+        boolean isValid = sort.stream().allMatch(order -> ALLOWED_SORT_FIELDS.contains(order.getProperty()));
+        return isValid ? sort : DEFAULT_SORT;
+    }
+
+    /**
+     * 정렬 키 (k1, k2, ..., id) 기준으로 {@code after} 이후의 행을 찾는 조건을 생성합니다.
+     * 정렬 방향이 섞일 수 있으므로 행 값 비교 대신 {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...} 형태로 전개합니다.
+     * 첫 정렬 키의 범위 조건으로 인덱스 탐색 범위가 좁혀집니다.
+     */
+    private Criteria createSeekCriteria(List<Sort.Order> orders, SongStatisticsEntity after) {
+        Criteria seek = null;
+        for (int i = 0; i < orders.size(); i++) {
+            Criteria branch = Criteria.empty();
+            for (int j = 0; j < i; j++) {
+                String property = orders.get(j).getProperty();
+                branch = branch.and(SORT_COLUMNS.get(property)).is(sortValue(after, property));
+            }
+            Sort.Order order = orders.get(i);
+            Criteria.CriteriaStep step = branch.and(SORT_COLUMNS.get(order.getProperty()));
+            Object value = sortValue(after, order.getProperty());
+            branch = order.isAscending() ? step.greaterThan(value) : step.lessThan(value);
+            seek = seek == null ? branch : seek.or(branch);
+        }
+        return seek;
+    }
+
+    private static Object sortValue(SongStatisticsEntity entity, String property) {
+        return switch (property) {
+            case "releaseYear" -> entity.releaseYear();
+            case "artist" -> entity.artist();
+            case "albumCount" -> entity.albumCount();
+            case "id" -> entity.id();
+            default -> throw new IllegalArgumentException("Unsupported sort property: " + property);
+        };
+    }
+
     private Pageable validatePageable(Pageable pageable) {
         if (pageable.getSort().isUnsorted()) {
             return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
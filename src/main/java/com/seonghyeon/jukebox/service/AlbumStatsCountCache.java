@@ -0,0 +1,88 @@
+package com.seonghyeon.jukebox.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 연도/가수 필터별 앨범 통계 전체 개수 캐시.
+ *
+ * <p>song_statistics는 데이터 적재 시에만 변경되므로, 필터별 개수를 한 번 계산한 뒤
+ * {@link SongStatisticsUpdatedEvent}를 받을 때까지 유지합니다. (TTL 없음)</p>
+ * <ul>
+ * <li><b>Single-Flight:</b> 같은 필터의 동시 요청은 {@code Mono.cache()}로 하나의 COUNT 쿼리를 공유합니다.</li>
+ * <li><b>상한:</b> 가수명 필터는 종류에 제한이 없으므로, 캐시된 필터 수가 {@code maxEntries}에 도달하면 임의의 항목 하나를 제거합니다.</li>
+ * </ul>
+ * <p>인스턴스 로컬 캐시이며, 통계 변경은 데이터 적재를 수행한 인스턴스에서 이벤트로 전달됩니다.</p>
+ */
+@Slf4j
+@Component
+public class AlbumStatsCountCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<CountKey, Mono<Long>> counts = new ConcurrentHashMap<>();
+
+    public AlbumStatsCountCache(@Value("${jukebox.stats.count-cache.enabled:true}") boolean enabled,
+                                @Value("${jukebox.stats.count-cache.max-entries:10000}") int maxEntries) {
+        if (maxEntries <= 0) throw new IllegalArgumentException("maxEntries must be greater than zero.");
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    public Mono<Long> get(Integer year, String artist, Supplier<Mono<Long>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CountKey key = new CountKey(year, artist);
+        Mono<Long> cached = counts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        evictIfFull();
+        return counts.computeIfAbsent(key, k -> load(k, loader));
+    }
+
+    @EventListener
+    public void onStatisticsUpdated(SongStatisticsUpdatedEvent event) {
+        log.info("[AlbumStatsCountCache] Statistics updated ({} rows), evicting {} cached counts", event.rows(), counts.size());
+        counts.clear();
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    private Mono<Long> load(CountKey key, Supplier<Mono<Long>> loader) {
+        AtomicReference<Mono<Long>> self = new AtomicReference<>();
+        Mono<Long> count = Mono.defer(loader)
+                .doOnError(e -> {
+                    log.warn("[AlbumStatsCountCache] Failed to count album stats. key={}, error={}", key, e.getMessage());
+                    counts.remove(key, self.get()); // 실패한 결과는 캐시하지 않음
+                })
+                .cache();
+        self.set(count);
+        return count;
+    }
+
+    private void evictIfFull() {
+        if (counts.size() < maxEntries) {
+            return;
+        }
+        Iterator<CountKey> iterator = counts.keySet().iterator();
+        if (iterator.hasNext()) {
+            counts.remove(iterator.next());
+        }
+    }
+
+    private record CountKey(Integer year, String artist) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.seonghyeon.jukebox.service;
+
+import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 연도/가수별 앨범 수 조회의 커서. 마지막 행의 정렬 키 값과 정렬 조건을 Base64(URL-safe)로 인코딩한 불투명 문자열입니다.
+ *
+ * <p>정렬 조건을 커서에 포함하므로, 이후 페이지는 요청의 정렬 파라미터와 관계없이 첫 페이지의 정렬을 유지합니다.</p>
+ */
+record AlbumStatsCursor(Sort sort, SongStatisticsEntity last) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "\n";
+    private static final int FIELD_COUNT = 6;
+
+    static String encode(Sort sort, SongStatisticsEntity last) {
+        String orders = String.join(",", sort.stream().map(order -> order.getProperty() + ":" + order.getDirection().name()).toList());
+        // 가수명에 구분자가 포함될 수 있으므로 마지막 필드로 기록
+        String raw = String.join(SEPARATOR, VERSION, orders, String.valueOf(last.releaseYear()), String.valueOf(last.albumCount()),
+                String.valueOf(last.id()), last.artist());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static AlbumStatsCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = raw.split(SEPARATOR, FIELD_COUNT);
+            if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            SongStatisticsEntity last = new SongStatisticsEntity(Long.parseLong(fields[4]), Integer.parseInt(fields[2]), fields[5],
+                    Long.parseLong(fields[3]));
+            return new AlbumStatsCursor(parseSort(fields[1]), last);
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류 포함
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+
+    private static Sort parseSort(String value) {
+        if (value.isEmpty()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String order : value.split(",")) {
+            String[] parts = order.split(":", 2);
+            if (parts.length != 2) throw new IllegalArgumentException("Invalid cursor.");
+            orders.add(new Sort.Order(Sort.Direction.valueOf(parts[1]), parts[0]));
+        }
+        return Sort.by(orders);
+    }
+}
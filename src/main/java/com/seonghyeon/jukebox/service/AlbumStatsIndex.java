@@ -0,0 +1,154 @@
+package com.seonghyeon.jukebox.service;
+
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsIndexNotReadyException;
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsSearchUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 앨범 통계(song_statistics)를 DB 조회 없이 제공하기 위한 인메모리 인덱스.
+ *
+ * <p>song_statistics는 데이터 적재 시에만 변경되므로, 전체를 {@link AlbumStatsSnapshot}으로 적재한 뒤
+ * 필터/정렬/페이징을 메모리에서 처리합니다.</p>
+ * <ul>
+ * <li><b>적재:</b> 기동 시 {@link #reload()}로 적재하고, {@link SongStatisticsUpdatedEvent}를 받으면 다시 적재합니다.</li>
+ * <li><b>교체:</b> 새 스냅샷을 완성한 뒤 참조를 교체하므로, 조회 요청은 항상 완전한 스냅샷을 봅니다.</li>
+ * <li><b>Fallback:</b> 적재 전이거나 적재에 실패한 경우, 스냅샷에 없는 가수명인 경우에는 {@code null}을 반환하여 DB로 조회합니다.</li>
+ * <li><b>가수 검색:</b> 가수명 일부/유사 표기 검색은 DB에서 처리하면 전체 스캔이므로 인덱스로만 처리합니다.
+ * 적재 중에는 {@link AlbumStatsIndexNotReadyException}, 비활성화되었거나 적재에 실패했으면 {@link AlbumStatsSearchUnavailableException}으로 실패합니다.</li>
+ * <li><b>재적재:</b> 적재에 실패한 상태에서 검색 요청이 들어오면, 마지막 실패로부터 {@code retryInterval}이 지난 경우 별도 Virtual Thread에서 다시 적재합니다.</li>
+ * </ul>
+ * <p>인스턴스 로컬 인덱스이며, 통계 변경은 데이터 적재를 수행한 인스턴스에서 이벤트로 전달됩니다.</p>
+ */
+@Slf4j
+@Component
+public class AlbumStatsIndex {
+
+    /// 가수 순위는 DB 콜레이션 기준으로 계산하여, 메모리 정렬 결과가 DB 정렬과 같도록 함
+    private static final String LOAD_SQL = """
+            SELECT id, release_year, artist, album_count, DENSE_RANK() OVER (ORDER BY artist) - 1 AS artist_rank
+            FROM song_statistics
+            ORDER BY artist, id
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final boolean enabled;
+    private final Duration retryInterval;
+
+    private volatile AlbumStatsSnapshot snapshot;
+    private volatile State state;
+    private volatile long lastFailureMillis;
+    private final AtomicBoolean retrying = new AtomicBoolean();
+
+    public AlbumStatsIndex(DatabaseClient databaseClient,
+                           @Value("${jukebox.stats.in-memory.enabled:true}") boolean enabled,
+                           @Value("${jukebox.stats.in-memory.retry-interval:30s}") Duration retryInterval) {
+        this.databaseClient = databaseClient;
+        this.enabled = enabled;
+        this.retryInterval = retryInterval;
+        this.state = enabled ? State.LOADING : State.DISABLED;
+    }
+
+    /**
+     * 필터와 정렬을 적용한 결과를 반환합니다.
+     *
+     * @return 메모리에서 처리할 수 없으면 {@code null} (호출부에서 DB로 조회)
+     */
+    @Nullable
+    AlbumStatsSnapshot.Selection select(@Nullable Integer year, @Nullable String artist, Sort sort) {
+        AlbumStatsSnapshot current = snapshot;
+        return current == null ? null : current.select(year, artist, sort);
+    }
+
+    /**
+     * 가수명 일부(대소문자/악센트 무시) 또는 유사 표기로 검색합니다.
+     *
+     * @throws AlbumStatsIndexNotReadyException     인덱스를 처음 적재하는 중인 경우
+     * @throws AlbumStatsSearchUnavailableException 인덱스가 비활성화되었거나 적재에 실패한 경우
+     */
+    AlbumStatsSnapshot.Selection search(@Nullable Integer year, String artistQuery, Sort sort) {
+        AlbumStatsSnapshot current = snapshot;
+        if (current != null) {
+            return current.search(year, artistQuery, sort);
+        }
+        switch (state) {
+            case DISABLED -> throw new AlbumStatsSearchUnavailableException("가수 검색을 사용할 수 없습니다. (인메모리 통계 비활성화)");
+            case FAILED -> {
+                retryReload();
+                throw new AlbumStatsSearchUnavailableException("앨범 통계 인덱스를 적재하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            default -> throw new AlbumStatsIndexNotReadyException("앨범 통계 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    @EventListener
+    public void onStatisticsUpdated(SongStatisticsUpdatedEvent event) {
+        reload();
+    }
+
+    /**
+     * song_statistics 전체를 스트리밍으로 읽어 스냅샷을 교체합니다. (호출 스레드 블로킹)
+     */
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        long startMillis = System.currentTimeMillis();
+        AlbumStatsSnapshot.Builder builder = AlbumStatsSnapshot.builder();
+        try {
+            databaseClient.sql(LOAD_SQL)
+                    .map(row -> builder.add(
+                            row.get("id", Long.class),
+                            row.get("release_year", Integer.class),
+                            row.get("artist", String.class),
+                            row.get("artist_rank", Number.class).intValue(),
+                            row.get("album_count", Integer.class)))
+                    .all()
+                    .then()
+                    .block();
+            snapshot = builder.build();
+            state = State.READY;
+            log.info("[AlbumStatsIndex] Snapshot loaded: {} rows in {} ms", snapshot.size(), System.currentTimeMillis() - startMillis);
+        } catch (RuntimeException e) {
+            snapshot = null; // 이전 스냅샷은 변경 전 데이터일 수 있으므로 DB 조회로 전환
+            lastFailureMillis = System.currentTimeMillis();
+            state = State.FAILED;
+            log.error("[AlbumStatsIndex] Failed to load snapshot, falling back to database", e);
+        }
+    }
+
+    // 마지막 실패로부터 retryInterval이 지났으면 한 번에 하나만 다시 적재
+    private void retryReload() {
+        if (System.currentTimeMillis() - lastFailureMillis < retryInterval.toMillis() || !retrying.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("stats-index-retry-worker").start(() -> {
+            try {
+                reload();
+            } finally {
+                retrying.set(false);
+            }
+        });
+    }
+
+    State state() {
+        return state;
+    }
+
+    public int size() {
+        AlbumStatsSnapshot current = snapshot;
+        return current == null ? 0 : current.size();
+    }
+
+    enum State {
+        LOADING, READY, DISABLED, FAILED
+    }
+}
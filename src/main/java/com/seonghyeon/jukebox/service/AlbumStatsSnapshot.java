@@ -0,0 +1,477 @@
+package com.seonghyeon.jukebox.service;
+
+import com.seonghyeon.jukebox.common.search.TrigramIndex;
+import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * song_statistics 전체를 열(column) 단위 기본형 배열로 보관하는 불변 스냅샷.
+ *
+ * <p>행은 {@code ORDER BY artist, id} 순서로 적재되며, 배열 인덱스가 행 번호입니다.</p>
+ * <ul>
+ * <li><b>가수 인덱스:</b> DB 콜레이션 기준 가수 순위(artist rank)가 같은 행은 연속하므로, 순위별 시작 위치(offset)만 보관합니다.</li>
+ * <li><b>연도 인덱스:</b> 연도별로 묶은 행 번호 배열과 연도별 시작 위치를 보관합니다.</li>
+ * <li><b>정렬:</b> 적재 시 필드별 값의 순위(연도/가수/앨범 수/id)를 계산해 두고, 정렬할 때는 요청한 필드 순서대로 순위를 하나의 long 키로 묶어 기본형 정렬합니다.
+ * (id 순위를 마지막 키로 포함하므로 키가 유일하며, 키에서 바로 행을 찾음)
+ * 기본 정렬과 단일 필드 정렬은 전체 행의 정렬 순서와 행별 순위를 한 번 계산하여 재사용하며, 필터가 있으면 대상 행의 순위만 기본형 정렬합니다.
+ * 여러 필드 정렬은 조합이 많으므로, 필터가 있으면 대상 행만 정렬하고 필터가 없는 경우에만 최대 {@code MAX_COMPOSITE_SORT_ORDERS}개를 보관합니다.</li>
+ * <li><b>가수 검색:</b> 서로 다른 가수명 표기에 대한 {@link TrigramIndex}로 가수명 일부/유사 표기를 가수 순위로 변환합니다.</li>
+ * </ul>
+ */
+final class AlbumStatsSnapshot {
+
+    private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("releaseYear", "artist", "albumCount");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("releaseYear"), Sort.Order.asc("artist"));
+    /// 부분 일치하는 가수가 없을 때 유사 검색 기준 (pg_trgm 기본값과 동일) 및 최대 가수 수
+    private static final double FUZZY_MIN_SIMILARITY = 0.3;
+    private static final int FUZZY_MAX_ARTISTS = 20;
+    /// 보관하는 여러 필드 정렬 순서 수. 상한에 도달하면 임의의 항목 하나를 제거
+    private static final int MAX_COMPOSITE_SORT_ORDERS = 4;
+
+    private final int size;
+    private final long[] ids;
+    private final int[] years;
+    private final String[] artists;
+    private final int[] artistRanks;
+    private final int[] albumCounts;
+
+    private final Map<String, Integer> artistRankByName;
+    private final int[] artistOffsets; // 순위 r의 행 범위: [artistOffsets[r], artistOffsets[r + 1])
+    private final TrigramIndex artistSearch;
+    private final int[] artistSearchRanks; // artistSearch의 term 번호 -> 가수 순위
+
+    private final int[] yearKeys; // 오름차순 연도
+    private final int[] yearOffsets; // yearKeys[i]의 행 범위: rowsByYear[yearOffsets[i] .. yearOffsets[i + 1])
+    private final int[] rowsByYear;
+
+    private final int[] rowsById; // id 오름차순 행 번호 (커서 위치 탐색용)
+
+    // 정렬 키로 사용하는 필드별 순위 (값이 같으면 같은 순위, 0부터 시작)
+    private final RankField yearField;
+    private final RankField artistField;
+    private final RankField albumCountField;
+    private final int[] idRanks; // id 오름차순 순위 (행마다 유일)
+    private final int idRankBits;
+
+    private final ConcurrentHashMap<Sort, SortOrder> sortOrders = new ConcurrentHashMap<>(); // 기본 정렬과 단일 필드 정렬 (최대 7개)
+    private final ConcurrentHashMap<Sort, SortOrder> compositeSortOrders = new ConcurrentHashMap<>();
+
+    private AlbumStatsSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.years = Arrays.copyOf(builder.years, size);
+        this.artists = Arrays.copyOf(builder.artists, size);
+        this.artistRanks = Arrays.copyOf(builder.artistRanks, size);
+        this.albumCounts = Arrays.copyOf(builder.albumCounts, size);
+        this.artistRankByName = Map.copyOf(builder.artistRankByName);
+
+        int rankCount = size == 0 ? 0 : artistRanks[size - 1] + 1;
+        this.artistOffsets = new int[rankCount + 1];
+        for (int row = size - 1; row >= 0; row--) {
+            artistOffsets[artistRanks[row]] = row;
+        }
+        artistOffsets[rankCount] = size;
+
+        List<String> artistNames = List.copyOf(artistRankByName.keySet());
+        this.artistSearch = new TrigramIndex(artistNames);
+        this.artistSearchRanks = artistNames.stream().mapToInt(artistRankByName::get).toArray();
+
+        // (연도, 행 번호)를 하나의 long으로 묶어 기본형 정렬
+        long[] yearRows = new long[size];
+        for (int row = 0; row < size; row++) {
+            yearRows[row] = ((long) years[row] << 32) | row;
+        }
+        Arrays.sort(yearRows);
+        this.rowsByYear = new int[size];
+        List<Integer> keys = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int year = (int) (yearRows[i] >> 32);
+            rowsByYear[i] = (int) yearRows[i];
+            if (keys.isEmpty() || keys.get(keys.size() - 1) != year) {
+                keys.add(year);
+                offsets.add(i);
+            }
+        }
+        offsets.add(size);
+        this.yearKeys = keys.stream().mapToInt(Integer::intValue).toArray();
+        this.yearOffsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+
+        this.rowsById = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingLong(row -> ids[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int[] yearRanks = new int[size];
+        for (int i = 0; i < yearKeys.length; i++) {
+            for (int j = yearOffsets[i]; j < yearOffsets[i + 1]; j++) {
+                yearRanks[rowsByYear[j]] = i;
+            }
+        }
+        this.yearField = new RankField(yearRanks, yearKeys.length);
+        this.artistField = new RankField(artistRanks, rankCount);
+        this.albumCountField = denseRanks(albumCounts);
+        this.idRanks = new int[size];
+        for (int i = 0; i < size; i++) {
+            idRanks[rowsById[i]] = i;
+        }
+        this.idRankBits = bitsFor(size);
+        sortOrders.put(DEFAULT_SORT, createSortOrder(DEFAULT_SORT));
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 필터와 정렬을 적용한 결과를 반환합니다. 허용되지 않은 정렬 필드가 있으면 기본 정렬을 사용합니다.
+     *
+     * @return 스냅샷에 없는 가수명이면 {@code null}. (DB 콜레이션 기준으로 일치하는 다른 표기가 있을 수 있으므로 호출부에서 DB로 조회)
+     */
+    @Nullable
+    Selection select(@Nullable Integer year, @Nullable String artist, Sort sort) {
+        Sort normalized = normalizeSort(sort);
+        if (year == null && artist == null) {
+            return new Selection(fullOrder(normalized), null);
+        }
+
+        if (artist != null) {
+            Integer rank = artistRankByName.get(artist);
+            return rank == null ? null : selectRows(artistRows(new int[]{rank}, year), normalized);
+        }
+
+        int index = Arrays.binarySearch(yearKeys, year);
+        if (index < 0) {
+            return selectRows(new int[0], normalized);
+        }
+        return selectRows(Arrays.copyOfRange(rowsByYear, yearOffsets[index], yearOffsets[index + 1]), normalized);
+    }
+
+    /**
+     * 가수명 일부(대소문자/악센트 무시)로 가수를 찾아 필터와 정렬을 적용한 결과를 반환합니다.
+     * 부분 일치하는 가수가 없으면 유사도가 높은 가수명(오타 허용)으로 찾습니다.
+     */
+    Selection search(@Nullable Integer year, String artistQuery, Sort sort) {
+        int[] terms = artistSearch.containing(artistQuery);
+        if (terms.length == 0) {
+            terms = artistSearch.similar(artistQuery, FUZZY_MIN_SIMILARITY, FUZZY_MAX_ARTISTS);
+        }
+        // 콜레이션 기준으로 같은 가수의 다른 표기는 같은 순위이므로 중복 제거
+        int[] ranks = Arrays.stream(terms).map(term -> artistSearchRanks[term]).sorted().distinct().toArray();
+        return selectRows(artistRows(ranks, year), normalizeSort(sort));
+    }
+
+    private int[] artistRows(int[] ranks, @Nullable Integer year) {
+        int total = 0;
+        for (int rank : ranks) {
+            total += artistOffsets[rank + 1] - artistOffsets[rank];
+        }
+        int[] rows = new int[total];
+        int count = 0;
+        for (int rank : ranks) {
+            for (int row = artistOffsets[rank]; row < artistOffsets[rank + 1]; row++) {
+                if (year == null || years[row] == year) {
+                    rows[count++] = row;
+                }
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    // 필터 대상 행을 정렬. 보관하는 정렬 순서가 있으면 행별 순위를 기본형 정렬하고, 없으면 대상 행만 정렬
+    private Selection selectRows(int[] rows, Sort sort) {
+        if (!isReusable(sort)) {
+            return new Selection(new SortOrder(sortRows(sort, rows), null, comparator(sort)), null);
+        }
+        SortOrder order = sortOrders.computeIfAbsent(sort, this::createSortOrder);
+        int[] positions = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            positions[i] = order.positionByRow()[rows[i]];
+        }
+        Arrays.sort(positions);
+        return new Selection(order, positions);
+    }
+
+    private SortOrder fullOrder(Sort sort) {
+        if (isReusable(sort)) {
+            return sortOrders.computeIfAbsent(sort, this::createSortOrder);
+        }
+        SortOrder cached = compositeSortOrders.get(sort);
+        if (cached != null) {
+            return cached;
+        }
+        if (compositeSortOrders.size() >= MAX_COMPOSITE_SORT_ORDERS) {
+            Iterator<Sort> iterator = compositeSortOrders.keySet().iterator();
+            if (iterator.hasNext()) compositeSortOrders.remove(iterator.next());
+        }
+        return compositeSortOrders.computeIfAbsent(sort, this::createSortOrder);
+    }
+
+    // 기본 정렬과 단일 필드 정렬은 종류가 제한되므로 전체 정렬 순서를 계속 보관
+    private static boolean isReusable(Sort sort) {
+        return sort.equals(DEFAULT_SORT) || sort.stream().count() == 1;
+    }
+
+    private Sort normalizeSort(Sort sort) {
+        if (sort.isUnsorted() || !sort.stream().allMatch(order -> ALLOWED_SORT_FIELDS.contains(order.getProperty()))) {
+            return DEFAULT_SORT;
+        }
+        // 같은 필드가 반복되면 첫 정렬만 의미가 있으므로, 정렬 조건의 종류를 제한하기 위해 제거
+        Map<String, Sort.Direction> directions = new LinkedHashMap<>();
+        sort.forEach(order -> directions.putIfAbsent(order.getProperty(), order.getDirection()));
+        List<Sort.Order> orders = new ArrayList<>();
+        directions.forEach((property, direction) -> orders.add(new Sort.Order(direction, property)));
+        return Sort.by(orders);
+    }
+
+    private SortOrder createSortOrder(Sort sort) {
+        int[] rowsByPosition = sortRows(sort, IntStream.range(0, size).toArray());
+
+        int[] positionByRow = new int[size];
+        for (int position = 0; position < size; position++) {
+            positionByRow[rowsByPosition[position]] = position;
+        }
+        return new SortOrder(rowsByPosition, positionByRow, comparator(sort));
+    }
+
+    private Comparator<Integer> comparator(Sort sort) {
+        Comparator<Integer> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Integer> key = switch (order.getProperty()) {
+                case "releaseYear" -> Comparator.comparingInt(row -> years[row]);
+                case "artist" -> Comparator.comparingInt(row -> artistRanks[row]);
+                case "albumCount" -> Comparator.comparingInt(row -> albumCounts[row]);
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            };
+            if (order.isDescending()) key = key.reversed();
+            comparator = comparator == null ? key : comparator.thenComparing(key);
+        }
+        Comparator<Integer> byId = Comparator.comparingLong(row -> ids[row]);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    /**
+     * 행을 정렬합니다. 필드 순위와 id 순위를 요청한 순서대로 비트를 이어 붙인 long 키를 기본형 정렬하고, 키의 id 순위로 행을 찾습니다.
+     * 순위의 비트 수 합이 63을 넘는 경우(가수와 행이 매우 많은 경우)에만 비교자로 정렬합니다.
+     */
+    private int[] sortRows(Sort sort, int[] rows) {
+        List<Sort.Order> orders = sort.toList();
+        RankField[] fields = new RankField[orders.size()];
+        int totalBits = idRankBits;
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = rankField(orders.get(i).getProperty());
+            totalBits += fields[i].bits();
+        }
+        if (totalBits > Long.SIZE - 1) {
+            return Arrays.stream(rows).boxed().sorted(comparator(sort)).mapToInt(Integer::intValue).toArray();
+        }
+
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            long key = 0;
+            for (int f = 0; f < fields.length; f++) {
+                int rank = fields[f].ranks()[row];
+                key = (key << fields[f].bits()) | (orders.get(f).isDescending() ? fields[f].count() - 1 - rank : rank);
+            }
+            keys[i] = (key << idRankBits) | idRanks[row];
+        }
+        Arrays.sort(keys);
+
+        long idMask = (1L << idRankBits) - 1;
+        int[] sorted = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[i] = rowsById[(int) (keys[i] & idMask)];
+        }
+        return sorted;
+    }
+
+    private RankField rankField(String property) {
+        return switch (property) {
+            case "releaseYear" -> yearField;
+            case "artist" -> artistField;
+            case "albumCount" -> albumCountField;
+            default -> throw new IllegalArgumentException("Unsupported sort property: " + property);
+        };
+    }
+
+    // 값 오름차순 순위 (같은 값은 같은 순위). (값, 행 번호)를 하나의 long으로 묶어 기본형 정렬
+    private static RankField denseRanks(int[] values) {
+        long[] valueRows = new long[values.length];
+        for (int row = 0; row < values.length; row++) {
+            valueRows[row] = ((long) values[row] << 32) | row;
+        }
+        Arrays.sort(valueRows);
+        int[] ranks = new int[values.length];
+        int rank = -1;
+        for (int i = 0; i < valueRows.length; i++) {
+            if (i == 0 || (int) (valueRows[i] >> 32) != (int) (valueRows[i - 1] >> 32)) rank++;
+            ranks[(int) valueRows[i]] = rank;
+        }
+        return new RankField(ranks, rank + 1);
+    }
+
+    // 0 ~ count - 1을 표현하는 데 필요한 비트 수
+    private static int bitsFor(int count) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(count - 1, 0));
+    }
+
+    private int rowOf(long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = ids[rowsById[mid]];
+            if (midId < id) low = mid + 1;
+            else if (midId > id) high = mid - 1;
+            else return rowsById[mid];
+        }
+        return -1;
+    }
+
+    private SongStatisticsEntity toEntity(int row) {
+        return new SongStatisticsEntity(ids[row], years[row], artists[row], (long) albumCounts[row]);
+    }
+
+    /**
+     * 정렬 조건별 행의 정렬 순서({@code rowsByPosition})와 행별 순위({@code positionByRow}).
+     * 필터 대상 행만 정렬한 경우 {@code rowsByPosition}은 대상 행만 포함하며, {@code positionByRow}는 {@code null}입니다.
+     */
+    private record SortOrder(int[] rowsByPosition, @Nullable int[] positionByRow, Comparator<Integer> comparator) {
+    }
+
+    /**
+     * 필드의 행별 순위와 순위 수. {@code bits}는 정렬 키에서 차지하는 비트 수입니다.
+     */
+    private record RankField(int[] ranks, int count, int bits) {
+
+        private RankField(int[] ranks, int count) {
+            this(ranks, count, bitsFor(count));
+        }
+    }
+
+    /**
+     * 필터와 정렬을 적용한 결과. {@code positions}가 {@code null}이면 전체 행입니다.
+     */
+    final class Selection {
+
+        private final SortOrder order;
+        private final int[] positions;
+
+        private Selection(SortOrder order, @Nullable int[] positions) {
+            this.order = order;
+            this.positions = positions;
+        }
+
+        int size() {
+            return positions == null ? order.rowsByPosition().length : positions.length;
+        }
+
+        List<SongStatisticsEntity> slice(long offset, int limit) {
+            int from = (int) Math.min(offset, size());
+            int to = (int) Math.min((long) from + limit, size());
+            List<SongStatisticsEntity> content = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                int position = positions == null ? i : positions[i];
+                content.add(toEntity(order.rowsByPosition()[position]));
+            }
+            return content;
+        }
+
+        /**
+         * 커서의 마지막 행 다음 위치를 반환합니다.
+         *
+         * @return 마지막 행이 스냅샷에 없거나 값이 다르면(통계 변경 등) -1
+         */
+        int indexAfter(SongStatisticsEntity last) {
+            int row = last.id() == null ? -1 : rowOf(last.id());
+            if (row < 0 || !toEntity(row).equals(last)) {
+                return -1;
+            }
+            if (order.positionByRow() == null) {
+                // 대상 행만 정렬한 결과. 정렬 키에 id가 포함되어 순서가 유일하므로 이진 탐색
+                int low = 0;
+                int high = order.rowsByPosition().length - 1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    int compared = order.comparator().compare(order.rowsByPosition()[mid], row);
+                    if (compared < 0) low = mid + 1;
+                    else if (compared > 0) high = mid - 1;
+                    else return mid + 1;
+                }
+                return low;
+            }
+            int position = order.positionByRow()[row];
+            if (positions == null) {
+                return position + 1;
+            }
+            int index = Arrays.binarySearch(positions, position);
+            return index >= 0 ? index + 1 : -(index + 1);
+        }
+    }
+
+    /**
+     * {@code ORDER BY artist, id} 순서로 행을 받아 스냅샷을 생성합니다.
+     * 가수 순위는 DB 콜레이션 기준 순위(예: {@code DENSE_RANK() OVER (ORDER BY artist)})이며, 0부터 시작해 증가해야 합니다.
+     */
+    static final class Builder {
+
+        private int size;
+        private long[] ids = new long[16];
+        private int[] years = new int[16];
+        private String[] artists = new String[16];
+        private int[] artistRanks = new int[16];
+        private int[] albumCounts = new int[16];
+        private final Map<String, Integer> artistRankByName = new HashMap<>();
+        private final Map<String, String> canonicalNames = new HashMap<>();
+
+        private Builder() {
+        }
+
+        Builder add(long id, int year, String artist, int artistRank, int albumCount) {
+            int previousRank = size == 0 ? -1 : artistRanks[size - 1];
+            if (artistRank != previousRank && artistRank != previousRank + 1) {
+                throw new IllegalArgumentException("Rows must be ordered by artist rank. previous=" + previousRank + ", rank=" + artistRank);
+            }
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                years = Arrays.copyOf(years, capacity);
+                artists = Arrays.copyOf(artists, capacity);
+                artistRanks = Arrays.copyOf(artistRanks, capacity);
+                albumCounts = Arrays.copyOf(albumCounts, capacity);
+            }
+            // 같은 표기의 가수명은 하나의 String 인스턴스를 공유
+            String name = canonicalNames.computeIfAbsent(artist, key -> key);
+            artistRankByName.putIfAbsent(name, artistRank);
+            ids[size] = id;
+            years[size] = year;
+            artists[size] = name;
+            artistRanks[size] = artistRank;
+            albumCounts[size] = albumCount;
+            size++;
+            return this;
+        }
+
+        AlbumStatsSnapshot build() {
+            return new AlbumStatsSnapshot(this);
+        }
+    }
+}
@@ -1,28 +1,126 @@
 package com.seonghyeon.jukebox.service;
 
+import com.seonghyeon.jukebox.common.pagination.CursorPage;
 import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
 import com.seonghyeon.jukebox.repository.SongStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class SongStatisticsQueryService {
 
+    private static final int MAX_ARTIST_QUERY_LENGTH = 100;
+
     private final SongStatisticsRepository songStatisticsRepository;
+    private final AlbumStatsCountCache albumStatsCountCache;
+    private final AlbumStatsIndex albumStatsIndex;
 
+    /**
+     * 페이지와 전체 개수를 조회합니다. 인메모리 인덱스가 적재되어 있으면 DB를 조회하지 않으며,
+     * DB로 조회할 때 전체 개수는 필터별로 캐시되어 통계가 변경되기 전까지 재사용됩니다.
+     */
     @Transactional(readOnly = true)
     public Mono<Page<SongStatisticsEntity>> getAlbumStatsByYearAndArtist(@Nullable Integer year, @Nullable String artist, Pageable pageable) {
-        return songStatisticsRepository.findAllByYearAndArtist(year, artist, pageable)
-                .collectList()
-                .zipWith(songStatisticsRepository.countByYearAndArtist(year, artist))
-                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+        return select(year, artist, pageable.getSort())
+                .<Page<SongStatisticsEntity>>map(selection ->
+                        new PageImpl<>(selection.slice(pageable.getOffset(), pageable.getPageSize()), pageable, selection.size()))
+                .switchIfEmpty(Mono.defer(() -> songStatisticsRepository.findAllByYearAndArtist(year, artist, pageable)
+                        .collectList()
+                        .zipWith(albumStatsCountCache.get(year, artist, () -> songStatisticsRepository.countByYearAndArtist(year, artist)))
+                        .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()))));
+    }
+
+    /**
+     * 가수명 일부(대소문자/악센트 무시)로 검색하여 페이지와 전체 개수를 조회합니다. 부분 일치하는 가수가 없으면 유사한 가수명(오타 허용)으로 조회합니다.
+     * DB에서는 전체 스캔이 필요하므로 인메모리 인덱스로만 처리하며, 인덱스를 적재 중이면
+     * {@link com.seonghyeon.jukebox.common.exception.stats.AlbumStatsIndexNotReadyException}으로,
+     * 인덱스가 비활성화되었거나 적재에 실패했으면 {@link com.seonghyeon.jukebox.common.exception.stats.AlbumStatsSearchUnavailableException}으로 실패합니다.
+     */
+    public Mono<Page<SongStatisticsEntity>> searchAlbumStats(@Nullable Integer year, String artistQuery, Pageable pageable) {
+        if (!StringUtils.hasText(artistQuery) || artistQuery.length() > MAX_ARTIST_QUERY_LENGTH) {
+            return Mono.error(new IllegalArgumentException("artistQuery는 1자 이상 " + MAX_ARTIST_QUERY_LENGTH + "자 이하로 입력해 주세요."));
+        }
+        return Mono.<Page<SongStatisticsEntity>>fromSupplier(() -> {
+                    AlbumStatsSnapshot.Selection selection = albumStatsIndex.search(year, artistQuery, pageable.getSort());
+                    return new PageImpl<>(selection.slice(pageable.getOffset(), pageable.getPageSize()), pageable, selection.size());
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 전체 개수 없이 페이지를 조회합니다. 페이지 크기보다 한 건 더 조회하여 다음 페이지 존재 여부만 판단합니다.
+     */
+    @Transactional(readOnly = true)
+    public Mono<Slice<SongStatisticsEntity>> getAlbumStatsSlice(@Nullable Integer year, @Nullable String artist, Pageable pageable) {
+        return select(year, artist, pageable.getSort())
+                .<Slice<SongStatisticsEntity>>map(selection -> {
+                    boolean hasNext = pageable.getOffset() + pageable.getPageSize() < selection.size();
+                    return new SliceImpl<>(selection.slice(pageable.getOffset(), pageable.getPageSize()), pageable, hasNext);
+                })
+                .switchIfEmpty(Mono.defer(() -> songStatisticsRepository.findSliceByYearAndArtist(year, artist, pageable)
+                        .collectList()
+                        .map(rows -> {
+                            boolean hasNext = rows.size() > pageable.getPageSize();
+                            List<SongStatisticsEntity> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+                            return new SliceImpl<>(content, pageable, hasNext);
+                        })));
+    }
+
+    /**
+     * 커서 기반으로 연도/가수별 앨범 수를 조회합니다. 전체 개수를 계산하지 않으며, 페이지 번호는 사용하지 않습니다.
+     *
+     * @param cursor 이전 페이지의 {@code nextCursor}. 비어 있으면 첫 페이지를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Mono<CursorPage<SongStatisticsEntity>> getAlbumStatsByCursor(@Nullable Integer year, @Nullable String artist,
+                                                                        @Nullable String cursor, Pageable pageable) {
+        AlbumStatsCursor decoded = StringUtils.hasText(cursor) ? AlbumStatsCursor.decode(cursor) : null;
+        Sort sort = decoded != null ? decoded.sort() : pageable.getSort();
+        int size = pageable.getPageSize();
+
+        return select(year, artist, sort)
+                .flatMap(selection -> {
+                    int start = decoded == null ? 0 : selection.indexAfter(decoded.last());
+                    if (start < 0) {
+                        return Mono.empty();
+                    }
+                    List<SongStatisticsEntity> content = selection.slice(start, size);
+                    boolean hasNext = (long) start + size < selection.size();
+                    return Mono.just(new CursorPage<>(content, hasNext ? AlbumStatsCursor.encode(sort, content.get(content.size() - 1)) : null));
+                })
+                // 다음 페이지 존재 여부를 확인하기 위해 한 건 더 조회
+                .switchIfEmpty(Mono.defer(() -> songStatisticsRepository.findAllByYearAndArtistAfter(year, artist, sort, decoded != null ? decoded.last() : null, size + 1)
+                        .collectList()
+                        .map(rows -> {
+                            if (rows.size() <= size) {
+                                return new CursorPage<>(rows, null);
+                            }
+                            List<SongStatisticsEntity> content = rows.subList(0, size);
+                            return new CursorPage<>(content, AlbumStatsCursor.encode(sort, content.get(size - 1)));
+                        })));
     }
 
+    /**
+     * 인메모리 인덱스에서 필터와 정렬을 적용합니다. 보관하지 않은 정렬 순서는 요청 시 정렬하므로, 이벤트 루프를 막지 않도록 별도 스레드에서 실행합니다.
+     *
+     * @return 인덱스가 없거나 인덱스로 처리할 수 없으면 빈 결과 (DB로 조회)
+     */
+    private Mono<AlbumStatsSnapshot.Selection> select(@Nullable Integer year, @Nullable String artist, Sort sort) {
+        return Mono.fromCallable(() -> albumStatsIndex.select(year, artist, sort))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 }
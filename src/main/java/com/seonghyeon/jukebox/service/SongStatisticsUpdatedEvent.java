@@ -0,0 +1,9 @@
+package com.seonghyeon.jukebox.service;
+
+/**
+ * song_statistics 변경(데이터 적재 반영, 전체 재구축)이 커밋된 후 발행되는 이벤트. 통계 기반 캐시를 무효화하는 데 사용합니다.
+ *
+ * @param rows 변경된 통계 행 수
+ */
+public record SongStatisticsUpdatedEvent(long rows) {
+}
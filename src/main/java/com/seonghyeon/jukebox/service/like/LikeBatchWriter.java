@@ -1,5 +1,8 @@
 package com.seonghyeon.jukebox.service.like;
 
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -8,37 +11,78 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LikeBatchWriter {
 
+    private static final int CHUNK_SIZE = 1000;
+
     private final DatabaseClient databaseClient;
 
+    /**
+     * 곡별 좋아요 증감분(diff)을 songs.total_likes에 일괄 반영합니다.
+     * * <p>곡마다 UPDATE 문을 실행하는 대신, 증감분을 {@code CHUNK_SIZE} 단위로 묶어
+     * 파생 테이블(UNION ALL)과 조인하는 단일 UPDATE 문으로 처리합니다.</p>
+     * <ul>
+     * <li><b>Deadlock 방지:</b> 곡 ID 오름차순으로 정렬한 뒤 청크를 순차 실행하여,
+     * 여러 인스턴스가 동시에 Flush 하더라도 항상 같은 순서로 행 잠금을 획득합니다.</li>
+     * <li><b>트랜잭션:</b> 호출부의 {@code TransactionalOperator}에 참여하며, 청크 하나가 실패하면 전체가 롤백됩니다.</li>
+     * </ul>
+     *
+     * @param snapshot 곡 ID별 좋아요 증감분 (0인 항목은 제외)
+     */
     public Mono<Void> updateLike(Map<Long, Long> snapshot) {
         if (snapshot.isEmpty()) {
             return Mono.empty();
         }
+        return updateLikeCounts(LongCountSnapshot.of(snapshot));
+    }
 
-        return Flux.fromIterable(snapshot.entrySet())
-                .flatMap(entry -> {
-                    Long songId = entry.getKey();
-                    long diff = entry.getValue();
-                    if (diff == 0) return Mono.empty();
-
-                    return databaseClient.sql("UPDATE songs SET total_likes = total_likes + :diff WHERE id = :id")
-                            .bind("diff", diff)
-                            .bind("id", songId)
-                            .fetch()
-                            .rowsUpdated()
-                            .doOnNext(updated -> {
-                                if (updated == 0) {
-                                    log.warn("No song found to update likes. songId: {}", songId);
-                                }
-                            });
-                }, 10)
+    /**
+     * {@link #updateLike(Map)}와 동일하며, 이미 곡 ID 오름차순으로 정렬된 primitive 스냅샷을 그대로 사용합니다.
+     */
+    public Mono<Void> updateLikeCounts(LongCountSnapshot snapshot) {
+        if (snapshot.isEmpty()) {
+            return Mono.empty();
+        }
+        int chunkCount = (snapshot.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return Flux.range(0, chunkCount)
+                .concatMap(chunk -> updateChunk(snapshot, chunk * CHUNK_SIZE, Math.min((chunk + 1) * CHUNK_SIZE, snapshot.size())))
                 .then();
     }
 
+    private Mono<Void> updateChunk(LongCountSnapshot snapshot, int from, int to) {
+        int size = to - from;
+        String sql = buildBulkUpdateSql(size);
+
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(sql);
+            int idx = 0;
+            for (int i = from; i < to; i++) {
+                statement.bind(idx++, snapshot.keyAt(i));
+                statement.bind(idx++, snapshot.countAt(i));
+            }
+            return Flux.from(statement.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum);
+        }).doOnNext(updated -> {
+            if (updated < size) {
+                log.warn("No song found to update likes. missing: {} of {} songs (songId range: {} ~ {})",
+                        size - updated, size, snapshot.keyAt(from), snapshot.keyAt(to - 1));
+            }
+        }).then();
+    }
+
+    // UPDATE songs s JOIN (SELECT ? AS id, ? AS diff UNION ALL SELECT ?, ? ...) d ON s.id = d.id SET ...
+    private String buildBulkUpdateSql(int count) {
+        String values = IntStream.range(0, count)
+                .mapToObj(i -> i == 0 ? "SELECT ? AS id, ? AS diff" : "SELECT ?, ?")
+                .collect(Collectors.joining(" UNION ALL "));
+        return "UPDATE songs s JOIN (" + values + ") d ON s.id = d.id SET s.total_likes = s.total_likes + d.diff";
+    }
+
 }
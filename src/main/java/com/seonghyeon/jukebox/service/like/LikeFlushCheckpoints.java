@@ -0,0 +1,75 @@
+package com.seonghyeon.jukebox.service.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 버퍼 Flush 청크의 반영 기록(like_flush_checkpoints).
+ *
+ * <p>청크 반영과 같은 트랜잭션에서 청크 ID를 기록하여, DB 커밋 후 Redis 정리 전에 중단된 청크를 재처리하더라도
+ * 좋아요 수가 두 번 반영되지 않도록 합니다.</p>
+ * <ul>
+ * <li><b>보관 기간:</b> 중단된 청크는 다음 Flush 주기에 재처리되므로, {@code RETENTION}이 지난 기록은 정리합니다.</li>
+ * <li><b>저널:</b> 메모리 전략은 봉인한 저널 세그먼트 번호를 기록하여, 재기동 시 이미 반영된 세그먼트를 복구하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlushCheckpoints {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final int PURGE_LIMIT = 1000;
+
+    private final DatabaseClient databaseClient;
+    private final Clock clock;
+
+    /**
+     * 청크 ID를 기록합니다. 호출부의 트랜잭션에 참여하며, 롤백되면 기록도 함께 취소됩니다.
+     *
+     * @return 처음 기록한 경우 true, 이미 반영된 청크인 경우 false
+     */
+    public Mono<Boolean> claim(String chunkId) {
+        return databaseClient.sql("INSERT IGNORE INTO like_flush_checkpoints (chunk_id, created_at) VALUES (:chunkId, :createdAt)")
+                .bind("chunkId", chunkId)
+                .bind("createdAt", LocalDateTime.now(clock))
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    /**
+     * {@code prefix} 뒤에 번호를 붙인 청크 ID({@code prefix + seq}) 중 가장 큰 번호를 반환합니다. (저널 세그먼트 반영 기록 조회)
+     *
+     * @return 기록이 없으면 빈 Mono
+     */
+    public Mono<Long> findLastSequence(String prefix) {
+        return databaseClient.sql("SELECT chunk_id FROM like_flush_checkpoints WHERE chunk_id LIKE :pattern")
+                .bind("pattern", prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%")
+                .map(row -> row.get("chunk_id", String.class))
+                .all()
+                .map(chunkId -> chunkId.substring(prefix.length()))
+                .filter(suffix -> !suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit))
+                .map(Long::parseLong)
+                .reduce(Math::max);
+    }
+
+    // 보관 기간이 지난 기록을 한 번에 최대 PURGE_LIMIT건 삭제
+    public Mono<Void> purgeExpired() {
+        return databaseClient.sql("DELETE FROM like_flush_checkpoints WHERE created_at < :before LIMIT " + PURGE_LIMIT)
+                .bind("before", LocalDateTime.now(clock).minus(RETENTION))
+                .fetch()
+                .rowsUpdated()
+                .doOnNext(rows -> {
+                    if (rows > 0) log.debug("[LikeFlushCheckpoints] Purged {} expired checkpoints", rows);
+                })
+                .then();
+    }
+}
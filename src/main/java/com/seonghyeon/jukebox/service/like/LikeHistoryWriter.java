@@ -0,0 +1,227 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.entity.SongLikeEntity;
+import io.r2dbc.spi.Statement;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 좋아요 이력(song_likes)을 마이크로 배치로 모아 Multi-row Insert 하는 Writer.
+ *
+ * <p>여러 요청에서 동시에 들어온 이벤트를 {@code maxWait} 동안 또는 {@code maxBatchSize}건이 찰 때까지 모은 뒤
+ * 하나의 INSERT 문으로 저장합니다. 각 호출자의 {@link Mono}는 자신이 포함된 배치가 커밋된 후에 완료됩니다.</p>
+ * <ul>
+ * <li><b>Backpressure:</b> {@code bufferTimeout}의 fair backpressure 모드로 DB 처리 속도에 맞춰 배치를 생성합니다.</li>
+ * <li><b>Failure Isolation:</b> 배치 INSERT가 실패하면 건별로 재시도하여, 실패 원인이 된 이벤트의 호출자에게만 에러를 전달합니다.</li>
+ * <li><b>Non-blocking Emit:</b> 요청 스레드는 MPSC 큐에 넣기만 하고, drain 루프를 잡은 한 스레드가 파이프라인으로 전달합니다.</li>
+ * <li><b>Self-healing:</b> 파이프라인이 에러로 종료되면 새 파이프라인을 시작하여 이후 요청을 계속 처리합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LikeHistoryWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO song_likes (song_id, user_id, action, created_at) VALUES ";
+    private static final String PLACEHOLDERS = "(" + String.join(", ", Collections.nCopies(4, "?")) + ")";
+    private static final int WRITE_CONCURRENCY = 4;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final DatabaseClient databaseClient;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+
+    private final Queue<PendingLike> queue = Queues.<PendingLike>unboundedMultiproducer().get();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile Pipeline pipeline;
+    private volatile boolean closed;
+
+    public LikeHistoryWriter(DatabaseClient databaseClient,
+                             @Value("${jukebox.like.history-writer.max-batch-size:500}") int maxBatchSize,
+                             @Value("${jukebox.like.history-writer.max-wait:5ms}") Duration maxWait) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("maxBatchSize must be greater than zero.");
+        this.databaseClient = databaseClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.pipeline = new Pipeline();
+    }
+
+    public Mono<Void> write(SongLikeEntity event) {
+        return Mono.defer(() -> {
+            if (closed) {
+                return Mono.error(new IllegalStateException("Like history writer is shut down."));
+            }
+            Sinks.One<Void> result = Sinks.one();
+            queue.offer(new PendingLike(event, result));
+            drain();
+            return result.asMono();
+        });
+    }
+
+    /**
+     * 큐에 쌓인 이벤트를 파이프라인으로 전달합니다.
+     *
+     * <p>여러 스레드가 동시에 호출해도 한 스레드만 전달하고, 나머지는 큐에 넣고 바로 반환합니다.
+     * sink에는 항상 한 스레드만 emit 하므로 FAIL_NON_SERIALIZED 충돌이나 스핀 대기가 없습니다.</p>
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            PendingLike pending;
+            while ((pending = queue.poll()) != null) {
+                emit(pending);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(PendingLike pending) {
+        Pipeline current = pipeline;
+        current.inFlight.add(pending);
+        if (current.sink.tryEmitNext(pending).isSuccess()) {
+            return;
+        }
+        current.inFlight.remove(pending);
+        if (pipeline != current) {
+            emit(pending); // 재시작된 파이프라인으로 전달
+            return;
+        }
+        pending.result().tryEmitError(new IllegalStateException("Like history writer is not accepting events."));
+    }
+
+    private Mono<Void> writeBatch(List<PendingLike> batch) {
+        return insert(batch.stream().map(PendingLike::event).toList())
+                .doOnSuccess(v -> {
+                    log.debug("[LikeHistoryWriter] Batch inserted: {} events", batch.size());
+                    batch.forEach(pending -> pending.result().tryEmitEmpty());
+                })
+                .onErrorResume(e -> {
+                    if (batch.size() == 1) {
+                        batch.get(0).result().tryEmitError(e);
+                        return Mono.empty();
+                    }
+                    log.warn("[LikeHistoryWriter] Batch insert failed, retrying {} events one by one. Error: {}", batch.size(), e.getMessage());
+                    return Flux.fromIterable(batch)
+                            .concatMap(pending -> insert(List.of(pending.event()))
+                                    .doOnSuccess(v -> pending.result().tryEmitEmpty())
+                                    .onErrorResume(error -> {
+                                        pending.result().tryEmitError(error);
+                                        return Mono.empty();
+                                    }))
+                            .then();
+                });
+    }
+
+    private Mono<Void> insert(List<SongLikeEntity> events) {
+        String sql = buildBulkInsertSql(events.size());
+        return databaseClient.inConnection(connection -> {
+            Statement statement = connection.createStatement(sql);
+            int idx = 0;
+            for (SongLikeEntity event : events) {
+                statement.bind(idx++, event.getSongId());
+                statement.bind(idx++, event.getUserId());
+                statement.bind(idx++, event.getAction());
+                statement.bind(idx++, event.getCreatedAt() != null ? event.getCreatedAt() : LocalDateTime.now());
+            }
+            return Flux.from(statement.execute())
+                    .flatMap(result -> result.getRowsUpdated())
+                    .then();
+        });
+    }
+
+    private String buildBulkInsertSql(int count) {
+        return INSERT_PREFIX + IntStream.range(0, count)
+                .mapToObj(i -> PLACEHOLDERS)
+                .collect(Collectors.joining(", "));
+    }
+
+    @PreDestroy
+    public void onDestroy() {
+        // 신규 요청을 막고, 남은 이벤트를 모두 기록한 뒤 종료
+        closed = true;
+        drain();
+        Pipeline current = pipeline;
+        current.sink.tryEmitComplete();
+        try {
+            current.completion.block(SHUTDOWN_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.error("[LikeHistoryWriter] Failed to drain pending events during shutdown", e);
+        } finally {
+            current.subscription.dispose();
+        }
+    }
+
+    /**
+     * 배치 INSERT 파이프라인. 예상치 못한 에러로 종료되면 새 파이프라인으로 교체하고,
+     * 종료된 파이프라인에 남아 있던 이벤트의 호출자에게는 에러를 전달합니다.
+     */
+    private final class Pipeline {
+
+        private final Sinks.Many<PendingLike> sink = Sinks.many().unicast().onBackpressureBuffer();
+        private final Set<PendingLike> inFlight = ConcurrentHashMap.newKeySet();
+        private final Mono<Void> completion;
+        private final Disposable subscription;
+
+        private Pipeline() {
+            this.completion = sink.asFlux()
+                    .bufferTimeout(maxBatchSize, maxWait, true)
+                    .flatMap(batch -> writeBatch(batch).doFinally(signal -> batch.forEach(inFlight::remove)), WRITE_CONCURRENCY)
+                    .doOnError(this::restart)
+                    .onErrorResume(e -> Mono.empty())
+                    .then()
+                    .cache();
+            this.subscription = completion.subscribe();
+        }
+
+        private void restart(Throwable error) {
+            log.error("[LikeHistoryWriter] Writer pipeline terminated unexpectedly, restarting", error);
+            if (!closed) {
+                pipeline = new Pipeline();
+            }
+            IllegalStateException failure = new IllegalStateException("Like history writer pipeline failed.", error);
+            inFlight.forEach(pending -> pending.result().tryEmitError(failure));
+            inFlight.clear();
+        }
+    }
+
+    /// 동일한 이벤트가 여러 번 요청될 수 있으므로 inFlight 집합에서 identity로 구분
+    private static final class PendingLike {
+
+        private final SongLikeEntity event;
+        private final Sinks.One<Void> result;
+
+        private PendingLike(SongLikeEntity event, Sinks.One<Void> result) {
+            this.event = event;
+            this.result = result;
+        }
+
+        SongLikeEntity event() {
+            return event;
+        }
+
+        Sinks.One<Void> result() {
+            return result;
+        }
+    }
+}
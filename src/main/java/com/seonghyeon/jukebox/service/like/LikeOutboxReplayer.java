@@ -0,0 +1,218 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종료 시 DB 반영에 실패하여 백업된 좋아요 증감분({@code outbox/backup-*.json})을 기동 후 DB에 반영하는 Replayer.
+ *
+ * <ul>
+ * <li><b>스트리밍:</b> 파일 전체를 메모리에 올리지 않고 Jackson Streaming Parser로 읽으며, {@code batchSize}개 곡 단위로 반영합니다.</li>
+ * <li><b>멱등성:</b> 배치마다 {@code outbox:{파일명}:{반영한 항목 수}}를 반영과 같은 트랜잭션에서 {@link LikeFlushCheckpoints}에 기록합니다.
+ * 배치는 파일 순서대로 반영되므로, 재기동 시 가장 큰 기록 이전의 항목은 건너뜁니다. 기록이 파일 내 항목 위치 기준이므로
+ * {@code batchSize}가 바뀌어도 같은 항목을 다시 반영하지 않습니다.</li>
+ * <li><b>보관:</b> 모든 배치가 반영된 파일은 {@code archive}로, 파싱할 수 없는 파일은 {@code failed}로 이동합니다.</li>
+ * <li><b>가용성:</b> 별도 Virtual Thread에서 실행되어 기동을 지연시키지 않으며, DB 장애 시 Backoff 후 재시도합니다.
+ * 재시도 횟수를 넘으면 파일을 그대로 두고 다음 기동 시 다시 반영합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeOutboxReplayer implements ApplicationRunner {
+
+    private static final String BACKUP_FILE_GLOB = "backup-*.json";
+    private static final String ARCHIVE_DIR = "archive";
+    private static final String FAILED_DIR = "failed";
+    private static final Duration BATCH_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    @Value("${jukebox.like.outbox.replay-enabled:true}")
+    private boolean replayEnabled;
+
+    @Value("${jukebox.like.outbox.path:outbox}")
+    private String outboxPath;
+
+    @Value("${jukebox.like.outbox.batch-size:1000}")
+    private int batchSize;
+
+    private final ObjectMapper objectMapper;
+    private final LikeBatchWriter likeBatchWriter;
+    private final LikeFlushCheckpoints likeFlushCheckpoints;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!replayEnabled) {
+            log.info("Like outbox replay is disabled. (jukebox.like.outbox.replay-enabled: false)");
+            return;
+        }
+        Path path = Path.of(outboxPath);
+        Thread.ofVirtual().name("like-outbox-replay-worker").start(() -> replayWithRetry(path));
+    }
+
+    private void replayWithRetry(Path path) {
+        Duration backoff = INITIAL_BACKOFF;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int replayed = replayAll(path);
+                if (replayed > 0) log.info("[LikeOutbox] Replayed {} outbox files", replayed);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("[LikeOutbox] Replay failed after {} attempts. Remaining files will be replayed on next startup.", attempt, e);
+                    return;
+                }
+                log.warn("[LikeOutbox] Replay failed (attempt {}), retrying in {}. Error: {}", attempt, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * 디렉토리의 백업 파일을 생성 순서대로 반영합니다.
+     *
+     * @return 반영 후 보관된 파일 수
+     * @throws RuntimeException DB 반영 실패 시 (남은 파일은 유지)
+     */
+    public int replayAll(Path directory) {
+        if (!Files.isDirectory(directory)) return 0;
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, BACKUP_FILE_GLOB)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list outbox files: " + directory, e);
+        }
+        files.sort(null); // backup-{timestamp}.json
+
+        int replayed = 0;
+        for (Path file : files) {
+            if (replayFile(file)) replayed++;
+        }
+        return replayed;
+    }
+
+    private boolean replayFile(Path file) {
+        long startMillis = System.currentTimeMillis();
+        String fileName = file.getFileName().toString();
+        String chunkPrefix = "outbox:" + fileName + ":";
+        long appliedCount = likeFlushCheckpoints.findLastSequence(chunkPrefix).defaultIfEmpty(0L).block(BATCH_TIMEOUT);
+        long entryCount = 0; // 파일 앞에서부터 읽은 항목 수 (오염된 항목 포함)
+        long songCount = 0;
+
+        try (InputStream is = Files.newInputStream(file);
+             JsonParser parser = objectMapper.createParser(is)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Outbox file must be a JSON object.");
+            }
+            Map<Long, Long> batch = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (entryCount++ < appliedCount) {
+                    parser.skipChildren();
+                    continue;
+                }
+                Long songId = parseSongId(key);
+                if (songId == null || valueToken != JsonToken.VALUE_NUMBER_INT) {
+                    log.error("[CRITICAL] Data corruption detected in outbox! Skipping. File: {}, Key: {}", fileName, key);
+                    parser.skipChildren();
+                    continue;
+                }
+                batch.merge(songId, parser.getLongValue(), Long::sum);
+
+                if (batch.size() >= batchSize) {
+                    applyBatch(chunkPrefix + entryCount, batch);
+                    songCount += batch.size();
+                    batch.clear();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected token in outbox file: " + parser.currentToken());
+            }
+            if (!batch.isEmpty()) {
+                applyBatch(chunkPrefix + entryCount, batch);
+                songCount += batch.size();
+            }
+        } catch (JsonProcessingException e) {
+            // 앞선 배치는 반영되었을 수 있으므로 파일을 격리하여 수동 확인
+            log.error("[LikeOutbox] Corrupted outbox file moved to '{}'. Batches before the error may have been applied. file={}", FAILED_DIR, file, e);
+            moveTo(file, FAILED_DIR);
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read outbox file: " + file, e);
+        }
+
+        moveTo(file, ARCHIVE_DIR);
+        if (appliedCount > 0) {
+            log.info("[LikeOutbox] Skipped {} entries already applied from {}", Math.min(appliedCount, entryCount), fileName);
+        }
+        log.info("[LikeOutbox] Replayed {} songs from {} in {} ms", songCount, fileName, System.currentTimeMillis() - startMillis);
+        return true;
+    }
+
+    // 배치 기록과 좋아요 수 반영을 하나의 트랜잭션으로 처리. 이미 기록된 배치는 건너뜀
+    private void applyBatch(String chunkId, Map<Long, Long> batch) {
+        Map<Long, Long> snapshot = Map.copyOf(batch);
+        Boolean applied = likeFlushCheckpoints.claim(chunkId)
+                .flatMap(claimed -> claimed
+                        ? likeBatchWriter.updateLike(snapshot).thenReturn(true)
+                        : Mono.just(false))
+                .as(transactionalOperator::transactional)
+                .block(BATCH_TIMEOUT);
+        if (!Boolean.TRUE.equals(applied)) {
+            log.info("[LikeOutbox] Batch already applied, skipping. chunk={}", chunkId);
+        }
+    }
+
+    private Long parseSongId(String key) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void moveTo(Path file, String dirName) {
+        try {
+            Path target = file.resolveSibling(dirName);
+            Files.createDirectories(target);
+            Files.move(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to move outbox file: " + file, e);
+        }
+    }
+}
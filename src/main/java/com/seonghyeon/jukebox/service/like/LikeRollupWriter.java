@@ -0,0 +1,115 @@
+package com.seonghyeon.jukebox.service.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * song_likes 이력을 곡별/분 단위 좋아요 순증감으로 집계하여 song_like_rollups에 반영하는 Writer.
+ *
+ * <p>좋아요 Flush 작업 직후 실행되며, 워터마크(rolled_up_id) 이후에 기록된 이력을 {@code created_at}의 분 구간에 누적합니다.
+ * 이력의 {@code created_at}은 요청 시각이고 마이크로 배치/재시도/재기동으로 늦게 기록될 수 있으므로, 워터마크는 시각이 아닌 삽입 순서인 {@code id}로 전진합니다.
+ * 늦게 기록된 이력도 다음 실행에서 지난 분 구간에 더해지므로 인기 곡 집계에서 빠지지 않습니다.
+ * 인기 곡 조회는 롤업된 이력을 분 단위 집계로, 워터마크 이후 이력만 원본으로 합산하므로 조회 비용이 이벤트 수가 아닌 곡 수 × 구간 수에 비례합니다.</p>
+ * <ul>
+ * <li><b>중복 실행 방지:</b> 워터마크 행을 {@code SELECT ... FOR UPDATE}로 잠가, 여러 인스턴스가 동시에 실행해도 같은 이력을 두 번 집계하지 않습니다.</li>
+ * <li><b>커밋 순서 대비:</b> AUTO_INCREMENT 값은 커밋 순서와 다를 수 있으므로, 최대 id를 관측(observed_id)한 뒤 {@code SETTLE_DELAY}가 지나
+ * 그 이하의 id를 가진 트랜잭션이 모두 커밋된 뒤에 집계합니다.</li>
+ * <li><b>실행 범위 제한:</b> 한 번에 최대 {@code MAX_ID_RANGE}개의 id 구간만 집계하여 트랜잭션이 길어지지 않도록 하고, 남은 구간은 다음 주기에 이어서 처리합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeRollupWriter {
+
+    private static final Duration SETTLE_DELAY = Duration.ofSeconds(10);
+    private static final long MAX_ID_RANGE = 100_000;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final Clock clock;
+
+    public Mono<Void> rollUp() {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+
+            return lockWatermark()
+                    .flatMap(watermark -> {
+                        if (watermark.rolledUpId() >= watermark.observedId()) { // 관측한 범위를 모두 집계했으면 다음 범위 관측
+                            return observe(now);
+                        }
+                        if (watermark.observedAt().isAfter(now.minus(SETTLE_DELAY))) {
+                            return Mono.<Void>empty();
+                        }
+                        long from = watermark.rolledUpId();
+                        long to = Math.min(watermark.observedId(), from + MAX_ID_RANGE);
+                        return insertRollups(from, to)
+                                .flatMap(rows -> updateRolledUpId(to)
+                                        .doOnSuccess(v -> log.debug("[LikeRollup] Rolled up id ({}, {}] ({} rows)", from, to, rows)))
+                                .then(to == watermark.observedId() ? observe(now) : Mono.empty());
+                    })
+                    .as(transactionalOperator::transactional);
+        });
+    }
+
+    private Mono<Watermark> lockWatermark() {
+        return databaseClient.sql("SELECT rolled_up_id, observed_id, observed_at FROM song_like_rollup_watermark WHERE id = 1 FOR UPDATE")
+                .map(row -> new Watermark(
+                        row.get("rolled_up_id", Long.class),
+                        row.get("observed_id", Long.class),
+                        row.get("observed_at", LocalDateTime.class)))
+                .one();
+    }
+
+    // 현재 최대 id를 다음 롤업 범위의 끝으로 기록 (새 이력이 없으면 관측 시각만 갱신)
+    private Mono<Void> observe(LocalDateTime now) {
+        return databaseClient.sql("""
+                        UPDATE song_like_rollup_watermark
+                        SET observed_id = GREATEST(observed_id, (SELECT COALESCE(MAX(id), 0) FROM song_likes)),
+                            observed_at = :now
+                        WHERE id = 1
+                        """)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private Mono<Long> insertRollups(long fromExclusive, long toInclusive) {
+        return databaseClient.sql("""
+                        INSERT INTO song_like_rollups (song_id, bucket_start, like_count)
+                        SELECT * FROM (
+                            SELECT song_id,
+                                   DATE_FORMAT(created_at, '%Y-%m-%d %H:%i:00') AS bucket_start,
+                                   SUM(IF(action = 'LIKE', 1, -1)) AS delta
+                            FROM song_likes
+                            WHERE id > :from AND id <= :to
+                            GROUP BY song_id, bucket_start
+                        ) d
+                        ON DUPLICATE KEY UPDATE like_count = song_like_rollups.like_count + d.delta
+                        """)
+                .bind("from", fromExclusive)
+                .bind("to", toInclusive)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Void> updateRolledUpId(long rolledUpId) {
+        return databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = :rolledUpId WHERE id = 1")
+                .bind("rolledUpId", rolledUpId)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private record Watermark(long rolledUpId, long observedId, LocalDateTime observedAt) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.repository.SongLikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 곡별 '좋아요 한 사용자' 집합을 메모리에 유지하여, 사용자의 좋아요 여부를 O(1)로 판별하는 인덱스.
+ *
+ * <ul>
+ * <li><b>Lazy Loading:</b> 곡이 처음 조회될 때 user_song_likes에서 현재 좋아요 상태인 사용자 목록을 한 번만 적재합니다.
+ * 동시에 들어온 요청은 {@code Mono.cache()}를 통해 하나의 적재 쿼리를 공유합니다.</li>
+ * <li><b>Compressed Bitmap:</b> 사용자 ID는 곡 단위 {@link Roaring64Bitmap}에 저장되어 메모리 사용량을 최소화합니다.</li>
+ * <li><b>Write-through:</b> 좋아요/취소 이벤트가 저장되면 {@link #markLiked}/{@link #markUnliked}로 인덱스를 갱신합니다.
+ * 적재 중인 곡에 대한 갱신은 적재 완료 후 순서대로 반영됩니다.</li>
+ * </ul>
+ *
+ * <p>인스턴스 로컬 상태이므로 단일 인스턴스(memory 전략) 환경을 전제로 합니다.
+ * 최종 검증은 user_song_likes 조건부 갱신이 담당하며, 인덱스는 DB 왕복 없이 중복 요청을 먼저 거르는 용도입니다.
+ * 비활성화 시 user_song_likes 기본 키 조회로 판별합니다.</p>
+ */
+@Slf4j
+@Component
+public class LikeStateIndex {
+
+    private final SongLikeRepository songLikeRepository;
+    private final boolean enabled;
+    private final int maxSongs;
+
+    private final ConcurrentHashMap<Long, Mono<LikedUsers>> index = new ConcurrentHashMap<>();
+
+    public LikeStateIndex(SongLikeRepository songLikeRepository,
+                          @Value("${jukebox.like.state-index.enabled:true}") boolean enabled,
+                          @Value("${jukebox.like.state-index.max-songs:100000}") int maxSongs) {
+        if (maxSongs <= 0) throw new IllegalArgumentException("maxSongs must be greater than zero.");
+        this.songLikeRepository = songLikeRepository;
+        this.enabled = enabled;
+        this.maxSongs = maxSongs;
+    }
+
+    public Mono<Boolean> isLiked(Long songId, Long userId) {
+        if (!enabled) {
+            return songLikeRepository.countLikeState(songId, userId)
+                    .defaultIfEmpty(0)
+                    .map(status -> status > 0);
+        }
+        return getLikedUsers(songId).map(users -> users.contains(userId));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void markLiked(Long songId, Long userId) {
+        update(songId, users -> users.add(userId));
+    }
+
+    public void markUnliked(Long songId, Long userId) {
+        update(songId, users -> users.remove(userId));
+    }
+
+    private void update(Long songId, Consumer<LikedUsers> operation) {
+        Mono<LikedUsers> likedUsers = index.get(songId);
+        if (likedUsers == null) {
+            return; // 미적재 곡은 다음 조회 시 DB에서 최신 상태로 적재됨
+        }
+        likedUsers.subscribe(operation, e -> log.debug("[LikeStateIndex] Skip update for failed load. songId={}", songId));
+    }
+
+    private Mono<LikedUsers> getLikedUsers(Long songId) {
+        Mono<LikedUsers> cached = index.get(songId);
+        if (cached != null) {
+            return cached;
+        }
+        evictIfFull();
+        return index.computeIfAbsent(songId, this::load);
+    }
+
+    private Mono<LikedUsers> load(Long songId) {
+        return songLikeRepository.findCurrentLikedUserIds(songId)
+                .collect(LikedUsers::new, LikedUsers::add)
+                .doOnNext(users -> log.debug("[LikeStateIndex] Loaded like state. songId={}, users={}", songId, users.size()))
+                .doOnError(e -> {
+                    log.warn("[LikeStateIndex] Failed to load like state. songId={}, error={}", songId, e.getMessage());
+                    index.remove(songId); // 실패한 적재 결과는 캐시하지 않음
+                })
+                .cache();
+    }
+
+    // 적재된 곡 수가 상한에 도달하면 임의의 곡 하나를 제거 (제거된 곡은 다음 조회 시 재적재)
+    private void evictIfFull() {
+        if (index.size() < maxSongs) {
+            return;
+        }
+        Iterator<Long> iterator = index.keySet().iterator();
+        if (iterator.hasNext()) {
+            index.remove(iterator.next());
+        }
+    }
+
+    private static final class LikedUsers {
+
+        private final Roaring64Bitmap userIds = new Roaring64Bitmap();
+
+        synchronized void add(Long userId) {
+            userIds.addLong(userId);
+        }
+
+        synchronized void remove(Long userId) {
+            userIds.removeLong(userId);
+        }
+
+        synchronized boolean contains(Long userId) {
+            return userIds.contains(userId);
+        }
+
+        synchronized long size() {
+            return userIds.getLongCardinality();
+        }
+    }
+}
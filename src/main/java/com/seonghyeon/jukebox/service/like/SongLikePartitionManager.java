@@ -0,0 +1,307 @@
+package com.seonghyeon.jukebox.service.like;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * song_likes의 일 단위 Range 파티션(p{yyyyMMdd})을 관리하는 작업.
+ *
+ * <p>기동 시와 매일 {@code jukebox.like.partition.cron}에 아래 순서로 실행됩니다.</p>
+ * <ul>
+ * <li><b>파티션 추가:</b> 오늘부터 {@code precreateDays}일 뒤까지의 파티션을 {@code p_max}에서 분리하여 미리 생성합니다.
+ * 작업이 며칠 실행되지 않았다면 그 기간의 이력은 오늘 파티션에 함께 포함됩니다.</li>
+ * <li><b>압축(Compaction):</b> 보관 기간({@code retentionDays})이 지난 이력을 (곡, 사용자)별 순증감으로 합산하여 song_like_compacted_states에 누적하고,
+ * 워터마크(compacted_until, compacted_id)를 전진합니다. 이력 기반 좋아요 상태 조회는 압축된 값과 압축되지 않은 이력을 합산하므로, 파티션을 삭제해도 중복 검증 결과가 유지됩니다.
+ * 이미 압축된 날짜에 늦게 기록된 이력은 id로 구분하여 다음 압축에서 합산합니다.
+ * 하루 단위 트랜잭션으로 진행하며, 워터마크 행을 {@code SELECT ... FOR UPDATE}로 잠가 같은 구간을 두 번 압축하지 않습니다.</li>
+ * <li><b>파티션 삭제:</b> 범위 전체가 워터마크 이전이고 압축되지 않은 이력이 없는 파티션을 {@code DROP PARTITION}으로 삭제합니다. (행 단위 DELETE 없이 즉시 삭제)</li>
+ * </ul>
+ * <p>롤업(song_like_rollups)에 반영되지 않은 이력은 압축/삭제하지 않습니다.
+ * 여러 인스턴스가 동시에 DDL을 실행하면 한쪽이 실패할 수 있으나, 다음 실행에서 같은 상태로 수렴합니다.</p>
+ */
+@Slf4j
+@Component
+public class SongLikePartitionManager implements ApplicationRunner {
+
+    private static final String MAX_PARTITION = "p_max";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    // 이번 단계에 압축할 이력: 날짜 구간 [from, to)의 이력 + 압축된 날짜(< from)에 늦게 기록된 이력. 모두 id <= toId (인덱스를 타도록 UNION ALL로 분리)
+    private static final String FOLD_TARGET = """
+            SELECT song_id, user_id, action FROM song_likes
+            WHERE created_at >= :from AND created_at < :to AND id <= :toId
+            UNION ALL
+            SELECT song_id, user_id, action FROM song_likes
+            WHERE id > :fromId AND id <= :toId AND created_at < :from
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int precreateDays;
+
+    public SongLikePartitionManager(DatabaseClient databaseClient, TransactionalOperator transactionalOperator, Clock clock,
+                                    @Value("${jukebox.like.partition.enabled:true}") boolean enabled,
+                                    @Value("${jukebox.like.partition.retention-days:30}") int retentionDays,
+                                    @Value("${jukebox.like.partition.precreate-days:7}") int precreateDays) {
+        if (retentionDays < 1) throw new IllegalArgumentException("retentionDays must be greater than zero.");
+        if (precreateDays < 0) throw new IllegalArgumentException("precreateDays must not be negative.");
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.precreateDays = precreateDays;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("song_likes partition management is disabled. (jukebox.like.partition.enabled: false)");
+            return;
+        }
+        // 기동 직후 이력 기록이 p_max에 쌓이지 않도록 기동 시 한 번 실행 (실패해도 기동은 계속)
+        maintain()
+                .onErrorResume(e -> {
+                    log.error("[LikePartition] Partition maintenance failed on startup", e);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    @Scheduled(cron = "${jukebox.like.partition.cron:0 10 0 * * *}")
+    public void runScheduled() {
+        if (!enabled) return;
+        maintain().subscribe(null, e -> log.error("[LikePartition] Partition maintenance failed", e));
+    }
+
+    /**
+     * 파티션 추가 -> 압축 -> 삭제 순으로 실행합니다. 파티션 추가가 실패해도 압축과 삭제는 진행합니다.
+     */
+    public Mono<Void> maintain() {
+        return Mono.defer(() -> {
+            LocalDate today = LocalDate.now(clock);
+            return addPartitions(today)
+                    .onErrorResume(e -> {
+                        log.error("[LikePartition] Failed to add partitions", e);
+                        return Mono.empty();
+                    })
+                    .then(compact(today.minusDays(retentionDays).atStartOfDay()))
+                    .then(dropCompactedPartitions());
+        });
+    }
+
+    Mono<Void> addPartitions(LocalDate today) {
+        return listPartitionDays()
+                .collectList()
+                .flatMap(days -> {
+                    LocalDate lastDay = days.isEmpty() ? LocalDate.MIN : days.get(days.size() - 1);
+                    LocalDate start = lastDay.isBefore(today) ? today : lastDay.plusDays(1);
+                    LocalDate end = today.plusDays(precreateDays);
+                    if (start.isAfter(end)) {
+                        return Mono.empty();
+                    }
+                    List<String> definitions = new ArrayList<>();
+                    for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                        definitions.add("PARTITION " + day.format(PARTITION_NAME) + " VALUES LESS THAN ('" + day.plusDays(1) + "')");
+                    }
+                    definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+                    String sql = "ALTER TABLE song_likes REORGANIZE PARTITION " + MAX_PARTITION
+                            + " INTO (" + String.join(", ", definitions) + ")";
+                    return databaseClient.sql(sql).fetch().rowsUpdated()
+                            .doOnSuccess(v -> log.info("[LikePartition] Added partitions {} ~ {}", start, end))
+                            .then();
+                });
+    }
+
+    /**
+     * {@code boundary} 이전 이력을 하루씩 압축합니다. 롤업 워터마크(rolled_up_id)를 넘어서 압축하지 않습니다.
+     *
+     * <p>압축된 이력은 {@code created_at < compacted_until AND id <= compacted_id}입니다. 각 단계는 워터마크를 (to, rolled_up_id)로 전진하며
+     * 그 차이만큼, 즉 이번 날짜 구간의 이력과 이미 압축된 날짜에 늦게 기록된 이력(id > compacted_id)을 함께 합산합니다.</p>
+     */
+    Mono<Void> compact(LocalDateTime boundary) {
+        return Mono.defer(() -> compactNextDay(boundary))
+                .repeat()
+                .takeWhile(progressed -> progressed)
+                .then();
+    }
+
+    private Mono<Boolean> compactNextDay(LocalDateTime boundary) {
+        return lockWatermark()
+                .zipWhen(watermark -> rolledUpId())
+                .flatMap(tuple -> {
+                    Watermark watermark = tuple.getT1();
+                    long toId = Math.max(watermark.compactedId(), tuple.getT2());
+                    if (!watermark.compactedUntil().isBefore(boundary)) {
+                        if (toId == watermark.compactedId()) {
+                            return Mono.just(false);
+                        }
+                        // 날짜 구간은 모두 압축됨: 늦게 기록된 이력만 합산
+                        return compactRange(watermark, watermark.compactedUntil(), toId);
+                    }
+                    return findRangeStart(watermark.compactedUntil(), boundary)
+                            .flatMap(from -> {
+                                // 압축할 이력이 없으면 워터마크만 전진 (늦게 기록된 이력은 함께 합산)
+                                LocalDateTime to = !from.isBefore(boundary) ? boundary
+                                        : from.plusDays(1).isBefore(boundary) ? from.plusDays(1) : boundary;
+                                return compactRange(watermark, to, toId);
+                            });
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Boolean> compactRange(Watermark watermark, LocalDateTime to, long toId) {
+        return foldStates(watermark, to, toId)
+                .flatMap(rows -> removeUnlikedStates(watermark, to, toId)
+                        .then(updateWatermark(to, toId))
+                        .doOnSuccess(v -> {
+                            if (rows > 0) log.info("[LikePartition] Compacted {} ~ {}, id <= {} ({} rows)", watermark.compactedUntil(), to, toId, rows);
+                        }))
+                .thenReturn(true);
+    }
+
+    private Mono<Watermark> lockWatermark() {
+        return databaseClient.sql("SELECT compacted_until, compacted_id FROM song_like_compaction_watermark WHERE id = 1 FOR UPDATE")
+                .map(row -> new Watermark(row.get("compacted_until", LocalDateTime.class), row.get("compacted_id", Long.class)))
+                .one();
+    }
+
+    private Mono<Long> rolledUpId() {
+        return databaseClient.sql("SELECT rolled_up_id FROM song_like_rollup_watermark WHERE id = 1")
+                .map(row -> row.get("rolled_up_id", Long.class))
+                .one();
+    }
+
+    // 워터마크 이후 가장 오래된 이력의 날짜부터 시작하여 이력이 없는 구간을 건너뜀. 이력이 없으면 limit 반환
+    private Mono<LocalDateTime> findRangeStart(LocalDateTime watermark, LocalDateTime limit) {
+        return databaseClient.sql("SELECT MIN(created_at) AS oldest FROM song_likes WHERE created_at >= :watermark AND created_at < :limit")
+                .bind("watermark", watermark)
+                .bind("limit", limit)
+                .map(row -> Optional.ofNullable(row.get("oldest", LocalDateTime.class)))
+                .one()
+                .map(oldest -> oldest
+                        .map(o -> o.truncatedTo(ChronoUnit.DAYS))
+                        .map(o -> o.isAfter(watermark) ? o : watermark)
+                        .orElse(limit));
+    }
+
+    private Mono<Long> foldStates(Watermark watermark, LocalDateTime to, long toId) {
+        return bindFoldTarget(databaseClient.sql("""
+                        INSERT INTO song_like_compacted_states (song_id, user_id, like_status)
+                        SELECT * FROM (
+                            SELECT song_id, user_id, SUM(IF(action = 'LIKE', 1, -1)) AS delta
+                            FROM (%s) f
+                            GROUP BY song_id, user_id
+                        ) d
+                        ON DUPLICATE KEY UPDATE like_status = song_like_compacted_states.like_status + d.delta
+                        """.formatted(FOLD_TARGET)), watermark, to, toId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // 압축 결과 순증감이 0(취소 상태)이 된 항목은 이력이 없는 것과 같으므로 삭제
+    private Mono<Void> removeUnlikedStates(Watermark watermark, LocalDateTime to, long toId) {
+        return bindFoldTarget(databaseClient.sql("""
+                        DELETE c FROM song_like_compacted_states c
+                        JOIN (
+                            SELECT DISTINCT song_id, user_id
+                            FROM (%s) f
+                        ) d ON c.song_id = d.song_id AND c.user_id = d.user_id
+                        WHERE c.like_status = 0
+                        """.formatted(FOLD_TARGET)), watermark, to, toId)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFoldTarget(DatabaseClient.GenericExecuteSpec spec, Watermark watermark,
+                                                                   LocalDateTime to, long toId) {
+        return spec.bind("from", watermark.compactedUntil())
+                .bind("fromId", watermark.compactedId())
+                .bind("to", to)
+                .bind("toId", toId);
+    }
+
+    private Mono<Void> updateWatermark(LocalDateTime compactedUntil, long compactedId) {
+        return databaseClient.sql("UPDATE song_like_compaction_watermark SET compacted_until = :compactedUntil, compacted_id = :compactedId WHERE id = 1")
+                .bind("compactedUntil", compactedUntil)
+                .bind("compactedId", compactedId)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * 파티션 범위의 끝(다음 날 0시)이 워터마크 이전인 파티션을 삭제합니다.
+     * 압축되지 않은 이력(롤업 전이거나 압축 이후 늦게 기록된 이력)이 있으면, 그 이력이 속할 수 있는 파티션(범위의 끝이 이력 시각 이후)은 남겨 둡니다.
+     */
+    Mono<Void> dropCompactedPartitions() {
+        return databaseClient.sql("""
+                        SELECT w.compacted_until,
+                               (SELECT MIN(sl.created_at) FROM song_likes sl WHERE sl.id > w.compacted_id AND sl.created_at < w.compacted_until) AS oldest_not_compacted
+                        FROM song_like_compaction_watermark w
+                        WHERE w.id = 1
+                        """)
+                .map(row -> Optional.ofNullable(row.get("oldest_not_compacted", LocalDateTime.class))
+                        .orElse(row.get("compacted_until", LocalDateTime.class)))
+                .one()
+                .flatMap(dropUntil -> listPartitionDays()
+                        .filter(day -> !day.plusDays(1).atStartOfDay().isAfter(dropUntil))
+                        .map(day -> day.format(PARTITION_NAME))
+                        .collect(Collectors.joining(", ")))
+                .filter(names -> !names.isEmpty())
+                .flatMap(names -> databaseClient.sql("ALTER TABLE song_likes DROP PARTITION " + names)
+                        .fetch()
+                        .rowsUpdated()
+                        .doOnSuccess(v -> log.info("[LikePartition] Dropped partitions: {}", names)))
+                .then();
+    }
+
+    // 일 단위 파티션의 날짜 (p_max 제외, 오름차순)
+    Flux<LocalDate> listPartitionDays() {
+        return databaseClient.sql("""
+                        SELECT PARTITION_NAME AS name
+                        FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'song_likes' AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """)
+                .map(row -> row.get("name", String.class))
+                .all()
+                .flatMap(name -> Mono.justOrEmpty(parsePartitionDay(name)));
+    }
+
+    private static Optional<LocalDate> parsePartitionDay(String name) {
+        if (MAX_PARTITION.equals(name)) return Optional.empty();
+        try {
+            return Optional.of(LocalDate.parse(name, PARTITION_NAME));
+        } catch (DateTimeParseException e) {
+            log.warn("[LikePartition] Unknown partition name: {}", name);
+            return Optional.empty();
+        }
+    }
+
+    private record Watermark(LocalDateTime compactedUntil, long compactedId) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.seonghyeon.jukebox.service.like;
 
+import com.seonghyeon.jukebox.common.cache.SingleFlightCache;
 import com.seonghyeon.jukebox.common.exception.like.AlreadyLikedException;
 import com.seonghyeon.jukebox.common.exception.like.NotLikedException;
 import com.seonghyeon.jukebox.common.exception.like.SongNotFoundException;
@@ -8,14 +9,24 @@ import com.seonghyeon.jukebox.entity.like.Action;
 import com.seonghyeon.jukebox.repository.SongLikeRepository;
 import com.seonghyeon.jukebox.repository.SongRepository;
 import com.seonghyeon.jukebox.repository.dto.SongLikeCountDto;
+import com.seonghyeon.jukebox.repository.dto.SongSummaryDto;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy;
 import com.seonghyeon.jukebox.service.like.strategy.LikeWriteStrategy;
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
+import com.seonghyeon.jukebox.service.like.trending.TopLikedQuery;
+import com.seonghyeon.jukebox.service.song.SongCatalogIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -25,48 +36,136 @@ public class SongLikeService {
     private final LikeWriteStrategy likeWriteStrategy;
     private final SongLikeRepository songLikeRepository;
     private final SongRepository songRepository;
+    private final SongCatalogIndex songCatalogIndex;
+    private final LikeStateIndex likeStateIndex;
+    private final LikeHistoryWriter likeHistoryWriter;
+    private final SingleFlightCache<TopLikedQuery, List<SongLikeCountDto>> topLikedCache;
+    private final Clock clock;
 
     public Mono<Void> likeSong(Long songId, Long userId) {
-        return songRepository.existsById(songId)
+        Mono<Boolean> songExists = songCatalogIndex.exists(songId)
                 .filter(exists -> exists)
                 // 노래 존재 유무 검증
-                .switchIfEmpty(Mono.error(new SongNotFoundException("Song not found with ID: " + songId)))
-                .then(Mono.defer(() -> songLikeRepository.countUserLikeStatus(songId, userId)))
-                .defaultIfEmpty(0)
-                .filter(this::canLike)
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.debug("[LikeService] Conflict detected: User {} already liked song {}", userId, songId);
-                    return Mono.error(new AlreadyLikedException(String.format("The song (ID: %d) is already liked.", songId)));
-                }))
-                // 좋아요 기록 저장 및 카운트 증가
-                .then(Mono.defer(() -> songLikeRepository.save(SongLikeEntity.of(songId, userId, Action.LIKE))))
+                .switchIfEmpty(Mono.error(new SongNotFoundException("Song not found with ID: " + songId)));
+
+        if (likeWriteStrategy instanceof LikeStateStrategy likeStateStrategy) {
+            // 상태 검증/변경과 카운트 증가는 전략에서 원자적으로 처리하고, 이력까지 저장된 후 응답
+            return songExists
+                    .then(Mono.defer(() -> likeStateStrategy.applyLike(songId, userId, Action.LIKE)))
+                    .filter(applied -> applied)
+                    .switchIfEmpty(Mono.defer(() -> alreadyLiked(songId, userId)))
+                    .then(Mono.defer(() -> writeHistoryOrRevert(likeStateStrategy, SongLikeEntity.of(songId, userId, Action.LIKE))));
+        }
+
+        return songExists
+                .then(Mono.defer(() -> indexedLikeState(songId, userId, false)))
+                .filter(liked -> !liked) // 인덱스 기준 좋아요를 하지 않은 상태
+                .switchIfEmpty(Mono.defer(() -> alreadyLiked(songId, userId)))
+                // 현재 상태 조건부 변경 (검증과 기록을 한 번에 처리)
+                .then(Mono.defer(() -> songLikeRepository.changeLikeState(songId, userId, Action.LIKE)))
+                .filter(changed -> changed)
+                .switchIfEmpty(Mono.defer(() -> alreadyLiked(songId, userId)))
+                // 좋아요 기록 저장, 상태 인덱스 갱신 및 카운트 증가
+                .then(Mono.defer(() -> writeHistoryOrRevert(SongLikeEntity.of(songId, userId, Action.LIKE), Action.UNLIKE)))
+                .doOnSuccess(v -> likeStateIndex.markLiked(songId, userId))
                 .then(Mono.defer(() -> likeWriteStrategy.addLike(songId)));
     }
 
     public Mono<Void> unlikeSong(Long songId, Long userId) {
-        return songLikeRepository.countUserLikeStatus(songId, userId)
-                .defaultIfEmpty(0)
+        if (likeWriteStrategy instanceof LikeStateStrategy likeStateStrategy) {
+            return likeStateStrategy.applyLike(songId, userId, Action.UNLIKE)
+                    .filter(applied -> applied)
+                    .switchIfEmpty(Mono.defer(() -> notLiked(songId, userId)))
+                    .then(Mono.defer(() -> writeHistoryOrRevert(likeStateStrategy, SongLikeEntity.of(songId, userId, Action.UNLIKE))));
+        }
+
+        return indexedLikeState(songId, userId, true)
                 // 좋아요 취소 가능 여부 검증
-                .filter(this::canUnlike)
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.debug("[LikeService] Conflict detected: User {} has no active unlike for song {}", userId, songId);
-                    return Mono.error(new NotLikedException(String.format("The song (ID: %d) is not currently liked.", songId)));
-                }))
-                // 좋아요 취소 기록 저장 및 카운트 감소
-                .then(Mono.defer(() -> songLikeRepository.save(SongLikeEntity.of(songId, userId, Action.UNLIKE))))
+                .filter(liked -> liked) // 인덱스 기준 좋아요를 한 상태
+                .switchIfEmpty(Mono.defer(() -> notLiked(songId, userId)))
+                .then(Mono.defer(() -> songLikeRepository.changeLikeState(songId, userId, Action.UNLIKE)))
+                .filter(changed -> changed)
+                .switchIfEmpty(Mono.defer(() -> notLiked(songId, userId)))
+                // 좋아요 취소 기록 저장, 상태 인덱스 갱신 및 카운트 감소
+                .then(Mono.defer(() -> writeHistoryOrRevert(SongLikeEntity.of(songId, userId, Action.UNLIKE), Action.LIKE)))
+                .doOnSuccess(v -> likeStateIndex.markUnliked(songId, userId))
                 .then(Mono.defer(() -> likeWriteStrategy.removeLike(songId)));
     }
 
-    private boolean canLike(Integer likeCount) {
-        return likeCount != null && likeCount < 1; // 좋아요를 하지 않은 상태
+    /**
+     * 인메모리 인덱스가 활성화된 경우 DB 왕복 없이 좋아요 상태를 확인합니다.
+     * 비활성화된 경우에는 별도 조회 없이 {@code assumed}를 반환하고, user_song_likes 조건부 변경에서 검증합니다.
+     */
+    private Mono<Boolean> indexedLikeState(Long songId, Long userId, boolean assumed) {
+        return likeStateIndex.isEnabled() ? likeStateIndex.isLiked(songId, userId) : Mono.just(assumed);
+    }
+
+    // 이력 저장에 실패하면 변경한 현재 상태를 되돌려, 재시도가 중복 요청으로 거절되지 않도록 함
+    private Mono<Void> writeHistoryOrRevert(SongLikeEntity event, Action revertAction) {
+        return likeHistoryWriter.write(event)
+                .onErrorResume(e -> songLikeRepository.changeLikeState(event.getSongId(), event.getUserId(), revertAction)
+                        .doOnError(revertError -> log.error("[LikeService] Failed to revert like state. songId={}, userId={}",
+                                event.getSongId(), event.getUserId(), revertError))
+                        .onErrorResume(revertError -> Mono.empty())
+                        .then(Mono.error(e)));
+    }
+
+    // 전략이 관리하는 상태도 만료 후 이력으로 다시 적재되므로, 이력 저장에 실패하면 상태와 카운트를 되돌림
+    private Mono<Void> writeHistoryOrRevert(LikeStateStrategy likeStateStrategy, SongLikeEntity event) {
+        return likeHistoryWriter.write(event)
+                .onErrorResume(e -> likeStateStrategy.revertLike(event.getSongId(), event.getUserId(), event.getAction())
+                        .doOnError(revertError -> log.error("[LikeService] Failed to revert like state. songId={}, userId={}",
+                                event.getSongId(), event.getUserId(), revertError))
+                        .onErrorResume(revertError -> Mono.empty())
+                        .then(Mono.error(e)));
+    }
+
+    private <T> Mono<T> alreadyLiked(Long songId, Long userId) {
+        log.debug("[LikeService] Conflict detected: User {} already liked song {}", userId, songId);
+        return Mono.error(new AlreadyLikedException(String.format("The song (ID: %d) is already liked.", songId)));
+    }
+
+    private <T> Mono<T> notLiked(Long songId, Long userId) {
+        log.debug("[LikeService] Conflict detected: User {} has no active unlike for song {}", userId, songId);
+        return Mono.error(new NotLikedException(String.format("The song (ID: %d) is not currently liked.", songId)));
+    }
+
+    /**
+     * 최근 {@code window} 동안 좋아요를 가장 많이 받은 곡을 조회합니다.
+     * 쓰기 전략이 해당 윈도우를 인메모리로 집계하고 있으면 그 결과를 사용하고, 그렇지 않으면 song_likes 이력을 집계합니다.
+     * 동일 조건의 동시 요청은 짧은 TTL 캐시로 하나의 조회로 합쳐집니다.
+     */
+    public Flux<SongLikeCountDto> getTopLikedSongs(Duration window, int limit) {
+        return topLikedCache.get(new TopLikedQuery(window, limit), query -> loadTopLikedSongs(query.window(), query.limit()).collectList())
+                .flatMapIterable(Function.identity());
+    }
+
+    private Flux<SongLikeCountDto> loadTopLikedSongs(Duration window, int limit) {
+        return likeWriteStrategy.findTopLiked(window, limit)
+                .map(this::withSongSummaries)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    LocalDateTime since = LocalDateTime.now(clock).minus(window);
+                    log.debug("Fetching top {} liked songs since {}", limit, since);
+                    return songLikeRepository.findTopLikedSongs(since, limit);
+                }))
+                .flatMapMany(Function.identity());
     }
 
-    private boolean canUnlike(Integer likeCount) {
-        return likeCount != null && likeCount > 0; // 좋아요를 한 상태
+    // 집계 순서를 유지하면서 곡 정보(제목, 가수, 앨범)를 한 번의 IN 조회로 채움
+    private Flux<SongLikeCountDto> withSongSummaries(List<SongLikeScore> scores) {
+        if (scores.isEmpty()) {
+            return Flux.empty();
+        }
+        List<Long> songIds = scores.stream().map(SongLikeScore::songId).toList();
+        return songRepository.findSummariesByIdIn(songIds)
+                .collectMap(SongSummaryDto::songId)
+                .flatMapMany(summaries -> Flux.fromIterable(scores)
+                        .filter(score -> summaries.containsKey(score.songId()))
+                        .map(score -> toCountDto(summaries, score)));
     }
 
-    public Flux<SongLikeCountDto> getTopLikedSongs(LocalDateTime since, int limit) {
-        log.debug("Fetching top {} liked songs since {}", limit, since);
-        return songLikeRepository.findTopLikedSongs(since, limit);
+    private static SongLikeCountDto toCountDto(Map<Long, SongSummaryDto> summaries, SongLikeScore score) {
+        SongSummaryDto summary = summaries.get(score.songId());
+        return new SongLikeCountDto(score.songId(), summary.title(), summary.artist(), summary.album(), score.likeCount());
     }
 }
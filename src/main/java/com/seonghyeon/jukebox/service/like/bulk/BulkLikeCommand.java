@@ -0,0 +1,14 @@
+package com.seonghyeon.jukebox.service.like.bulk;
+
+import com.seonghyeon.jukebox.entity.like.Action;
+
+/**
+ * 대량 좋아요 요청의 개별 항목. {@code index}는 요청 스트림 내 순번으로, 결과를 요청과 대응시키는 데 사용합니다.
+ */
+public record BulkLikeCommand(
+        long index,
+        Long songId,
+        Long userId,
+        Action action
+) {
+}
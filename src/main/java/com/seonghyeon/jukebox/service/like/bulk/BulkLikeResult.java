@@ -0,0 +1,25 @@
+package com.seonghyeon.jukebox.service.like.bulk;
+
+import com.seonghyeon.jukebox.entity.like.Action;
+
+public record BulkLikeResult(
+        long index,
+        Long songId,
+        Long userId,
+        Action action,
+        Status status
+) {
+
+    public static BulkLikeResult of(BulkLikeCommand command, Status status) {
+        return new BulkLikeResult(command.index(), command.songId(), command.userId(), command.action(), status);
+    }
+
+    public enum Status {
+        APPLIED,
+        ALREADY_LIKED,
+        NOT_LIKED,
+        SONG_NOT_FOUND,
+        INVALID,
+        FAILED
+    }
+}
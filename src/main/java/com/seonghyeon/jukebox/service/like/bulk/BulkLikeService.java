@@ -0,0 +1,328 @@
+package com.seonghyeon.jukebox.service.like.bulk;
+
+import com.seonghyeon.jukebox.entity.SongLikeEntity;
+import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.repository.SongLikeRepository;
+import com.seonghyeon.jukebox.repository.dto.SongUserPairDto;
+import com.seonghyeon.jukebox.service.like.LikeHistoryWriter;
+import com.seonghyeon.jukebox.service.like.LikeStateIndex;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeResult.Status;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy.ApplyResult;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy.LikeChange;
+import com.seonghyeon.jukebox.service.like.strategy.LikeWriteStrategy;
+import com.seonghyeon.jukebox.service.song.SongCatalogIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * 오프라인 동안 쌓인 좋아요를 한 번에 반영하는 대량 좋아요 처리기.
+ *
+ * <p>요청 스트림을 {@code chunkSize}건씩 나누어 처리하고, 청크가 끝날 때마다 항목별 결과를 요청 순서대로 내보냅니다.
+ * 청크 단위로 검증을 모아 처리하므로, 항목마다 단건 API를 호출할 때보다 DB 왕복이 크게 줄어듭니다.</p>
+ * <ul>
+ * <li><b>곡 검증:</b> 청크의 곡 ID를 모아 {@link SongCatalogIndex}와 한 번의 IN 조회로 확인합니다.</li>
+ * <li><b>상태 검증:</b> 청크의 (곡, 사용자) 현재 상태를 한 번에 조회한 뒤, 같은 조합의 요청을 순서대로 적용하여 중복 여부를 판정합니다.
+ * 상태 변경은 조합별 최종 상태만 조건부로 기록하므로, 조회 이후 다른 요청이 먼저 상태를 바꾼 경우 충돌로 처리됩니다.
+ * 이력은 요청 순서대로 기록하며, 일부만 기록된 채 실패하면 반대 이력으로 상쇄하고 상태를 되돌립니다.</li>
+ * <li><b>카운트:</b> 곡별 순증감을 합산하여 {@link LikeWriteStrategy#addDelta(Long, long)}로 한 번에 반영합니다.</li>
+ * <li><b>전략 상태 관리:</b> 좋아요 상태를 전략이 관리하는 경우(redis)에는 청크 전체를 {@link LikeStateStrategy#applyLikes}로 한 번에 반영합니다.
+ * 같은 조합의 항목은 요청 순서대로 적용되며, 이력은 조합별로 요청 순서대로 저장합니다. 이력 저장에 실패하면 전략의 상태를 되돌립니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class BulkLikeService {
+
+    private static final int PAIR_CONCURRENCY = 16;
+
+    private final LikeWriteStrategy likeWriteStrategy;
+    private final SongLikeRepository songLikeRepository;
+    private final SongCatalogIndex songCatalogIndex;
+    private final LikeStateIndex likeStateIndex;
+    private final LikeHistoryWriter likeHistoryWriter;
+    private final int chunkSize;
+
+    public BulkLikeService(LikeWriteStrategy likeWriteStrategy,
+                           SongLikeRepository songLikeRepository,
+                           SongCatalogIndex songCatalogIndex,
+                           LikeStateIndex likeStateIndex,
+                           LikeHistoryWriter likeHistoryWriter,
+                           @Value("${jukebox.like.bulk.chunk-size:500}") int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be greater than zero.");
+        this.likeWriteStrategy = likeWriteStrategy;
+        this.songLikeRepository = songLikeRepository;
+        this.songCatalogIndex = songCatalogIndex;
+        this.likeStateIndex = likeStateIndex;
+        this.likeHistoryWriter = likeHistoryWriter;
+        this.chunkSize = chunkSize;
+    }
+
+    public Flux<BulkLikeResult> applyLikes(Flux<BulkLikeCommand> commands) {
+        return commands.buffer(chunkSize)
+                .concatMap(this::applyChunk);
+    }
+
+    private Flux<BulkLikeResult> applyChunk(List<BulkLikeCommand> chunk) {
+        long startTime = System.currentTimeMillis();
+        AtomicReferenceArray<BulkLikeResult> results = new AtomicReferenceArray<>(chunk.size());
+        List<Item> items = new ArrayList<>(chunk.size());
+        for (int position = 0; position < chunk.size(); position++) {
+            BulkLikeCommand command = chunk.get(position);
+            if (command.songId() == null || command.userId() == null || command.action() == null) {
+                results.set(position, BulkLikeResult.of(command, Status.INVALID));
+            } else {
+                items.add(new Item(position, command));
+            }
+        }
+        if (items.isEmpty()) {
+            return toFlux(results);
+        }
+
+        Set<Long> songIds = items.stream().map(item -> item.command().songId()).collect(Collectors.toSet());
+        return songCatalogIndex.existingIds(songIds)
+                .flatMap(existing -> {
+                    // 같은 (곡, 사용자) 조합의 항목을 요청 순서대로 묶음
+                    Map<SongUserPairDto, List<Item>> pairs = new LinkedHashMap<>();
+                    for (Item item : items) {
+                        if (!existing.contains(item.command().songId())) {
+                            results.set(item.position(), BulkLikeResult.of(item.command(), Status.SONG_NOT_FOUND));
+                            continue;
+                        }
+                        pairs.computeIfAbsent(new SongUserPairDto(item.command().songId(), item.command().userId()), key -> new ArrayList<>())
+                                .add(item);
+                    }
+                    if (pairs.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return likeWriteStrategy instanceof LikeStateStrategy likeStateStrategy
+                            ? applyWithStrategy(likeStateStrategy, pairs, results)
+                            : applyWithDatabase(pairs, results);
+                })
+                .thenMany(Flux.defer(() -> toFlux(results)))
+                .doOnComplete(() -> log.debug("[BulkLike] Processed {} events in {} ms", chunk.size(), System.currentTimeMillis() - startTime));
+    }
+
+    private Mono<Void> applyWithDatabase(Map<SongUserPairDto, List<Item>> pairs, AtomicReferenceArray<BulkLikeResult> results) {
+        Set<Long> songIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        pairs.keySet().forEach(pair -> {
+            songIds.add(pair.songId());
+            userIds.add(pair.userId());
+        });
+
+        return songLikeRepository.findCurrentLikedPairs(songIds, userIds)
+                .collect(Collectors.toSet())
+                .flatMapMany(liked -> Flux.fromIterable(pairs.entrySet())
+                        .flatMap(entry -> applyPair(entry.getKey(), entry.getValue(), liked.contains(entry.getKey()), results)
+                                .map(delta -> Map.entry(entry.getKey().songId(), delta)), PAIR_CONCURRENCY))
+                .filter(songDelta -> songDelta.getValue() != 0)
+                .collect(HashMap<Long, Long>::new, (deltas, songDelta) -> deltas.merge(songDelta.getKey(), songDelta.getValue(), Long::sum))
+                .flatMapMany(deltas -> Flux.fromIterable(deltas.entrySet()))
+                .concatMap(songDelta -> likeWriteStrategy.addDelta(songDelta.getKey(), songDelta.getValue())
+                        // 상태와 이력은 이미 반영되었으므로 나머지 곡의 카운트 반영은 계속 진행
+                        .onErrorResume(e -> {
+                            log.error("[BulkLike] Failed to apply like count. songId={}, delta={}", songDelta.getKey(), songDelta.getValue(), e);
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    /**
+     * 한 (곡, 사용자) 조합의 항목을 현재 상태에서부터 순서대로 적용하고, 상태를 조건부로 기록합니다.
+     *
+     * @return 좋아요 수 순증감 (-1, 0, 1)
+     */
+    private Mono<Long> applyPair(SongUserPairDto pair, List<Item> items, boolean initiallyLiked, AtomicReferenceArray<BulkLikeResult> results) {
+        boolean liked = initiallyLiked;
+        List<Item> accepted = new ArrayList<>();
+        for (Item item : items) {
+            boolean like = item.command().action() == Action.LIKE;
+            if (like == liked) {
+                results.set(item.position(), BulkLikeResult.of(item.command(), conflictStatus(item.command().action())));
+                continue;
+            }
+            liked = like;
+            accepted.add(item);
+        }
+        if (accepted.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return changeState(pair, accepted, initiallyLiked)
+                .flatMap(applied -> {
+                    // 조회 이후 다른 요청이 먼저 상태를 변경하여 반영하지 못한 항목
+                    accepted.subList(applied.size(), accepted.size())
+                            .forEach(item -> results.set(item.position(), BulkLikeResult.of(item.command(), conflictStatus(item.command().action()))));
+                    if (applied.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    // 항목은 상태를 번갈아 바꾸므로, 반영한 항목 수가 홀수이면 처음과 반대 상태
+                    boolean appliedLiked = (applied.size() % 2 == 1) != initiallyLiked;
+                    boolean stateChanged = appliedLiked != initiallyLiked;
+                    List<Item> written = new ArrayList<>(applied.size());
+                    return Flux.fromIterable(applied)
+                            .concatMap(item -> likeHistoryWriter.write(SongLikeEntity.of(pair.songId(), pair.userId(), item.command().action()))
+                                    .doOnSuccess(v -> written.add(item)))
+                            .then(Mono.fromSupplier(() -> {
+                                applied.forEach(item -> results.set(item.position(), BulkLikeResult.of(item.command(), Status.APPLIED)));
+                                if (applied.size() == accepted.size() && stateChanged) {
+                                    if (appliedLiked) likeStateIndex.markLiked(pair.songId(), pair.userId());
+                                    else likeStateIndex.markUnliked(pair.songId(), pair.userId());
+                                }
+                                return stateChanged ? (appliedLiked ? 1L : -1L) : 0L;
+                            }))
+                            .onErrorResume(e -> compensateHistory(pair, written)
+                                    .then(revertState(pair, initiallyLiked, stateChanged))
+                                    .then(Mono.error(e)));
+                })
+                .onErrorResume(e -> {
+                    log.error("[BulkLike] Failed to apply likes. songId={}, userId={}", pair.songId(), pair.userId(), e);
+                    accepted.forEach(item -> {
+                        if (results.get(item.position()) == null) results.set(item.position(), BulkLikeResult.of(item.command(), Status.FAILED));
+                    });
+                    return Mono.just(0L);
+                });
+    }
+
+    /**
+     * 조합의 상태를 조건부로 기록합니다.
+     *
+     * <p>좋아요 후 취소처럼 최종 상태가 처음과 같은 경우에도 중간 상태를 거쳐 기록하므로, 조회 이후 다른 요청이 먼저 상태를 바꾸면 충돌로 판정됩니다.</p>
+     *
+     * @return 상태에 반영한 앞쪽 항목 (다른 요청과 충돌하면 일부 또는 빈 목록)
+     */
+    private Mono<List<Item>> changeState(SongUserPairDto pair, List<Item> accepted, boolean initiallyLiked) {
+        boolean finalLiked = (accepted.size() % 2 == 1) != initiallyLiked;
+        if (finalLiked != initiallyLiked) {
+            return songLikeRepository.changeLikeState(pair.songId(), pair.userId(), toAction(finalLiked))
+                    .map(changed -> changed ? accepted : List.of());
+        }
+        return songLikeRepository.changeLikeState(pair.songId(), pair.userId(), toAction(!initiallyLiked))
+                .flatMap(changed -> !changed
+                        ? Mono.just(List.<Item>of())
+                        : songLikeRepository.changeLikeState(pair.songId(), pair.userId(), toAction(initiallyLiked))
+                                // 되돌리기 전에 다른 요청이 먼저 되돌렸다면 첫 항목만 반영된 것으로 처리
+                                .map(restored -> restored ? accepted : accepted.subList(0, 1)));
+    }
+
+    // 이력 일부만 저장된 채 실패하면, 저장된 이력을 반대 이력으로 상쇄하여 되돌린 상태와 이력이 어긋나지 않도록 함
+    private Mono<Void> compensateHistory(SongUserPairDto pair, List<Item> written) {
+        if (written.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(written.reversed())
+                .concatMap(item -> likeHistoryWriter.write(SongLikeEntity.of(pair.songId(), pair.userId(),
+                        item.command().action() == Action.LIKE ? Action.UNLIKE : Action.LIKE)))
+                .doOnError(e -> log.error("[BulkLike] Failed to compensate like history. songId={}, userId={}, written={}",
+                        pair.songId(), pair.userId(), written.size(), e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    // 이력 저장에 실패하면 변경한 현재 상태를 되돌려, 재전송이 중복 요청으로 거절되지 않도록 함
+    private Mono<Void> revertState(SongUserPairDto pair, boolean initiallyLiked, boolean stateChanged) {
+        if (!stateChanged) {
+            return Mono.empty();
+        }
+        return songLikeRepository.changeLikeState(pair.songId(), pair.userId(), toAction(initiallyLiked))
+                .doOnError(e -> log.error("[BulkLike] Failed to revert like state. songId={}, userId={}", pair.songId(), pair.userId(), e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * 청크의 항목을 {@link LikeStateStrategy#applyLikes(List)} 한 번으로 반영한 뒤, 반영된 항목의 이력을 조합별로 요청 순서대로 저장합니다.
+     * (redis: 샤드 수만큼의 스크립트 호출)
+     */
+    private Mono<Void> applyWithStrategy(LikeStateStrategy likeStateStrategy, Map<SongUserPairDto, List<Item>> pairs,
+                                         AtomicReferenceArray<BulkLikeResult> results) {
+        List<Item> items = pairs.values().stream().flatMap(List::stream).toList();
+        List<LikeChange> changes = items.stream()
+                .map(item -> new LikeChange(item.command().songId(), item.command().userId(), item.command().action()))
+                .toList();
+        return likeStateStrategy.applyLikes(changes)
+                .flatMapMany(applyResults -> {
+                    Map<Item, ApplyResult> resultByItem = new HashMap<>(items.size());
+                    for (int i = 0; i < items.size(); i++) {
+                        Item item = items.get(i);
+                        ApplyResult applyResult = applyResults.get(i);
+                        resultByItem.put(item, applyResult);
+                        if (applyResult == ApplyResult.CONFLICT) {
+                            results.set(item.position(), BulkLikeResult.of(item.command(), conflictStatus(item.command().action())));
+                        } else if (applyResult == ApplyResult.FAILED) {
+                            results.set(item.position(), BulkLikeResult.of(item.command(), Status.FAILED));
+                        }
+                    }
+                    return Flux.fromIterable(pairs.values())
+                            .map(pairItems -> pairItems.stream().filter(item -> resultByItem.get(item) == ApplyResult.APPLIED).toList());
+                })
+                .filter(applied -> !applied.isEmpty())
+                .flatMap(applied -> writeHistory(likeStateStrategy, applied, results), PAIR_CONCURRENCY)
+                .onErrorResume(e -> {
+                    log.error("[BulkLike] Failed to apply likes. items={}", items.size(), e);
+                    items.forEach(item -> {
+                        if (results.get(item.position()) == null) results.set(item.position(), BulkLikeResult.of(item.command(), Status.FAILED));
+                    });
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 한 조합에서 전략에 반영된 항목의 이력을 요청 순서대로 저장합니다.
+     * 단건 요청과 같이 이력 저장에 실패하면, 저장하지 못한 항목을 늦게 반영한 것부터 전략에서 되돌리고 실패로 처리합니다.
+     * (되돌릴 때마다 현재 상태가 그 항목을 반영한 상태가 되도록)
+     */
+    private Mono<Void> writeHistory(LikeStateStrategy likeStateStrategy, List<Item> applied, AtomicReferenceArray<BulkLikeResult> results) {
+        AtomicInteger written = new AtomicInteger();
+        return Flux.fromIterable(applied)
+                .concatMap(item -> likeHistoryWriter.write(SongLikeEntity.of(item.command().songId(), item.command().userId(), item.command().action()))
+                        .doOnSuccess(v -> {
+                            results.set(item.position(), BulkLikeResult.of(item.command(), Status.APPLIED));
+                            written.incrementAndGet();
+                        }))
+                .then()
+                .onErrorResume(e -> {
+                    BulkLikeCommand first = applied.getFirst().command();
+                    log.error("[BulkLike] Failed to write like history. songId={}, userId={}", first.songId(), first.userId(), e);
+                    List<Item> unwritten = applied.subList(written.get(), applied.size());
+                    unwritten.forEach(item -> results.set(item.position(), BulkLikeResult.of(item.command(), Status.FAILED)));
+                    return Flux.fromIterable(unwritten.reversed())
+                            .concatMap(item -> likeStateStrategy.revertLike(item.command().songId(), item.command().userId(), item.command().action())
+                                    .doOnError(revertError -> log.error("[BulkLike] Failed to revert like state. songId={}, userId={}",
+                                            item.command().songId(), item.command().userId(), revertError))
+                                    .onErrorResume(revertError -> Mono.empty()))
+                            .then();
+                });
+    }
+
+    private static Action toAction(boolean liked) {
+        return liked ? Action.LIKE : Action.UNLIKE;
+    }
+
+    private static Status conflictStatus(Action action) {
+        return action == Action.LIKE ? Status.ALREADY_LIKED : Status.NOT_LIKED;
+    }
+
+    private static Flux<BulkLikeResult> toFlux(AtomicReferenceArray<BulkLikeResult> results) {
+        return Flux.range(0, results.length()).map(results::get);
+    }
+
+    private record Item(int position, BulkLikeCommand command) {
+    }
+}
@@ -0,0 +1,262 @@
+package com.seonghyeon.jukebox.service.like.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 좋아요 증감분을 고정 크기 바이너리 레코드로 기록하는 메모리 맵 기반 Write-Ahead Journal.
+ *
+ * <p>레코드는 16바이트 {@code (songId: long, delta: long)}이며, 세그먼트 파일({@code likes-{seq}.journal})에 순서대로 추가됩니다.</p>
+ * <ul>
+ * <li><b>기록:</b> 위치는 {@code AtomicLong}으로 예약하고 매핑된 버퍼에 직접 쓰므로, 락과 객체 할당 없이 기록합니다.
+ * 페이지 캐시에 기록되므로 프로세스가 강제 종료(kill -9, OOM)되어도 유지되지만, OS 장애까지 보장하지는 않습니다.</li>
+ * <li><b>부분 기록 방지:</b> delta를 먼저 쓰고 songId를 release 순서로 기록하며, 복구 시 songId가 0인 레코드(미기록)는 건너뜁니다.</li>
+ * <li><b>회전:</b> Flush 시작 시 {@link #rotate()}로 현재 세그먼트를 봉인하고, DB 반영 성공 후 {@link #release(long)}로 봉인된 세그먼트를 삭제합니다.
+ * 반영에 실패하면 세그먼트를 유지하여 다음 성공한 Flush에서 함께 삭제합니다.</li>
+ * <li><b>용량:</b> 세그먼트가 가득 차면 다음 번호의 세그먼트를 만들어 이어서 기록합니다. 가득 찬 세그먼트는 다음 회전에서 함께 봉인됩니다.</li>
+ * <li><b>식별자:</b> 디렉토리마다 {@link #id()}를 발급하여({@code journal.id}), 세그먼트 번호와 함께 DB 반영 기록의 키로 사용합니다.
+ * 남은 세그먼트가 없을 때 다시 발급하므로, 세그먼트 번호가 처음부터 다시 시작되어도 키가 겹치지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+public final class LikeJournal implements AutoCloseable {
+
+    static final int RECORD_SIZE = 16;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("likes-(\\d+)\\.journal");
+    private static final String ID_FILE = "journal.id";
+    // 매핑된 버퍼의 8바이트 정렬 위치에 release 순서로 기록하기 위한 VarHandle
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+    private final String id;
+    private final int segmentRecords;
+    private volatile Segment current;
+
+    private LikeJournal(Path directory, String id, int segmentRecords, long nextSeq) {
+        this.directory = directory;
+        this.id = id;
+        this.segmentRecords = segmentRecords;
+        this.current = Segment.create(segmentPath(nextSeq), nextSeq, (long) segmentRecords * RECORD_SIZE);
+    }
+
+    /**
+     * 저널 디렉토리를 열고 새 세그먼트를 생성합니다. 기존 세그먼트는 {@link #replay()}로 복구할 수 있도록 유지됩니다.
+     *
+     * @param segmentRecords 세그먼트당 최대 레코드 수
+     */
+    public static LikeJournal open(Path directory, int segmentRecords) {
+        if (segmentRecords <= 0 || segmentRecords > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment records must be in (0, " + Integer.MAX_VALUE / RECORD_SIZE + "].");
+        }
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = listSegments(directory);
+            long lastSeq = segments.stream().mapToLong(LikeJournal::sequenceOf).max().orElse(0L);
+            String id = segments.isEmpty() ? issueId(directory) : readOrIssueId(directory);
+            return new LikeJournal(directory, id, segmentRecords, lastSeq + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open like journal: " + directory, e);
+        }
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * 증감분을 현재 세그먼트에 기록합니다. 세그먼트가 가득 차면 다음 세그먼트를 만들어 기록합니다.
+     *
+     * @throws UncheckedIOException 다음 세그먼트를 만들지 못한 경우 (디스크 공간 부족 등)
+     */
+    public void append(long songId, long delta) {
+        while (true) {
+            Segment segment = current;
+            long offset = segment.position.getAndAdd(RECORD_SIZE);
+            if (offset + RECORD_SIZE <= segment.capacity) {
+                LONGS.set(segment.buffer, (int) offset + Long.BYTES, delta);
+                LONGS.setRelease(segment.buffer, (int) offset, songId);
+                return;
+            }
+            rollOver(segment);
+        }
+    }
+
+    // 가득 찬 세그먼트를 다음 세그먼트로 교체. 동시에 가득 찬 것을 발견한 스레드 중 한 번만 교체
+    private synchronized void rollOver(Segment full) {
+        if (current != full) {
+            return;
+        }
+        long nextSeq = full.seq + 1;
+        current = Segment.create(segmentPath(nextSeq), nextSeq, (long) segmentRecords * RECORD_SIZE);
+        log.info("[LikeJournal] Segment is full, rolled over to {}", current.path);
+    }
+
+    /**
+     * 현재 세그먼트를 봉인하고 새 세그먼트로 교체합니다. 현재 세그먼트가 비어 있으면 교체하지 않습니다.
+     * 봉인 시점과 메모리 버퍼 교체 시점이 같아야 하므로, 호출부는 기록({@link #append(long, long)})을 막은 상태에서 호출합니다.
+     *
+     * @return 봉인된 마지막 세그먼트 번호 ({@link #release(long)}에 전달)
+     */
+    public synchronized long rotate() {
+        Segment sealed = current;
+        if (sealed.position.get() == 0) {
+            return sealed.seq - 1;
+        }
+        long nextSeq = sealed.seq + 1;
+        current = Segment.create(segmentPath(nextSeq), nextSeq, (long) segmentRecords * RECORD_SIZE);
+        return sealed.seq;
+    }
+
+    /**
+     * 번호가 {@code sealedSeq} 이하인 봉인된 세그먼트를 삭제합니다. (매핑은 GC 시점에 해제됨)
+     */
+    public synchronized void release(long sealedSeq) {
+        long currentSeq = current.seq;
+        try {
+            for (Path path : listSegments(directory)) {
+                long seq = sequenceOf(path);
+                if (seq <= sealedSeq && seq < currentSeq) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            log.error("[LikeJournal] Failed to release segments up to {}", sealedSeq, e);
+        }
+    }
+
+    /**
+     * 현재 세그먼트 이전의 모든 세그먼트를 읽어 곡별 증감분 합계를 반환합니다. (기동 시 복구용)
+     */
+    public Map<Long, Long> replay() {
+        return replay(0L);
+    }
+
+    /**
+     * 번호가 {@code appliedSeq} 이하인 세그먼트는 DB에 반영된 것으로 보고 삭제하며, 나머지 세그먼트만 복구합니다.
+     * (DB 반영 커밋 후 {@link #release(long)} 전에 중단된 경우)
+     */
+    public Map<Long, Long> replay(long appliedSeq) {
+        if (appliedSeq > 0) {
+            log.warn("[LikeJournal] Segments up to {} were already applied, releasing them", appliedSeq);
+            release(appliedSeq);
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        long currentSeq = current.seq;
+        try {
+            for (Path path : listSegments(directory)) {
+                if (sequenceOf(path) >= currentSeq) continue;
+                long records = replaySegment(path, deltas);
+                log.info("[LikeJournal] Replayed {} records from {}", records, path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay like journal: " + directory, e);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    private long replaySegment(Path path, Map<Long, Long> deltas) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long records = 0;
+            for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE) {
+                long songId = (long) LONGS.get(buffer, offset);
+                if (songId == 0) continue; // 미기록 또는 부분 기록된 레코드
+                long delta = (long) LONGS.get(buffer, offset + Long.BYTES);
+                deltas.merge(songId, delta, Long::sum);
+                records++;
+            }
+            return records;
+        }
+    }
+
+    /**
+     * 현재 세그먼트가 비어 있으면 삭제합니다. 기록된 레코드가 있으면 다음 기동 시 복구되도록 유지합니다.
+     */
+    @Override
+    public synchronized void close() {
+        Segment segment = current;
+        if (segment.position.get() == 0) {
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("[LikeJournal] Failed to delete empty segment {}", segment.path, e);
+            }
+        }
+    }
+
+    private Path segmentPath(long seq) {
+        return directory.resolve(String.format("likes-%020d.journal", seq));
+    }
+
+    private static String issueId(Path directory) throws IOException {
+        String id = UUID.randomUUID().toString();
+        Files.writeString(directory.resolve(ID_FILE), id);
+        return id;
+    }
+
+    // 식별자 도입 전의 세그먼트만 남아 있는 경우에는 새로 발급 (반영 기록이 없으므로 모두 복구)
+    private static String readOrIssueId(Path directory) throws IOException {
+        Path idFile = directory.resolve(ID_FILE);
+        return Files.exists(idFile) ? Files.readString(idFile).strip() : issueId(directory);
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) throw new IllegalArgumentException("Not a journal segment: " + path);
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static final class Segment {
+
+        private final long seq;
+        private final Path path;
+        private final long capacity;
+        private final MappedByteBuffer buffer;
+        private final AtomicLong position = new AtomicLong();
+
+        private Segment(long seq, Path path, long capacity, MappedByteBuffer buffer) {
+            this.seq = seq;
+            this.path = path;
+            this.capacity = capacity;
+            this.buffer = buffer;
+        }
+
+        // 파일 크기를 미리 확보하여 매핑 (0으로 채워진 희소 파일)
+        private static Segment create(Path path, long seq, long capacity) {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                return new Segment(seq, path, capacity, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create like journal segment: " + path, e);
+            }
+        }
+    }
+}
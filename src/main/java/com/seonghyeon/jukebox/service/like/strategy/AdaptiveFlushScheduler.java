@@ -0,0 +1,176 @@
+package com.seonghyeon.jukebox.service.like.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 버퍼 크기와 경과 시간을 기준으로 좋아요 버퍼를 Flush 하는 적응형 스케줄러.
+ *
+ * <p>{@code checkInterval}마다 버퍼 상태를 확인하여 아래 조건 중 하나라도 만족하면 Flush 합니다.</p>
+ * <ul>
+ * <li><b>크기:</b> 버퍼의 곡 수가 {@code maxSongs} 이상이거나, 증감 횟수가 {@code maxEvents} 이상인 경우</li>
+ * <li><b>시간:</b> 마지막 Flush 이후 {@code maxInterval}(± {@code jitter} 비율)이 지난 경우.
+ * 인스턴스마다 Flush 시점이 분산되도록 매 Flush 후 지터를 다시 뽑습니다.</li>
+ * </ul>
+ * <ul>
+ * <li><b>중복 실행 방지:</b> 확인 작업은 순차 실행(concatMap)되며, Cron 스케줄과 겹치는 경우 {@link LikeWriteStrategy#flush()}가 건너뜁니다.</li>
+ * <li><b>Backoff:</b> Flush 시간이 {@code targetLatency}를 넘거나 실패하면 다음 Flush까지의 최소 간격을 2배씩(최대 {@code maxBackoff}) 늘리고,
+ * 정상화되면 절반씩 줄입니다.</li>
+ * <li><b>Lifecycle:</b> 컨텍스트가 모두 초기화된 뒤({@link #start()}) 확인을 시작하고, 빈이 소멸되기 전({@link #stop()})에 멈춥니다.
+ * 기동/종료 중인 전략을 Flush 하지 않으며, 종료 시 마지막 Flush는 각 전략이 담당합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AdaptiveFlushScheduler implements SmartLifecycle {
+
+    private final LikeWriteStrategy likeWriteStrategy;
+    private final Clock clock;
+    private final Duration checkInterval;
+    private final long maxSongs;
+    private final long maxEvents;
+    private final Duration maxInterval;
+    private final double jitter;
+    private final Duration targetLatency;
+    private final Duration maxBackoff;
+    private final boolean enabled;
+
+    private volatile Disposable subscription;
+
+    // 확인 작업은 순차 실행되므로 단일 스레드에서만 갱신됨
+    private volatile long nextDeadline;
+    private volatile long backoffMillis;
+    private volatile long nextAllowedAt;
+
+    public AdaptiveFlushScheduler(LikeWriteStrategy likeWriteStrategy, Clock clock,
+                                  @Value("${jukebox.like.flush-scheduler.enabled:true}") boolean enabled,
+                                  @Value("${jukebox.like.flush-scheduler.check-interval:1s}") Duration checkInterval,
+                                  @Value("${jukebox.like.flush-scheduler.max-songs:5000}") long maxSongs,
+                                  @Value("${jukebox.like.flush-scheduler.max-events:50000}") long maxEvents,
+                                  @Value("${jukebox.like.flush-scheduler.max-interval:60s}") Duration maxInterval,
+                                  @Value("${jukebox.like.flush-scheduler.jitter:0.2}") double jitter,
+                                  @Value("${jukebox.like.flush-scheduler.target-latency:2s}") Duration targetLatency,
+                                  @Value("${jukebox.like.flush-scheduler.max-backoff:5m}") Duration maxBackoff) {
+        if (jitter < 0 || jitter >= 1) throw new IllegalArgumentException("Jitter must be in [0, 1).");
+        this.likeWriteStrategy = likeWriteStrategy;
+        this.clock = clock;
+        this.checkInterval = checkInterval;
+        this.maxSongs = maxSongs;
+        this.maxEvents = maxEvents;
+        this.maxInterval = maxInterval;
+        this.jitter = jitter;
+        this.targetLatency = targetLatency;
+        this.maxBackoff = maxBackoff;
+        this.enabled = enabled;
+
+        this.nextDeadline = clock.millis() + jitteredInterval();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled) {
+            log.info("[FlushScheduler] Disabled. (jukebox.like.flush-scheduler.enabled: false)");
+            return;
+        }
+        if (subscription != null) return;
+
+        nextDeadline = clock.millis() + jitteredInterval();
+        // 인스턴스 간 확인 시점도 분산되도록 첫 확인을 checkInterval 내에서 임의로 지연
+        Duration initialDelay = Duration.ofMillis(ThreadLocalRandom.current().nextLong(checkInterval.toMillis() + 1));
+        subscription = Flux.interval(initialDelay, checkInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> checkAndFlush(), 1)
+                .subscribe();
+        log.info("[FlushScheduler] Started (checkInterval={}, maxSongs={}, maxEvents={}, maxInterval={})",
+                checkInterval, maxSongs, maxEvents, maxInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (subscription == null) return;
+        subscription.dispose();
+        subscription = null;
+        log.info("[FlushScheduler] Stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null;
+    }
+
+    /**
+     * 버퍼 상태를 확인하고 Flush 조건을 만족하면 Flush 합니다.
+     *
+     * @return Flush를 실행했으면 true
+     */
+    Mono<Boolean> checkAndFlush() {
+        return Mono.defer(() -> {
+            long now = clock.millis();
+            if (now < nextAllowedAt) {
+                return Mono.just(false); // Backoff 중
+            }
+            return likeWriteStrategy.bufferStats()
+                    .map(stats -> flushReason(stats, now))
+                    .filter(reason -> !reason.isEmpty())
+                    .flatMap(this::flush)
+                    .defaultIfEmpty(false)
+                    .onErrorResume(e -> {
+                        log.error("[FlushScheduler] Failed to check like buffer", e);
+                        return Mono.just(false);
+                    });
+        });
+    }
+
+    private String flushReason(LikeWriteStrategy.BufferStats stats, long now) {
+        if (stats.pendingSongs() >= maxSongs) return "songs=" + stats.pendingSongs();
+        if (stats.pendingEvents() >= maxEvents) return "events=" + stats.pendingEvents();
+        if (now >= nextDeadline) return "interval";
+        return "";
+    }
+
+    private Mono<Boolean> flush(String reason) {
+        long startedAt = clock.millis();
+        return likeWriteStrategy.flush()
+                .doOnNext(flushed -> {
+                    if (!flushed) return;
+                    long latency = clock.millis() - startedAt;
+                    log.debug("[FlushScheduler] Flushed by {} in {} ms", reason, latency);
+                    onFlushFinished(latency > targetLatency.toMillis());
+                })
+                .onErrorResume(e -> {
+                    log.error("[FlushScheduler] Flush failed (trigger: {})", reason, e);
+                    onFlushFinished(true);
+                    return Mono.just(false);
+                });
+    }
+
+    private void onFlushFinished(boolean slow) {
+        long now = clock.millis();
+        if (slow) {
+            backoffMillis = Math.min(Math.max(backoffMillis * 2, checkInterval.toMillis()), maxBackoff.toMillis());
+            log.warn("[FlushScheduler] Flush is slow or failing. Backing off next flush by {} ms", backoffMillis);
+        } else {
+            backoffMillis = backoffMillis / 2 < checkInterval.toMillis() ? 0 : backoffMillis / 2;
+        }
+        nextAllowedAt = now + backoffMillis;
+        nextDeadline = now + jitteredInterval();
+    }
+
+    private long jitteredInterval() {
+        double factor = jitter == 0 ? 1.0 : 1.0 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return (long) (maxInterval.toMillis() * factor);
+    }
+
+    long backoffMillis() {
+        return backoffMillis;
+    }
+}
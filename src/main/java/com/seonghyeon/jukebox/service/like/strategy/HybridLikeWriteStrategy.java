@@ -0,0 +1,173 @@
+package com.seonghyeon.jukebox.service.like.strategy;
+
+import com.seonghyeon.jukebox.common.collection.EpochLongCountBuffer;
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인스턴스 내에서 짧은 주기로 증감분을 합산한 뒤, Redis 버퍼로 일괄 반영하는 좋아요 쓰기 전략.
+ *
+ * <p>좋아요 요청마다 Redis 명령을 보내는 대신 {@code pushInterval}(100ms ~ 1s) 동안 곡별 증감분을 합산하고,
+ * 주기마다 곡당 한 번의 증감 명령을 파이프라이닝하여 Redis 버퍼로 반영합니다.
+ * 인기 곡은 초당 수천 건의 좋아요가 주기당 한 번의 명령으로 합쳐집니다.</p>
+ * <ul>
+ * <li><b>DB 반영:</b> Redis 버퍼 이후의 Flush(샤드별 락, 청크 단위 반영, 장애 복구)는 {@link RedisLikeWriteStrategy}를 그대로 사용하므로
+ * 다중 인스턴스 환경에서도 안전합니다. Flush 시에는 로컬 증감분을 먼저 반영합니다.</li>
+ * <li><b>실패 처리:</b> Redis 반영에 실패한 곡의 증감분은 로컬 버퍼로 되돌려 다음 주기에 재시도합니다.</li>
+ * <li><b>버퍼 교체:</b> 로컬 버퍼는 {@link EpochLongCountBuffer}로 교체하므로, 교체 직전에 진행 중이던 증감이 끝난 뒤 스냅샷을 만듭니다.</li>
+ * <li><b>좋아요 상태:</b> 상태 검증을 Redis에서 처리하면 요청마다 왕복이 발생하므로, memory 전략과 같이 DB 기반 검증을 사용합니다.</li>
+ * <li><b>유실 범위:</b> 프로세스가 강제 종료되면 최대 {@code pushInterval} 동안 합산된 증감분이 유실될 수 있습니다.
+ * 정상 종료 시에는 진행 중인 주기 반영이 끝나기를 기다린 뒤 남은 증감분을 Redis로 반영합니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class HybridLikeWriteStrategy extends LikeWriteStrategy {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final RedisLikeWriteStrategy redisStrategy;
+    private final EpochLongCountBuffer localBuffer = new EpochLongCountBuffer(INITIAL_BUFFER_SIZE);
+    private final AtomicBoolean pushing = new AtomicBoolean(false);
+    // 종료 시 새 주기 반영만 멈추고, 진행 중인 반영은 끝까지 실행 (구독 취소 시 반영 중인 증감분이 유실됨)
+    private final Sinks.Empty<Void> stopPusher = Sinks.empty();
+    private final CompletableFuture<Void> pusherTerminated;
+
+    /**
+     * @param pushInterval 로컬 증감분을 Redis로 반영하는 주기. 0이면 주기 반영을 하지 않고 Flush 시에만 반영합니다.
+     */
+    public HybridLikeWriteStrategy(RedisLikeWriteStrategy redisStrategy, Duration pushInterval) {
+        if (pushInterval.isNegative()) throw new IllegalArgumentException("Push interval must not be negative.");
+        this.redisStrategy = redisStrategy;
+        this.pusherTerminated = pushInterval.isZero() ? CompletableFuture.completedFuture(null) : Flux.interval(pushInterval)
+                .takeUntilOther(stopPusher.asMono())
+                .onBackpressureDrop()
+                .concatMap(tick -> pushToRedis().onErrorResume(e -> {
+                    log.error("[HybridStrategy] Failed to push likes to Redis", e);
+                    return Mono.empty();
+                }), 1)
+                .then()
+                .toFuture();
+    }
+
+    @Override
+    public Mono<Void> addLike(Long songId) {
+        log.debug("[HybridStrategy] addLike: songId={}", songId);
+        return Mono.fromRunnable(() -> {
+            localBuffer.add(songId, 1L);
+            countPendingEvent();
+        });
+    }
+
+    @Override
+    public Mono<Void> removeLike(Long songId) {
+        log.debug("[HybridStrategy] removeLike: songId={}", songId);
+        return Mono.fromRunnable(() -> {
+            localBuffer.add(songId, -1L);
+            countPendingEvent();
+        });
+    }
+
+    @Override
+    public Mono<Void> addDelta(Long songId, long delta) {
+        if (delta == 0) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> {
+            localBuffer.add(songId, delta);
+            countPendingEvent();
+        });
+    }
+
+    // 분 버킷은 반영 시점 기준으로 기록되므로, 최대 pushInterval만큼 늦게 집계됨
+    @Override
+    public Mono<List<SongLikeScore>> findTopLiked(Duration window, int limit) {
+        return redisStrategy.findTopLiked(window, limit);
+    }
+
+    @Override
+    protected Mono<Long> pendingSongCount() {
+        return redisStrategy.pendingSongCount()
+                .defaultIfEmpty(0L)
+                .map(pendingSongs -> pendingSongs + localBuffer.size());
+    }
+
+    @Override
+    protected Mono<Void> flushToDatabase() {
+        return pushToRedis().then(redisStrategy.flushToDatabase());
+    }
+
+    /**
+     * 로컬 버퍼를 교체하고, 합산된 증감분을 Redis 버퍼로 반영합니다.
+     * 교체 시 진행 중인 증감이 끝나기를 기다리므로, 교체된 버퍼에 늦게 누적되어 유실되는 증감분이 없습니다.
+     * 주기 반영과 Flush가 겹치면 진행 중인 반영이 끝나기를 기다리지 않고 건너뜁니다. (건너뛴 증감분은 다음 반영에 포함)
+     */
+    Mono<Void> pushToRedis() {
+        return Mono.defer(() -> {
+            if (!pushing.compareAndSet(false, true)) {
+                return Mono.empty();
+            }
+            LongCountSnapshot deltas;
+            try {
+                deltas = localBuffer.seal().snapshot();
+            } finally {
+                localBuffer.open();
+            }
+            if (deltas.isEmpty()) {
+                pushing.set(false);
+                return Mono.empty();
+            }
+
+            long startTime = System.currentTimeMillis();
+            return redisStrategy.recordDeltas(deltas, localBuffer::add)
+                    .doOnNext(failed -> {
+                        if (failed > 0) {
+                            log.warn("[HybridStrategy] Failed to push {} of {} songs to Redis, retrying next push", failed, deltas.size());
+                        } else {
+                            log.debug("[HybridStrategy] Pushed {} songs to Redis in {} ms", deltas.size(), System.currentTimeMillis() - startTime);
+                        }
+                    })
+                    .doFinally(signal -> pushing.set(false))
+                    .then();
+        });
+    }
+
+    @PreDestroy
+    public void onDestroy() {
+        log.info("Shutting down HybridLikeWriteStrategy, pushing local likes to Redis...");
+        stopPusher.tryEmitEmpty();
+        try {
+            // 진행 중인 주기 반영이 끝나야 실패한 증감분까지 로컬 버퍼로 돌아옴
+            pusherTerminated.get(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("In-flight push to Redis did not finish within {} during shutdown", SHUTDOWN_TIMEOUT);
+        } catch (ExecutionException e) {
+            log.error("Periodic push to Redis terminated with error", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pushToRedis()
+                .doOnSuccess(v -> {
+                    int remaining = localBuffer.size();
+                    if (remaining > 0) log.error(">>> Failed to push {} songs to Redis during shutdown. Data lost.", remaining);
+                })
+                .onErrorResume(e -> {
+                    log.error("Error occurred while pushing likes to Redis during shutdown", e);
+                    return Mono.empty();
+                })
+                .block(SHUTDOWN_TIMEOUT);
+    }
+}
@@ -0,0 +1,44 @@
+package com.seonghyeon.jukebox.service.like.strategy;
+
+import com.seonghyeon.jukebox.entity.like.Action;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 사용자별 좋아요 상태 검증과 카운트 증감을 직접 원자적으로 처리하는 {@link LikeWriteStrategy}. (예: redis)
+ *
+ * <p>쓰기 전략이 이 인터페이스를 구현하면, 호출부는 DB 기반 중복 검증 대신 {@link #applyLike(Long, Long, Action)}를 사용합니다.</p>
+ */
+public interface LikeStateStrategy {
+
+    /**
+     * 사용자의 좋아요 상태를 확인하고 변경 가능한 경우에만 상태 변경과 카운트 증감을 원자적으로 수행합니다.
+     *
+     * @return 상태가 변경되었으면 true, 이미 요청한 상태(중복 좋아요/취소)이면 false
+     */
+    Mono<Boolean> applyLike(Long songId, Long userId, Action action);
+
+    /**
+     * 여러 요청을 {@link #applyLike(Long, Long, Action)}와 같은 규칙으로 한 번에 반영합니다. (예: 대량 좋아요)
+     * 같은 (곡, 사용자) 조합의 요청은 목록 순서대로 적용됩니다.
+     *
+     * @return 요청별 결과 (목록과 같은 순서). 반영 여부를 확인하지 못한 요청은 {@link ApplyResult#FAILED}
+     */
+    Mono<List<ApplyResult>> applyLikes(List<LikeChange> changes);
+
+    /**
+     * {@link #applyLike(Long, Long, Action)}로 반영한 {@code action}을 되돌립니다. (예: 이력 저장 실패)
+     * 현재 상태가 {@code action}을 반영한 상태인 경우에만 상태와 카운트를 원래대로 돌립니다.
+     */
+    Mono<Void> revertLike(Long songId, Long userId, Action action);
+
+    record LikeChange(Long songId, Long userId, Action action) {
+    }
+
+    enum ApplyResult {
+        APPLIED,  // 상태 변경과 카운트 증감 반영
+        CONFLICT, // 이미 요청한 상태 (중복 좋아요/취소)
+        FAILED    // 상태 적재 또는 Redis 호출 실패
+    }
+}
@@ -1,20 +1,88 @@
 package com.seonghyeon.jukebox.service.like.strategy;
 
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
 @Slf4j
 public abstract class LikeWriteStrategy {
 
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final LongAdder pendingEvents = new LongAdder(); // 마지막 Flush 이후 이 인스턴스가 버퍼에 기록한 증감 횟수
+
+    private Supplier<Mono<Void>> postFlushTask = Mono::empty;
+
     public abstract Mono<Void> addLike(Long songId);
 
     public abstract Mono<Void> removeLike(Long songId);
 
+    /**
+     * 여러 건의 증감을 합산한 {@code delta}를 한 번에 반영합니다. (예: 대량 좋아요 요청)
+     * 기본 구현은 증감 건수만큼 {@link #addLike(Long)} 또는 {@link #removeLike(Long)}를 순서대로 호출합니다.
+     */
+    public Mono<Void> addDelta(Long songId, long delta) {
+        if (delta == 0) {
+            return Mono.empty();
+        }
+        Mono<Void> single = Mono.defer(() -> delta > 0 ? addLike(songId) : removeLike(songId));
+        return single.repeat(Math.abs(delta) - 1).then();
+    }
+
+    /**
+     * 최근 {@code window} 동안 좋아요 증가량 상위 곡을 조회합니다.
+     * 전략이 해당 윈도우를 집계하지 않는 경우 빈 Mono를 반환하며, 호출부는 DB 집계로 대체합니다.
+     */
+    public Mono<List<SongLikeScore>> findTopLiked(Duration window, int limit) {
+        return Mono.empty();
+    }
+
+    /**
+     * Flush 직후 실행할 후속 작업을 등록합니다. (예: 좋아요 롤업 집계)
+     * 후속 작업은 Flush 성공 여부와 관계없이 실행됩니다.
+     */
+    public void setPostFlushTask(Supplier<Mono<Void>> postFlushTask) {
+        this.postFlushTask = postFlushTask;
+    }
+
+    /**
+     * 버퍼에 쌓인 미반영 데이터 규모. Flush 스케줄러가 크기 기반 Flush 여부를 판단하는 데 사용합니다.
+     */
+    public Mono<BufferStats> bufferStats() {
+        return pendingSongCount()
+                .defaultIfEmpty(0L)
+                .map(pendingSongs -> new BufferStats(pendingSongs, pendingEvents.sum()));
+    }
+
+    /**
+     * Flush와 후속 작업을 실행합니다. 이미 Flush가 진행 중이면 겹쳐 실행하지 않고 false를 반환합니다.
+     * Flush가 실패해도 후속 작업은 실행되며, 이후 Flush 에러를 전파합니다.
+     */
+    public Mono<Boolean> flush() {
+        return Mono.defer(() -> {
+            if (!flushing.compareAndSet(false, true)) {
+                log.debug("Flush skipped: previous flush is still running");
+                return Mono.just(false);
+            }
+            pendingEvents.reset();
+            return flushToDatabase()
+                    .onErrorResume(e -> Mono.defer(postFlushTask).then(Mono.error(e)))
+                    .then(Mono.defer(postFlushTask))
+                    .doFinally(signal -> flushing.set(false))
+                    .thenReturn(true);
+        });
+    }
+
     @Scheduled(cron = "${jukebox.like.write-buffer.cron:0 0/5 * * * *}")
     public void run() {
-        flushToDatabase()
+        flush()
                 .subscribeOn(Schedulers.boundedElastic())
                 .subscribe(
                         null,
@@ -22,7 +90,18 @@ public abstract class LikeWriteStrategy {
                 );
     }
 
+    protected void countPendingEvent() {
+        pendingEvents.increment();
+    }
+
+    // 버퍼에 쌓인 곡 수. 확인할 수 없는 경우 빈 Mono
+    protected Mono<Long> pendingSongCount() {
+        return Mono.empty();
+    }
+
     // CircuitBreaker 대상
     protected abstract Mono<Void> flushToDatabase();
 
+    public record BufferStats(long pendingSongs, long pendingEvents) {
+    }
 }
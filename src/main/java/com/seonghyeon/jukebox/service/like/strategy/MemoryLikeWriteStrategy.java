@@ -1,8 +1,13 @@
 package com.seonghyeon.jukebox.service.like.strategy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seonghyeon.jukebox.common.collection.ConcurrentLongCountMap;
+import com.seonghyeon.jukebox.common.collection.EpochLongCountBuffer;
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+import com.seonghyeon.jukebox.service.like.journal.LikeJournal;
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
+import com.seonghyeon.jukebox.service.like.trending.TrendingLikeCounter;
 import jakarta.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -13,72 +18,133 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
-@RequiredArgsConstructor
 public class MemoryLikeWriteStrategy extends LikeWriteStrategy {
 
-    private final AtomicReference<ConcurrentHashMap<Long, LongAdder>> currentBuffer = new AtomicReference<>(new ConcurrentHashMap<>());
+    private static final Duration TRENDING_WINDOW = Duration.ofHours(1); // 인기 곡 집계 윈도우 (분 단위 버킷)
+    private static final int INITIAL_BUFFER_SIZE = 1024;
 
-    private final Function<Map<Long, Long>, Mono<Void>> likeBatchWriter;
+    // 곡별 증감분 버퍼. 증감 시 boxing/노드 할당이 없도록 primitive Map 사용
+    // 버퍼 교체는 Epoch 단위로 하여, 증감끼리는 공유 잠금 없이 누적하고 교체 시에만 진행 중인 증감이 끝나기를 기다림
+    private final EpochLongCountBuffer currentBuffer = new EpochLongCountBuffer(INITIAL_BUFFER_SIZE);
+    private final TrendingLikeCounter trendingLikeCounter;
+
+    private final Function<LongCountSnapshot, Mono<Void>> likeBatchWriter;
     private final TransactionalOperator transactionalOperator;
 
-    @Setter // 사용 시 application.yml 또는 환경 변수로 설정 필요
+    @Setter // jukebox.like.outbox.path (LikeOutboxReplayer가 기동 시 재반영)
     private String backupPath = "outbox";
 
+    private volatile LikeJournal journal; // null이면 저널 비활성화
+    private Function<String, Mono<Boolean>> journalCheckpoint; // 봉인한 세그먼트 번호 기록 (DB, Flush 트랜잭션에 참여)
+
+    public MemoryLikeWriteStrategy(Function<LongCountSnapshot, Mono<Void>> likeBatchWriter,
+                                   TransactionalOperator transactionalOperator, Clock clock) {
+        this.likeBatchWriter = likeBatchWriter;
+        this.transactionalOperator = transactionalOperator;
+        this.trendingLikeCounter = new TrendingLikeCounter(TRENDING_WINDOW, clock);
+    }
+
+    /**
+     * 저널을 연결하고, 이전 실행에서 DB에 반영되지 못한 증감분을 버퍼로 복구합니다.
+     * 복구된 증감분은 다음 Flush에서 반영되며, 반영 성공 시 이전 세그먼트도 함께 삭제됩니다.
+     *
+     * <p>Flush는 봉인한 세그먼트 번호를 DB 반영과 같은 트랜잭션에서 {@code checkpoint}로 기록합니다.
+     * 기동 시 {@code lastCheckpoint}로 마지막 기록 번호를 조회하여, DB 커밋 후 세그먼트 삭제 전에 중단된 경우에도
+     * 이미 반영된 세그먼트를 다시 반영하지 않습니다.</p>
+     *
+     * @param checkpoint     청크 ID 기록 (이미 기록된 경우 false)
+     * @param lastCheckpoint 접두사 뒤에 붙은 번호 중 가장 큰 기록 번호 조회 (기록이 없으면 빈 Mono)
+     */
+    public void attachJournal(LikeJournal journal, Function<String, Mono<Boolean>> checkpoint, Function<String, Mono<Long>> lastCheckpoint) {
+        long appliedSeq = lastCheckpoint.apply(checkpointPrefix(journal)).defaultIfEmpty(0L).block();
+        Map<Long, Long> recovered = journal.replay(appliedSeq);
+        recovered.forEach(currentBuffer::add);
+        this.journalCheckpoint = checkpoint;
+        this.journal = journal;
+        if (!recovered.isEmpty()) {
+            log.warn("[MemoryStrategy] Recovered {} songs from like journal", recovered.size());
+        }
+    }
+
     @Override
     public Mono<Void> addLike(Long songId) {
         log.debug("[MemoryStrategy] addLike: songId={}", songId);
-        return Mono.fromRunnable(() -> currentBuffer.get()
-                .computeIfAbsent(songId, k -> new LongAdder())
-                .increment()
-        );
+        return Mono.fromRunnable(() -> record(songId, 1L));
     }
 
     @Override
     public Mono<Void> removeLike(Long songId) {
         log.debug("[MemoryStrategy] removeLike: songId={}", songId);
-        return Mono.fromRunnable(() -> currentBuffer.get()
-                .computeIfAbsent(songId, k -> new LongAdder())
-                .decrement()
-        );
+        return Mono.fromRunnable(() -> record(songId, -1L));
+    }
+
+    @Override
+    public Mono<Void> addDelta(Long songId, long delta) {
+        if (delta == 0) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> record(songId, delta));
+    }
+
+    @Override
+    public Mono<List<SongLikeScore>> findTopLiked(Duration window, int limit) {
+        if (!trendingLikeCounter.covers(window)) {
+            return Mono.empty(); // 기동 직후 또는 지원하지 않는 윈도우는 DB 집계로 대체
+        }
+        return Mono.fromSupplier(() -> trendingLikeCounter.topLiked(limit));
+    }
+
+    @Override
+    protected Mono<Long> pendingSongCount() {
+        return Mono.fromSupplier(() -> (long) currentBuffer.size());
     }
 
     @Override
     protected Mono<Void> flushToDatabase() {
         return Mono.defer(() -> {
             long startTime = System.currentTimeMillis();
-            ConcurrentHashMap<Long, LongAdder> rawSnapshot = currentBuffer.getAndSet(new ConcurrentHashMap<>());
+            LikeJournal journal = this.journal;
+            ConcurrentLongCountMap rawSnapshot;
+            long sealedSeq;
+            // 버퍼를 봉인(진행 중인 증감이 끝날 때까지 대기)한 뒤 새 버퍼를 열기 전에 저널을 회전하므로,
+            // 봉인된 세그먼트에는 교체된 버퍼의 증감분만 존재
+            rawSnapshot = currentBuffer.seal();
+            try {
+                sealedSeq = journal != null ? journal.rotate() : 0L;
+            } finally {
+                currentBuffer.open();
+            }
 
-            // Map<Long, LongAddr>(스냅샷)을 Map<Long, Long> 형태로 변환 (0이 아닌 값만)
-            Map<Long, Long> snapshot = summarizeSnapshot(rawSnapshot);
+            // 곡 ID 오름차순 primitive 스냅샷으로 변환 (0이 아닌 값만)
+            LongCountSnapshot snapshot = rawSnapshot.snapshot();
             if (snapshot.isEmpty()) {
                 log.debug("[MemoryStrategy] Flush skipped: No data in buffer.");
+                if (journal != null) journal.release(sealedSeq);
                 return Mono.empty();
             }
 
             int targetCount = snapshot.size();
             log.info("[MemoryStrategy] Flush starting: Target songs count = {}", targetCount);
 
-            return likeBatchWriter.apply(snapshot)
+            return writeSnapshot(snapshot, journal, sealedSeq)
                     .as(transactionalOperator::transactional)
                     .doOnSuccess(v -> {
+                        if (journal != null) journal.release(sealedSeq);
                         long duration = System.currentTimeMillis() - startTime;
                         log.info("[MemoryStrategy] Flush completed: {} songs updated in {}ms", targetCount, duration);
                     })
                     .doOnError(e -> {
                         log.error("[MemoryStrategy] DB Flush failed! Rolling back to buffer. Error: {}", e.getMessage());
                         // 버퍼 원복: 현재 다시 쌓이고 있는 currentBuffer에 실패한 스냅샷을 다시 합침 (롤백)
-                        snapshot.forEach((songId, count) -> {
-                            currentBuffer.get().computeIfAbsent(songId, k -> new LongAdder()).add(count);
-                        });
+                        // 봉인된 세그먼트는 삭제하지 않았으므로 저널에는 다시 기록하지 않음
+                        snapshot.forEach(currentBuffer::add);
                         log.warn("[MemoryStrategy] Successfully rolled back {} items to buffer.", targetCount);
                     });
         });
@@ -91,15 +157,53 @@ public class MemoryLikeWriteStrategy extends LikeWriteStrategy {
         flushToDatabase()
                 .doOnSuccess(v -> log.info("Successfully flushed likes to database during shutdown."))
                 .onErrorResume(error -> {
+                    if (journal != null) {
+                        // 미반영 증감분은 저널에 남아 다음 기동 시 복구되므로, 중복 반영을 막기 위해 백업 파일을 만들지 않음
+                        log.error("Error occurred while flushing likes to database during shutdown, likes are kept in journal", error);
+                        return Mono.empty();
+                    }
                     log.error("Error occurred while flushing likes to database during shutdown, saving to outbox file", error);
 
                     // 버퍼 스냅샷 추출 및 파일 저장
-                    ConcurrentHashMap<Long, LongAdder> rawSnapshot = currentBuffer.getAndSet(new ConcurrentHashMap<>());
-                    Map<Long, Long> snapshot = summarizeSnapshot(rawSnapshot);
-                    saveToOutboxFile(snapshot);
+                    ConcurrentLongCountMap rawSnapshot = currentBuffer.seal();
+                    currentBuffer.open();
+                    saveToOutboxFile(rawSnapshot.snapshot().toMap());
                     return Mono.empty(); // 에러를 삼키고 정상 종료 흐름 유지
                 })
                 .block(Duration.ofSeconds(10));
+
+        if (journal != null) journal.close();
+    }
+
+    private void record(Long songId, long delta) {
+        LikeJournal journal = this.journal;
+        if (journal != null) {
+            currentBuffer.add(songId, delta, journal::append);
+        } else {
+            currentBuffer.add(songId, delta);
+        }
+        trendingLikeCounter.record(songId, delta);
+        countPendingEvent();
+    }
+
+    // 봉인한 세그먼트 번호를 DB 반영과 함께 기록. 이미 기록된 번호면(반영 후 세그먼트 삭제 전 중단) DB 반영을 건너뜀
+    private Mono<Void> writeSnapshot(LongCountSnapshot snapshot, LikeJournal journal, long sealedSeq) {
+        if (journal == null) {
+            return likeBatchWriter.apply(snapshot);
+        }
+        String checkpointId = checkpointPrefix(journal) + sealedSeq;
+        return journalCheckpoint.apply(checkpointId)
+                .flatMap(claimed -> {
+                    if (!claimed) {
+                        log.warn("[MemoryStrategy] Journal segment already applied, skipping DB write. checkpoint={}", checkpointId);
+                        return Mono.empty();
+                    }
+                    return likeBatchWriter.apply(snapshot);
+                });
+    }
+
+    private static String checkpointPrefix(LikeJournal journal) {
+        return "journal:" + journal.id() + ":";
     }
 
     private void saveToOutboxFile(Map<Long, Long> snapshot) {
@@ -115,10 +219,4 @@ public class MemoryLikeWriteStrategy extends LikeWriteStrategy {
         }
     }
 
-    private Map<Long, Long> summarizeSnapshot(ConcurrentHashMap<Long, LongAdder> rawSnapshot) {
-        return rawSnapshot.entrySet().stream()
-                .filter(e -> e.getValue().sum() != 0)
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
-    }
-
 }
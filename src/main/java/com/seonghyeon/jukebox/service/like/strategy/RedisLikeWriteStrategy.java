@@ -1,127 +1,704 @@
 package com.seonghyeon.jukebox.service.like.strategy;
 
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+import com.seonghyeon.jukebox.common.collection.LongLongConsumer;
+import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 @Slf4j
 @RequiredArgsConstructor
-public class RedisLikeWriteStrategy extends LikeWriteStrategy {
+public class RedisLikeWriteStrategy extends LikeWriteStrategy implements LikeStateStrategy {
 
     private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
     private final Function<Map<Long, Long>, Mono<Void>> likeBatchWriter;
     private static final Integer BATCH_WRITER_BUFFER_SIZE = 500;
     private final TransactionalOperator transactionalOperator;
+    private final Clock clock;
+    private final Function<Long, Flux<Long>> likedUsersLoader; // 곡별 좋아요 상태인 사용자 ID 조회 (DB)
+    private final int shardCount; // 버퍼 샤드 수 (운영 중 변경 시 기존 샤드를 모두 Flush 한 뒤 변경 필요)
+    private final Function<String, Mono<Boolean>> chunkCheckpoint; // 청크 반영 기록 (DB, 이미 반영된 청크면 false)
 
-    private static final String REDIS_KEY = "jukebox:like:buffer"; // 좋아요 임시 저장소 키
-    private static final String SNAPSHOT_KEY = REDIS_KEY + ":snapshot"; // 스냅샷 키
-    private static final String LOCK_KEY = "jukebox:like:lock"; // 분산 락 키
+    private static final String REDIS_KEY = "jukebox:like:buffer"; // 좋아요 임시 저장소 키 (샤드: jukebox:like:buffer:{n})
+    private static final String SNAPSHOT_SUFFIX = ":snapshot"; // 스냅샷 키 접미사
+    private static final String INFLIGHT_SUFFIX = ":inflight"; // DB 반영 중인 청크 키 접미사
+    private static final String PROGRESS_SUFFIX = ":progress"; // 스냅샷 HSCAN 커서/청크 ID 키 접미사
+    private static final String LOCK_KEY = "jukebox:like:lock"; // 분산 락 키 (샤드: jukebox:like:lock:{n})
+    private static final int FLUSH_CONCURRENCY = 4; // 인스턴스 내 동시 Flush 샤드 수
+    private static final int PIPELINE_DEPTH = 128; // 증감분 일괄 반영 시 응답 대기 없이 연속 전송할 최대 명령 수
 
     // [SERVER_ID, LOCK_EXPIRY] 서버 환경에 맞춰 환경 변수로 설정 필요. 현재는 임시 값 사용
     private static final String SERVER_ID = "jukebox-server-1"; // 임시 서버 ID
     // 스케줄링 주기(1분)보다 1초 짧게 설정하여, 이전 작업이 지연될 경우 다음 주기의 중복 실행을 방지하고 최소한의 안전 마진을 확보
     private static final Duration LOCK_EXPIRY = Duration.ofSeconds(59);
+    // 같은 SERVER_ID를 쓰는 인스턴스끼리도 락 소유자를 구분하기 위한 값
+    private final String lockOwner = SERVER_ID + ":" + UUID.randomUUID();
+
+    // 스냅샷에서 최대 ARGV[1]개 항목을 처리 중 청크로 옮기고, HSCAN 커서와 청크 ID를 기록 (옮긴 항목은 즉시 HDEL)
+    // 커서 이후 남은 항목은 커서가 한 바퀴 돈 뒤 다시 스캔되며, 스냅샷이 비면 진행 정보를 지우고 0 반환
+    // 한 번의 실행이 Redis를 오래 점유하지 않도록 HSCAN은 최대 ARGV[3]회만 호출하고,
+    // 옮긴 항목 없이 스캔 횟수를 다 쓰면 커서만 기록하고 -2 반환 (호출 측에서 다시 실행)
+    // KEYS[1]: 스냅샷, KEYS[2]: 처리 중 청크, KEYS[3]: 진행 정보 / ARGV[1]: 청크 크기, ARGV[2]: 청크 ID, ARGV[3]: 최대 HSCAN 횟수
+    private static final RedisScript<Long> TAKE_CHUNK_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return -1
+            end
+            local limit = tonumber(ARGV[1])
+            local maxScans = tonumber(ARGV[3])
+            local cursor = redis.call('HGET', KEYS[3], 'cursor') or '0'
+            local moved = 0
+            local scans = 0
+            while moved < limit and scans < maxScans and redis.call('EXISTS', KEYS[1]) == 1 do
+                scans = scans + 1
+                local result = redis.call('HSCAN', KEYS[1], cursor, 'COUNT', limit)
+                cursor = result[1]
+                local entries = result[2]
+                for i = 1, #entries, 2 do
+                    if moved < limit then
+                        redis.call('HSET', KEYS[2], entries[i], entries[i + 1])
+                        redis.call('HDEL', KEYS[1], entries[i])
+                        moved = moved + 1
+                    end
+                end
+            end
+            if moved == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 1 then
+                    redis.call('HSET', KEYS[3], 'cursor', cursor)
+                    return -2
+                end
+                redis.call('DEL', KEYS[3])
+                return 0
+            end
+            redis.call('HSET', KEYS[3], 'cursor', cursor, 'chunk', ARGV[2])
+            return moved
+            """, Long.class);
+    private static final int TAKE_CHUNK_MAX_SCANS = 4;
+    private static final long CHUNK_IN_FLIGHT = -1L;
+    private static final long SNAPSHOT_NOT_DRAINED = -2L;
+
+    // DB 반영이 끝난 청크 정리. KEYS[1]: 처리 중 청크, KEYS[2]: 진행 정보
+    private static final RedisScript<Long> COMPLETE_CHUNK_SCRIPT = RedisScript.of("""
+            redis.call('UNLINK', KEYS[1])
+            redis.call('HDEL', KEYS[2], 'chunk')
+            return 1
+            """, Long.class);
+
+    // 락 소유자인 경우에만 만료 시간 연장. KEYS[1]: 락 / ARGV[1]: 소유자, ARGV[2]: 만료 시간(ms)
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 락 소유자인 경우에만 해제. KEYS[1]: 락 / ARGV[1]: 소유자
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 인기 곡 집계용 분 단위 Sorted Set 버킷 (jukebox:like:trending:{n}:{epochMinute})
+    // 곡이 속한 버퍼 샤드와 같은 Hash Tag({n})로 나누어, 증감 트래픽이 한 슬롯(노드)에 몰리지 않도록 함
+    // 샤드별 버킷/기록 시작 시각/합산 결과 키는 같은 슬롯이므로 ZUNIONSTORE와 Lua 스크립트는 샤드 단위로 실행
+    private static final String TRENDING_KEY_PREFIX = "jukebox:like:trending";
+    private static final String TRENDING_SINCE_SUFFIX = "since"; // 샤드 버킷 기록 시작 시각 (epoch millis)
+    private static final String TRENDING_UNION_SUFFIX = "union:"; // 샤드 윈도우 합산 결과 캐시 키
+    private static final Duration TRENDING_MAX_WINDOW = Duration.ofHours(1);
+    // 조회 가능한 최대 윈도우보다 1분 길게 유지하여, 분 경계에서 조회 중인 버킷이 만료되지 않도록 함
+    private static final Duration TRENDING_BUCKET_TTL = TRENDING_MAX_WINDOW.plusMinutes(1);
+    // 기록할 때마다 연장. 버킷보다 길게 유지하되, 기록이 끊기거나 Redis에서 버킷이 유실된 뒤에는 만료되어 Warm-up을 다시 판단
+    private static final Duration TRENDING_SINCE_TTL = TRENDING_BUCKET_TTL.plusMinutes(1);
+    // 합산 결과 재사용 시간. 키 이름에 캐시 구간을 포함하고 TTL을 2배로 두어, 조회 중 만료되는 경우를 방지
+    private static final Duration TRENDING_UNION_CACHE = Duration.ofSeconds(1);
+
+    // 샤드의 분 버킷 증감, 버킷 TTL 설정, 기록 시작 시각 기록/연장을 한 번의 왕복으로 처리
+    // KEYS[1]: 분 버킷, KEYS[2]: 기록 시작 시각 / ARGV[1]: 버킷 TTL(초), ARGV[2]: 기록 시작 시각 TTL(초), ARGV[3]: 현재 시각, ARGV[4..]: songId, delta 쌍
+    private static final RedisScript<Long> RECORD_TRENDING_SCRIPT = RedisScript.of("""
+            for i = 4, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[3], 'NX')
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+    private static final int TRENDING_RECORD_CHUNK_SIZE = 500; // 스크립트 한 번에 반영할 최대 곡 수
+
+    // 곡별 좋아요 상태 (jukebox:like:state:{n}:{songId}, field: userId). DB에서 적재 완료된 곡에만 _loaded 필드가 존재
+    // 상태 변경과 버퍼 증감을 한 스크립트로 처리하도록 곡이 속한 버퍼 샤드와 같은 Hash Tag({n})를 사용
+    private static final String STATE_KEY_PREFIX = "jukebox:like:state";
+    private static final int STATE_LOAD_CHUNK_SIZE = 1000;
+    // 마지막 변경 후 이 시간 동안 요청이 없는 곡의 상태는 만료. 이후 요청 시 DB(song_likes 이력)에서 다시 적재
+    private static final Duration STATE_TTL = Duration.ofHours(24);
+
+    private static final long STATE_NOT_LOADED = -1L;
+    private static final long STATE_CONFLICT = 0L;
+    private static final long STATE_APPLIED = 1L;
+
+    // 상태 확인 -> 상태 변경 -> 버퍼 증감을 한 번의 왕복으로 원자적으로 처리 (분 버킷은 반영 후 별도 기록)
+    // KEYS[1]: 좋아요 상태, KEYS[2]: 버퍼 / ARGV[1]: userId, ARGV[2]: songId, ARGV[3]: delta(1=LIKE, -1=UNLIKE), ARGV[4]: 상태 TTL(초)
+    // 반환: -1=상태 미적재, 0=이미 요청한 상태, 1=반영 완료
+    private static final RedisScript<Long> APPLY_LIKE_SCRIPT = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[1], '_loaded') == 0 then
+                return -1
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            local liked = redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1
+            if (ARGV[3] == '1') == liked then
+                return 0
+            end
+            if liked then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            else
+                redis.call('HSET', KEYS[1], ARGV[1], '1')
+            end
+            redis.call('HINCRBY', KEYS[2], ARGV[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 여러 요청을 순서대로 APPLY_LIKE_SCRIPT와 같은 규칙으로 반영 (한 샤드의 상태 키와 버퍼만 사용하므로 한 번의 왕복으로 처리)
+    // KEYS[1]: 버퍼, KEYS[2..]: 곡별 좋아요 상태 / ARGV[1]: 상태 TTL(초), ARGV[2..]: 상태 키 위치, userId, songId, delta 4개씩
+    // 반환: 요청별 결과(-1=상태 미적재, 0=이미 요청한 상태, 1=반영 완료)를 쉼표로 연결한 문자열
+    private static final RedisScript<String> APPLY_LIKES_SCRIPT = RedisScript.of("""
+            local loaded = {}
+            local results = {}
+            for i = 2, #ARGV, 4 do
+                local stateKey = KEYS[tonumber(ARGV[i])]
+                if loaded[stateKey] == nil then
+                    loaded[stateKey] = redis.call('HEXISTS', stateKey, '_loaded') == 1
+                    if loaded[stateKey] then
+                        redis.call('EXPIRE', stateKey, ARGV[1])
+                    end
+                end
+                local result = -1
+                if loaded[stateKey] then
+                    local liked = redis.call('HEXISTS', stateKey, ARGV[i + 1]) == 1
+                    if (ARGV[i + 3] == '1') == liked then
+                        result = 0
+                    else
+                        if liked then
+                            redis.call('HDEL', stateKey, ARGV[i + 1])
+                        else
+                            redis.call('HSET', stateKey, ARGV[i + 1], '1')
+                        end
+                        redis.call('HINCRBY', KEYS[1], ARGV[i + 2], ARGV[i + 3])
+                        result = 1
+                    end
+                end
+                results[#results + 1] = result
+            end
+            return table.concat(results, ',')
+            """, String.class);
+    private static final int APPLY_LIKES_CHUNK_SIZE = 500; // 스크립트 한 번에 반영할 최대 요청 수
+
+    // 상태 적재가 끝나지 않은 경우에만 사용자 ID를 추가 (적재 완료 후 변경된 상태를 덮어쓰지 않도록)
+    // KEYS[1]: 좋아요 상태 / ARGV[1]: 상태 TTL(초), ARGV[2..]: userId
+    private static final RedisScript<Long> LOAD_STATE_SCRIPT = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[1], '_loaded') == 1 then
+                return 0
+            end
+            for i = 2, #ARGV do
+                redis.call('HSET', KEYS[1], ARGV[i], '1')
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 적재 완료 표시. 사용자 ID가 없는 곡도 상태 키가 만료되도록 TTL을 함께 설정
+    // KEYS[1]: 좋아요 상태 / ARGV[1]: 상태 TTL(초)
+    private static final RedisScript<Long> MARK_LOADED_SCRIPT = RedisScript.of("""
+            redis.call('HSETNX', KEYS[1], '_loaded', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
 
     @Override
     public Mono<Void> addLike(Long songId) {
         log.debug("[RedisStrategy] addLike: songId={}", songId);
-        return reactiveRedisTemplate.opsForHash()
-                .increment(REDIS_KEY, songId.toString(), 1L)
-                .then();
+        return recordLike(songId, 1L);
     }
 
     @Override
     public Mono<Void> removeLike(Long songId) {
         log.debug("[RedisStrategy] removeLike: songId={}", songId);
-        return reactiveRedisTemplate.opsForHash()
-                .increment(REDIS_KEY, songId.toString(), -1L)
+        return recordLike(songId, -1L);
+    }
+
+    @Override
+    public Mono<Void> addDelta(Long songId, long delta) {
+        return delta == 0 ? Mono.empty() : recordLike(songId, delta);
+    }
+
+    /**
+     * Lua 스크립트로 좋아요 상태 확인과 변경, 카운트 증감을 하나의 원자적 명령으로 처리합니다.
+     * * <p>곡의 좋아요 상태가 Redis에 없으면 DB에서 해당 곡의 좋아요 사용자 목록을 적재한 뒤 한 번 재시도합니다.</p>
+     */
+    @Override
+    public Mono<Boolean> applyLike(Long songId, Long userId, Action action) {
+        long delta = action == Action.LIKE ? 1L : -1L;
+        return executeApplyLike(songId, userId, delta)
+                .flatMap(result -> result == STATE_NOT_LOADED
+                        ? loadLikeState(songId).then(executeApplyLike(songId, userId, delta))
+                        : Mono.just(result))
+                .flatMap(result -> {
+                    if (result == STATE_NOT_LOADED) {
+                        return Mono.error(new IllegalStateException("Like state is not loaded for song: " + songId));
+                    }
+                    if (result != STATE_APPLIED) {
+                        return Mono.just(false);
+                    }
+                    countPendingEvent();
+                    return recordTrending(shardOf(songId), List.of(songId.toString(), Long.toString(delta))).thenReturn(true);
+                });
+    }
+
+    /**
+     * 요청을 곡의 샤드별로 나누어, 샤드마다 {@code APPLY_LIKES_CHUNK_SIZE}건씩 한 번의 스크립트 호출로 반영합니다.
+     *
+     * <p>청크는 샤드 안에서 순서대로 실행하므로 같은 (곡, 사용자) 조합의 요청은 목록 순서대로 적용됩니다.
+     * 상태가 적재되지 않은 곡의 요청은 DB에서 상태를 적재한 뒤 한 번 더 실행하며, 분 버킷은 청크마다 곡별 순증감을 모아 기록합니다.</p>
+     */
+    @Override
+    public Mono<List<ApplyResult>> applyLikes(List<LikeChange> changes) {
+        if (changes.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        AtomicReferenceArray<ApplyResult> results = new AtomicReferenceArray<>(changes.size());
+        return Flux.range(0, changes.size())
+                .groupBy(index -> shardOf(changes.get(index).songId()))
+                .flatMap(group -> group.buffer(APPLY_LIKES_CHUNK_SIZE)
+                        .concatMap(indexes -> applyLikesInShard(group.key(), changes, indexes, results)))
+                .then(Mono.fromSupplier(() -> IntStream.range(0, results.length())
+                        .mapToObj(index -> Objects.requireNonNullElse(results.get(index), ApplyResult.FAILED))
+                        .toList()));
+    }
+
+    private Mono<Void> applyLikesInShard(BufferShard shard, List<LikeChange> changes, List<Integer> indexes,
+                                         AtomicReferenceArray<ApplyResult> results) {
+        return executeApplyLikes(shard, changes, indexes, results)
+                .flatMap(notLoaded -> notLoaded.isEmpty()
+                        ? Mono.just(notLoaded)
+                        : Flux.fromIterable(notLoaded.stream().map(index -> changes.get(index).songId()).distinct().toList())
+                                .concatMap(this::loadLikeState)
+                                .then(executeApplyLikes(shard, changes, notLoaded, results)))
+                .doOnNext(notLoaded -> notLoaded.forEach(index ->
+                        log.error("[RedisStrategy] Like state is not loaded for song: {}", changes.get(index).songId())))
+                .onErrorResume(e -> {
+                    // 결과를 기록하지 못한 요청은 실패로 응답
+                    log.error("[RedisStrategy] Failed to apply likes. shard={}, changes={}", shard.bufferKey(), indexes.size(), e);
+                    return Mono.empty();
+                })
                 .then();
     }
 
+    /**
+     * 요청을 한 번의 스크립트 호출로 반영하고 결과를 {@code results}에 기록합니다.
+     *
+     * @return 상태가 적재되지 않아 반영하지 못한 요청의 위치
+     */
+    private Mono<List<Integer>> executeApplyLikes(BufferShard shard, List<LikeChange> changes, List<Integer> indexes,
+                                                  AtomicReferenceArray<ApplyResult> results) {
+        return Mono.defer(() -> {
+            List<String> keys = new ArrayList<>();
+            keys.add(shard.bufferKey());
+            Map<Long, Integer> keyPositions = new HashMap<>();
+            List<String> args = new ArrayList<>(indexes.size() * 4 + 1);
+            args.add(Long.toString(STATE_TTL.toSeconds()));
+            for (int index : indexes) {
+                LikeChange change = changes.get(index);
+                int keyPosition = keyPositions.computeIfAbsent(change.songId(), songId -> {
+                    keys.add(stateKey(songId));
+                    return keys.size(); // Lua KEYS는 1부터 시작
+                });
+                args.add(Integer.toString(keyPosition));
+                args.add(change.userId().toString());
+                args.add(change.songId().toString());
+                args.add(change.action() == Action.LIKE ? "1" : "-1");
+            }
+            return reactiveRedisTemplate.execute(APPLY_LIKES_SCRIPT, keys, args).single();
+        }).flatMap(reply -> {
+            String[] codes = reply.split(",");
+            List<Integer> notLoaded = new ArrayList<>();
+            Map<Long, Long> trendingDeltas = new LinkedHashMap<>();
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                LikeChange change = changes.get(index);
+                long code = Long.parseLong(codes[i]);
+                if (code == STATE_NOT_LOADED) {
+                    notLoaded.add(index);
+                } else if (code == STATE_APPLIED) {
+                    results.set(index, ApplyResult.APPLIED);
+                    countPendingEvent();
+                    trendingDeltas.merge(change.songId(), change.action() == Action.LIKE ? 1L : -1L, Long::sum);
+                } else {
+                    results.set(index, ApplyResult.CONFLICT);
+                }
+            }
+            List<String> songIdAndDeltas = new ArrayList<>(trendingDeltas.size() * 2);
+            trendingDeltas.forEach((songId, delta) -> {
+                if (delta != 0) {
+                    songIdAndDeltas.add(songId.toString());
+                    songIdAndDeltas.add(delta.toString());
+                }
+            });
+            return (songIdAndDeltas.isEmpty() ? Mono.<Void>empty() : recordTrending(shard, songIdAndDeltas)).thenReturn(notLoaded);
+        });
+    }
+
+    /**
+     * 상태가 {@code action}을 반영한 상태인 경우에만 반대 방향으로 상태와 버퍼를 되돌립니다.
+     * 상태가 만료된 경우에는 되돌릴 상태가 없으며, 다음 요청 시 DB 이력 기준으로 다시 적재됩니다.
+     */
+    @Override
+    public Mono<Void> revertLike(Long songId, Long userId, Action action) {
+        long delta = action == Action.LIKE ? -1L : 1L;
+        return executeApplyLike(songId, userId, delta)
+                .flatMap(result -> {
+                    if (result != STATE_APPLIED) {
+                        log.warn("[RedisStrategy] Nothing to revert. songId={}, userId={}, action={}, result={}", songId, userId, action, result);
+                        return Mono.empty();
+                    }
+                    return recordTrending(shardOf(songId), List.of(songId.toString(), Long.toString(delta)));
+                });
+    }
+
+    private Mono<Long> executeApplyLike(Long songId, Long userId, long delta) {
+        return reactiveRedisTemplate.execute(
+                        APPLY_LIKE_SCRIPT,
+                        List.of(stateKey(songId), shardOf(songId).bufferKey()),
+                        List.of(userId.toString(), songId.toString(), Long.toString(delta), Long.toString(STATE_TTL.toSeconds())))
+                .single();
+    }
+
+    private String stateKey(Long songId) {
+        return shardOf(songId).stateKeyPrefix() + songId;
+    }
+
+    private Mono<Void> loadLikeState(Long songId) {
+        String stateKey = stateKey(songId);
+        String ttlSeconds = Long.toString(STATE_TTL.toSeconds());
+        log.debug("[RedisStrategy] Loading like state from DB: songId={}", songId);
+        return likedUsersLoader.apply(songId)
+                .map(String::valueOf)
+                .buffer(STATE_LOAD_CHUNK_SIZE)
+                .concatMap(userIds -> {
+                    List<String> args = new ArrayList<>(userIds.size() + 1);
+                    args.add(ttlSeconds);
+                    args.addAll(userIds);
+                    return reactiveRedisTemplate.execute(LOAD_STATE_SCRIPT, List.of(stateKey), args);
+                })
+                .then(Mono.defer(() -> reactiveRedisTemplate.execute(MARK_LOADED_SCRIPT, List.of(stateKey), List.of(ttlSeconds)).then()));
+    }
+
+    private Mono<Void> recordLike(Long songId, long delta) {
+        return reactiveRedisTemplate.opsForHash().increment(shardOf(songId).bufferKey(), songId.toString(), delta)
+                .doOnSuccess(v -> countPendingEvent())
+                .then(recordTrending(shardOf(songId), List.of(songId.toString(), Long.toString(delta))));
+    }
+
+    /**
+     * 샤드의 현재 분 버킷에 곡별 증감분을 기록합니다. ({@code songIdAndDeltas}: 샤드에 속한 곡의 songId, delta 쌍)
+     *
+     * <p>버퍼 증감이 이미 반영된 뒤 호출되므로, 실패해도 요청을 실패시키지 않습니다.
+     * (재시도 시 버퍼가 중복 반영되는 것보다 인기 곡 집계의 일시적인 누락이 낫기 때문)</p>
+     */
+    private Mono<Void> recordTrending(BufferShard shard, List<String> songIdAndDeltas) {
+        return Mono.defer(() -> {
+            long nowMillis = clock.millis();
+            String bucketKey = shard.trendingBucketKey(Math.floorDiv(nowMillis, Duration.ofMinutes(1).toMillis()));
+            List<String> args = new ArrayList<>(songIdAndDeltas.size() + 3);
+            args.add(Long.toString(TRENDING_BUCKET_TTL.toSeconds()));
+            args.add(Long.toString(TRENDING_SINCE_TTL.toSeconds()));
+            args.add(Long.toString(nowMillis));
+            args.addAll(songIdAndDeltas);
+            return reactiveRedisTemplate.execute(RECORD_TRENDING_SCRIPT, List.of(bucketKey, shard.trendingSinceKey()), args).then();
+        }).onErrorResume(e -> {
+            log.warn("[RedisStrategy] Failed to record trending bucket. songs={}, Error: {}", songIdAndDeltas.size() / 2, e.getMessage());
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * 인스턴스에서 미리 합산한 곡별 증감분을 버퍼와 분 버킷에 반영합니다. ({@link HybridLikeWriteStrategy})
+     *
+     * <p>곡마다 버퍼에 {@code HINCRBY}를 한 번 실행하며, 공유 커넥션에 최대 {@code PIPELINE_DEPTH}개의 명령을
+     * 응답을 기다리지 않고 연속 전송(파이프라이닝)합니다. 한 곡의 실패가 나머지 곡의 반영을 막지 않도록,
+     * 실패한 곡의 증감분은 {@code onFailure}로 돌려주고 계속 진행합니다.
+     * 분 버킷은 버퍼 반영에 성공한 곡만 샤드별로 {@code TRENDING_RECORD_CHUNK_SIZE}개씩 모아 기록합니다.</p>
+     *
+     * @return 반영에 실패한 곡 수
+     */
+    Mono<Long> recordDeltas(LongCountSnapshot deltas, LongLongConsumer onFailure) {
+        if (deltas.isEmpty()) {
+            return Mono.just(0L);
+        }
+        AtomicLong failed = new AtomicLong();
+        return Flux.range(0, deltas.size())
+                .flatMap(index -> {
+                    long songId = deltas.keyAt(index);
+                    long delta = deltas.countAt(index);
+                    return reactiveRedisTemplate.opsForHash().increment(shardOf(songId).bufferKey(), Long.toString(songId), delta)
+                            .map(v -> index)
+                            .onErrorResume(e -> {
+                                // 응답 전 타임아웃 등으로 실제로는 반영된 경우, 재시도 시 중복 반영될 수 있음 (recordLike와 동일)
+                                log.debug("[RedisStrategy] Failed to record delta. songId={}, delta={}", songId, delta, e);
+                                onFailure.accept(songId, delta);
+                                failed.incrementAndGet();
+                                return Mono.empty();
+                            });
+                }, PIPELINE_DEPTH)
+                .groupBy(index -> shardOf(deltas.keyAt(index)))
+                .flatMap(recorded -> recorded
+                        .buffer(TRENDING_RECORD_CHUNK_SIZE)
+                        .concatMap(indexes -> {
+                            List<String> songIdAndDeltas = new ArrayList<>(indexes.size() * 2);
+                            indexes.forEach(index -> {
+                                songIdAndDeltas.add(Long.toString(deltas.keyAt(index)));
+                                songIdAndDeltas.add(Long.toString(deltas.countAt(index)));
+                            });
+                            return recordTrending(recorded.key(), songIdAndDeltas);
+                        }), Integer.MAX_VALUE)
+                .then(Mono.fromSupplier(failed::get));
+    }
+
+    // 클러스터 전체 버퍼의 곡 수 (증감 횟수는 인스턴스별로 집계)
+    @Override
+    protected Mono<Long> pendingSongCount() {
+        return Flux.range(0, shardCount)
+                .flatMap(index -> reactiveRedisTemplate.opsForHash().size(BufferShard.of(index).bufferKey()))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 최근 {@code window} 동안의 분 버킷을 샤드별로 ZUNIONSTORE로 합산하여 클러스터 전체 기준 인기 곡을 조회합니다.
+     * * <ul>
+     * <li><b>Shard Merge:</b> 곡은 한 샤드에만 기록되므로, 샤드별 상위 {@code limit}개를 모아 점수순으로 다시 자르면 전체 상위 {@code limit}개와 같습니다.</li>
+     * <li><b>Union Cache:</b> 합산 결과를 짧은 TTL의 키에 저장하여, 동시에 들어온 조회 요청은 같은 결과를 재사용합니다.</li>
+     * <li><b>Warm-up:</b> 모든 샤드가 버킷 기록을 시작한 지 윈도우 크기만큼 지나지 않았다면 집계가 불완전하므로 빈 Mono를 반환합니다. (DB 집계로 대체)
+     * 기록 시작 시각은 마지막 기록 후 버킷보다 조금 길게 유지되므로, 좋아요가 한동안 없던 샤드가 있으면 그만큼 DB 집계가 이어집니다.</li>
+     * </ul>
+     */
+    @Override
+    public Mono<List<SongLikeScore>> findTopLiked(Duration window, int limit) {
+        long minutes = window.toMinutes();
+        if (minutes <= 0 || window.compareTo(TRENDING_MAX_WINDOW) > 0 || !window.equals(Duration.ofMinutes(minutes))) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            long nowMillis = clock.millis();
+            List<BufferShard> shards = IntStream.range(0, shardCount).mapToObj(BufferShard::of).toList();
+            return Flux.fromIterable(shards)
+                    .flatMap(shard -> reactiveRedisTemplate.opsForValue().get(shard.trendingSinceKey()).map(Long::parseLong))
+                    .filter(since -> nowMillis - since >= window.toMillis())
+                    .count()
+                    .filter(warmedUp -> warmedUp == shardCount)
+                    .flatMap(warmedUp -> Flux.fromIterable(shards)
+                            .flatMap(shard -> unionTrendingBuckets(shard, nowMillis, minutes)
+                                    .flatMapMany(unionKey -> reactiveRedisTemplate.opsForZSet()
+                                            .reverseRangeWithScores(unionKey, Range.closed(0L, (long) limit - 1)))
+                                    .takeWhile(tuple -> tuple.getScore() != null && tuple.getScore() > 0)
+                                    .map(this::toSongLikeScore))
+                            // 동점은 Redis의 역순 조회와 같이 멤버(문자열) 역순으로 정렬
+                            .sort(Comparator.comparingLong(SongLikeScore::likeCount)
+                                    .thenComparing(score -> Long.toString(score.songId()))
+                                    .reversed())
+                            .take(limit)
+                            .collectList());
+        });
+    }
+
+    private Mono<String> unionTrendingBuckets(BufferShard shard, long nowMillis, long minutes) {
+        long currentMinute = Math.floorDiv(nowMillis, Duration.ofMinutes(1).toMillis());
+        String unionKey = shard.trendingUnionKey(minutes, Math.floorDiv(nowMillis, TRENDING_UNION_CACHE.toMillis()));
+
+        return reactiveRedisTemplate.hasKey(unionKey)
+                .flatMap(cached -> {
+                    if (cached) return Mono.just(unionKey);
+
+                    List<String> bucketKeys = LongStream.rangeClosed(currentMinute - minutes + 1, currentMinute)
+                            .mapToObj(shard::trendingBucketKey)
+                            .toList();
+                    return reactiveRedisTemplate.opsForZSet()
+                            .unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), unionKey)
+                            .flatMap(size -> reactiveRedisTemplate.expire(unionKey, TRENDING_UNION_CACHE.multipliedBy(2)))
+                            .thenReturn(unionKey);
+                });
+    }
+
+    private SongLikeScore toSongLikeScore(ZSetOperations.TypedTuple<String> tuple) {
+        return new SongLikeScore(Long.parseLong(tuple.getValue()), tuple.getScore().longValue());
+    }
+
     /**
      * Redis 분산 락과 원자적 스위칭(Atomic Rename)을 이용한 좋아요 데이터 Flush 로직.
      * * <p>이 구현체는 다중 인스턴스 환경에서 데이터 정합성을 보장하고,
      * 예상치 못한 장애 발생 시에도 데이터 유실을 방지하기 위해 설계되었습니다.</p>
      * * <h3>주요 처리 프로세스:</h3>
      * <ul>
-     * <li><b>락 획득(Distributed Lock):</b> {@code LOCK_KEY}를 사용하여 중복 플러시를 방지합니다.
-     * 이미 락이 선점된 경우 작업을 즉시 종료합니다.</li>
-     * <li><b>장애 복구(Crash Recovery):</b> 작업 시작 전 {@code SNAPSHOT_KEY}의 존재를 확인합니다.
+     * <li><b>샤딩(Sharding):</b> 버퍼는 곡 ID 기준 {@code shardCount}개의 Hash로 나뉘며, 샤드마다 스냅샷 키와 락을 따로 가집니다.
+     * 인스턴스마다 샤드 순서를 섞어 순회하므로, 여러 인스턴스가 서로 다른 샤드를 병렬로 Flush 합니다.</li>
+     * <li><b>락 획득(Distributed Lock):</b> 샤드별 락으로 같은 샤드의 중복 플러시를 방지합니다.
+     * 이미 락이 선점된 샤드는 건너뜁니다.</li>
+     * <li><b>장애 복구(Crash Recovery):</b> 작업 시작 전 샤드의 스냅샷 키 존재를 확인합니다.
      * 이전 작업이 DB 반영 직전 실패했다면, 새 스냅샷을 뜨지 않고 기존 스냅샷을 먼저 재처리(Resume)합니다.</li>
      * <li><b>원자적 스냅샷(Atomic Snapshot):</b> Redis의 {@code RENAME} 명령어를 사용하여
-     * 버퍼 데이터를 스냅샷 키로 즉시 격리합니다. 이 과정은 원자적으로 실행되어 데이터 유입의 공백을 없앱니다.</li>
-     * <li><b>타임아웃 및 가용성:</b> {@code LOCK_EXPIRY}를 통해 특정 인스턴스의 지연이
-     * 전체 시스템의 차단으로 이어지지 않도록 방어하며, 작업 완료 후에만 락을 명시적으로 해제합니다.</li>
+     * 버퍼 데이터를 스냅샷 키로 즉시 격리합니다. 버퍼/스냅샷/락 키는 같은 Hash Tag({n})를 사용하여 같은 슬롯에 위치합니다.</li>
+     * <li><b>청크 단위 반영(Chunked Drain):</b> 스냅샷은 최대 {@code BATCH_WRITER_BUFFER_SIZE}개씩 처리 중 청크 키로 옮겨(HDEL)
+     * 청크마다 별도 트랜잭션으로 반영하고 {@code UNLINK}로 정리합니다. 스냅샷이 아무리 커도 한 트랜잭션이나 한 번의 DEL로 처리하지 않습니다.</li>
+     * <li><b>진행 기록(Checkpoint):</b> HSCAN 커서와 청크 ID는 Redis에 기록되어, 중단된 작업은 처리 중 청크부터 이어서 진행합니다.
+     * 청크 ID는 DB 반영과 같은 트랜잭션에서 기록되므로, DB 커밋 후 Redis 정리 전에 중단되어도 같은 청크가 두 번 반영되지 않습니다.</li>
+     * <li><b>타임아웃 및 가용성:</b> 락은 {@code LOCK_EXPIRY}로 만료되며, 청크를 반영할 때마다 소유자 확인 후 연장합니다.
+     * 청크 하나가 {@code LOCK_EXPIRY} 안에 끝나지 않거나 락을 잃으면 중단하고, 작업 완료 후에만 락을 명시적으로 해제합니다.</li>
      * </ul>
+     * <p>샤딩 이전의 단일 버퍼({@code jukebox:like:buffer})가 남아 있으면 함께 Flush 합니다.</p>
      */
     @Override
     protected Mono<Void> flushToDatabase() {
         return Mono.defer(() -> {
             long startTime = System.currentTimeMillis();
+            List<BufferShard> shards = new ArrayList<>(shardCount + 1);
+            shards.add(BufferShard.LEGACY);
+            for (int i = 0; i < shardCount; i++) {
+                shards.add(BufferShard.of(i));
+            }
+            Collections.shuffle(shards);
 
-            return reactiveRedisTemplate.opsForValue()
-                    .setIfAbsent(LOCK_KEY, SERVER_ID, LOCK_EXPIRY)
-                    .filter(Boolean.TRUE::equals)
-                    // 락을 획득하지 못한 경우
-                    .switchIfEmpty(Mono.fromRunnable(() -> log.debug("[RedisStrategy] Flush skip: lock held by another instance")))
-                    // 락 획득에 성공한 경우
-                    .flatMap(isLocked -> executeFlush()
-                            .then(Mono.defer(() -> reactiveRedisTemplate.delete(LOCK_KEY)))
-                            .doOnSuccess(v -> log.info("[RedisStrategy] Flush completed in {} ms", System.currentTimeMillis() - startTime))
-                            .onErrorResume(e -> reactiveRedisTemplate.delete(LOCK_KEY).then(Mono.error(e)))
-                    ).then();
+            // 한 샤드의 실패가 다른 샤드의 Flush를 막지 않도록 에러는 모든 샤드 처리 후 전파
+            return Flux.fromIterable(shards)
+                    .flatMapDelayError(this::flushShard, FLUSH_CONCURRENCY, 1)
+                    .then()
+                    .doOnSuccess(v -> log.info("[RedisStrategy] Flush completed in {} ms", System.currentTimeMillis() - startTime));
         });
     }
 
-    private Mono<Void> executeFlush() {
-        return reactiveRedisTemplate.hasKey(SNAPSHOT_KEY)
+    private Mono<Void> flushShard(BufferShard shard) {
+        return reactiveRedisTemplate.opsForValue()
+                .setIfAbsent(shard.lockKey(), lockOwner, LOCK_EXPIRY)
+                .filter(Boolean.TRUE::equals)
+                // 락을 획득하지 못한 경우
+                .switchIfEmpty(Mono.fromRunnable(() -> log.debug("[RedisStrategy] Flush skip: lock held by another instance. shard={}", shard.bufferKey())))
+                // 락 획득에 성공한 경우
+                .flatMap(isLocked -> executeFlush(shard)
+                        .then(Mono.defer(() -> releaseLock(shard)))
+                        .onErrorResume(e -> releaseLock(shard).then(Mono.error(e)))
+                ).then();
+    }
+
+    private Mono<Void> releaseLock(BufferShard shard) {
+        return reactiveRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(shard.lockKey()), List.of(lockOwner)).then();
+    }
+
+    private Mono<Void> renewLock(BufferShard shard) {
+        return reactiveRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(shard.lockKey()), List.of(lockOwner, String.valueOf(LOCK_EXPIRY.toMillis())))
+                .next()
+                .filter(renewed -> renewed == 1L)
+                .switchIfEmpty(Mono.error(new IllegalStateException("Flush lock lost. shard=" + shard.bufferKey())))
+                .then();
+    }
+
+    private Mono<Void> executeFlush(BufferShard shard) {
+        return Mono.zip(reactiveRedisTemplate.hasKey(shard.snapshotKey()), reactiveRedisTemplate.hasKey(shard.inflightKey()),
+                        (hasSnapshot, hasInflight) -> hasSnapshot || hasInflight)
                 .flatMap(hasSnapshot -> {
-                    if (hasSnapshot) { // 과거 미처리된 스냅샷이 존재하는 경우
-                        log.warn("[RedisStrategy] Resume: Processing existing snapshot");
-                        return processSnapshot();
+                    if (hasSnapshot) { // 과거 미처리된 스냅샷(또는 처리 중 청크)이 존재하는 경우
+                        log.warn("[RedisStrategy] Resume: Processing existing snapshot. shard={}", shard.bufferKey());
+                        return processSnapshot(shard);
                     }
-                    return reactiveRedisTemplate.hasKey(REDIS_KEY)
+                    return reactiveRedisTemplate.hasKey(shard.bufferKey())
                             .filter(exists -> exists)
                             .flatMap(exists -> {
-                                log.debug("[RedisStrategy] Preparing snapshot for flush. Starting rename operation.");
-                                return reactiveRedisTemplate.rename(REDIS_KEY, SNAPSHOT_KEY);
+                                log.debug("[RedisStrategy] Preparing snapshot for flush. Starting rename operation. shard={}", shard.bufferKey());
+                                return reactiveRedisTemplate.rename(shard.bufferKey(), shard.snapshotKey());
                             })
                             .flatMap(renamed -> {
-                                log.debug("[RedisStrategy] Rename successful: Preparing to process snapshot (snapshot -> DB).");
-                                return processSnapshot();
+                                log.debug("[RedisStrategy] Rename successful: Preparing to process snapshot (snapshot -> DB). shard={}", shard.bufferKey());
+                                return processSnapshot(shard);
                             });
                 })
-                .doOnError(e -> log.error("[RedisStrategy] Flush failed! Error: {}", e.getMessage()));
-    }
-
-    private Mono<Void> processSnapshot() {
-        ScanOptions options = ScanOptions.scanOptions().count(BATCH_WRITER_BUFFER_SIZE).build();
-        return reactiveRedisTemplate.opsForHash().scan(SNAPSHOT_KEY, options)
-                .buffer(BATCH_WRITER_BUFFER_SIZE)
-                .flatMap(entries -> {
-                    Map<Long, Long> snapshotMap = convertToSnapshotMap(entries);
-                    if (snapshotMap.isEmpty()) return Mono.empty();
-                    log.debug("[RedisStrategy] Writing batch of {} items to DB", snapshotMap.size());
-                    return likeBatchWriter.apply(snapshotMap);
-                })
-                .as(transactionalOperator::transactional)
-                .then(Mono.defer(() -> reactiveRedisTemplate.delete(SNAPSHOT_KEY)))
-                .timeout(LOCK_EXPIRY, Mono.error(new RuntimeException("Snapshot processing exceeded lock expiry time")))
-                .doOnSuccess(v -> log.debug("[RedisStrategy] Snapshot flush processed successfully"))
-                .doOnError(e -> log.error("[RedisStrategy] Flush failed, snapshot preserved.", e))
+                .doOnError(e -> log.error("[RedisStrategy] Flush failed! shard={}, Error: {}", shard.bufferKey(), e.getMessage()));
+    }
+
+    // 처리 중 청크 반영 -> 락 연장 -> 다음 청크 이동을 스냅샷이 빌 때까지 반복 (옮긴 항목 없이 스캔만 진행한 경우도 계속)
+    private Mono<Void> processSnapshot(BufferShard shard) {
+        return Mono.defer(() -> processInflight(shard)
+                        .then(renewLock(shard))
+                        .then(takeChunk(shard)))
+                .repeat()
+                .takeWhile(moved -> moved > 0 || moved == SNAPSHOT_NOT_DRAINED)
+                .then()
+                .doOnSuccess(v -> log.debug("[RedisStrategy] Snapshot flush processed successfully. shard={}", shard.bufferKey()))
+                .doOnError(e -> log.error("[RedisStrategy] Flush failed, snapshot preserved. shard={}", shard.bufferKey(), e));
+    }
+
+    private Mono<Long> takeChunk(BufferShard shard) {
+        String chunkId = shard.bufferKey() + ":" + UUID.randomUUID();
+        return reactiveRedisTemplate.execute(TAKE_CHUNK_SCRIPT,
+                        List.of(shard.snapshotKey(), shard.inflightKey(), shard.progressKey()),
+                        List.of(String.valueOf(BATCH_WRITER_BUFFER_SIZE), chunkId, String.valueOf(TAKE_CHUNK_MAX_SCANS)))
+                .next()
+                .flatMap(moved -> moved == CHUNK_IN_FLIGHT
+                        ? Mono.error(new IllegalStateException("Previous chunk is still in flight. shard=" + shard.bufferKey()))
+                        : Mono.just(moved));
+    }
+
+    // 처리 중 청크를 하나의 트랜잭션으로 반영. 청크 ID가 이미 기록되어 있으면(반영 후 정리 전 중단) DB 반영 없이 정리만 수행
+    private Mono<Void> processInflight(BufferShard shard) {
+        return reactiveRedisTemplate.opsForHash().get(shard.progressKey(), "chunk")
+                .map(Object::toString)
+                .flatMap(chunkId -> reactiveRedisTemplate.opsForHash().entries(shard.inflightKey())
+                        .collectList()
+                        .flatMap(entries -> {
+                            Map<Long, Long> chunk = convertToSnapshotMap(entries);
+                            if (chunk.isEmpty()) return Mono.empty();
+                            log.debug("[RedisStrategy] Writing chunk of {} items to DB. chunk={}", chunk.size(), chunkId);
+                            return chunkCheckpoint.apply(chunkId)
+                                    .flatMap(claimed -> {
+                                        if (!claimed) {
+                                            log.warn("[RedisStrategy] Chunk already applied, skipping DB write. chunk={}", chunkId);
+                                            return Mono.empty();
+                                        }
+                                        return likeBatchWriter.apply(chunk);
+                                    })
+                                    .as(transactionalOperator::transactional);
+                        })
+                        .timeout(LOCK_EXPIRY, Mono.error(new RuntimeException("Chunk processing exceeded lock expiry time")))
+                        .then(reactiveRedisTemplate.execute(COMPLETE_CHUNK_SCRIPT, List.of(shard.inflightKey(), shard.progressKey())).then()))
                 .then();
     }
 
+    private BufferShard shardOf(Long songId) {
+        long mixed = songId * 0x9E3779B97F4A7C15L; // TSID 등 하위 비트 편향이 있는 ID를 고르게 분산
+        return BufferShard.of((int) Math.floorMod(mixed ^ (mixed >>> 32), (long) shardCount));
+    }
+
     private Map<Long, Long> convertToSnapshotMap(List<Map.Entry<Object, Object>> entries) {
         return entries.stream()
                 .map(entry -> {
@@ -139,4 +716,34 @@ public class RedisLikeWriteStrategy extends LikeWriteStrategy {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v1));
     }
 
+
+    // 샤드별 버퍼/스냅샷/락/좋아요 상태 키. Redis Cluster에서 RENAME과 Lua 스크립트가 가능하도록 Hash Tag로 같은 슬롯에 배치
+    // 인기 곡 분 버킷도 같은 Hash Tag를 사용하여 샤드 단위로 나눔
+    private record BufferShard(String bufferKey, String snapshotKey, String inflightKey, String progressKey, String lockKey,
+                               String stateKeyPrefix, String trendingKeyPrefix) {
+
+        private static final BufferShard LEGACY = of(REDIS_KEY, LOCK_KEY, STATE_KEY_PREFIX + ":", TRENDING_KEY_PREFIX + ":");
+
+        private static BufferShard of(int index) {
+            String tag = ":{" + index + "}";
+            return of(REDIS_KEY + tag, LOCK_KEY + tag, STATE_KEY_PREFIX + tag + ":", TRENDING_KEY_PREFIX + tag + ":");
+        }
+
+        private static BufferShard of(String bufferKey, String lockKey, String stateKeyPrefix, String trendingKeyPrefix) {
+            return new BufferShard(bufferKey, bufferKey + SNAPSHOT_SUFFIX, bufferKey + INFLIGHT_SUFFIX, bufferKey + PROGRESS_SUFFIX, lockKey,
+                    stateKeyPrefix, trendingKeyPrefix);
+        }
+
+        private String trendingBucketKey(long epochMinute) {
+            return trendingKeyPrefix + epochMinute;
+        }
+
+        private String trendingSinceKey() {
+            return trendingKeyPrefix + TRENDING_SINCE_SUFFIX;
+        }
+
+        private String trendingUnionKey(long minutes, long cacheSlot) {
+            return trendingKeyPrefix + TRENDING_UNION_SUFFIX + minutes + ":" + cacheSlot;
+        }
+    }
 }
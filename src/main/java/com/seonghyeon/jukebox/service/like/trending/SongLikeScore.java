@@ -0,0 +1,7 @@
+package com.seonghyeon.jukebox.service.like.trending;
+
+public record SongLikeScore(
+        Long songId,
+        long likeCount
+) {
+}
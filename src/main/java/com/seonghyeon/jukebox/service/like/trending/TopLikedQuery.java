@@ -0,0 +1,9 @@
+package com.seonghyeon.jukebox.service.like.trending;
+
+import java.time.Duration;
+
+public record TopLikedQuery(
+        Duration window,
+        int limit
+) {
+}
@@ -0,0 +1,126 @@
+package com.seonghyeon.jukebox.service.like.trending;
+
+import com.seonghyeon.jukebox.common.collection.ConcurrentLongCountMap;
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 N분 동안의 곡별 좋아요 증감을 분 단위 링 버퍼로 집계하는 슬라이딩 윈도우 카운터.
+ *
+ * <ul>
+ * <li><b>Ring Buffer:</b> 윈도우 크기(분)만큼의 버킷을 순환하며, 분이 바뀌면 가장 오래된 버킷을 만료시킵니다.</li>
+ * <li><b>Window Totals:</b> 버킷 기록 시 윈도우 합계도 함께 갱신하고, 만료 시 해당 버킷 값을 차감하여
+ * 조회 시점에 버킷을 다시 합산하지 않습니다.</li>
+ * <li><b>Top-K:</b> 크기 K의 최소 힙으로 윈도우 합계 상위 곡을 선별합니다. (좋아요 합계가 0 이하인 곡 제외)</li>
+ * <li><b>Primitive:</b> 버킷과 윈도우 합계는 {@link ConcurrentLongCountMap}이므로, 좋아요 요청 경로의 기록에서 boxing과 노드/LongAdder 할당이 없습니다.
+ * 만료된 버킷은 비우는 대신 새 Map으로 교체합니다.</li>
+ * </ul>
+ *
+ * <p>윈도우는 '현재 분을 포함한 최근 N개의 분 버킷'이므로 정확한 시각 기준 윈도우와 최대 1분의 오차가 있습니다.
+ * 또한 기동 직후에는 이전 데이터가 없으므로 {@link #covers(Duration)}가 false를 반환합니다.</p>
+ */
+public class TrendingLikeCounter {
+
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final int INITIAL_BUCKET_SIZE = 256;
+
+    private final Clock clock;
+    private final Duration window;
+    private final Instant startedAt;
+    private final AtomicReferenceArray<ConcurrentLongCountMap> ring;
+
+    // 윈도우 내 곡별 합계. 합계가 0이 된 항목도 제거하지 않음 (최대 카탈로그 크기로 제한)
+    private final ConcurrentLongCountMap windowTotals = new ConcurrentLongCountMap(INITIAL_BUCKET_SIZE);
+
+    private volatile long currentMinute;
+
+    public TrendingLikeCounter(Duration window, Clock clock) {
+        if (window.toMinutes() <= 0) throw new IllegalArgumentException("Window must be at least one minute.");
+        this.clock = clock;
+        this.window = Duration.ofMinutes(window.toMinutes());
+        this.startedAt = clock.instant();
+        this.ring = new AtomicReferenceArray<>((int) this.window.toMinutes());
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, new ConcurrentLongCountMap(INITIAL_BUCKET_SIZE));
+        }
+        this.currentMinute = minuteOf(clock.millis());
+    }
+
+    public void record(long songId, long delta) {
+        long minute = advance();
+        ring.get(indexOf(minute)).add(songId, delta);
+        windowTotals.add(songId, delta);
+    }
+
+    /**
+     * 요청한 윈도우를 이 카운터로 정확히 응답할 수 있는지 여부.
+     * 윈도우 크기가 일치하고, 기동 후 윈도우 크기 이상의 시간이 지나 데이터가 채워진 경우에만 true.
+     */
+    public boolean covers(Duration requested) {
+        return window.equals(requested) && !clock.instant().isBefore(startedAt.plus(window));
+    }
+
+    public List<SongLikeScore> topLiked(int limit) {
+        if (limit <= 0) return List.of();
+        advance();
+
+        PriorityQueue<SongLikeScore> heap = new PriorityQueue<>(limit, Comparator.comparingLong(SongLikeScore::likeCount));
+        windowTotals.snapshot().forEach((songId, likeCount) -> {
+            if (likeCount <= 0) return;
+            if (heap.size() < limit) {
+                heap.offer(new SongLikeScore(songId, likeCount));
+            } else if (likeCount > heap.peek().likeCount()) {
+                heap.poll();
+                heap.offer(new SongLikeScore(songId, likeCount));
+            }
+        });
+
+        List<SongLikeScore> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingLong(SongLikeScore::likeCount).reversed());
+        return result;
+    }
+
+    // 현재 분까지 링을 전진시키며 윈도우를 벗어난 버킷을 만료
+    private long advance() {
+        long now = minuteOf(clock.millis());
+        if (now <= currentMinute) {
+            return currentMinute;
+        }
+        synchronized (this) {
+            long current = currentMinute;
+            if (now > current) {
+                long steps = Math.min(now - current, ring.length());
+                for (long i = 1; i <= steps; i++) {
+                    expire(indexOf(current + i));
+                }
+                currentMinute = now;
+            }
+            return currentMinute;
+        }
+    }
+
+    // 만료할 버킷을 새 Map으로 교체하고, 교체된 버킷의 값을 윈도우 합계에서 차감
+    private void expire(int index) {
+        ConcurrentLongCountMap expired = ring.getAndSet(index, new ConcurrentLongCountMap(INITIAL_BUCKET_SIZE));
+        LongCountSnapshot counts = expired.snapshot();
+        for (int i = 0; i < counts.size(); i++) {
+            windowTotals.add(counts.keyAt(i), -counts.countAt(i));
+        }
+    }
+
+    private int indexOf(long minute) {
+        return (int) Math.floorMod(minute, (long) ring.length());
+    }
+
+    private static long minuteOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, BUCKET_MILLIS);
+    }
+}
@@ -0,0 +1,107 @@
+package com.seonghyeon.jukebox.service.song;
+
+import com.seonghyeon.jukebox.common.collection.ConcurrentLongHashSet;
+import com.seonghyeon.jukebox.repository.SongRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 곡 존재 여부를 DB 조회 없이 판별하기 위한 인메모리 곡 ID 인덱스.
+ *
+ * <p>카탈로그는 데이터 적재 시점에만 변경되므로, 적재 완료 후 {@link #rebuild()}로 전체 ID를 구축하고
+ * 이후 적재분은 {@link #addAll(Collection)}으로 반영합니다.</p>
+ * <ul>
+ * <li><b>Hit:</b> 인덱스에 존재하는 곡은 DB 조회 없이 즉시 존재로 판별합니다. (곡 삭제 API 없음)</li>
+ * <li><b>Miss:</b> 구축 완료 후에는 인덱스가 전체 카탈로그이므로 DB 조회 없이 미존재로 판별합니다.
+ * 구축 전이거나 구축에 실패한 경우에만 DB로 확인하고, 존재하면 인덱스에 추가합니다.</li>
+ * </ul>
+ * <p>곡은 {@link com.seonghyeon.jukebox.dataloader.SongBatchWriter}를 통해서만 추가되며, 커밋 후 {@link #addAll(Collection)}로 반영되므로 구축 이후 적재분도 누락되지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongCatalogIndex {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final SongRepository songRepository;
+    private final DatabaseClient databaseClient;
+
+    private final ConcurrentLongHashSet songIds = new ConcurrentLongHashSet(INITIAL_CAPACITY);
+
+    /// 전체 ID 구축 완료 여부. 완료 전에는 Miss를 DB로 확인
+    private volatile boolean complete;
+
+    public Mono<Boolean> exists(Long songId) {
+        if (songIds.contains(songId)) {
+            return Mono.just(true);
+        }
+        if (complete) {
+            return Mono.just(false);
+        }
+        return songRepository.existsById(songId)
+                .doOnNext(exists -> {
+                    if (exists) songIds.add(songId);
+                });
+    }
+
+    /**
+     * 주어진 곡 중 존재하는 곡 ID를 반환합니다. 인덱스에 없는 곡은 한 번의 IN 조회로 확인합니다.
+     */
+    public Mono<Set<Long>> existingIds(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            if (songIds.contains(id)) existing.add(id);
+            else misses.add(id);
+        }
+        if (misses.isEmpty() || complete) {
+            return Mono.just(existing);
+        }
+        return songRepository.findExistingIds(misses)
+                .doOnNext(songIds::add)
+                .collect(() -> existing, Set::add);
+    }
+
+    public void addAll(Collection<Long> ids) {
+        ids.forEach(songIds::add);
+    }
+
+    /**
+     * songs 테이블의 전체 ID를 스트리밍으로 읽어 인덱스를 구축합니다. (호출 스레드 블로킹)
+     *
+     * <p>실패하면 구축 전 상태로 남아 Miss를 계속 DB로 확인합니다.</p>
+     */
+    public void rebuild() {
+        long startMillis = System.currentTimeMillis();
+        try {
+            databaseClient.sql("SELECT id FROM songs")
+                    .map(row -> row.get("id", Long.class))
+                    .all()
+                    .doOnNext(songIds::add)
+                    .then()
+                    .block();
+            complete = true;
+            log.info("[SongCatalogIndex] Index built: {} songs in {} ms", songIds.size(), System.currentTimeMillis() - startMillis);
+        } catch (RuntimeException e) {
+            log.error("[SongCatalogIndex] Failed to build index, falling back to database for misses", e);
+        }
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int size() {
+        return songIds.size();
+    }
+}
@@ -72,27 +72,40 @@ create table song_statistics
         primary key,
     release_year int           not null,
     artist       varchar(1000) not null,
-    album_count  int           not null
+    album_count  int           not null,
+    artist_hash  binary(32) as (unhex(sha2(weight_string(artist), 256))) stored comment '가수명 콜레이션 정렬 키의 SHA-256 (유니크 키용)'
 );
 
+-- 적재 시 (연도, 가수)별 증분 반영(upsert) 기준. artist는 길이 제한으로 유니크 인덱스에 직접 사용할 수 없어 해시 사용
+-- 원문이 아닌 콜레이션 정렬 키(WEIGHT_STRING)를 해시하므로, 대소문자/악센트만 다른 가수명은 GROUP BY artist와 같이 하나의 행으로 묶임
+create unique index uk_song_statistics_release_year_artist_hash
+    on song_statistics (release_year, artist_hash);
+
 create index idx_song_statistics_release_year_artist
     on song_statistics (release_year desc, artist(100));
 
+-- 앨범 수 정렬의 커서 기반 조회용 (앨범 수가 같으면 id 순)
+create index idx_song_statistics_album_count
+    on song_statistics (album_count desc, id);
+
 
 drop table if exists song_likes;
 
+-- created_at 기준 일 단위 Range 파티션 (SongLikePartitionManager가 이후 파티션 추가, 보관 기간이 지난 파티션 압축 후 삭제)
+-- 파티션 테이블은 외래 키를 지원하지 않으며, 기본 키에 파티션 컬럼이 포함되어야 함
 create table song_likes
 (
-    id         bigint auto_increment
-        primary key,
+    id         bigint auto_increment,
     song_id    bigint      not null comment '노래 id',
     user_id    bigint      not null comment '사용자 id',
     action     varchar(20) not null comment 'like 또는 unlike',
     created_at datetime(6) not null default current_timestamp(6) comment '생성 일시',
-    constraint fk_song_likes_song_id
-        foreign key (song_id) references songs (id)
-            on delete cascade
-);
+    primary key (id, created_at)
+)
+    partition by range columns (created_at) (
+        partition p19700101 values less than ('1970-01-02'),
+        partition p_max values less than (maxvalue)
+    );
 
 create index idx_song_likes_song_id_user_id
     on song_likes (song_id, user_id);
@@ -100,4 +113,75 @@ create index idx_song_likes_song_id_user_id
 create index idx_song_likes_created_at
     on song_likes (created_at);
 
+drop table if exists song_like_compacted_states;
+
+create table song_like_compacted_states
+(
+    song_id     bigint not null comment '노래 id',
+    user_id     bigint not null comment '사용자 id',
+    like_status int    not null comment '압축된 이력의 좋아요 순증감 (1: 좋아요 상태)',
+    primary key (song_id, user_id)
+);
+
+drop table if exists song_like_compaction_watermark;
+
+create table song_like_compaction_watermark
+(
+    id              tinyint  primary key,
+    compacted_until datetime not null comment '이 시각 이전이면서 compacted_id 이하인 좋아요 이력은 song_like_compacted_states에 압축됨 (일 단위)',
+    compacted_id    bigint   not null comment '압축된 이력의 id 상한 (롤업 워터마크 이하, 이후 기록된 늦은 이력은 다음 압축에서 합산)'
+);
+
+insert into song_like_compaction_watermark (id, compacted_until, compacted_id)
+values (1, '1970-01-01 00:00:00', 0);
+
+drop table if exists user_song_likes;
+
+create table user_song_likes
+(
+    song_id    bigint      not null comment '노래 id',
+    user_id    bigint      not null comment '사용자 id',
+    liked      tinyint(1)  not null comment '현재 좋아요 상태 (1: 좋아요, 0: 취소)',
+    updated_at datetime(6) not null default current_timestamp(6) on update current_timestamp(6) comment '최종 변경 일시',
+    primary key (song_id, user_id)
+);
+
+drop table if exists song_like_rollups;
+
+create table song_like_rollups
+(
+    song_id      bigint   not null comment '노래 id',
+    bucket_start datetime not null comment '집계 구간 시작 일시 (분 단위)',
+    like_count   bigint   not null comment '구간 내 좋아요 순증감',
+    primary key (song_id, bucket_start)
+);
+
+create index idx_song_like_rollups_bucket_start
+    on song_like_rollups (bucket_start);
+
+drop table if exists song_like_rollup_watermark;
+
+-- created_at은 클라이언트 시각이고 이력은 늦게 기록될 수 있으므로, 삽입 순서인 song_likes.id를 기준으로 롤업
+create table song_like_rollup_watermark
+(
+    id           tinyint     primary key,
+    rolled_up_id bigint      not null comment '이 id 이하의 좋아요 이력은 롤업에 반영됨',
+    observed_id  bigint      not null comment '다음 롤업 범위의 끝 (관측 시점의 song_likes 최대 id)',
+    observed_at  datetime(6) not null comment 'observed_id 관측 일시'
+);
+
+insert into song_like_rollup_watermark (id, rolled_up_id, observed_id, observed_at)
+values (1, 0, 0, '1970-01-01 00:00:00');
+
+drop table if exists like_flush_checkpoints;
+
+create table like_flush_checkpoints
+(
+    chunk_id   varchar(100) primary key comment '좋아요 버퍼 Flush 청크 ID',
+    created_at datetime     not null comment '반영 일시'
+);
+
+create index idx_like_flush_checkpoints_created_at
+    on like_flush_checkpoints (created_at);
+
 SET foreign_key_checks = 1;
@@ -0,0 +1,178 @@
+package com.seonghyeon.jukebox.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(3);
+    private static final Duration MAX_STALE = Duration.ofSeconds(30);
+
+    private MutableClock clock;
+    private SingleFlightCache<String, String> cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-30T10:00:00Z"));
+        cache = new SingleFlightCache<>(TTL, MAX_STALE, clock);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("동시에 발생한 Miss는 하나의 로드로 합쳐진다")
+    void coalesceConcurrentMisses() {
+        // given: 완료되지 않은 로드
+        Sinks.One<String> pending = Sinks.one();
+        Mono<String> first = cache.get("key", k -> {
+            loadCount.incrementAndGet();
+            return pending.asMono();
+        });
+        Mono<String> second = cache.get("key", k -> {
+            loadCount.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        // when
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue("value"))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo("value");
+                    assertThat(tuple.getT2()).isEqualTo("value");
+                })
+                .verifyComplete();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이내에는 다시 로드하지 않고 캐시된 값을 반환한다")
+    void freshHit() {
+        // given
+        cache.get("key", this::loadValue).block();
+
+        // when
+        clock.advance(TTL.minusMillis(1));
+
+        // then
+        StepVerifier.create(cache.get("key", this::loadValue)).expectNext("value-1").verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 값은 즉시 반환하고, 백그라운드에서 한 번 갱신한다")
+    void serveStaleWhileRevalidate() {
+        // given
+        cache.get("key", this::loadValue).block();
+        clock.advance(TTL);
+
+        // when & then: 기존 값을 반환하며 갱신 수행
+        StepVerifier.create(cache.get("key", this::loadValue)).expectNext("value-1").verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(2);
+
+        // 갱신된 값 반환
+        StepVerifier.create(cache.get("key", this::loadValue)).expectNext("value-2").verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 기존 값을 계속 반환한다")
+    void keepStaleValueOnRefreshFailure() {
+        // given
+        cache.get("key", this::loadValue).block();
+        clock.advance(TTL);
+
+        // when
+        StepVerifier.create(cache.get("key", k -> Mono.error(new RuntimeException("DB down"))))
+                .expectNext("value-1")
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(cache.get("key", k -> Mono.error(new RuntimeException("DB down"))))
+                .expectNext("value-1")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("maxStale을 넘은 값은 반환하지 않고 새로 로드한 값을 기다린다")
+    void reloadAfterMaxStale() {
+        // given
+        cache.get("key", this::loadValue).block();
+
+        // when
+        clock.advance(TTL.plus(MAX_STALE));
+
+        // then
+        StepVerifier.create(cache.get("key", this::loadValue)).expectNext("value-2").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Miss 로드가 실패하면 에러를 전달하고, 실패는 캐시하지 않는다")
+    void doNotCacheFailure() {
+        StepVerifier.create(cache.get("key", k -> Mono.error(new RuntimeException("DB down"))))
+                .expectErrorMessage("DB down")
+                .verify();
+
+        StepVerifier.create(cache.get("key", this::loadValue)).expectNext("value-1").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("TTL이 0이면 캐시하지 않는다")
+    void disabledWhenTtlIsZero() {
+        // given
+        SingleFlightCache<String, String> disabled = new SingleFlightCache<>(Duration.ZERO, Duration.ZERO, clock);
+
+        // when
+        disabled.get("key", this::loadValue).block();
+        disabled.get("key", this::loadValue).block();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private Mono<String> loadValue(String key) {
+        return Mono.fromSupplier(() -> "value-" + loadCount.incrementAndGet());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
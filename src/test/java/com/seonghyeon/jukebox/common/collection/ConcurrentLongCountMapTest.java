@@ -0,0 +1,108 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLongCountMapTest {
+
+    @Test
+    @DisplayName("키별 증감분이 누적되고, 스냅샷은 0이 아닌 항목을 키 오름차순으로 반환한다")
+    void addAndSnapshot() {
+        // given
+        ConcurrentLongCountMap map = new ConcurrentLongCountMap(4);
+
+        // when
+        map.add(794169986393843584L, 1L);
+        map.add(794169986393843584L, 1L);
+        map.add(3L, -1L);
+        map.add(2L, 1L);
+        map.add(2L, -1L); // 합계 0
+        map.add(0L, 5L); // 빈 슬롯 표시값
+        map.add(-7L, 1L); // 음수 키
+
+        // then
+        assertThat(map.get(794169986393843584L)).isEqualTo(2L);
+        assertThat(map.get(1L)).isZero();
+        assertThat(map.size()).isEqualTo(5);
+
+        LongCountSnapshot snapshot = map.snapshot();
+        assertThat(snapshot.size()).isEqualTo(4);
+        assertThat(snapshot.keyAt(0)).isEqualTo(-7L);
+        assertThat(snapshot.keyAt(1)).isEqualTo(0L);
+        assertThat(snapshot.keyAt(2)).isEqualTo(3L);
+        assertThat(snapshot.keyAt(3)).isEqualTo(794169986393843584L);
+        assertThat(snapshot.toMap()).containsExactlyInAnyOrderEntriesOf(Map.of(-7L, 1L, 0L, 5L, 3L, -1L, 794169986393843584L, 2L));
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘어도 Stripe가 확장되며 값이 유지된다")
+    void growBeyondExpectedSize() {
+        // given
+        ConcurrentLongCountMap map = new ConcurrentLongCountMap(16, 2);
+
+        // when
+        for (long key = 1; key <= 100_000; key++) {
+            map.add(key, key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(100_000);
+        for (long key = 1; key <= 100_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key);
+        }
+        assertThat(map.snapshot().size()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 같은 키와 새 키를 증감해도 유실 없이 합산된다 (확장 중 포함)")
+    void concurrentAdd() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        int keysPerThread = 20_000;
+        ConcurrentLongCountMap map = new ConcurrentLongCountMap(16, 4);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when: 모든 스레드가 같은 키 범위를 증가시킴
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (long key = 1; key <= keysPerThread; key++) {
+                        map.add(key, 1L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(map.size()).isEqualTo(keysPerThread);
+        LongCountSnapshot snapshot = map.snapshot();
+        assertThat(snapshot.size()).isEqualTo(keysPerThread);
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertThat(snapshot.countAt(i)).isEqualTo(threadCount);
+        }
+    }
+
+    @Test
+    @DisplayName("Map에서 만든 스냅샷은 0인 항목을 제외하고 키 오름차순으로 정렬된다")
+    void snapshotFromMap() {
+        // when
+        LongCountSnapshot snapshot = LongCountSnapshot.of(Map.of(5L, 1L, 1L, -2L, 3L, 0L));
+
+        // then
+        assertThat(snapshot).isEqualTo(LongCountSnapshot.of(Map.of(1L, -2L, 5L, 1L)));
+        assertThat(snapshot.keyAt(0)).isEqualTo(1L);
+        assertThat(snapshot.countAt(0)).isEqualTo(-2L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLongHashSetTest {
+
+    @Test
+    @DisplayName("추가한 값만 포함되며, 중복 추가는 무시된다")
+    void addAndContains() {
+        // given
+        ConcurrentLongHashSet set = new ConcurrentLongHashSet(4);
+
+        // when
+        boolean first = set.add(794169986393843584L);
+        boolean duplicated = set.add(794169986393843584L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(set.contains(794169986393843584L)).isTrue();
+        assertThat(set.contains(794169986393843585L)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 슬롯 표시값(0)과 음수도 정상적으로 저장된다")
+    void zeroAndNegativeValues() {
+        // given
+        ConcurrentLongHashSet set = new ConcurrentLongHashSet(4);
+
+        // when
+        set.add(0L);
+        set.add(-1L);
+
+        // then
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("초기 용량을 초과해도 확장 후 모든 값을 조회할 수 있다")
+    void resizeKeepsAllValues() {
+        // given
+        ConcurrentLongHashSet set = new ConcurrentLongHashSet(0);
+
+        // when
+        for (long i = 1; i <= 100_000; i++) {
+            set.add(i * 31);
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(100_000);
+        for (long i = 1; i <= 100_000; i++) {
+            assertThat(set.contains(i * 31)).isTrue();
+        }
+        assertThat(set.contains(30L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 도중 동시에 조회해도 이미 추가된 값은 항상 조회된다")
+    void concurrentReadsDuringWrites() throws InterruptedException {
+        // given
+        ConcurrentLongHashSet set = new ConcurrentLongHashSet(0);
+        set.add(42L);
+        AtomicBoolean missed = new AtomicBoolean(false);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(3);
+
+        // when: 1개의 쓰기 스레드가 확장을 반복하는 동안 3개의 읽기 스레드가 조회
+        for (int i = 0; i < 3; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < 200_000; j++) {
+                        if (!set.contains(42L)) missed.set(true);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        for (long i = 100; i < 200_000; i++) {
+            set.add(i);
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(missed).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package com.seonghyeon.jukebox.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpochLongCountBufferTest {
+
+    @Test
+    @DisplayName("봉인하면 이전 버퍼를 반환하고, 개방 전까지 새 버퍼의 누적은 대기한다")
+    void sealAndOpen() throws InterruptedException {
+        // given
+        EpochLongCountBuffer buffer = new EpochLongCountBuffer(4);
+        buffer.add(1L, 2L);
+        buffer.add(2L, -1L);
+
+        // when
+        ConcurrentLongCountMap sealed = buffer.seal();
+        Thread writer = Thread.ofPlatform().start(() -> buffer.add(3L, 1L));
+        writer.join(100);
+
+        // then
+        assertThat(writer.isAlive()).isTrue();
+        assertThat(sealed.snapshot().toMap()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, -1L));
+        assertThat(buffer.size()).isZero();
+
+        buffer.open();
+        writer.join(1000);
+        assertThat(writer.isAlive()).isFalse();
+        assertThat(buffer.seal().get(3L)).isEqualTo(1L);
+        assertThat(sealed.get(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 누적하며 반복 봉인해도 유실/중복이 없고, 누적 전 작업과 버퍼가 같은 Epoch 경계로 나뉜다")
+    void concurrentAddAndSeal() throws InterruptedException {
+        // given
+        EpochLongCountBuffer buffer = new EpochLongCountBuffer(16);
+        AtomicReference<AtomicLong> journal = new AtomicReference<>(new AtomicLong()); // 봉인 시 회전하는 저널 역할
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        buffer.add(i % 100, 1L, (key, delta) -> journal.get().addAndGet(delta));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when: 누적 도중 봉인 -> 저널 회전 -> 개방 반복
+        List<Long> mismatches = new ArrayList<>();
+        long total = 0;
+        AtomicBoolean finished = new AtomicBoolean();
+        start.countDown();
+        while (!finished.get()) {
+            finished.set(done.await(1, TimeUnit.MILLISECONDS));
+            ConcurrentLongCountMap sealed = buffer.seal();
+            AtomicLong segment = journal.getAndSet(new AtomicLong());
+            buffer.open();
+
+            long sum = sum(sealed);
+            if (sum != segment.get()) mismatches.add(sum - segment.get());
+            total += sum;
+        }
+        executor.shutdown();
+
+        // then
+        total += sum(buffer.seal());
+        assertThat(total).isEqualTo((long) threads * perThread);
+        assertThat(mismatches).isEmpty();
+    }
+
+    private static long sum(ConcurrentLongCountMap map) {
+        AtomicLong sum = new AtomicLong();
+        map.snapshot().forEach((key, count) -> sum.addAndGet(count));
+        return sum.get();
+    }
+}
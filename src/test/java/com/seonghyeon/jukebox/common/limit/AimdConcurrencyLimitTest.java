@@ -0,0 +1,107 @@
+package com.seonghyeon.jukebox.common.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    @Test
+    @DisplayName("처리 중인 요청 수가 한도에 도달하면 슬롯 획득을 거절한다")
+    void rejectWhenLimitReached() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 1, 10, Duration.ofMillis(100), 0.5);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.onIgnored();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도를 충분히 사용하는 중에 빠르게 성공하면 한도를 1씩 늘리고, 최대 한도를 넘지 않는다")
+    void increaseAdditively() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 1, 3, Duration.ofMillis(100), 0.5);
+
+        limit.tryAcquire();
+        limit.tryAcquire();
+        limit.onSuccess(FAST);
+        assertThat(limit.getLimit()).isEqualTo(3);
+
+        limit.tryAcquire();
+        limit.tryAcquire();
+        limit.onSuccess(FAST);
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한도의 절반 미만만 사용 중이면 성공해도 한도를 늘리지 않는다")
+    void keepLimitWhenUnderutilized() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 1, 20, Duration.ofMillis(100), 0.5);
+
+        limit.tryAcquire();
+        limit.onSuccess(FAST);
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 기준을 넘거나 서버 오류가 발생하면 한도를 비율만큼 줄이고, 최소 한도 아래로 내려가지 않는다")
+    void decreaseMultiplicatively() {
+        AtomicLong now = new AtomicLong();
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 3, 20, Duration.ofMillis(100), 0.5, now::get);
+
+        limit.tryAcquire();
+        limit.onSuccess(SLOW);
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        now.addAndGet(Duration.ofMillis(100).toNanos());
+        limit.tryAcquire();
+        limit.onDropped();
+        assertThat(limit.getLimit()).isEqualTo(3);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 번의 과부하로 느린 요청이 연달아 끝나도, 기준 지연 시간 동안에는 한도를 한 번만 줄인다")
+    void decreaseOncePerWindow() {
+        AtomicLong now = new AtomicLong();
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(16, 1, 20, Duration.ofMillis(100), 0.5, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+        }
+        limit.onSuccess(SLOW);
+        limit.onSuccess(SLOW);
+        limit.onDropped();
+        assertThat(limit.getLimit()).isEqualTo(8);
+
+        now.addAndGet(Duration.ofMillis(99).toNanos());
+        limit.onSuccess(SLOW);
+        assertThat(limit.getLimit()).isEqualTo(8);
+
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        limit.onSuccess(SLOW);
+        assertThat(limit.getLimit()).isEqualTo(4);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정 값은 생성 시점에 거절한다")
+    void rejectInvalidSettings() {
+        assertThatThrownBy(() -> new AimdConcurrencyLimit(1, 2, 10, Duration.ofMillis(100), 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdConcurrencyLimit(5, 1, 10, Duration.ofMillis(100), 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
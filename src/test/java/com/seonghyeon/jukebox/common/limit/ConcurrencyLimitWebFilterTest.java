@@ -0,0 +1,105 @@
+package com.seonghyeon.jukebox.common.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seonghyeon.jukebox.common.limit.ConcurrencyLimitWebFilter.LimitedRoute;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AimdConcurrencyLimit limit;
+    private ConcurrencyLimitWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limit = new AimdConcurrencyLimit(1, 1, 10, Duration.ofSeconds(1), 0.5);
+        filter = new ConcurrencyLimitWebFilter(
+                List.of(new LimitedRoute("like", HttpMethod.POST, "/api/v1/songs/{songId}/likes", limit)),
+                new ObjectMapper().findAndRegisterModules(), meterRegistry, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 처리하지 않고 429와 Retry-After로 즉시 응답한다")
+    void rejectOverLimit() {
+        // given: 처리 중인 요청 1건이 한도를 채움
+        Sinks.Empty<Void> inFlight = Sinks.empty();
+        filter.filter(likeExchange(), exchange -> inFlight.asMono()).subscribe();
+
+        // when
+        MockServerWebExchange rejected = likeExchange();
+        WebFilterChain chain = exchange -> Mono.error(new AssertionError("must not be called"));
+        StepVerifier.create(filter.filter(rejected, chain)).verifyComplete();
+
+        // then
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        StepVerifier.create(rejected.getResponse().getBodyAsString())
+                .assertNext(body -> assertThat(body).contains("TOO_MANY_REQUESTS"))
+                .verifyComplete();
+        assertThat(meterRegistry.get("jukebox.concurrency.rejected").tag("route", "like").counter().count()).isEqualTo(1.0);
+
+        // 처리 중인 요청이 끝나면 다시 받아들임
+        inFlight.tryEmitEmpty();
+        assertThat(limit.getInFlight()).isZero();
+        StepVerifier.create(filter.filter(likeExchange(), exchange -> Mono.empty())).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("서버 오류로 끝난 요청은 한도를 줄이고, 한도와 처리 중 요청 수를 지표로 노출한다")
+    void decreaseLimitOnServerError() {
+        // given
+        limit.tryAcquire();
+        limit.tryAcquire(); // 한도 1 -> 획득 실패
+        limit.onSuccess(0); // 한도 2로 증가
+        assertThat(limit.getLimit()).isEqualTo(2);
+
+        // when
+        StepVerifier.create(filter.filter(likeExchange(), exchange -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+                    return Mono.empty();
+                }))
+                .verifyComplete();
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(1);
+        assertThat(meterRegistry.get("jukebox.concurrency.limit").tag("route", "like").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jukebox.concurrency.in-flight").tag("route", "like").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 경로는 한도와 관계없이 통과시킨다")
+    void passThroughOtherRoutes() {
+        // given: 한도를 모두 사용 중
+        limit.tryAcquire();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/songs/stats/album-counts"));
+
+        AtomicBoolean passed = new AtomicBoolean();
+
+        // when & then
+        StepVerifier.create(filter.filter(exchange, e -> Mono.fromRunnable(() -> passed.set(true)))).verifyComplete();
+        assertThat(passed).isTrue();
+    }
+
+    private static MockServerWebExchange likeExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/songs/{songId}/likes", 1L));
+    }
+}
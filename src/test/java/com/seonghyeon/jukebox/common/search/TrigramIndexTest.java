@@ -0,0 +1,52 @@
+package com.seonghyeon.jukebox.common.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex(List.of(
+            "King Gizzard & The Lizard Wizard", // 0
+            "Beyoncé",                          // 1
+            "IVE",                              // 2
+            "Lizzo",                            // 3
+            "abcxbcd"                           // 4
+    ));
+
+    @Test
+    @DisplayName("대소문자와 악센트를 구분하지 않고 부분 문자열을 포함하는 term을 찾는다")
+    void containingIgnoresCaseAndAccents() {
+        assertThat(index.containing("LIZZARD")).isEmpty();
+        assertThat(index.containing("lizard")).containsExactly(0);
+        assertThat(index.containing("BEYONCE")).containsExactly(1);
+        assertThat(index.containing("izz")).containsExactly(0, 3);
+    }
+
+    @Test
+    @DisplayName("3글자 미만 질의는 전체 term에서 포함 여부를 확인한다")
+    void containingShortQuery() {
+        assertThat(index.containing("iv")).containsExactly(2);
+        assertThat(index.containing("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("질의의 trigram을 모두 포함해도 실제로 부분 문자열이 아니면 제외한다")
+    void containingVerifiesCandidates() {
+        // "abcd"의 trigram(abc, bcd)을 모두 포함하지만 "abcd"는 포함하지 않음
+        assertThat(index.containing("abcd")).isEmpty();
+        assertThat(index.containing("xbcd")).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("유사 검색은 기준 이상의 유사도를 가진 term을 유사도가 높은 순으로 반환한다")
+    void similarRanksBySimilarity() {
+        assertThat(index.similar("beyonse", 0.3, 10)).containsExactly(1);
+        assertThat(index.similar("lizzard", 0.1, 10)).startsWith(3);
+        assertThat(index.similar("lizzard", 0.1, 1)).hasSize(1);
+        assertThat(index.similar("zzzzzz", 0.3, 10)).isEmpty();
+    }
+}
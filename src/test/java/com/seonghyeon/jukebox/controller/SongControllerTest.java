@@ -3,13 +3,21 @@ package com.seonghyeon.jukebox.controller;
 import com.seonghyeon.jukebox.common.exception.like.AlreadyLikedException;
 import com.seonghyeon.jukebox.common.exception.like.NotLikedException;
 import com.seonghyeon.jukebox.common.exception.like.SongNotFoundException;
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsIndexNotReadyException;
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsSearchUnavailableException;
+import com.seonghyeon.jukebox.common.pagination.CursorPage;
+import com.seonghyeon.jukebox.controller.dto.request.BulkLikeRequest;
 import com.seonghyeon.jukebox.controller.dto.request.LikeRequest;
+import com.seonghyeon.jukebox.controller.dto.response.BulkLikeResponse;
 import com.seonghyeon.jukebox.controller.dto.response.TopLikedResponse;
 import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
 import com.seonghyeon.jukebox.entity.like.Action;
 import com.seonghyeon.jukebox.repository.dto.SongLikeCountDto;
 import com.seonghyeon.jukebox.service.SongStatisticsQueryService;
 import com.seonghyeon.jukebox.service.like.SongLikeService;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeCommand;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeResult;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,7 +32,7 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -42,6 +50,9 @@ class SongControllerTest {
     @MockitoBean
     private SongLikeService songLikeService;
 
+    @MockitoBean
+    private BulkLikeService bulkLikeService;
+
     @Test
     @DisplayName("성공적으로 연도 및 가수별 앨범 통계를 페이징하여 조회한다")
     void getAlbumStatsSuccess() {
@@ -206,6 +217,69 @@ class SongControllerTest {
                 .expectStatus().isOk();
     }
 
+    @Test
+    @DisplayName("artistQuery가 있으면 가수명 검색으로 조회한다")
+    void searchAlbumStatsByArtistQuery() {
+        // given
+        SongStatisticsEntity entity = new SongStatisticsEntity(1L, 2024, "King Gizzard & The Lizard Wizard", 10L);
+        given(songStatisticsQueryService.searchAlbumStats(isNull(), eq("gizzard"), any(Pageable.class)))
+                .willReturn(Mono.just(new PageImpl<>(List.of(entity), PageRequest.of(0, 20), 1)));
+
+        // when & then
+        webTestClient.get()
+                .uri("/api/v1/songs/stats/album-counts?artistQuery=gizzard")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].artist").isEqualTo("King Gizzard & The Lizard Wizard");
+    }
+
+    @Test
+    @DisplayName("artist와 artistQuery를 함께 사용하면 400, 검색 인덱스가 준비 중이거나 사용할 수 없으면 503을 반환한다")
+    void searchAlbumStatsFailures() {
+        webTestClient.get()
+                .uri("/api/v1/songs/stats/album-counts?artist=IVE&artistQuery=ive")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        given(songStatisticsQueryService.searchAlbumStats(isNull(), eq("ive"), any(Pageable.class)))
+                .willReturn(Mono.error(new AlbumStatsIndexNotReadyException("앨범 통계 인덱스를 준비 중입니다.")));
+        webTestClient.get()
+                .uri("/api/v1/songs/stats/album-counts?artistQuery=ive")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("STATS_INDEX_NOT_READY");
+
+        given(songStatisticsQueryService.searchAlbumStats(isNull(), eq("ive"), any(Pageable.class)))
+                .willReturn(Mono.error(new AlbumStatsSearchUnavailableException("가수 검색을 사용할 수 없습니다.")));
+        webTestClient.get()
+                .uri("/api/v1/songs/stats/album-counts?artistQuery=ive")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("STATS_SEARCH_UNAVAILABLE");
+    }
+
+    @Test
+    @DisplayName("cursor 파라미터가 있으면 커서 기반으로 조회하고 다음 페이지 커서를 반환한다")
+    void getAlbumStatsByCursor() {
+        // given
+        SongStatisticsEntity entity = new SongStatisticsEntity(1L, 2024, "IVE", 3L);
+        given(songStatisticsQueryService.getAlbumStatsByCursor(isNull(), isNull(), eq("abc"), any(Pageable.class)))
+                .willReturn(Mono.just(new CursorPage<>(List.of(entity), "next")));
+
+        // when & then
+        webTestClient.get()
+                .uri("/api/v1/songs/stats/album-counts?cursor=abc&size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].artist").isEqualTo("IVE")
+                .jsonPath("$.nextCursor").isEqualTo("next")
+                .jsonPath("$.hasNext").isEqualTo(true);
+    }
+
     // --- 좋아요 처리 (POST /{songId}/likes) 테스트 ---
 
     @Test
@@ -288,6 +362,66 @@ class SongControllerTest {
                 .expectStatus().isOk();
     }
 
+    // --- 대량 좋아요 처리 (POST /likes/bulk) 테스트 ---
+
+    @Test
+    @DisplayName("NDJSON 스트림으로 받은 좋아요를 일괄 처리하고 항목별 결과를 NDJSON으로 반환한다")
+    void bulkLikesWithNdjson() {
+        // given
+        given(bulkLikeService.applyLikes(any()))
+                .willAnswer(invocation -> {
+                    Flux<BulkLikeCommand> commands = invocation.getArgument(0);
+                    return commands.map(command -> BulkLikeResult.of(command,
+                            command.action() == Action.LIKE ? BulkLikeResult.Status.APPLIED : BulkLikeResult.Status.NOT_LIKED));
+                });
+        String body = """
+                {"songId": 1, "userId": 100, "action": "LIKE"}
+                {"songId": 2, "userId": 100, "action": "UNLIKE"}
+                """;
+
+        // when & then
+        webTestClient.post()
+                .uri("/api/v1/songs/likes/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(BulkLikeResponse.class)
+                .hasSize(2)
+                .consumeWith(result -> {
+                    List<BulkLikeResponse> responses = result.getResponseBody();
+                    assert responses != null;
+                    org.assertj.core.api.Assertions.assertThat(responses.get(0).index()).isEqualTo(0L);
+                    org.assertj.core.api.Assertions.assertThat(responses.get(0).status()).isEqualTo(BulkLikeResult.Status.APPLIED);
+                    org.assertj.core.api.Assertions.assertThat(responses.get(1).songId()).isEqualTo(2L);
+                    org.assertj.core.api.Assertions.assertThat(responses.get(1).status()).isEqualTo(BulkLikeResult.Status.NOT_LIKED);
+                });
+    }
+
+    @Test
+    @DisplayName("JSON 배열로 받은 좋아요도 항목별로 일괄 처리한다")
+    void bulkLikesWithJsonArray() {
+        // given
+        given(bulkLikeService.applyLikes(any()))
+                .willAnswer(invocation -> {
+                    Flux<BulkLikeCommand> commands = invocation.getArgument(0);
+                    return commands.map(command -> BulkLikeResult.of(command, BulkLikeResult.Status.APPLIED));
+                });
+
+        // when & then
+        webTestClient.post()
+                .uri("/api/v1/songs/likes/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(List.of(new BulkLikeRequest(1L, 100L, Action.LIKE), new BulkLikeRequest(1L, 101L, Action.LIKE)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BulkLikeResponse.class)
+                .hasSize(2);
+    }
+
     // --- 인기 곡 조회 (GET /top-liked) 테스트 ---
 
     @Test
@@ -297,7 +431,7 @@ class SongControllerTest {
         SongLikeCountDto dto1 = new SongLikeCountDto(1L, "통화연결음","써니사이드", "리메이크", 50L);
         SongLikeCountDto dto2 = new SongLikeCountDto(2L, "통화연결음","보라미유", "리메이크",30L);
 
-        given(songLikeService.getTopLikedSongs(any(LocalDateTime.class), anyInt()))
+        given(songLikeService.getTopLikedSongs(any(Duration.class), anyInt()))
                 .willReturn(Flux.just(dto1, dto2));
 
         // when & then
@@ -358,7 +492,7 @@ class SongControllerTest {
     @DisplayName("최근 1시간 내 좋아요 데이터가 없으면 빈 목록을 반환한다")
     void getTopLikedSongsEmpty() {
         // given
-        given(songLikeService.getTopLikedSongs(any(LocalDateTime.class), anyInt()))
+        given(songLikeService.getTopLikedSongs(any(Duration.class), anyInt()))
                 .willReturn(Flux.empty());
 
         // when & then
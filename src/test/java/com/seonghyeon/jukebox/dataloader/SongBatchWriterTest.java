@@ -3,19 +3,23 @@ package com.seonghyeon.jukebox.dataloader;
 import com.seonghyeon.jukebox.AbstractIntegrationTest;
 import com.seonghyeon.jukebox.dataloader.dto.SimilarSongDto;
 import com.seonghyeon.jukebox.dataloader.dto.SongDto;
+import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
 import com.seonghyeon.jukebox.repository.SimilarSongRepository;
 import com.seonghyeon.jukebox.repository.SongMetricsRepository;
 import com.seonghyeon.jukebox.repository.SongRepository;
 import com.seonghyeon.jukebox.repository.SongStatisticsRepository;
+import com.seonghyeon.jukebox.service.AlbumStatsCountCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,6 +44,9 @@ class SongBatchWriterTest extends AbstractIntegrationTest {
     @Autowired
     private SongStatisticsRepository songStatisticsRepository;
 
+    @Autowired
+    private AlbumStatsCountCache albumStatsCountCache;
+
     @BeforeEach
     void cleanup() {
         // 외래키 제약 조건을 고려하여 자식 테이블부터 삭제
@@ -276,6 +283,72 @@ class SongBatchWriterTest extends AbstractIntegrationTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("적재 시 배치마다 연도/가수별 곡 수가 통계 테이블에 누적되어야 한다")
+    void flushAllUpsertsStatisticsIncrementally() {
+        // given & when: 같은 (연도, 가수)가 두 번의 적재에 나뉘어 포함됨
+        songBatchWriter.flushAll(List.of(
+                createMockDataWithYearAndArtist("2023-01-01", "Artist A", "Title 1"),
+                createMockDataWithYearAndArtist("2023-05-20", "Artist A", "Title 2"),
+                createMockDataWithYearAndArtist("2023-07-01", null, "No Artist") // 가수 없음 -> 제외
+        ));
+        songBatchWriter.flushAll(List.of(
+                createMockDataWithYearAndArtist("2023-11-15", "Artist A", "Title 3"),
+                createMockDataWithYearAndArtist("2022-03-10", "Artist A", "Title 4"),
+                createMockDataWithYearAndArtist("2023-12-01", "artist a", "Title 5"), // 대소문자만 다른 가수명은 같은 행
+                createMockDataWithYearAndArtist("2023-12-02", "Ártist A", "Title 6") // 악센트만 다른 가수명도 같은 행
+        ));
+
+        // then
+        songStatisticsRepository.findAll()
+                .collectMap(stat -> stat.releaseYear() + "/" + stat.artist(), SongStatisticsEntity::albumCount)
+                .as(StepVerifier::create)
+                .assertNext(stats -> assertThat(stats).containsExactlyInAnyOrderEntriesOf(Map.of(
+                        "2023/Artist A", 5L,
+                        "2022/Artist A", 1L)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("통계 재구축은 증분 반영된 통계와 같은 결과를 만들고, 다시 실행해도 행이 중복되지 않아야 한다")
+    void rebuildIsIdempotent() {
+        // given
+        songBatchWriter.flushAll(List.of(
+                createMockDataWithYearAndArtist("2023-01-01", "Artist A", "Title 1"),
+                createMockDataWithYearAndArtist("2023-05-20", "Artist A", "Title 2"),
+                createMockDataWithYearAndArtist("2023-12-01", "artist a", "Title 3")
+        ));
+        Map<Long, Long> incremental = songStatisticsRepository.findAll()
+                .collectMap(SongStatisticsEntity::id, SongStatisticsEntity::albumCount)
+                .block();
+
+        // when
+        songBatchWriter.buildYearArtistStats();
+        songBatchWriter.buildYearArtistStats();
+
+        // then
+        songStatisticsRepository.findAll()
+                .collectMap(SongStatisticsEntity::id, SongStatisticsEntity::albumCount)
+                .as(StepVerifier::create)
+                .expectNext(incremental)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("통계를 구축하면 재구축 이벤트가 발행되어 캐시된 전체 개수가 무효화되어야 한다")
+    void buildYearArtistStatsEvictsCountCache() {
+        // given
+        albumStatsCountCache.get(2023, null, () -> Mono.just(0L)).block();
+        assertThat(albumStatsCountCache.size()).isEqualTo(1);
+        songBatchWriter.flushAll(List.of(createMockDataWithYearAndArtist("2023-01-01", "Artist A", "Title 1")));
+
+        // when
+        songBatchWriter.buildYearArtistStats();
+
+        // then
+        assertThat(albumStatsCountCache.size()).isZero();
+    }
+
     @Test
     @DisplayName("발매일(release_date)이 null인 노래는 통계 집계에서 제외되어야 한다")
     void excludeNullReleaseDateTest() {
@@ -3,11 +3,13 @@ package com.seonghyeon.jukebox.repository;
 import com.seonghyeon.jukebox.AbstractIntegrationTest;
 import com.seonghyeon.jukebox.entity.SongLikeEntity;
 import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.repository.dto.SongUserPairDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -31,6 +33,9 @@ class SongLikeRepositoryTest extends AbstractIntegrationTest {
     void cleanUp() {
         songLikeRepository.deleteAll()
                 .then(songRepository.deleteAll())
+                .then(databaseClient.sql("DELETE FROM user_song_likes").fetch().rowsUpdated())
+                .then(databaseClient.sql("DELETE FROM song_like_rollups").fetch().rowsUpdated())
+                .then(databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = 0, observed_id = 0, observed_at = '1970-01-01 00:00:00' WHERE id = 1").fetch().rowsUpdated())
                 .block();
     }
 
@@ -86,6 +91,61 @@ class SongLikeRepositoryTest extends AbstractIntegrationTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("현재 상태 조건부 변경: 상태가 바뀌는 요청만 반영되고, 같은 상태로의 중복 요청은 거절된다")
+    void changeLikeStateTest() {
+        // given
+        Long songId = 1L;
+        Long userId = 100L;
+
+        // when & then: 좋아요 -> 중복 좋아요 -> 취소 -> 중복 취소 -> 다시 좋아요
+        StepVerifier.create(songLikeRepository.changeLikeState(songId, userId, Action.LIKE)).expectNext(true).verifyComplete();
+        StepVerifier.create(songLikeRepository.changeLikeState(songId, userId, Action.LIKE)).expectNext(false).verifyComplete();
+        StepVerifier.create(songLikeRepository.changeLikeState(songId, userId, Action.UNLIKE)).expectNext(true).verifyComplete();
+        StepVerifier.create(songLikeRepository.changeLikeState(songId, userId, Action.UNLIKE)).expectNext(false).verifyComplete();
+        StepVerifier.create(songLikeRepository.changeLikeState(songId, userId, Action.LIKE)).expectNext(true).verifyComplete();
+
+        StepVerifier.create(songLikeRepository.countLikeState(songId, userId)).expectNext(1).verifyComplete();
+        StepVerifier.create(songLikeRepository.findCurrentLikedUserIds(songId).collectList())
+                .expectNext(List.of(userId))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("현재 상태 조건부 변경: 좋아요한 적 없는 곡의 취소는 거절되고 상태를 만들지 않는다")
+    void changeLikeStateUnlikeWithoutLikeTest() {
+        StepVerifier.create(songLikeRepository.changeLikeState(1L, 100L, Action.UNLIKE)).expectNext(false).verifyComplete();
+        StepVerifier.create(songLikeRepository.countLikeState(1L, 100L)).expectNext(0).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("현재 상태 조건부 변경: 동시에 들어온 같은 좋아요 요청은 한 건만 반영된다")
+    void changeLikeStateConcurrentTest() {
+        StepVerifier.create(Flux.range(0, 10)
+                        .flatMap(i -> songLikeRepository.changeLikeState(1L, 100L, Action.LIKE))
+                        .filter(changed -> changed)
+                        .count())
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("여러 (곡, 사용자)의 현재 좋아요 상태를 한 번에 조회하며, 취소된 상태는 제외한다")
+    void findCurrentLikedPairsTest() {
+        // given
+        songLikeRepository.changeLikeState(1L, 100L, Action.LIKE).block();
+        songLikeRepository.changeLikeState(1L, 101L, Action.LIKE).block();
+        songLikeRepository.changeLikeState(1L, 101L, Action.UNLIKE).block();
+        songLikeRepository.changeLikeState(2L, 101L, Action.LIKE).block();
+        songLikeRepository.changeLikeState(3L, 100L, Action.LIKE).block(); // 조회 대상 아님
+
+        // when & then
+        StepVerifier.create(songLikeRepository.findCurrentLikedPairs(List.of(1L, 2L), List.of(100L, 101L)).collectList())
+                .assertNext(pairs -> assertThat(pairs).containsExactlyInAnyOrder(
+                        new SongUserPairDto(1L, 100L), new SongUserPairDto(2L, 101L)))
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("시간 범위 내에서 순증가(LIKE > UNLIKE)가 발생한 곡만 내림차순으로 조회하며, 0개인 곡은 제외한다")
     void findTopLikedSongsExcludeZeroTest() {
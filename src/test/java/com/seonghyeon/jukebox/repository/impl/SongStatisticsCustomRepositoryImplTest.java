@@ -4,6 +4,7 @@ package com.seonghyeon.jukebox.repository.impl;
 import com.seonghyeon.jukebox.AbstractIntegrationTest;
 import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
 import com.seonghyeon.jukebox.repository.SongStatisticsRepository;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +13,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -125,4 +128,73 @@ class SongStatisticsCustomRepositoryImplTest extends AbstractIntegrationTest {
                 .expectNextCount(2) // 현재 SQL이 '=' 이라면 0개 예상
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("Slice 조회: 다음 페이지 존재 여부를 판단할 수 있도록 페이지 크기보다 한 건 더 조회한다")
+    void sliceFetchesOneMoreRow() {
+        songStatisticsRepository.findSliceByYearAndArtist(null, null, PageRequest.of(0, 2))
+                .as(StepVerifier::create)
+                .expectNextCount(3)
+                .verifyComplete();
+
+        // 마지막 페이지는 남은 행만 조회
+        songStatisticsRepository.findSliceByYearAndArtist(null, null, PageRequest.of(1, 3))
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회: 마지막 행 이후부터 이어서 조회하면 모든 허용 정렬에서 OFFSET 조회와 같은 순서로 전체를 순회한다")
+    void seekPaginationMatchesOffsetOrder() {
+        // given: 정렬 키가 같은 행(2024, IVE)을 추가하여 id 기준 순서 검증
+        r2dbcEntityTemplate.insert(new SongStatisticsEntity(null, 2024, "IVE", 1L)).block();
+        List<Sort> sorts = List.of(
+                Sort.unsorted(),
+                Sort.by(Sort.Order.desc("releaseYear"), Sort.Order.asc("artist")),
+                Sort.by(Sort.Order.asc("artist"), Sort.Order.desc("releaseYear")),
+                Sort.by(Sort.Order.desc("albumCount")),
+                Sort.by(Sort.Order.asc("albumCount"), Sort.Order.asc("releaseYear"))
+        );
+
+        for (Sort sort : sorts) {
+            Sort effectiveSort = sort.isUnsorted() ? Sort.by(Sort.Order.desc("releaseYear"), Sort.Order.asc("artist")) : sort;
+            List<SongStatisticsEntity> expected = r2dbcEntityTemplate.select(SongStatisticsEntity.class)
+                    .matching(Query.empty().sort(effectiveSort.and(Sort.by("id"))))
+                    .all()
+                    .collectList()
+                    .block();
+
+            // when: 2건씩 커서로 순회
+            List<SongStatisticsEntity> actual = new ArrayList<>();
+            SongStatisticsEntity after = null;
+            while (true) {
+                List<SongStatisticsEntity> page = songStatisticsRepository.findAllByYearAndArtistAfter(null, null, sort, after, 2)
+                        .collectList()
+                        .block();
+                actual.addAll(page);
+                if (page.size() < 2) break;
+                after = page.get(page.size() - 1);
+            }
+
+            // then
+            Assertions.assertThat(actual).as("sort=%s", sort).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회: 필터 조건과 커서 조건을 함께 적용한다")
+    void seekPaginationWithFilter() {
+        SongStatisticsEntity first = songStatisticsRepository.findAllByYearAndArtistAfter(2024, null, Sort.unsorted(), null, 1)
+                .blockFirst();
+        assertThat(first.artist()).isEqualTo("IVE");
+
+        songStatisticsRepository.findAllByYearAndArtistAfter(2024, null, Sort.unsorted(), first, 10)
+                .as(StepVerifier::create)
+                .assertNext(entity -> {
+                    assertThat(entity.releaseYear()).isEqualTo(2024);
+                    assertThat(entity.artist()).isEqualTo("NewJeans");
+                })
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,79 @@
+package com.seonghyeon.jukebox.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlbumStatsCountCacheTest {
+
+    @Test
+    @DisplayName("같은 필터의 개수는 한 번만 계산하고, 통계 변경 이벤트를 받으면 다시 계산한다")
+    void cacheUntilStatisticsRebuilt() {
+        // given
+        AlbumStatsCountCache cache = new AlbumStatsCountCache(true, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        StepVerifier.create(cache.get(2024, "IVE", () -> Mono.fromSupplier(() -> 10L + loads.incrementAndGet()))).expectNext(11L).verifyComplete();
+        StepVerifier.create(cache.get(2024, "IVE", () -> Mono.fromSupplier(() -> 10L + loads.incrementAndGet()))).expectNext(11L).verifyComplete();
+        StepVerifier.create(cache.get(2024, null, () -> Mono.fromSupplier(() -> 10L + loads.incrementAndGet()))).expectNext(12L).verifyComplete();
+
+        cache.onStatisticsUpdated(new SongStatisticsUpdatedEvent(5));
+        StepVerifier.create(cache.get(2024, "IVE", () -> Mono.fromSupplier(() -> 10L + loads.incrementAndGet()))).expectNext(13L).verifyComplete();
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 필터의 요청은 하나의 계산을 공유한다")
+    void shareInFlightLoad() {
+        AlbumStatsCountCache cache = new AlbumStatsCountCache(true, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        Mono<Long> first = cache.get(null, null, () -> Mono.fromSupplier(() -> (long) loads.incrementAndGet()));
+        Mono<Long> second = cache.get(null, null, () -> Mono.fromSupplier(() -> (long) loads.incrementAndGet()));
+
+        StepVerifier.create(Mono.zip(first, second)).expectNextCount(1).verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("계산에 실패한 결과는 캐시하지 않는다")
+    void doNotCacheFailure() {
+        AlbumStatsCountCache cache = new AlbumStatsCountCache(true, 100);
+
+        StepVerifier.create(cache.get(2024, null, () -> Mono.error(new RuntimeException("DB Error")))).verifyError();
+        StepVerifier.create(cache.get(2024, null, () -> Mono.just(3L))).expectNext(3L).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("캐시된 필터 수가 상한에 도달하면 항목을 제거하여 상한을 넘지 않는다")
+    void evictWhenFull() {
+        AlbumStatsCountCache cache = new AlbumStatsCountCache(true, 2);
+
+        for (int year = 2020; year < 2025; year++) {
+            cache.get(year, null, () -> Mono.just(1L)).block();
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 개수를 계산한다")
+    void disabled() {
+        AlbumStatsCountCache cache = new AlbumStatsCountCache(false, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(2024, null, () -> Mono.fromSupplier(() -> (long) loads.incrementAndGet())).block();
+        cache.get(2024, null, () -> Mono.fromSupplier(() -> (long) loads.incrementAndGet())).block();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
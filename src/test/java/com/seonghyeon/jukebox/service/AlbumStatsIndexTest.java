@@ -0,0 +1,143 @@
+package com.seonghyeon.jukebox.service;
+
+import com.seonghyeon.jukebox.AbstractIntegrationTest;
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsIndexNotReadyException;
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsSearchUnavailableException;
+import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
+import com.seonghyeon.jukebox.repository.SongStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+class AlbumStatsIndexTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private AlbumStatsIndex albumStatsIndex;
+
+    @Autowired
+    private SongStatisticsRepository songStatisticsRepository;
+
+    @Autowired
+    private R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setup() {
+        r2dbcEntityTemplate.getDatabaseClient().sql("DELETE FROM song_statistics").fetch().rowsUpdated().block();
+        insert(
+                new SongStatisticsEntity(null, 2024, "NewJeans", 2L),
+                new SongStatisticsEntity(null, 2024, "IVE", 3L),
+                new SongStatisticsEntity(null, 2023, "NewJeans", 5L),
+                new SongStatisticsEntity(null, 2023, "Aespa", 3L),
+                new SongStatisticsEntity(null, 2022, "aespa", 1L), // 콜레이션 기준 Aespa와 같은 가수
+                new SongStatisticsEntity(null, 2022, "Épik High", 4L)
+        );
+        albumStatsIndex.reload();
+    }
+
+    @Test
+    @DisplayName("메모리에서 필터/정렬한 결과가 DB 조회 결과와 같아야 한다")
+    void sameAsDatabase() {
+        List<Sort> sorts = List.of(
+                Sort.unsorted(),
+                Sort.by(Sort.Order.asc("artist")),
+                Sort.by(Sort.Order.desc("albumCount")),
+                Sort.by(Sort.Order.desc("artist"), Sort.Order.asc("releaseYear"))
+        );
+        assertThat(albumStatsIndex.size()).isEqualTo(6);
+        for (Sort sort : sorts) {
+            assertSameAsDatabase(null, null, sort);
+            assertSameAsDatabase(2022, null, sort);
+            assertSameAsDatabase(null, "Aespa", sort);
+            assertSameAsDatabase(2023, "NewJeans", sort);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 표기의 가수명은 DB로 조회하도록 null을 반환한다")
+    void unknownArtistFallsBack() {
+        assertThat(albumStatsIndex.select(null, "AESPA", Sort.unsorted())).isNull();
+    }
+
+    @Test
+    @DisplayName("통계 변경 이벤트를 받으면 스냅샷을 다시 적재한다")
+    void reloadOnStatisticsRebuilt() {
+        // given
+        insert(new SongStatisticsEntity(null, 2025, "IVE", 1L));
+        assertThat(albumStatsIndex.select(2025, null, Sort.unsorted()).size()).isZero();
+
+        // when
+        eventPublisher.publishEvent(new SongStatisticsUpdatedEvent(1));
+
+        // then
+        assertThat(albumStatsIndex.size()).isEqualTo(7);
+        assertThat(albumStatsIndex.select(2025, null, Sort.unsorted()).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화된 인덱스의 가수 검색은 준비 중이 아닌 사용 불가로 실패한다")
+    void searchWhenDisabled() {
+        AlbumStatsIndex disabled = new AlbumStatsIndex(r2dbcEntityTemplate.getDatabaseClient(), false, Duration.ZERO);
+        disabled.reload();
+
+        assertThat(disabled.state()).isEqualTo(AlbumStatsIndex.State.DISABLED);
+        assertThatThrownBy(() -> disabled.search(null, "ive", Sort.unsorted()))
+                .isInstanceOf(AlbumStatsSearchUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 준비 중으로, 적재에 실패한 뒤에는 사용 불가로 실패하고 검색 요청 시 다시 적재한다")
+    void retryReloadAfterFailure() throws InterruptedException {
+        // given: 첫 적재는 실패
+        DatabaseClient databaseClient = spy(r2dbcEntityTemplate.getDatabaseClient());
+        doThrow(new RuntimeException("DB Error")).doCallRealMethod().when(databaseClient).sql(anyString());
+        AlbumStatsIndex index = new AlbumStatsIndex(databaseClient, true, Duration.ZERO);
+        assertThatThrownBy(() -> index.search(null, "ive", Sort.unsorted()))
+                .isInstanceOf(AlbumStatsIndexNotReadyException.class);
+        index.reload();
+        assertThat(index.state()).isEqualTo(AlbumStatsIndex.State.FAILED);
+
+        // when
+        assertThatThrownBy(() -> index.search(null, "ive", Sort.unsorted()))
+                .isInstanceOf(AlbumStatsSearchUnavailableException.class);
+
+        // then: 다시 적재되어 검색 가능
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (index.state() != AlbumStatsIndex.State.READY && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(index.search(null, "ive", Sort.unsorted()).size()).isEqualTo(1);
+    }
+
+    private void assertSameAsDatabase(Integer year, String artist, Sort sort) {
+        AlbumStatsSnapshot.Selection selection = albumStatsIndex.select(year, artist, sort);
+        List<SongStatisticsEntity> expected = songStatisticsRepository.findAllByYearAndArtistAfter(year, artist, sort, null, 100)
+                .collectList()
+                .block();
+
+        assertThat(selection.slice(0, 100)).as("year=%s, artist=%s, sort=%s", year, artist, sort).isEqualTo(expected);
+    }
+
+    private void insert(SongStatisticsEntity... entities) {
+        Flux.fromArray(entities)
+                .concatMap(r2dbcEntityTemplate::insert)
+                .blockLast();
+    }
+}
@@ -0,0 +1,169 @@
+package com.seonghyeon.jukebox.service;
+
+import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AlbumStatsSnapshotTest {
+
+    private AlbumStatsSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        // ORDER BY artist, id 순서
+        snapshot = AlbumStatsSnapshot.builder()
+                .add(4L, 2023, "Aespa", 0, 1)
+                .add(2L, 2024, "IVE", 1, 3)
+                .add(1L, 2024, "NewJeans", 2, 2)
+                .add(3L, 2023, "NewJeans", 2, 5)
+                .build();
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 없거나 허용되지 않은 필드가 있으면 기본 정렬(연도 내림차순, 가수 오름차순)을 사용한다")
+    void defaultSort() {
+        assertThat(ids(snapshot.select(null, null, Sort.unsorted()))).containsExactly(2L, 1L, 4L, 3L);
+        assertThat(ids(snapshot.select(null, null, Sort.by("id")))).containsExactly(2L, 1L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("요청한 정렬 조건으로 정렬하고, 값이 같으면 id 순으로 정렬한다")
+    void sortByRequestedOrder() {
+        assertThat(ids(snapshot.select(null, null, Sort.by(Sort.Order.desc("albumCount"))))).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(ids(snapshot.select(null, null, Sort.by(Sort.Order.asc("artist"))))).containsExactly(4L, 2L, 1L, 3L);
+        assertThat(ids(snapshot.select(null, null, Sort.by(Sort.Order.asc("releaseYear"), Sort.Order.desc("albumCount")))))
+                .containsExactly(3L, 4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("연도/가수 필터를 적용한 결과도 요청한 정렬 순서를 유지한다")
+    void filterByYearAndArtist() {
+        Sort byAlbumCount = Sort.by(Sort.Order.desc("albumCount"));
+
+        assertThat(ids(snapshot.select(2023, null, byAlbumCount))).containsExactly(3L, 4L);
+        assertThat(ids(snapshot.select(null, "NewJeans", byAlbumCount))).containsExactly(3L, 1L);
+        assertThat(ids(snapshot.select(2024, "NewJeans", byAlbumCount))).containsExactly(1L);
+        assertThat(snapshot.select(1999, null, byAlbumCount).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 필드 정렬은 필터 대상 행만 정렬하며, 커서 위치도 같은 정렬 기준으로 찾는다")
+    void compositeSortWithFilter() {
+        Sort byArtistThenAlbumCount = Sort.by(Sort.Order.desc("artist"), Sort.Order.asc("albumCount"));
+        AlbumStatsSnapshot.Selection year2024 = snapshot.select(2024, null, byArtistThenAlbumCount);
+
+        assertThat(ids(year2024)).containsExactly(1L, 2L);
+        assertThat(ids(snapshot.search(null, "jean", byArtistThenAlbumCount))).containsExactly(1L, 3L);
+        assertThat(year2024.indexAfter(new SongStatisticsEntity(1L, 2024, "NewJeans", 2L))).isEqualTo(1);
+        assertThat(year2024.indexAfter(new SongStatisticsEntity(4L, 2023, "Aespa", 1L))).isEqualTo(2); // 필터 밖의 행은 정렬상 다음 위치
+    }
+
+    @Test
+    @DisplayName("보관하는 여러 필드 정렬 순서가 상한을 넘어 제거되어도 같은 결과를 반환한다")
+    void compositeSortOrdersAreBounded() {
+        Sort target = Sort.by(Sort.Order.asc("releaseYear"), Sort.Order.desc("albumCount"));
+        List<Long> expected = ids(snapshot.select(null, null, target));
+
+        for (String first : List.of("releaseYear", "artist", "albumCount")) {
+            for (String second : List.of("releaseYear", "artist", "albumCount")) {
+                if (!first.equals(second)) snapshot.select(null, null, Sort.by(Sort.Order.desc(first), Sort.Order.asc(second)));
+            }
+        }
+
+        assertThat(ids(snapshot.select(null, null, target))).isEqualTo(expected).containsExactly(3L, 4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 가수명은 DB 콜레이션으로 일치할 수 있으므로 메모리에서 처리하지 않는다")
+    void unknownArtist() {
+        assertThat(snapshot.select(null, "newjeans", Sort.unsorted())).isNull();
+    }
+
+    @Test
+    @DisplayName("가수명 일부로 검색하고, 부분 일치하는 가수가 없으면 유사한 가수명으로 검색한다")
+    void searchArtist() {
+        assertThat(ids(snapshot.search(null, "jean", Sort.unsorted()))).containsExactly(1L, 3L);
+        assertThat(ids(snapshot.search(2023, "JEANS", Sort.unsorted()))).containsExactly(3L);
+        assertThat(ids(snapshot.search(null, "newjeens", Sort.unsorted()))).containsExactly(1L, 3L); // 오타
+        assertThat(snapshot.search(null, "zzz", Sort.unsorted()).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("오프셋과 크기로 페이지를 자르고, 범위를 벗어나면 빈 목록을 반환한다")
+    void slice() {
+        AlbumStatsSnapshot.Selection selection = snapshot.select(null, null, Sort.unsorted());
+
+        assertThat(selection.size()).isEqualTo(4);
+        assertThat(selection.slice(1, 2)).extracting(SongStatisticsEntity::id).containsExactly(1L, 4L);
+        assertThat(selection.slice(3, 10)).extracting(SongStatisticsEntity::id).containsExactly(3L);
+        assertThat(selection.slice(10, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서의 마지막 행 다음 위치를 찾고, 마지막 행이 스냅샷과 다르면 -1을 반환한다")
+    void indexAfter() {
+        AlbumStatsSnapshot.Selection all = snapshot.select(null, null, Sort.unsorted());
+        AlbumStatsSnapshot.Selection year2023 = snapshot.select(2023, null, Sort.unsorted());
+
+        assertThat(all.indexAfter(new SongStatisticsEntity(1L, 2024, "NewJeans", 2L))).isEqualTo(2);
+        assertThat(year2023.indexAfter(new SongStatisticsEntity(4L, 2023, "Aespa", 1L))).isEqualTo(1);
+        assertThat(all.indexAfter(new SongStatisticsEntity(1L, 2024, "NewJeans", 9L))).isEqualTo(-1); // 통계 변경으로 값이 달라짐
+        assertThat(all.indexAfter(new SongStatisticsEntity(99L, 2024, "NewJeans", 2L))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("순위를 묶은 정렬 키로 정렬한 결과는 필드 값과 id로 비교한 정렬 결과와 같다")
+    void packedSortKeysMatchFieldOrder() {
+        // given: 값이 겹치는 행이 많은 스냅샷 (ORDER BY artist, id 순서로 적재)
+        Random random = new Random(42);
+        AlbumStatsSnapshot.Builder builder = AlbumStatsSnapshot.builder();
+        List<SongStatisticsEntity> rows = new ArrayList<>();
+        long id = 1000;
+        for (int rank = 0; rank < 50; rank++) {
+            for (int i = random.nextInt(5); i >= 0; i--) {
+                id -= random.nextInt(3) + 1; // 가수 안에서는 id 오름차순이지만 전체로는 섞이도록
+                SongStatisticsEntity row = new SongStatisticsEntity(id + 2000L * i, 2000 + random.nextInt(5), "Artist" + (char) ('A' + rank / 26) + (char) ('A' + rank % 26), (long) random.nextInt(4));
+                rows.add(row);
+            }
+        }
+        rows.sort(Comparator.comparing(SongStatisticsEntity::artist).thenComparing(SongStatisticsEntity::id));
+        List<String> artists = rows.stream().map(SongStatisticsEntity::artist).distinct().toList();
+        rows.forEach(row -> builder.add(row.id(), row.releaseYear(), row.artist(), artists.indexOf(row.artist()), row.albumCount().intValue()));
+        AlbumStatsSnapshot large = builder.build();
+
+        Sort sort = Sort.by(Sort.Order.desc("albumCount"), Sort.Order.asc("releaseYear"), Sort.Order.desc("artist"));
+        Comparator<SongStatisticsEntity> expected = Comparator.comparing(SongStatisticsEntity::albumCount).reversed()
+                .thenComparing(SongStatisticsEntity::releaseYear)
+                .thenComparing(Comparator.comparing(SongStatisticsEntity::artist).reversed())
+                .thenComparing(SongStatisticsEntity::id);
+
+        // when & then: 필터가 없는 경우와 있는 경우 모두 같은 순서
+        assertThat(ids(large.select(null, null, sort)))
+                .containsExactlyElementsOf(rows.stream().sorted(expected).map(SongStatisticsEntity::id).toList());
+        assertThat(ids(large.select(2002, null, sort)))
+                .containsExactlyElementsOf(rows.stream().filter(row -> row.releaseYear() == 2002).sorted(expected).map(SongStatisticsEntity::id).toList());
+    }
+
+    @Test
+    @DisplayName("가수 순위 순서로 적재되지 않으면 예외가 발생한다")
+    void rejectUnorderedRows() {
+        AlbumStatsSnapshot.Builder builder = AlbumStatsSnapshot.builder().add(1L, 2024, "IVE", 0, 1);
+
+        assertThatThrownBy(() -> builder.add(2L, 2024, "NewJeans", 2, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> ids(AlbumStatsSnapshot.Selection selection) {
+        return selection.slice(0, selection.size()).stream().map(SongStatisticsEntity::id).toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.seonghyeon.jukebox.service;
 
+import com.seonghyeon.jukebox.common.exception.stats.AlbumStatsIndexNotReadyException;
+import com.seonghyeon.jukebox.common.pagination.CursorPage;
 import com.seonghyeon.jukebox.entity.SongStatisticsEntity;
 import com.seonghyeon.jukebox.repository.SongStatisticsRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -7,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,9 +19,13 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class SongStatisticsQueryServiceTest {
@@ -26,6 +33,12 @@ class SongStatisticsQueryServiceTest {
     @Mock
     private SongStatisticsRepository songStatisticsRepository;
 
+    @Mock
+    private AlbumStatsIndex albumStatsIndex; // 스냅샷 미적재 상태(null 반환)에서는 DB로 조회
+
+    @Spy
+    private AlbumStatsCountCache albumStatsCountCache = new AlbumStatsCountCache(true, 100);
+
     @InjectMocks
     private SongStatisticsQueryService songStatisticsQueryService;
 
@@ -151,4 +164,193 @@ class SongStatisticsQueryServiceTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("커서 기반 조회: 한 건 더 조회하여 다음 페이지가 있으면 마지막 행으로 커서를 만들고, 커서로 이어서 조회한다")
+    void getStatsByCursor() {
+        // given
+        Sort sort = Sort.by("albumCount").descending();
+        Pageable pageable = PageRequest.of(0, 2, sort);
+        SongStatisticsEntity first = new SongStatisticsEntity(1L, 2024, "IVE", 5L);
+        SongStatisticsEntity second = new SongStatisticsEntity(2L, 2023, "NewJeans", 4L);
+        SongStatisticsEntity third = new SongStatisticsEntity(3L, 2023, "Aespa", 1L);
+
+        given(songStatisticsRepository.findAllByYearAndArtistAfter(null, null, sort, null, 3))
+                .willReturn(Flux.just(first, second, third));
+        given(songStatisticsRepository.findAllByYearAndArtistAfter(null, null, sort, second, 3))
+                .willReturn(Flux.just(third));
+
+        // when: 첫 페이지
+        CursorPage<SongStatisticsEntity> firstPage = songStatisticsQueryService.getAlbumStatsByCursor(null, null, "", pageable).block();
+
+        // then
+        assertThat(firstPage.content()).containsExactly(first, second);
+        assertThat(firstPage.hasNext()).isTrue();
+
+        // when: 다음 페이지는 요청 정렬과 관계없이 커서의 정렬을 사용
+        songStatisticsQueryService.getAlbumStatsByCursor(null, null, firstPage.nextCursor(), PageRequest.of(0, 2))
+                .as(StepVerifier::create)
+                .assertNext(page -> {
+                    assertThat(page.content()).containsExactly(third);
+                    assertThat(page.hasNext()).isFalse();
+                    assertThat(page.nextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회: 가수명에 구분자가 포함되어도 커서로 복원된다")
+    void cursorRoundTrip() {
+        SongStatisticsEntity last = new SongStatisticsEntity(42L, 1999, "Earth, Wind & Fire\nLive", 7L);
+        Sort sort = Sort.by(Sort.Order.asc("artist"), Sort.Order.desc("releaseYear"));
+
+        AlbumStatsCursor decoded = AlbumStatsCursor.decode(AlbumStatsCursor.encode(sort, last));
+
+        assertThat(decoded.last()).isEqualTo(last);
+        assertThat(decoded.sort()).isEqualTo(sort);
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회: 잘못된 커서는 IllegalArgumentException을 발생시킨다")
+    void invalidCursor() {
+        assertThatThrownBy(() -> songStatisticsQueryService.getAlbumStatsByCursor(null, null, "not-a-cursor", PageRequest.of(0, 20)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 필터의 전체 개수는 한 번만 조회하고 이후 페이지에서 재사용한다")
+    void reuseCachedCount() {
+        // given
+        given(songStatisticsRepository.countByYearAndArtist(2024, null)).willReturn(Mono.just(30L));
+        given(songStatisticsRepository.findAllByYearAndArtist(eq(2024), isNull(), any(Pageable.class))).willReturn(Flux.empty());
+
+        // when
+        songStatisticsQueryService.getAlbumStatsByYearAndArtist(2024, null, PageRequest.of(0, 10)).block();
+        songStatisticsQueryService.getAlbumStatsByYearAndArtist(2024, null, PageRequest.of(1, 10))
+                .as(StepVerifier::create)
+                .assertNext(page -> assertThat(page.getTotalElements()).isEqualTo(30L))
+                .verifyComplete();
+
+        // then
+        verify(songStatisticsRepository, times(1)).countByYearAndArtist(2024, null);
+    }
+
+    @Test
+    @DisplayName("Slice 조회: 페이지 크기보다 한 건 더 조회되면 다음 페이지가 있다고 판단하고, 전체 개수는 조회하지 않는다")
+    void getStatsSlice() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        given(songStatisticsRepository.findSliceByYearAndArtist(null, null, pageable))
+                .willReturn(Flux.just(
+                        new SongStatisticsEntity(1L, 2024, "IVE", 3L),
+                        new SongStatisticsEntity(2L, 2024, "NewJeans", 2L),
+                        new SongStatisticsEntity(3L, 2023, "Aespa", 1L)));
+
+        // when & then
+        songStatisticsQueryService.getAlbumStatsSlice(null, null, pageable)
+                .as(StepVerifier::create)
+                .assertNext(slice -> {
+                    assertThat(slice.getContent()).hasSize(2);
+                    assertThat(slice.hasNext()).isTrue();
+                })
+                .verifyComplete();
+        verify(songStatisticsRepository, never()).countByYearAndArtist(any(), any());
+    }
+
+    @Test
+    @DisplayName("Slice 조회: 페이지 크기 이하로 조회되면 마지막 페이지로 판단한다")
+    void getStatsSliceLastPage() {
+        Pageable pageable = PageRequest.of(1, 2);
+        given(songStatisticsRepository.findSliceByYearAndArtist(null, null, pageable))
+                .willReturn(Flux.just(new SongStatisticsEntity(3L, 2023, "Aespa", 1L)));
+
+        songStatisticsQueryService.getAlbumStatsSlice(null, null, pageable)
+                .as(StepVerifier::create)
+                .assertNext(slice -> {
+                    assertThat(slice.getContent()).hasSize(1);
+                    assertThat(slice.hasNext()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("인메모리 인덱스가 적재되어 있으면 DB를 조회하지 않고 페이지, Slice, 커서 조회를 처리한다")
+    void serveFromMemoryIndex() {
+        // given
+        AlbumStatsSnapshot snapshot = AlbumStatsSnapshot.builder()
+                .add(3L, 2023, "Aespa", 0, 1)
+                .add(1L, 2024, "IVE", 1, 3)
+                .add(2L, 2024, "NewJeans", 2, 2)
+                .build();
+        given(albumStatsIndex.select(any(), any(), any(Sort.class)))
+                .willAnswer(invocation -> snapshot.select(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        Pageable pageable = PageRequest.of(0, 2);
+
+        // when & then
+        songStatisticsQueryService.getAlbumStatsByYearAndArtist(null, null, pageable)
+                .as(StepVerifier::create)
+                .assertNext(page -> {
+                    assertThat(page.getContent()).extracting(SongStatisticsEntity::id).containsExactly(1L, 2L);
+                    assertThat(page.getTotalElements()).isEqualTo(3L);
+                })
+                .verifyComplete();
+
+        songStatisticsQueryService.getAlbumStatsSlice(null, null, PageRequest.of(1, 2))
+                .as(StepVerifier::create)
+                .assertNext(slice -> {
+                    assertThat(slice.getContent()).extracting(SongStatisticsEntity::id).containsExactly(3L);
+                    assertThat(slice.hasNext()).isFalse();
+                })
+                .verifyComplete();
+
+        CursorPage<SongStatisticsEntity> first = songStatisticsQueryService.getAlbumStatsByCursor(null, null, null, pageable).block();
+        assertThat(first.content()).extracting(SongStatisticsEntity::id).containsExactly(1L, 2L);
+        songStatisticsQueryService.getAlbumStatsByCursor(null, null, first.nextCursor(), pageable)
+                .as(StepVerifier::create)
+                .assertNext(page -> {
+                    assertThat(page.content()).extracting(SongStatisticsEntity::id).containsExactly(3L);
+                    assertThat(page.hasNext()).isFalse();
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(songStatisticsRepository);
+    }
+
+    @Test
+    @DisplayName("가수명 검색은 인메모리 인덱스로 처리하고, 인덱스가 준비되지 않았으면 실패한다")
+    void searchAlbumStats() {
+        // given
+        AlbumStatsSnapshot snapshot = AlbumStatsSnapshot.builder()
+                .add(1L, 2024, "IVE", 0, 3)
+                .add(2L, 2024, "NewJeans", 1, 2)
+                .build();
+        given(albumStatsIndex.search(any(), eq("jeans"), any(Sort.class)))
+                .willAnswer(invocation -> snapshot.search(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        given(albumStatsIndex.search(any(), eq("ive"), any(Sort.class)))
+                .willThrow(new AlbumStatsIndexNotReadyException("not ready"));
+
+        // when & then
+        songStatisticsQueryService.searchAlbumStats(null, "jeans", PageRequest.of(0, 10))
+                .as(StepVerifier::create)
+                .assertNext(page -> {
+                    assertThat(page.getContent()).extracting(SongStatisticsEntity::artist).containsExactly("NewJeans");
+                    assertThat(page.getTotalElements()).isEqualTo(1L);
+                })
+                .verifyComplete();
+        songStatisticsQueryService.searchAlbumStats(null, "ive", PageRequest.of(0, 10))
+                .as(StepVerifier::create)
+                .verifyError(AlbumStatsIndexNotReadyException.class);
+        verifyNoInteractions(songStatisticsRepository);
+    }
+
+    @Test
+    @DisplayName("가수명 검색어가 비어 있거나 너무 길면 예외가 발생한다")
+    void searchAlbumStatsInvalidQuery() {
+        songStatisticsQueryService.searchAlbumStats(null, " ", PageRequest.of(0, 10))
+                .as(StepVerifier::create)
+                .verifyError(IllegalArgumentException.class);
+        songStatisticsQueryService.searchAlbumStats(null, "a".repeat(101), PageRequest.of(0, 10))
+                .as(StepVerifier::create)
+                .verifyError(IllegalArgumentException.class);
+    }
 }
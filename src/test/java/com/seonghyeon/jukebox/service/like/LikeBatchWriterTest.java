@@ -112,6 +112,53 @@ class LikeBatchWriterTest extends AbstractIntegrationTest {
         verifyTotalLikes(1L, 1L);
     }
 
+    @Test
+    @DisplayName("청크 크기(1000)를 초과하는 스냅샷도 여러 번의 일괄 UPDATE로 모두 반영되어야 한다")
+    void updateSnapshotLargerThanChunk() {
+        databaseClient.sql("DELETE FROM songs").fetch().rowsUpdated().block();
+
+        // given: 1500개의 노래 데이터 준비 (청크 2개)
+        int songCount = 1500;
+        Map<Long, Long> snapshot = new HashMap<>();
+
+        Flux.range(1, songCount)
+                .flatMap(i -> databaseClient.sql("INSERT INTO songs (id, title, total_likes) VALUES (:id, :title, 0)")
+                        .bind("id", i)
+                        .bind("title", "Song " + i)
+                        .fetch().rowsUpdated(), 16)
+                .blockLast();
+
+        for (long i = 1; i <= songCount; i++) {
+            snapshot.put(i, i % 2 == 0 ? 2L : -1L);
+        }
+
+        // when
+        likeBatchWriter.updateLike(snapshot)
+                .as(StepVerifier::create)
+                .verifyComplete();
+
+        // then
+        verifyTotalLikes(1L, -1L);
+        verifyTotalLikes(1000L, 2L);
+        verifyTotalLikes(1001L, -1L);
+        verifyTotalLikes(1500L, 2L);
+    }
+
+    @Test
+    @DisplayName("존재하는 곡과 존재하지 않는 곡이 섞여 있으면 존재하는 곡만 반영된다")
+    void updateMixedExistingAndMissingSongs() {
+        // given
+        Map<Long, Long> snapshot = Map.of(1L, 3L, 999L, 5L);
+
+        // when
+        likeBatchWriter.updateLike(snapshot)
+                .as(StepVerifier::create)
+                .verifyComplete();
+
+        // then
+        verifyTotalLikes(1L, 13L);
+    }
+
     @Test
     @DisplayName("좋아요 취소로 인해 총 좋아요 수가 음수가 되는 경우 (성공 후 운영자 메뉴얼 처리)")
     void updateLikeResultNegative() {
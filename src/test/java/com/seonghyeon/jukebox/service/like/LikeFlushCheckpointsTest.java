@@ -0,0 +1,88 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+class LikeFlushCheckpointsTest extends AbstractIntegrationTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 30, 10, 0, 0);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    private LikeFlushCheckpoints likeFlushCheckpoints;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM like_flush_checkpoints").fetch().rowsUpdated().block();
+        likeFlushCheckpoints = new LikeFlushCheckpoints(databaseClient, Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE));
+    }
+
+    @Test
+    @DisplayName("같은 청크 ID는 한 번만 기록된다")
+    void claimOnce() {
+        StepVerifier.create(likeFlushCheckpoints.claim("chunk-1")).expectNext(true).verifyComplete();
+        StepVerifier.create(likeFlushCheckpoints.claim("chunk-1")).expectNext(false).verifyComplete();
+        StepVerifier.create(likeFlushCheckpoints.claim("chunk-2")).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 청크 기록도 취소되어 재처리할 수 있다")
+    void rollbackClaim() {
+        // given
+        likeFlushCheckpoints.claim("chunk-1")
+                .then(Mono.error(new RuntimeException("DB Connection Fail")))
+                .as(transactionalOperator::transactional)
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        // when & then
+        StepVerifier.create(likeFlushCheckpoints.claim("chunk-1")).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("접두사가 같은 기록 중 가장 큰 번호를 조회한다")
+    void findLastSequence() {
+        // given
+        likeFlushCheckpoints.claim("journal:a:9").block();
+        likeFlushCheckpoints.claim("journal:a:10").block();
+        likeFlushCheckpoints.claim("journal:b:99").block();
+        likeFlushCheckpoints.claim("chunk-1").block();
+
+        // when & then: 문자열 순서가 아닌 번호 순서로 비교
+        StepVerifier.create(likeFlushCheckpoints.findLastSequence("journal:a:")).expectNext(10L).verifyComplete();
+        StepVerifier.create(likeFlushCheckpoints.findLastSequence("journal:c:")).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 기록만 삭제한다")
+    void purgeExpired() {
+        // given
+        databaseClient.sql("INSERT INTO like_flush_checkpoints (chunk_id, created_at) VALUES ('old', :old), ('recent', :recent)")
+                .bind("old", NOW.minusDays(8))
+                .bind("recent", NOW.minusDays(1))
+                .fetch().rowsUpdated().block();
+
+        // when
+        StepVerifier.create(likeFlushCheckpoints.purgeExpired()).verifyComplete();
+
+        // then
+        StepVerifier.create(likeFlushCheckpoints.claim("old")).expectNext(true).verifyComplete();
+        StepVerifier.create(likeFlushCheckpoints.claim("recent")).expectNext(false).verifyComplete();
+    }
+}
@@ -0,0 +1,99 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.AbstractIntegrationTest;
+import com.seonghyeon.jukebox.entity.SongLikeEntity;
+import com.seonghyeon.jukebox.entity.like.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+class LikeHistoryWriterTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private LikeHistoryWriter likeHistoryWriter;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM song_likes").fetch().rowsUpdated().block();
+        databaseClient.sql("DELETE FROM songs").fetch().rowsUpdated().block();
+        databaseClient.sql("INSERT INTO songs (id, title, total_likes) VALUES (1, 'Song A', 0)").fetch().rowsUpdated().block();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 좋아요 이력이 유실 없이 모두 저장된다")
+    void concurrentWritesAreAllPersisted() {
+        // given
+        int eventCount = 1000;
+
+        // when: 1000건을 동시에 요청
+        Flux.range(1, eventCount)
+                .flatMap(userId -> likeHistoryWriter.write(SongLikeEntity.of(1L, (long) userId, Action.LIKE)), eventCount)
+                .as(StepVerifier::create)
+                .verifyComplete();
+
+        // then: 호출자의 Mono가 완료된 시점에는 모두 커밋되어 있어야 함
+        verifyHistoryCount(1L, eventCount);
+    }
+
+    @Test
+    @DisplayName("배치 내 일부 이벤트가 실패하면 해당 호출자만 에러를 받고 나머지는 저장된다")
+    void failedEventDoesNotAffectOthers() {
+        // given: 곡 ID가 없는 이벤트는 저장 실패 (song_likes는 파티션 테이블이라 FK 제약조건이 없음)
+        Mono<Void> valid = likeHistoryWriter.write(SongLikeEntity.of(1L, 100L, Action.LIKE));
+        Mono<Void> invalid = likeHistoryWriter.write(SongLikeEntity.of(null, 100L, Action.LIKE));
+
+        // when & then
+        Mono.when(valid, invalid.onErrorResume(e -> Mono.empty())).block();
+        StepVerifier.create(likeHistoryWriter.write(SongLikeEntity.of(null, 101L, Action.LIKE)))
+                .expectError()
+                .verify();
+
+        verifyHistoryCount(1L, 1);
+    }
+
+    @Test
+    @DisplayName("파이프라인이 에러로 종료되어도 해당 호출자에게 에러를 전달하고 이후 요청은 정상 처리한다")
+    void pipelineRestartsAfterTerminalError() {
+        // given: 첫 번째 배치에서 동기 예외가 발생하여 파이프라인이 종료됨
+        DatabaseClient failingOnce = spy(databaseClient);
+        doThrow(new IllegalStateException("boom")).doCallRealMethod().when(failingOnce).inConnection(any());
+        LikeHistoryWriter writer = new LikeHistoryWriter(failingOnce, 10, Duration.ofMillis(5));
+
+        try {
+            // when & then
+            StepVerifier.create(writer.write(SongLikeEntity.of(1L, 100L, Action.LIKE)))
+                    .expectError(IllegalStateException.class)
+                    .verify(Duration.ofSeconds(5));
+            StepVerifier.create(writer.write(SongLikeEntity.of(1L, 101L, Action.LIKE)))
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+            verifyHistoryCount(1L, 1);
+        } finally {
+            writer.onDestroy();
+        }
+    }
+
+    private void verifyHistoryCount(Long songId, long expected) {
+        databaseClient.sql("SELECT COUNT(*) AS cnt FROM song_likes WHERE song_id = :songId")
+                .bind("songId", songId)
+                .map(row -> row.get("cnt", Long.class))
+                .one()
+                .as(StepVerifier::create)
+                .expectNext(expected)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,121 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeOutboxReplayerTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private LikeOutboxReplayer likeOutboxReplayer;
+
+    @Autowired
+    private LikeFlushCheckpoints likeFlushCheckpoints;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @TempDir
+    Path outboxPath;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM like_flush_checkpoints").fetch().rowsUpdated().block();
+        databaseClient.sql("DELETE FROM songs").fetch().rowsUpdated().block();
+        databaseClient.sql("INSERT INTO songs (id, title, total_likes) VALUES (1, 'Song A', 10), (2, 'Song B', 20)").fetch().rowsUpdated().block();
+    }
+
+    @Test
+    @DisplayName("백업 파일의 증감분을 DB에 반영하고, 파일은 archive로 이동한다")
+    void replayAndArchive() throws IOException {
+        // given
+        Files.writeString(outboxPath.resolve("backup-1.json"), "{\"1\":5,\"2\":-3}");
+        Files.writeString(outboxPath.resolve("backup-2.json"), "{\"1\":1}");
+
+        // when
+        int replayed = likeOutboxReplayer.replayAll(outboxPath);
+
+        // then
+        assertThat(replayed).isEqualTo(2);
+        verifyTotalLikes(1L, 16L);
+        verifyTotalLikes(2L, 17L);
+        assertThat(outboxPath.resolve("archive/backup-1.json")).exists();
+        assertThat(outboxPath.resolve("archive/backup-2.json")).exists();
+        assertThat(outboxPath.resolve("backup-1.json")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("이미 반영된 배치(반영 후 보관 전 재기동)는 다시 반영하지 않는다")
+    void skipAppliedBatch() throws IOException {
+        // given
+        Files.writeString(outboxPath.resolve("backup-1.json"), "{\"1\":5}");
+        likeFlushCheckpoints.claim("outbox:backup-1.json:1").block();
+
+        // when
+        likeOutboxReplayer.replayAll(outboxPath);
+
+        // then
+        verifyTotalLikes(1L, 10L);
+        assertThat(outboxPath.resolve("archive/backup-1.json")).exists();
+    }
+
+    @Test
+    @DisplayName("반영 도중 재기동되면 이미 반영된 항목 이후부터 반영한다 (배치 크기와 무관)")
+    void resumeAfterAppliedEntries() throws IOException {
+        // given: 앞의 두 항목(오염된 항목 포함)까지 반영된 상태
+        Files.writeString(outboxPath.resolve("backup-1.json"), "{\"1\":5,\"InvalidKey\":3,\"2\":-3,\"1\":1}");
+        likeFlushCheckpoints.claim("outbox:backup-1.json:2").block();
+
+        // when
+        likeOutboxReplayer.replayAll(outboxPath);
+
+        // then
+        verifyTotalLikes(1L, 11L);
+        verifyTotalLikes(2L, 17L);
+        assertThat(outboxPath.resolve("archive/backup-1.json")).exists();
+    }
+
+    @Test
+    @DisplayName("오염된 항목은 건너뛰고, 파싱할 수 없는 파일은 failed로 이동한다")
+    void handleCorruptedFiles() throws IOException {
+        // given
+        Files.writeString(outboxPath.resolve("backup-1.json"), "{\"1\":5,\"InvalidKey\":3,\"2\":\"NotANumber\"}");
+        Files.writeString(outboxPath.resolve("backup-2.json"), "{\"2\":1,"); // 기록 도중 중단된 파일
+
+        // when
+        int replayed = likeOutboxReplayer.replayAll(outboxPath);
+
+        // then
+        assertThat(replayed).isEqualTo(1);
+        verifyTotalLikes(1L, 15L);
+        verifyTotalLikes(2L, 20L);
+        assertThat(outboxPath.resolve("failed/backup-2.json")).exists();
+    }
+
+    @Test
+    @DisplayName("백업 디렉토리가 없으면 아무것도 하지 않는다")
+    void noOutboxDirectory() {
+        assertThat(likeOutboxReplayer.replayAll(outboxPath.resolve("missing"))).isZero();
+    }
+
+    private void verifyTotalLikes(Long songId, Long expected) {
+        databaseClient.sql("SELECT total_likes FROM songs WHERE id = :id")
+                .bind("id", songId)
+                .map(row -> row.get("total_likes", Long.class))
+                .one()
+                .as(StepVerifier::create)
+                .expectNext(expected)
+                .verifyComplete();
+    }
+}
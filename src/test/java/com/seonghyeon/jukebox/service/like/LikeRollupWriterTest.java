@@ -0,0 +1,180 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.AbstractIntegrationTest;
+import com.seonghyeon.jukebox.entity.SongLikeEntity;
+import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.repository.SongLikeRepository;
+import com.seonghyeon.jukebox.repository.dto.SongLikeCountDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeRollupWriterTest extends AbstractIntegrationTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 30, 10, 0, 30);
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private SongLikeRepository songLikeRepository;
+
+    private LikeRollupWriter likeRollupWriter;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM song_likes").fetch().rowsUpdated().block();
+        databaseClient.sql("DELETE FROM songs").fetch().rowsUpdated().block();
+        databaseClient.sql("DELETE FROM song_like_rollups").fetch().rowsUpdated().block();
+        databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = 0, observed_id = 0, observed_at = '1970-01-01 00:00:00' WHERE id = 1").fetch().rowsUpdated().block();
+        databaseClient.sql("INSERT INTO songs (id, title, total_likes) VALUES (1, 'Song A', 0), (2, 'Song B', 0)").fetch().rowsUpdated().block();
+
+        likeRollupWriter = writerAt(NOW);
+    }
+
+    @Test
+    @DisplayName("최대 id를 관측하고 SETTLE_DELAY가 지난 뒤, 관측한 id까지의 이력을 곡별/분 단위로 집계한다")
+    void rollUpObservedIdsAfterSettleDelay() {
+        // given
+        songLikeRepository.saveAll(List.of(
+                SongLikeEntity.of(1L, 101L, Action.LIKE, NOW.minusMinutes(30).withSecond(5)),
+                SongLikeEntity.of(1L, 102L, Action.LIKE, NOW.minusMinutes(30).withSecond(40)),
+                SongLikeEntity.of(1L, 101L, Action.UNLIKE, NOW.minusMinutes(10)),
+                SongLikeEntity.of(2L, 103L, Action.LIKE, NOW.minusMinutes(10)),
+                SongLikeEntity.of(2L, 104L, Action.LIKE, NOW)
+        )).blockLast();
+        Long maxId = maxId();
+
+        // when: 관측 직후에는 아직 커밋되지 않은 낮은 id가 있을 수 있으므로 집계하지 않음
+        StepVerifier.create(likeRollupWriter.rollUp()).verifyComplete();
+        assertThat(rolledUpId()).isZero();
+        StepVerifier.create(writerAt(NOW.plusSeconds(5)).rollUp()).verifyComplete();
+        assertThat(rolledUpId()).isZero();
+
+        StepVerifier.create(writerAt(NOW.plusSeconds(10)).rollUp()).verifyComplete();
+
+        // then
+        assertThat(rollupCount(1L, NOW.minusMinutes(30).withSecond(0))).isEqualTo(2L);
+        assertThat(rollupCount(1L, NOW.minusMinutes(10).withSecond(0))).isEqualTo(-1L);
+        assertThat(rollupCount(2L, NOW.minusMinutes(10).withSecond(0))).isEqualTo(1L);
+        assertThat(rollupCount(2L, NOW.withSecond(0))).isEqualTo(1L);
+        assertThat(rolledUpId()).isEqualTo(maxId);
+    }
+
+    @Test
+    @DisplayName("이미 집계한 이력은 다시 실행해도 중복 집계하지 않는다")
+    void rollUpIsIdempotent() {
+        // given
+        songLikeRepository.save(SongLikeEntity.of(1L, 101L, Action.LIKE, NOW.minusMinutes(5))).block();
+
+        // when
+        rollUpSettled();
+        rollUpSettled();
+
+        // then
+        assertThat(rollupCount(1L, NOW.minusMinutes(5).withSecond(0))).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("롤업 이후 늦게 기록된 지난 분의 이력도 인기 곡에 합산되고, 다음 롤업에서 해당 분 구간에 더해진다")
+    void lateHistoryIsRolledUpIntoItsBucket() {
+        // given
+        LocalDateTime since = NOW.minusHours(1);
+        songLikeRepository.save(SongLikeEntity.of(1L, 101L, Action.LIKE, NOW.minusMinutes(30))).block();
+        rollUpSettled();
+
+        // 재시도 등으로 30분 전 요청이 롤업 이후에 기록됨
+        songLikeRepository.save(SongLikeEntity.of(1L, 102L, Action.LIKE, NOW.minusMinutes(30))).block();
+
+        // when & then: 롤업 전에는 원본 이력으로 합산
+        StepVerifier.create(songLikeRepository.findTopLikedSongs(since, 10).map(SongLikeCountDto::likeCount))
+                .expectNext(2L)
+                .verifyComplete();
+
+        // 롤업 후에는 해당 분 구간에 더해지고, 중복 합산되지 않음
+        writerAt(NOW.plusSeconds(10)).rollUp().block();
+        writerAt(NOW.plusSeconds(20)).rollUp().block();
+        assertThat(rollupCount(1L, NOW.minusMinutes(30).withSecond(0))).isEqualTo(2L);
+        StepVerifier.create(songLikeRepository.findTopLikedSongs(since, 10).map(SongLikeCountDto::likeCount))
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("인기 곡 조회는 롤업된 구간과 롤업 이후의 원본 이력을 합산하며, 윈도우 시작 분의 일부는 원본으로 정확히 계산한다")
+    void topLikedCombinesRollupsAndRawHistory() {
+        // given
+        LocalDateTime since = NOW.minusHours(1); // 09:00:30
+        songLikeRepository.saveAll(List.of(
+                SongLikeEntity.of(1L, 101L, Action.LIKE, since.minusSeconds(10)), // 윈도우 이전 (같은 분) -> 제외
+                SongLikeEntity.of(1L, 102L, Action.LIKE, since.plusSeconds(10)),  // 윈도우 시작 분 -> 포함
+                SongLikeEntity.of(1L, 103L, Action.LIKE, NOW.minusMinutes(20)),
+                SongLikeEntity.of(2L, 104L, Action.LIKE, NOW.minusMinutes(20))
+        )).blockLast();
+        rollUpSettled();
+
+        // 롤업 이후 기록된 이력
+        songLikeRepository.save(SongLikeEntity.of(2L, 105L, Action.LIKE, NOW)).block();
+        songLikeRepository.save(SongLikeEntity.of(2L, 106L, Action.LIKE, NOW)).block();
+
+        // when & then
+        StepVerifier.create(songLikeRepository.findTopLikedSongs(since, 10))
+                .assertNext(dto -> {
+                    assertThat(dto.songId()).isEqualTo(2L);
+                    assertThat(dto.likeCount()).isEqualTo(3L);
+                })
+                .assertNext(dto -> {
+                    assertThat(dto.songId()).isEqualTo(1L);
+                    assertThat(dto.likeCount()).isEqualTo(2L);
+                })
+                .verifyComplete();
+    }
+
+    private Long rollupCount(Long songId, LocalDateTime bucketStart) {
+        return databaseClient.sql("SELECT like_count FROM song_like_rollups WHERE song_id = :songId AND bucket_start = :bucketStart")
+                .bind("songId", songId)
+                .bind("bucketStart", bucketStart)
+                .map(row -> row.get("like_count", Long.class))
+                .one()
+                .block();
+    }
+
+    // 최대 id 관측 -> SETTLE_DELAY 이후 집계
+    private void rollUpSettled() {
+        likeRollupWriter.rollUp().block();
+        writerAt(NOW.plusSeconds(10)).rollUp().block();
+    }
+
+    private LikeRollupWriter writerAt(LocalDateTime now) {
+        return new LikeRollupWriter(databaseClient, transactionalOperator, Clock.fixed(now.atZone(ZONE).toInstant(), ZONE));
+    }
+
+    private Long rolledUpId() {
+        return databaseClient.sql("SELECT rolled_up_id FROM song_like_rollup_watermark WHERE id = 1")
+                .map(row -> row.get("rolled_up_id", Long.class))
+                .one()
+                .block();
+    }
+
+    private Long maxId() {
+        return databaseClient.sql("SELECT MAX(id) AS max_id FROM song_likes")
+                .map(row -> row.get("max_id", Long.class))
+                .one()
+                .block();
+    }
+}
@@ -0,0 +1,97 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.repository.SongLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeStateIndexTest {
+
+    @Mock
+    private SongLikeRepository songLikeRepository;
+
+    private LikeStateIndex likeStateIndex;
+
+    @BeforeEach
+    void setUp() {
+        likeStateIndex = new LikeStateIndex(songLikeRepository, true, 100);
+    }
+
+    @Test
+    @DisplayName("곡의 좋아요 상태는 최초 조회 시 한 번만 DB에서 적재된다")
+    void loadOnlyOnce() {
+        // given
+        given(songLikeRepository.findCurrentLikedUserIds(1L)).willReturn(Flux.just(100L, 200L));
+
+        // when & then
+        StepVerifier.create(likeStateIndex.isLiked(1L, 100L)).expectNext(true).verifyComplete();
+        StepVerifier.create(likeStateIndex.isLiked(1L, 200L)).expectNext(true).verifyComplete();
+        StepVerifier.create(likeStateIndex.isLiked(1L, 300L)).expectNext(false).verifyComplete();
+
+        verify(songLikeRepository, times(1)).findCurrentLikedUserIds(1L);
+        verify(songLikeRepository, never()).countLikeState(any(), any());
+    }
+
+    @Test
+    @DisplayName("적재된 곡은 좋아요/취소 이벤트가 인덱스에 즉시 반영된다")
+    void markUpdatesLoadedSong() {
+        // given
+        given(songLikeRepository.findCurrentLikedUserIds(1L)).willReturn(Flux.empty());
+        likeStateIndex.isLiked(1L, 100L).block();
+
+        // when & then
+        likeStateIndex.markLiked(1L, 100L);
+        StepVerifier.create(likeStateIndex.isLiked(1L, 100L)).expectNext(true).verifyComplete();
+
+        likeStateIndex.markUnliked(1L, 100L);
+        StepVerifier.create(likeStateIndex.isLiked(1L, 100L)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 곡에 대한 갱신은 무시되고, 다음 조회 시 DB의 최신 상태를 적재한다")
+    void markIgnoredForUnloadedSong() {
+        // given
+        likeStateIndex.markLiked(1L, 100L);
+        given(songLikeRepository.findCurrentLikedUserIds(1L)).willReturn(Flux.just(100L));
+
+        // when & then
+        StepVerifier.create(likeStateIndex.isLiked(1L, 100L)).expectNext(true).verifyComplete();
+        verify(songLikeRepository, times(1)).findCurrentLikedUserIds(1L);
+    }
+
+    @Test
+    @DisplayName("적재에 실패한 결과는 캐시되지 않고 다음 조회 시 다시 적재한다")
+    void failedLoadIsNotCached() {
+        // given
+        given(songLikeRepository.findCurrentLikedUserIds(1L))
+                .willReturn(Flux.error(new RuntimeException("DB Error")))
+                .willReturn(Flux.just(100L));
+
+        // when & then
+        StepVerifier.create(likeStateIndex.isLiked(1L, 100L)).expectError(RuntimeException.class).verify();
+        StepVerifier.create(likeStateIndex.isLiked(1L, 100L)).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("인덱스가 비활성화되면 현재 상태 테이블 조회로 좋아요 여부를 판별한다")
+    void disabledIndexUsesStateQuery() {
+        // given
+        LikeStateIndex disabledIndex = new LikeStateIndex(songLikeRepository, false, 100);
+        given(songLikeRepository.countLikeState(1L, 100L)).willReturn(Mono.just(1));
+
+        // when & then
+        StepVerifier.create(disabledIndex.isLiked(1L, 100L)).expectNext(true).verifyComplete();
+        verify(songLikeRepository, never()).findCurrentLikedUserIds(any());
+    }
+}
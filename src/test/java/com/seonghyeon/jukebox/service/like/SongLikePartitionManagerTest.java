@@ -0,0 +1,167 @@
+package com.seonghyeon.jukebox.service.like;
+
+import com.seonghyeon.jukebox.AbstractIntegrationTest;
+import com.seonghyeon.jukebox.entity.SongLikeEntity;
+import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.repository.SongLikeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SongLikePartitionManagerTest extends AbstractIntegrationTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int RETENTION_DAYS = 30;
+    private static final int PRECREATE_DAYS = 2;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private SongLikeRepository songLikeRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        databaseClient.sql("DELETE FROM song_likes").fetch().rowsUpdated().block();
+        databaseClient.sql("DELETE FROM song_like_compacted_states").fetch().rowsUpdated().block();
+        databaseClient.sql("UPDATE song_like_compaction_watermark SET compacted_until = '1970-01-01 00:00:00', compacted_id = 0 WHERE id = 1").fetch().rowsUpdated().block();
+        databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = 0, observed_id = 0, observed_at = '1970-01-01 00:00:00' WHERE id = 1").fetch().rowsUpdated().block();
+    }
+
+    @Test
+    @DisplayName("이후 파티션을 미리 만들고, 보관 기간이 지난 파티션은 (곡, 사용자)별 상태로 압축한 뒤 삭제한다")
+    void maintainPartitions() {
+        // given: 2025-10-01 기준 파티션 생성
+        managerAt(LocalDateTime.of(2025, 10, 1, 0, 10)).maintain().block();
+        StepVerifier.create(managerAt(LocalDateTime.of(2025, 10, 1, 0, 10)).listPartitionDays().collectList())
+                .assertNext(days -> assertThat(days).contains(
+                        LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 2), LocalDate.of(2025, 10, 3)))
+                .verifyComplete();
+
+        songLikeRepository.saveAll(List.of(
+                SongLikeEntity.of(1L, 101L, Action.LIKE, LocalDateTime.of(2025, 10, 1, 10, 0)),
+                SongLikeEntity.of(1L, 102L, Action.LIKE, LocalDateTime.of(2025, 10, 2, 10, 0)),
+                SongLikeEntity.of(1L, 102L, Action.UNLIKE, LocalDateTime.of(2025, 10, 2, 11, 0)),
+                SongLikeEntity.of(1L, 103L, Action.LIKE, LocalDateTime.of(2025, 10, 2, 12, 0)),
+                SongLikeEntity.of(1L, 103L, Action.UNLIKE, LocalDateTime.of(2025, 12, 29, 12, 0)) // 보관 기간 이내
+        )).blockLast();
+        databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = (SELECT MAX(id) FROM song_likes) WHERE id = 1").fetch().rowsUpdated().block();
+
+        // when: 보관 기간(30일)이 지난 2025-12-30에 실행
+        SongLikePartitionManager manager = managerAt(LocalDateTime.of(2025, 12, 30, 0, 10));
+        manager.maintain().block();
+
+        // then: 2025-11-30 이전 파티션은 삭제되고 이후 파티션이 생성됨
+        StepVerifier.create(manager.listPartitionDays().collectList())
+                .assertNext(days -> assertThat(days).containsExactly(
+                        LocalDate.of(2025, 12, 30), LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1)))
+                .verifyComplete();
+        StepVerifier.create(songLikeRepository.count()).expectNext(1L).verifyComplete();
+
+        // 압축된 상태와 남은 이력을 합산하여 좋아요 상태가 유지됨
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 101L)).expectNext(1).verifyComplete();
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 102L)).expectNext(0).verifyComplete();
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 103L)).expectNext(0).verifyComplete();
+        StepVerifier.create(songLikeRepository.findLikedUserIds(1L).collectList())
+                .expectNext(List.of(101L))
+                .verifyComplete();
+
+        // 다시 실행해도 같은 상태 유지
+        manager.maintain().block();
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 101L)).expectNext(1).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("롤업되지 않은 이력은 압축하지 않고 원본으로 합산하며, 순증감이 0인 (곡, 사용자)는 압축 상태에 남기지 않는다")
+    void compactUpToRollupWatermark() {
+        // given
+        songLikeRepository.saveAll(List.of(
+                SongLikeEntity.of(1L, 101L, Action.LIKE, LocalDateTime.of(2025, 10, 1, 10, 0)),
+                SongLikeEntity.of(1L, 102L, Action.LIKE, LocalDateTime.of(2025, 10, 1, 11, 0)),
+                SongLikeEntity.of(1L, 102L, Action.UNLIKE, LocalDateTime.of(2025, 10, 1, 12, 0)),
+                SongLikeEntity.of(2L, 101L, Action.LIKE, LocalDateTime.of(2025, 10, 5, 10, 0)) // 롤업 이전 -> 압축 제외
+        )).blockLast();
+        databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = (SELECT MAX(id) FROM song_likes WHERE song_id = 1) WHERE id = 1")
+                .fetch().rowsUpdated().block();
+        SongLikePartitionManager manager = managerAt(LocalDateTime.of(2025, 12, 30, 0, 10));
+
+        // when
+        manager.compact(LocalDateTime.of(2025, 11, 30, 0, 0)).block();
+
+        // then
+        StepVerifier.create(databaseClient.sql("SELECT compacted_until FROM song_like_compaction_watermark WHERE id = 1")
+                        .map(row -> row.get("compacted_until", LocalDateTime.class))
+                        .one())
+                .expectNext(LocalDateTime.of(2025, 11, 30, 0, 0))
+                .verifyComplete();
+        StepVerifier.create(databaseClient.sql("SELECT song_id, user_id, like_status FROM song_like_compacted_states")
+                        .map(row -> List.of(row.get("song_id", Long.class), row.get("user_id", Long.class), row.get("like_status", Number.class).longValue()))
+                        .all()
+                        .collectList())
+                .expectNext(List.of(List.of(1L, 101L, 1L)))
+                .verifyComplete();
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 101L)).expectNext(1).verifyComplete();
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(2L, 101L)).expectNext(1).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("이미 압축된 날짜에 늦게 기록된 이력은 상태 조회에 포함되고, 다음 압축에서 합산될 때까지 그 이력의 파티션을 삭제하지 않는다")
+    void lateHistoryIsCompactedBeforeDrop() {
+        // given: 2025-10-01 ~ 10-02 이력을 압축
+        SongLikePartitionManager manager = managerAt(LocalDateTime.of(2025, 10, 1, 0, 10));
+        manager.addPartitions(LocalDate.of(2025, 10, 1)).block();
+        songLikeRepository.saveAll(List.of(
+                SongLikeEntity.of(1L, 101L, Action.LIKE, LocalDateTime.of(2025, 10, 1, 10, 0)),
+                SongLikeEntity.of(1L, 102L, Action.LIKE, LocalDateTime.of(2025, 10, 2, 10, 0))
+        )).blockLast();
+        databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = (SELECT MAX(id) FROM song_likes) WHERE id = 1").fetch().rowsUpdated().block();
+        manager.compact(LocalDateTime.of(2025, 10, 3, 0, 0)).block();
+
+        // when: 압축된 날짜(10-02)의 이력이 늦게 기록됨 (아직 롤업 전)
+        songLikeRepository.save(SongLikeEntity.of(1L, 103L, Action.LIKE, LocalDateTime.of(2025, 10, 2, 11, 0))).block();
+        manager.compact(LocalDateTime.of(2025, 10, 3, 0, 0)).block();
+        manager.dropCompactedPartitions().block();
+
+        // then: 압축되지 않은 늦은 이력은 삭제되지 않고 상태 조회에 포함됨
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 103L)).expectNext(1).verifyComplete();
+        StepVerifier.create(songLikeRepository.findLikedUserIds(1L).collectList())
+                .assertNext(userIds -> assertThat(userIds).containsExactlyInAnyOrder(101L, 102L, 103L))
+                .verifyComplete();
+
+        // when: 롤업된 뒤 다시 압축
+        databaseClient.sql("UPDATE song_like_rollup_watermark SET rolled_up_id = (SELECT MAX(id) FROM song_likes) WHERE id = 1").fetch().rowsUpdated().block();
+        manager.compact(LocalDateTime.of(2025, 10, 3, 0, 0)).block();
+        manager.dropCompactedPartitions().block();
+
+        // then: 늦은 이력이 압축 상태에 한 번만 합산됨
+        StepVerifier.create(databaseClient.sql("SELECT like_status FROM song_like_compacted_states WHERE song_id = 1 AND user_id = 103")
+                        .map(row -> row.get("like_status", Number.class).longValue())
+                        .one())
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 103L)).expectNext(1).verifyComplete();
+        StepVerifier.create(songLikeRepository.countUserLikeStatus(1L, 101L)).expectNext(1).verifyComplete();
+    }
+
+    private SongLikePartitionManager managerAt(LocalDateTime now) {
+        return new SongLikePartitionManager(databaseClient, transactionalOperator, Clock.fixed(now.atZone(ZONE).toInstant(), ZONE),
+                false, RETENTION_DAYS, PRECREATE_DAYS);
+    }
+}
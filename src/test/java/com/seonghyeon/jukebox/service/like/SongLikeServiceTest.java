@@ -1,13 +1,18 @@
 package com.seonghyeon.jukebox.service.like;
 
+import com.seonghyeon.jukebox.common.cache.SingleFlightCache;
 import com.seonghyeon.jukebox.common.exception.like.AlreadyLikedException;
 import com.seonghyeon.jukebox.common.exception.like.NotLikedException;
 import com.seonghyeon.jukebox.common.exception.like.SongNotFoundException;
-import com.seonghyeon.jukebox.entity.SongLikeEntity;
 import com.seonghyeon.jukebox.entity.like.Action;
 import com.seonghyeon.jukebox.repository.SongLikeRepository;
 import com.seonghyeon.jukebox.repository.SongRepository;
+import com.seonghyeon.jukebox.repository.dto.SongLikeCountDto;
+import com.seonghyeon.jukebox.repository.dto.SongSummaryDto;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy;
 import com.seonghyeon.jukebox.service.like.strategy.LikeWriteStrategy;
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
+import com.seonghyeon.jukebox.service.song.SongCatalogIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,8 +25,10 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.*;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -34,7 +41,13 @@ class SongLikeServiceTest {
     @Mock
     private SongRepository songRepository;
     @Mock
+    private SongCatalogIndex songCatalogIndex;
+    @Mock
     private LikeWriteStrategy likeWriteStrategy;
+    @Mock
+    private LikeStateIndex likeStateIndex;
+    @Mock
+    private LikeHistoryWriter likeHistoryWriter;
 
     private SongLikeService songLikeService;
 
@@ -42,11 +55,12 @@ class SongLikeServiceTest {
 
     @BeforeEach
     void setUp() {
-        songLikeService = new SongLikeService(likeWriteStrategy, songLikeRepository, songRepository);
+        songLikeService = new SongLikeService(likeWriteStrategy, songLikeRepository, songRepository, songCatalogIndex, likeStateIndex, likeHistoryWriter,
+                new SingleFlightCache<>(Duration.ZERO, Duration.ZERO, fixedClock), fixedClock);
     }
 
     @Test
-    @DisplayName("정해진 시간 범위(window)를 기준으로 인기 곡을 조회한다")
+    @DisplayName("전략이 윈도우를 집계하지 않으면 고정된 시각 기준으로 DB에서 인기 곡을 조회한다")
     void getTopLikedSongs_withFixedClock() {
         // given
         Duration window = Duration.ofHours(1);
@@ -54,35 +68,62 @@ class SongLikeServiceTest {
         // 고정된 시간 10시에서 1시간 전인 9시가 기준(since)이 되어야 함
         LocalDateTime expectedSince = LocalDateTime.now(fixedClock).minus(window);
 
+        given(likeWriteStrategy.findTopLiked(window, limit)).willReturn(Mono.empty());
         given(songLikeRepository.findTopLikedSongs(eq(expectedSince), eq(limit)))
                 .willReturn(Flux.empty());
 
         // when
-        songLikeService.getTopLikedSongs(expectedSince, limit).subscribe();
+        songLikeService.getTopLikedSongs(window, limit).subscribe();
 
         // then
         verify(songLikeRepository).findTopLikedSongs(expectedSince, limit);
     }
 
     @Test
-    @DisplayName("좋아요 실행 시 곡 확인, 유저 상태 확인, 저장, 전략 실행 순으로 진행된다")
+    @DisplayName("전략이 집계한 인기 곡이 있으면 DB 집계 없이 순서를 유지하여 곡 정보를 채워 반환한다")
+    void getTopLikedSongs_fromStrategy() {
+        // given
+        Duration window = Duration.ofHours(1);
+        List<SongLikeScore> scores = List.of(new SongLikeScore(2L, 30L), new SongLikeScore(1L, 10L), new SongLikeScore(3L, 5L));
+        given(likeWriteStrategy.findTopLiked(window, 10)).willReturn(Mono.just(scores));
+        // IN 조회 결과 순서는 보장되지 않으며, 곡 3은 존재하지 않음
+        given(songRepository.findSummariesByIdIn(List.of(2L, 1L, 3L))).willReturn(Flux.just(
+                new SongSummaryDto(1L, "title1", "artist1", "album1"),
+                new SongSummaryDto(2L, "title2", "artist2", "album2")
+        ));
+
+        // when & then
+        StepVerifier.create(songLikeService.getTopLikedSongs(window, 10))
+                .expectNext(new SongLikeCountDto(2L, "title2", "artist2", "album2", 30L))
+                .expectNext(new SongLikeCountDto(1L, "title1", "artist1", "album1", 10L))
+                .verifyComplete();
+
+        verify(songLikeRepository, never()).findTopLikedSongs(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("좋아요 실행 시 곡 확인, 유저 상태 확인, 상태 변경, 저장, 전략 실행 순으로 진행된다")
     void likeSong_executionOrder() {
         // given
         Long songId = 1L;
         Long userId = 100L;
-        given(songRepository.existsById(songId)).willReturn(Mono.just(true));
-        given(songLikeRepository.countUserLikeStatus(songId, userId)).willReturn(Mono.just(0));
-        given(songLikeRepository.save(any())).willReturn(Mono.just(SongLikeEntity.of(songId, userId, Action.LIKE)));
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(true));
+        given(likeStateIndex.isEnabled()).willReturn(true);
+        given(likeStateIndex.isLiked(songId, userId)).willReturn(Mono.just(false));
+        given(songLikeRepository.changeLikeState(songId, userId, Action.LIKE)).willReturn(Mono.just(true));
+        given(likeHistoryWriter.write(any())).willReturn(Mono.empty());
         given(likeWriteStrategy.addLike(songId)).willReturn(Mono.empty());
 
         // when
         songLikeService.likeSong(songId, userId).block();
 
         // then
-        InOrder inOrder = inOrder(songRepository, songLikeRepository, likeWriteStrategy);
-        inOrder.verify(songRepository).existsById(songId);
-        inOrder.verify(songLikeRepository).countUserLikeStatus(songId, userId);
-        inOrder.verify(songLikeRepository).save(any());
+        InOrder inOrder = inOrder(songCatalogIndex, likeStateIndex, songLikeRepository, likeHistoryWriter, likeWriteStrategy);
+        inOrder.verify(songCatalogIndex).exists(songId);
+        inOrder.verify(likeStateIndex).isLiked(songId, userId);
+        inOrder.verify(songLikeRepository).changeLikeState(songId, userId, Action.LIKE);
+        inOrder.verify(likeHistoryWriter).write(any());
+        inOrder.verify(likeStateIndex).markLiked(songId, userId);
         inOrder.verify(likeWriteStrategy).addLike(songId);
     }
 
@@ -91,7 +132,7 @@ class SongLikeServiceTest {
     void likeSong_Fail_NotFound() {
         // given
         Long songId = 999L;
-        given(songRepository.existsById(songId)).willReturn(Mono.just(false));
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(false));
 
         // when & then
         StepVerifier.create(songLikeService.likeSong(songId, 1L))
@@ -99,7 +140,7 @@ class SongLikeServiceTest {
                 .verify();
 
         // 노래 존재 확인 이후의 로직은 실행되지 않아야 함을 검증
-        verify(songLikeRepository, never()).countUserLikeStatus(any(), any());
+        verify(likeStateIndex, never()).isLiked(any(), any());
     }
 
     @Test
@@ -108,13 +149,54 @@ class SongLikeServiceTest {
         // given
         Long songId = 1L;
         Long userId = 100L;
-        given(songRepository.existsById(songId)).willReturn(Mono.just(true));
-        given(songLikeRepository.countUserLikeStatus(songId, userId)).willReturn(Mono.just(1));
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(true));
+        given(likeStateIndex.isEnabled()).willReturn(true);
+        given(likeStateIndex.isLiked(songId, userId)).willReturn(Mono.just(true));
 
         // when & then
         StepVerifier.create(songLikeService.likeSong(songId, userId))
                 .expectError(AlreadyLikedException.class)
                 .verify();
+        verify(songLikeRepository, never()).changeLikeState(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("인덱스가 비활성화되면 현재 상태 조건부 변경으로 중복 좋아요를 판별하고, 이력을 기록하지 않는다")
+    void likeSong_Fail_AlreadyLikedInStateTable() {
+        // given
+        Long songId = 1L;
+        Long userId = 100L;
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(true));
+        given(likeStateIndex.isEnabled()).willReturn(false);
+        given(songLikeRepository.changeLikeState(songId, userId, Action.LIKE)).willReturn(Mono.just(false));
+
+        // when & then
+        StepVerifier.create(songLikeService.likeSong(songId, userId))
+                .expectError(AlreadyLikedException.class)
+                .verify();
+        verify(likeStateIndex, never()).isLiked(any(), any());
+        verify(likeHistoryWriter, never()).write(any());
+        verify(likeWriteStrategy, never()).addLike(any());
+    }
+
+    @Test
+    @DisplayName("이력 저장에 실패하면 변경한 현재 상태를 되돌리고 에러를 전파한다")
+    void unlikeSong_HistoryFailure_ShouldRevertState() {
+        // given
+        Long songId = 1L;
+        Long userId = 100L;
+        given(likeStateIndex.isEnabled()).willReturn(false);
+        given(songLikeRepository.changeLikeState(songId, userId, Action.UNLIKE)).willReturn(Mono.just(true));
+        given(songLikeRepository.changeLikeState(songId, userId, Action.LIKE)).willReturn(Mono.just(true));
+        given(likeHistoryWriter.write(any())).willReturn(Mono.error(new RuntimeException("DB down")));
+
+        // when & then
+        StepVerifier.create(songLikeService.unlikeSong(songId, userId))
+                .expectErrorMessage("DB down")
+                .verify();
+        verify(songLikeRepository).changeLikeState(songId, userId, Action.LIKE);
+        verify(likeStateIndex, never()).markUnliked(any(), any());
+        verify(likeWriteStrategy, never()).removeLike(any());
     }
 
     @Test
@@ -123,15 +205,17 @@ class SongLikeServiceTest {
         // given
         Long songId = 1L;
         Long userId = 100L;
-        given(songLikeRepository.countUserLikeStatus(songId, userId)).willReturn(Mono.just(0));
+        given(likeStateIndex.isEnabled()).willReturn(true);
+        given(likeStateIndex.isLiked(songId, userId)).willReturn(Mono.just(false));
 
         // when & then
         StepVerifier.create(songLikeService.unlikeSong(songId, userId))
                 .expectError(NotLikedException.class)
                 .verify();
 
-        // 저장 로직이 호출되지 않았는지 검증
-        verify(songLikeRepository, never()).save(any());
+        // 저장 및 인덱스 갱신 로직이 호출되지 않았는지 검증
+        verify(likeHistoryWriter, never()).write(any());
+        verify(likeStateIndex, never()).markUnliked(any(), any());
     }
 
     @Test
@@ -140,9 +224,11 @@ class SongLikeServiceTest {
         // given
         Long songId = 1L;
         Long userId = 100L;
-        given(songRepository.existsById(songId)).willReturn(Mono.just(true));
-        given(songLikeRepository.countUserLikeStatus(songId, userId)).willReturn(Mono.just(0));
-        given(songLikeRepository.save(any())).willReturn(Mono.just(SongLikeEntity.of(songId, userId, Action.LIKE)));
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(true));
+        given(likeStateIndex.isEnabled()).willReturn(true);
+        given(likeStateIndex.isLiked(songId, userId)).willReturn(Mono.just(false));
+        given(songLikeRepository.changeLikeState(songId, userId, Action.LIKE)).willReturn(Mono.just(true));
+        given(likeHistoryWriter.write(any())).willReturn(Mono.empty());
 
         // 전략 실행 시 런타임 에러 발생 시뮬레이션
         given(likeWriteStrategy.addLike(songId)).willReturn(Mono.error(new RuntimeException("Redis/Memory Error")));
@@ -152,4 +238,80 @@ class SongLikeServiceTest {
                 .expectError(RuntimeException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("전략이 좋아요 상태를 처리하면 DB 중복 검증 없이 원자적으로 반영하고, 이력 저장 후 응답한다")
+    void likeSong_AtomicStrategy() {
+        // given
+        Long songId = 1L;
+        Long userId = 100L;
+        LikeStateStrategy likeStateStrategy = stateManagingStrategy();
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(true));
+        given(likeStateStrategy.applyLike(songId, userId, Action.LIKE)).willReturn(Mono.just(true));
+        given(likeHistoryWriter.write(any())).willReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(songLikeService.likeSong(songId, userId))
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(likeStateStrategy, likeHistoryWriter);
+        inOrder.verify(likeStateStrategy).applyLike(songId, userId, Action.LIKE);
+        inOrder.verify(likeHistoryWriter).write(any());
+        verify(likeStateIndex, never()).isLiked(any(), any());
+        verify(likeStateStrategy, never()).revertLike(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("전략이 좋아요 상태를 처리할 때 이력 저장에 실패하면 전략의 상태를 되돌리고 에러를 반환한다")
+    void likeAndUnlike_AtomicStrategy_HistoryFailure() {
+        // given
+        Long songId = 1L;
+        Long userId = 100L;
+        LikeStateStrategy likeStateStrategy = stateManagingStrategy();
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(true));
+        given(likeStateStrategy.applyLike(eq(songId), eq(userId), any())).willReturn(Mono.just(true));
+        given(likeStateStrategy.revertLike(eq(songId), eq(userId), any())).willReturn(Mono.empty());
+        given(likeHistoryWriter.write(any())).willReturn(Mono.error(new RuntimeException("DB Error")));
+
+        // when & then
+        StepVerifier.create(songLikeService.likeSong(songId, userId))
+                .expectError(RuntimeException.class)
+                .verify();
+        StepVerifier.create(songLikeService.unlikeSong(songId, userId))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(likeStateStrategy).revertLike(songId, userId, Action.LIKE);
+        verify(likeStateStrategy).revertLike(songId, userId, Action.UNLIKE);
+    }
+
+    @Test
+    @DisplayName("전략이 좋아요 상태를 처리할 때 이미 반영된 상태이면 409 예외를 발생시키고 이력을 기록하지 않는다")
+    void likeAndUnlike_AtomicStrategy_Conflict() {
+        // given
+        Long songId = 1L;
+        Long userId = 100L;
+        LikeStateStrategy likeStateStrategy = stateManagingStrategy();
+        given(songCatalogIndex.exists(songId)).willReturn(Mono.just(true));
+        given(likeStateStrategy.applyLike(songId, userId, Action.LIKE)).willReturn(Mono.just(false));
+        given(likeStateStrategy.applyLike(songId, userId, Action.UNLIKE)).willReturn(Mono.just(false));
+
+        // when & then
+        StepVerifier.create(songLikeService.likeSong(songId, userId))
+                .expectError(AlreadyLikedException.class)
+                .verify();
+        StepVerifier.create(songLikeService.unlikeSong(songId, userId))
+                .expectError(NotLikedException.class)
+                .verify();
+
+        verify(likeHistoryWriter, never()).write(any());
+    }
+
+    // 좋아요 상태를 직접 관리하는 전략(redis)으로 서비스를 다시 생성
+    private LikeStateStrategy stateManagingStrategy() {
+        LikeWriteStrategy strategy = mock(LikeWriteStrategy.class, withSettings().extraInterfaces(LikeStateStrategy.class));
+        songLikeService = new SongLikeService(strategy, songLikeRepository, songRepository, songCatalogIndex, likeStateIndex, likeHistoryWriter,
+                new SingleFlightCache<>(Duration.ZERO, Duration.ZERO, fixedClock), fixedClock);
+        return (LikeStateStrategy) strategy;
+    }
 }
@@ -0,0 +1,292 @@
+package com.seonghyeon.jukebox.service.like.bulk;
+
+import com.seonghyeon.jukebox.entity.SongLikeEntity;
+import com.seonghyeon.jukebox.entity.like.Action;
+import com.seonghyeon.jukebox.repository.SongLikeRepository;
+import com.seonghyeon.jukebox.repository.dto.SongUserPairDto;
+import com.seonghyeon.jukebox.service.like.LikeHistoryWriter;
+import com.seonghyeon.jukebox.service.like.LikeStateIndex;
+import com.seonghyeon.jukebox.service.like.bulk.BulkLikeResult.Status;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy.ApplyResult;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy.LikeChange;
+import com.seonghyeon.jukebox.service.like.strategy.LikeWriteStrategy;
+import com.seonghyeon.jukebox.service.song.SongCatalogIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class BulkLikeServiceTest {
+
+    @Mock
+    private LikeWriteStrategy likeWriteStrategy;
+    @Mock
+    private SongLikeRepository songLikeRepository;
+    @Mock
+    private SongCatalogIndex songCatalogIndex;
+    @Mock
+    private LikeStateIndex likeStateIndex;
+    @Mock
+    private LikeHistoryWriter likeHistoryWriter;
+
+    private BulkLikeService bulkLikeService;
+
+    @BeforeEach
+    void setUp() {
+        bulkLikeService = new BulkLikeService(likeWriteStrategy, songLikeRepository, songCatalogIndex, likeStateIndex, likeHistoryWriter, 100);
+    }
+
+    @Test
+    @DisplayName("청크의 곡과 좋아요 상태를 한 번씩 일괄 조회하고, 항목별 결과를 요청 순서대로 반환한다")
+    void applyLikesWithSetBasedValidation() {
+        // given: 사용자 11은 곡 1에 이미 좋아요를 한 상태
+        given(songCatalogIndex.existingIds(Set.of(1L, 2L, 999L))).willReturn(Mono.just(Set.of(1L, 2L)));
+        given(songLikeRepository.findCurrentLikedPairs(any(), any())).willReturn(Flux.just(new SongUserPairDto(1L, 11L)));
+        given(songLikeRepository.changeLikeState(anyLong(), anyLong(), any())).willReturn(Mono.just(true));
+        given(likeHistoryWriter.write(any())).willReturn(Mono.empty());
+        given(likeWriteStrategy.addDelta(1L, 2L)).willReturn(Mono.empty());
+
+        Flux<BulkLikeCommand> commands = Flux.just(
+                new BulkLikeCommand(0, 1L, 10L, Action.LIKE),
+                new BulkLikeCommand(1, 1L, 11L, Action.LIKE),   // 중복 좋아요
+                new BulkLikeCommand(2, 999L, 10L, Action.LIKE), // 존재하지 않는 곡
+                new BulkLikeCommand(3, null, 10L, Action.LIKE), // 필수 값 누락
+                new BulkLikeCommand(4, 2L, 10L, Action.LIKE),
+                new BulkLikeCommand(5, 2L, 10L, Action.UNLIKE), // 같은 요청 내 좋아요 후 취소
+                new BulkLikeCommand(6, 1L, 12L, Action.LIKE)
+        );
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(commands).map(BulkLikeResult::status))
+                .expectNext(Status.APPLIED, Status.ALREADY_LIKED, Status.SONG_NOT_FOUND, Status.INVALID,
+                        Status.APPLIED, Status.APPLIED, Status.APPLIED)
+                .verifyComplete();
+
+        verify(songLikeRepository, times(1)).findCurrentLikedPairs(Set.of(1L, 2L), Set.of(10L, 11L, 12L));
+        verify(songLikeRepository).changeLikeState(1L, 10L, Action.LIKE);
+        verify(songLikeRepository).changeLikeState(1L, 12L, Action.LIKE);
+        // 최종 상태가 변하지 않은 (곡 2, 사용자 10)도 중간 상태를 거쳐 조건부로 기록
+        verify(songLikeRepository).changeLikeState(2L, 10L, Action.LIKE);
+        verify(songLikeRepository).changeLikeState(2L, 10L, Action.UNLIKE);
+        verify(likeHistoryWriter, times(4)).write(any());
+        verify(likeStateIndex).markLiked(1L, 10L);
+        verify(likeStateIndex).markLiked(1L, 12L);
+        // 곡별 순증감을 한 번에 반영
+        verify(likeWriteStrategy).addDelta(1L, 2L);
+        verify(likeWriteStrategy, never()).addDelta(2L, 0L);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 요청이 먼저 상태를 변경했다면 충돌로 응답하고 카운트를 반영하지 않는다")
+    void conflictWhenStateChangedConcurrently() {
+        // given
+        given(songCatalogIndex.existingIds(Set.of(1L))).willReturn(Mono.just(Set.of(1L)));
+        given(songLikeRepository.findCurrentLikedPairs(any(), any())).willReturn(Flux.empty());
+        given(songLikeRepository.changeLikeState(1L, 10L, Action.LIKE)).willReturn(Mono.just(false));
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(Flux.just(new BulkLikeCommand(0, 1L, 10L, Action.LIKE))).map(BulkLikeResult::status))
+                .expectNext(Status.ALREADY_LIKED)
+                .verifyComplete();
+
+        verify(likeHistoryWriter, never()).write(any());
+        verify(likeWriteStrategy, never()).addDelta(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이력 저장에 실패하면 변경한 상태를 되돌리고 해당 항목만 실패로 응답한다")
+    void revertStateWhenHistoryWriteFails() {
+        // given: 사용자 11은 곡 1에 이미 좋아요를 한 상태에서 취소
+        given(songCatalogIndex.existingIds(Set.of(1L))).willReturn(Mono.just(Set.of(1L)));
+        given(songLikeRepository.findCurrentLikedPairs(any(), any())).willReturn(Flux.just(new SongUserPairDto(1L, 11L)));
+        given(songLikeRepository.changeLikeState(anyLong(), anyLong(), any())).willReturn(Mono.just(true));
+        given(likeHistoryWriter.write(any()))
+                .willReturn(Mono.error(new RuntimeException("DB Error")))
+                .willReturn(Mono.empty());
+        given(likeWriteStrategy.addDelta(1L, 1L)).willReturn(Mono.empty());
+
+        Flux<BulkLikeCommand> commands = Flux.just(
+                new BulkLikeCommand(0, 1L, 11L, Action.UNLIKE),
+                new BulkLikeCommand(1, 1L, 10L, Action.LIKE)
+        );
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(commands).map(BulkLikeResult::status))
+                .expectNext(Status.FAILED, Status.APPLIED)
+                .verifyComplete();
+
+        verify(songLikeRepository).changeLikeState(1L, 11L, Action.UNLIKE);
+        verify(songLikeRepository).changeLikeState(1L, 11L, Action.LIKE); // 되돌리기
+        verify(likeStateIndex, never()).markUnliked(1L, 11L);
+        verify(likeWriteStrategy).addDelta(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 후 취소처럼 최종 상태가 같아도, 조회 이후 다른 요청이 먼저 상태를 변경했다면 충돌로 응답한다")
+    void conflictWhenStateChangedConcurrentlyWithoutNetChange() {
+        // given
+        given(songCatalogIndex.existingIds(Set.of(1L))).willReturn(Mono.just(Set.of(1L)));
+        given(songLikeRepository.findCurrentLikedPairs(any(), any())).willReturn(Flux.empty());
+        given(songLikeRepository.changeLikeState(1L, 10L, Action.LIKE)).willReturn(Mono.just(false));
+
+        Flux<BulkLikeCommand> commands = Flux.just(
+                new BulkLikeCommand(0, 1L, 10L, Action.LIKE),
+                new BulkLikeCommand(1, 1L, 10L, Action.UNLIKE)
+        );
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(commands).map(BulkLikeResult::status))
+                .expectNext(Status.ALREADY_LIKED, Status.NOT_LIKED)
+                .verifyComplete();
+
+        verify(songLikeRepository, never()).changeLikeState(1L, 10L, Action.UNLIKE);
+        verify(likeHistoryWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("이력이 일부만 저장된 채 실패하면, 저장된 이력을 요청 역순의 반대 이력으로 상쇄하고 상태를 되돌린다")
+    void compensateHistoryWhenPartiallyWritten() {
+        // given: 좋아요 → 취소 → 좋아요 중 두 번째 이력 저장 실패
+        given(songCatalogIndex.existingIds(Set.of(1L))).willReturn(Mono.just(Set.of(1L)));
+        given(songLikeRepository.findCurrentLikedPairs(any(), any())).willReturn(Flux.empty());
+        given(songLikeRepository.changeLikeState(anyLong(), anyLong(), any())).willReturn(Mono.just(true));
+        given(likeHistoryWriter.write(any()))
+                .willReturn(Mono.empty())
+                .willReturn(Mono.error(new RuntimeException("DB Error")))
+                .willReturn(Mono.empty());
+
+        Flux<BulkLikeCommand> commands = Flux.just(
+                new BulkLikeCommand(0, 1L, 10L, Action.LIKE),
+                new BulkLikeCommand(1, 1L, 10L, Action.UNLIKE),
+                new BulkLikeCommand(2, 1L, 10L, Action.LIKE)
+        );
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(commands).map(BulkLikeResult::status))
+                .expectNext(Status.FAILED, Status.FAILED, Status.FAILED)
+                .verifyComplete();
+
+        // 요청 순서대로 기록하다 실패하면, 세 번째 이력은 기록하지 않고 첫 번째 이력을 상쇄
+        ArgumentCaptor<SongLikeEntity> events = ArgumentCaptor.forClass(SongLikeEntity.class);
+        verify(likeHistoryWriter, times(3)).write(events.capture());
+        assertThat(events.getAllValues()).extracting(SongLikeEntity::getAction)
+                .containsExactly(Action.LIKE.name(), Action.UNLIKE.name(), Action.UNLIKE.name());
+        InOrder inOrder = inOrder(songLikeRepository);
+        inOrder.verify(songLikeRepository).changeLikeState(1L, 10L, Action.LIKE);
+        inOrder.verify(songLikeRepository).changeLikeState(1L, 10L, Action.UNLIKE); // 되돌리기
+        verify(likeStateIndex, never()).markLiked(anyLong(), anyLong());
+        verify(likeWriteStrategy, never()).addDelta(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 상태를 전략이 관리하면 청크 전체를 전략으로 한 번에 검증하고 변경한다")
+    void applyLikesWithStrategyManagedState() {
+        // given
+        LikeStateStrategy likeStateStrategy = stateManagingStrategy();
+        given(songCatalogIndex.existingIds(Set.of(1L))).willReturn(Mono.just(Set.of(1L)));
+        given(likeStateStrategy.applyLikes(List.of(
+                new LikeChange(1L, 10L, Action.LIKE),
+                new LikeChange(1L, 11L, Action.UNLIKE),
+                new LikeChange(1L, 12L, Action.LIKE)
+        ))).willReturn(Mono.just(List.of(ApplyResult.APPLIED, ApplyResult.CONFLICT, ApplyResult.FAILED)));
+        given(likeHistoryWriter.write(any())).willReturn(Mono.empty());
+
+        Flux<BulkLikeCommand> commands = Flux.just(
+                new BulkLikeCommand(0, 1L, 10L, Action.LIKE),
+                new BulkLikeCommand(1, 1L, 11L, Action.UNLIKE),
+                new BulkLikeCommand(2, 1L, 12L, Action.LIKE)
+        );
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(commands).map(BulkLikeResult::status))
+                .expectNext(Status.APPLIED, Status.NOT_LIKED, Status.FAILED)
+                .verifyComplete();
+
+        verify(songLikeRepository, never()).findCurrentLikedPairs(any(), any());
+        verify(likeStateStrategy, never()).applyLike(any(), any(), any());
+        verify(likeHistoryWriter, times(1)).write(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 상태를 전략이 관리할 때 이력 저장에 실패하면 전략의 상태를 되돌리고 실패로 응답한다")
+    void revertStrategyStateWhenHistoryWriteFails() {
+        // given
+        LikeStateStrategy likeStateStrategy = stateManagingStrategy();
+        given(songCatalogIndex.existingIds(Set.of(1L))).willReturn(Mono.just(Set.of(1L)));
+        given(likeStateStrategy.applyLikes(List.of(new LikeChange(1L, 10L, Action.LIKE))))
+                .willReturn(Mono.just(List.of(ApplyResult.APPLIED)));
+        given(likeStateStrategy.revertLike(1L, 10L, Action.LIKE)).willReturn(Mono.empty());
+        given(likeHistoryWriter.write(any())).willReturn(Mono.error(new RuntimeException("DB Error")));
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(Flux.just(new BulkLikeCommand(0, 1L, 10L, Action.LIKE))).map(BulkLikeResult::status))
+                .expectNext(Status.FAILED)
+                .verifyComplete();
+
+        verify(likeStateStrategy).revertLike(1L, 10L, Action.LIKE);
+    }
+
+    @Test
+    @DisplayName("좋아요 상태를 전략이 관리할 때 조합의 중간 이력 저장에 실패하면, 저장하지 못한 항목만 늦게 반영한 것부터 되돌린다")
+    void revertUnwrittenStrategyStateInReverseOrder() {
+        // given: 같은 조합의 좋아요 -> 취소 -> 좋아요가 모두 반영되었으나 두 번째 이력 저장 실패
+        LikeStateStrategy likeStateStrategy = stateManagingStrategy();
+        given(songCatalogIndex.existingIds(Set.of(1L))).willReturn(Mono.just(Set.of(1L)));
+        given(likeStateStrategy.applyLikes(List.of(
+                new LikeChange(1L, 10L, Action.LIKE),
+                new LikeChange(1L, 10L, Action.UNLIKE),
+                new LikeChange(1L, 10L, Action.LIKE)
+        ))).willReturn(Mono.just(List.of(ApplyResult.APPLIED, ApplyResult.APPLIED, ApplyResult.APPLIED)));
+        given(likeStateStrategy.revertLike(anyLong(), anyLong(), any())).willReturn(Mono.empty());
+        given(likeHistoryWriter.write(any()))
+                .willReturn(Mono.empty())
+                .willReturn(Mono.error(new RuntimeException("DB Error")));
+
+        Flux<BulkLikeCommand> commands = Flux.just(
+                new BulkLikeCommand(0, 1L, 10L, Action.LIKE),
+                new BulkLikeCommand(1, 1L, 10L, Action.UNLIKE),
+                new BulkLikeCommand(2, 1L, 10L, Action.LIKE)
+        );
+
+        // when & then
+        StepVerifier.create(bulkLikeService.applyLikes(commands).map(BulkLikeResult::status))
+                .expectNext(Status.APPLIED, Status.FAILED, Status.FAILED)
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(likeStateStrategy);
+        inOrder.verify(likeStateStrategy).revertLike(1L, 10L, Action.LIKE);
+        inOrder.verify(likeStateStrategy).revertLike(1L, 10L, Action.UNLIKE);
+        verify(likeStateStrategy, times(2)).revertLike(anyLong(), anyLong(), any());
+        verify(likeHistoryWriter, times(2)).write(any());
+    }
+
+    // 좋아요 상태를 직접 관리하는 전략(redis)으로 서비스를 다시 생성
+    private LikeStateStrategy stateManagingStrategy() {
+        LikeWriteStrategy strategy = mock(LikeWriteStrategy.class, withSettings().extraInterfaces(LikeStateStrategy.class));
+        bulkLikeService = new BulkLikeService(strategy, songLikeRepository, songCatalogIndex, likeStateIndex, likeHistoryWriter, 100);
+        return (LikeStateStrategy) strategy;
+    }
+}
@@ -0,0 +1,203 @@
+package com.seonghyeon.jukebox.service.like.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록된 증감분은 다음 기동 시 곡별 합계로 복구된다")
+    void replayAfterRestart() {
+        // given: 종료 처리 없이 중단된 실행
+        LikeJournal crashed = LikeJournal.open(tempDir, 100);
+        crashed.append(1L, 1L);
+        crashed.append(1L, 1L);
+        crashed.append(2L, -1L);
+        crashed.append(3L, 1L);
+        crashed.append(3L, -1L);
+
+        // when
+        LikeJournal restarted = LikeJournal.open(tempDir, 100);
+
+        // then: 합계가 0인 곡은 제외
+        assertThat(restarted.replay()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, -1L));
+    }
+
+    @Test
+    @DisplayName("회전 후 봉인된 세그먼트를 해제하면 복구 대상에서 제외된다")
+    void rotateAndRelease() {
+        // given
+        LikeJournal journal = LikeJournal.open(tempDir, 100);
+        journal.append(1L, 1L);
+        long sealed = journal.rotate();
+        journal.append(2L, 1L);
+
+        // when
+        journal.release(sealed);
+
+        // then: 회전 이후 기록만 남음
+        assertThat(LikeJournal.open(tempDir, 100).replay()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("해제하지 않은 세그먼트(DB 반영 실패)는 다음 해제 시 함께 삭제된다")
+    void releaseIncludesOlderSegments() throws IOException {
+        // given
+        LikeJournal journal = LikeJournal.open(tempDir, 100);
+        journal.append(1L, 1L);
+        journal.rotate(); // 반영 실패로 해제하지 않음
+        journal.append(2L, 1L);
+        long sealed = journal.rotate();
+
+        // when
+        journal.release(sealed);
+        journal.close();
+
+        // then
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.filter(LikeJournalTest::isSegment)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("비어 있는 세그먼트는 회전하지 않는다")
+    void skipRotateWhenEmpty() throws IOException {
+        // given
+        LikeJournal journal = LikeJournal.open(tempDir, 100);
+
+        // when
+        journal.rotate();
+        journal.rotate();
+
+        // then
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.filter(LikeJournalTest::isSegment)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트에 이어서 기록하고, 회전 시 함께 봉인된다")
+    void rollOverWhenFull() {
+        // given
+        LikeJournal journal = LikeJournal.open(tempDir, 2);
+
+        // when: 세그먼트 2개 분량 + 1건 기록
+        for (int i = 0; i < 5; i++) {
+            journal.append(1L, 1L);
+        }
+
+        // then: 유실 없이 복구되며, 봉인 후 해제하면 모두 삭제됨
+        long sealed = journal.rotate();
+        LikeJournal restarted = LikeJournal.open(tempDir, 2);
+        assertThat(restarted.replay()).containsExactlyEntriesOf(Map.of(1L, 5L));
+        journal.release(sealed);
+        assertThat(LikeJournal.open(tempDir, 2).replay()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB에 반영된 것으로 기록된 세그먼트는 복구하지 않고 삭제한다")
+    void replaySkipsAppliedSegments() {
+        // given: 세그먼트 1 반영 커밋 후 해제 전에 중단, 세그먼트 2는 미반영
+        LikeJournal crashed = LikeJournal.open(tempDir, 100);
+        crashed.append(1L, 1L);
+        long applied = crashed.rotate();
+        crashed.append(2L, 1L);
+
+        // when
+        LikeJournal restarted = LikeJournal.open(tempDir, 100);
+
+        // then
+        assertThat(restarted.id()).isEqualTo(crashed.id());
+        assertThat(restarted.replay(applied)).containsExactlyEntriesOf(Map.of(2L, 1L));
+        assertThat(LikeJournal.open(tempDir, 100).replay()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("남은 세그먼트가 없으면 새 식별자를 발급하여, 세그먼트 번호가 다시 시작되어도 반영 기록과 겹치지 않는다")
+    void issueNewIdWhenEmpty() {
+        // given
+        LikeJournal first = LikeJournal.open(tempDir, 100);
+        first.close(); // 비어 있는 세그먼트 삭제
+
+        // when
+        LikeJournal second = LikeJournal.open(tempDir, 100);
+
+        // then
+        assertThat(second.id()).isNotEqualTo(first.id());
+    }
+
+    @Test
+    @DisplayName("기록되지 않은 레코드(songId=0)는 건너뛰고 나머지를 복구한다")
+    void skipUnwrittenRecords() throws IOException {
+        // given: 1번 레코드 위치를 예약만 하고 기록하지 못한 상태를 재현
+        LikeJournal crashed = LikeJournal.open(tempDir, 10);
+        crashed.append(1L, 1L);
+        crashed.append(2L, 1L);
+        crashed.append(3L, 1L);
+        Path segment;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            segment = files.filter(LikeJournalTest::isSegment).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0L).flip(), LikeJournal.RECORD_SIZE);
+        }
+
+        // when & then
+        assertThat(LikeJournal.open(tempDir, 10).replay()).containsOnlyKeys(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 유실 없이 복구된다")
+    void concurrentAppend() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int perThread = 10_000;
+        LikeJournal journal = LikeJournal.open(tempDir, threadCount * perThread);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long songId = t % 2 + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.append(songId, 1L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(LikeJournal.open(tempDir, 10).replay())
+                .containsEntry(1L, (long) threadCount / 2 * perThread)
+                .containsEntry(2L, (long) threadCount / 2 * perThread);
+    }
+
+    private static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(".journal");
+    }
+}
@@ -0,0 +1,195 @@
+package com.seonghyeon.jukebox.service.like.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveFlushSchedulerTest {
+
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration MAX_INTERVAL = Duration.ofSeconds(60);
+    private static final Duration TARGET_LATENCY = Duration.ofSeconds(2);
+
+    @Mock
+    private LikeWriteStrategy likeWriteStrategy;
+
+    private MutableClock clock;
+    private AdaptiveFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-30T10:00:00Z"));
+        // 주기 실행은 비활성화하고 checkAndFlush를 직접 호출, 지터 0
+        scheduler = new AdaptiveFlushScheduler(likeWriteStrategy, clock, false, CHECK_INTERVAL,
+                100, 1000, MAX_INTERVAL, 0.0, TARGET_LATENCY, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("버퍼의 곡 수가 임계치 이상이면 시간과 관계없이 Flush 한다")
+    void flushWhenSongsExceedThreshold() {
+        // given
+        given(likeWriteStrategy.bufferStats()).willReturn(Mono.just(new LikeWriteStrategy.BufferStats(100, 100)));
+        given(likeWriteStrategy.flush()).willReturn(Mono.just(true));
+
+        // when & then
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(true).verifyComplete();
+        verify(likeWriteStrategy).flush();
+    }
+
+    @Test
+    @DisplayName("증감 횟수가 임계치 이상이면 Flush 한다")
+    void flushWhenEventsExceedThreshold() {
+        // given
+        given(likeWriteStrategy.bufferStats()).willReturn(Mono.just(new LikeWriteStrategy.BufferStats(1, 1000)));
+        given(likeWriteStrategy.flush()).willReturn(Mono.just(true));
+
+        // when & then
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("임계치 미만이면 최대 대기 시간이 지난 경우에만 Flush 한다")
+    void flushWhenMaxIntervalElapsed() {
+        // given
+        given(likeWriteStrategy.bufferStats()).willReturn(Mono.just(new LikeWriteStrategy.BufferStats(1, 1)));
+
+        // when & then: 대기 시간 이전
+        clock.advance(MAX_INTERVAL.minusSeconds(1));
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(false).verifyComplete();
+        verify(likeWriteStrategy, never()).flush();
+
+        // 대기 시간 경과
+        given(likeWriteStrategy.flush()).willReturn(Mono.just(true));
+        clock.advance(Duration.ofSeconds(1));
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Flush 시간이 목표를 넘으면 Backoff 동안 임계치를 넘어도 Flush 하지 않는다")
+    void backOffWhenFlushIsSlow() {
+        // given: 3초 걸리는 Flush
+        given(likeWriteStrategy.bufferStats()).willReturn(Mono.just(new LikeWriteStrategy.BufferStats(100, 0)));
+        given(likeWriteStrategy.flush()).willReturn(Mono.fromSupplier(() -> {
+            clock.advance(Duration.ofSeconds(3));
+            return true;
+        }));
+
+        // when
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(true).verifyComplete();
+
+        // then: Backoff(1초) 동안은 건너뜀
+        assertThat(scheduler.backoffMillis()).isEqualTo(CHECK_INTERVAL.toMillis());
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(false).verifyComplete();
+        verify(likeWriteStrategy, times(1)).flush();
+
+        // Backoff가 지나면 다시 Flush 하며, 계속 느리면 Backoff 2배
+        clock.advance(CHECK_INTERVAL);
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(true).verifyComplete();
+        assertThat(scheduler.backoffMillis()).isEqualTo(CHECK_INTERVAL.toMillis() * 2);
+    }
+
+    @Test
+    @DisplayName("Flush가 실패하면 Backoff 하고, 스케줄러는 중단되지 않는다")
+    void backOffWhenFlushFails() {
+        // given
+        given(likeWriteStrategy.bufferStats()).willReturn(Mono.just(new LikeWriteStrategy.BufferStats(100, 0)));
+        given(likeWriteStrategy.flush()).willReturn(Mono.error(new RuntimeException("DB down")));
+
+        // when & then
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(false).verifyComplete();
+        assertThat(scheduler.backoffMillis()).isEqualTo(CHECK_INTERVAL.toMillis());
+    }
+
+    @Test
+    @DisplayName("Flush가 정상 속도로 돌아오면 Backoff를 절반씩 줄인다")
+    void recoverBackoffWhenFlushIsFast() {
+        // given: 실패로 Backoff 발생
+        given(likeWriteStrategy.bufferStats()).willReturn(Mono.just(new LikeWriteStrategy.BufferStats(100, 0)));
+        given(likeWriteStrategy.flush())
+                .willReturn(Mono.error(new RuntimeException("DB down")))
+                .willReturn(Mono.just(true));
+        scheduler.checkAndFlush().block();
+
+        // when
+        clock.advance(CHECK_INTERVAL);
+        StepVerifier.create(scheduler.checkAndFlush()).expectNext(true).verifyComplete();
+
+        // then
+        assertThat(scheduler.backoffMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("생성 시에는 확인을 시작하지 않고, start() 이후부터 stop() 전까지만 주기적으로 확인한다")
+    void checkOnlyWhileRunning() throws InterruptedException {
+        // given
+        AdaptiveFlushScheduler enabled = new AdaptiveFlushScheduler(likeWriteStrategy, clock, true, Duration.ofMillis(10),
+                100, 1000, MAX_INTERVAL, 0.0, TARGET_LATENCY, Duration.ofMinutes(5));
+        Thread.sleep(50);
+        verifyNoInteractions(likeWriteStrategy);
+        assertThat(enabled.isRunning()).isFalse();
+
+        // when
+        given(likeWriteStrategy.bufferStats()).willReturn(Mono.just(new LikeWriteStrategy.BufferStats(0, 0)));
+        enabled.start();
+
+        // then
+        assertThat(enabled.isRunning()).isTrue();
+        verify(likeWriteStrategy, timeout(1000).atLeastOnce()).bufferStats();
+
+        enabled.stop();
+        assertThat(enabled.isRunning()).isFalse();
+        Thread.sleep(30); // 진행 중이던 확인이 끝날 때까지 대기
+        clearInvocations(likeWriteStrategy);
+        Thread.sleep(50);
+        verifyNoInteractions(likeWriteStrategy);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.seonghyeon.jukebox.service.like.strategy;
+
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+import com.seonghyeon.jukebox.common.collection.LongLongConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HybridLikeWriteStrategyTest {
+
+    @Mock
+    private RedisLikeWriteStrategy redisStrategy;
+
+    private HybridLikeWriteStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        // 주기 반영은 비활성화하고 pushToRedis를 직접 호출
+        strategy = new HybridLikeWriteStrategy(redisStrategy, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("주기 동안의 증감분을 곡별로 합산하여 한 번에 Redis로 반영한다")
+    void pushAggregatedDeltas() {
+        // given
+        given(redisStrategy.recordDeltas(any(), any())).willReturn(Mono.just(0L));
+        strategy.addLike(1L).block();
+        strategy.addLike(1L).block();
+        strategy.addLike(1L).block();
+        strategy.removeLike(1L).block();
+        strategy.addLike(2L).block();
+        strategy.addLike(3L).block();
+        strategy.removeLike(3L).block();
+
+        // when
+        StepVerifier.create(strategy.pushToRedis()).verifyComplete();
+
+        // then: 증감 합이 0인 곡은 제외
+        ArgumentCaptor<LongCountSnapshot> captor = ArgumentCaptor.forClass(LongCountSnapshot.class);
+        verify(redisStrategy, times(1)).recordDeltas(captor.capture(), any());
+        assertThat(captor.getValue()).isEqualTo(LongCountSnapshot.of(Map.of(1L, 2L, 2L, 1L)));
+    }
+
+    @Test
+    @DisplayName("로컬 버퍼가 비어 있으면 Redis에 요청하지 않는다")
+    void skipPushWhenEmpty() {
+        StepVerifier.create(strategy.pushToRedis()).verifyComplete();
+
+        verify(redisStrategy, never()).recordDeltas(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 반영에 실패한 곡의 증감분은 로컬 버퍼로 되돌려 다음 반영에 포함한다")
+    void retryFailedDeltasOnNextPush() {
+        // given: 곡 1 반영 실패
+        given(redisStrategy.recordDeltas(any(), any()))
+                .willAnswer(invocation -> {
+                    LongLongConsumer onFailure = invocation.getArgument(1);
+                    onFailure.accept(1L, 2L);
+                    return Mono.just(1L);
+                })
+                .willReturn(Mono.just(0L));
+        strategy.addLike(1L).block();
+        strategy.addLike(1L).block();
+        strategy.addLike(2L).block();
+        strategy.pushToRedis().block();
+
+        // when: 실패 이후 곡 1에 좋아요 추가
+        strategy.addLike(1L).block();
+        StepVerifier.create(strategy.pushToRedis()).verifyComplete();
+
+        // then
+        ArgumentCaptor<LongCountSnapshot> captor = ArgumentCaptor.forClass(LongCountSnapshot.class);
+        verify(redisStrategy, times(2)).recordDeltas(captor.capture(), any());
+        assertThat(captor.getAllValues().get(1)).isEqualTo(LongCountSnapshot.of(Map.of(1L, 3L)));
+    }
+
+    @Test
+    @DisplayName("Flush 시 로컬 증감분을 먼저 Redis로 반영한 뒤 Redis 버퍼를 DB로 Flush 한다")
+    void pushBeforeFlush() {
+        // given
+        given(redisStrategy.recordDeltas(any(), any())).willReturn(Mono.just(0L));
+        given(redisStrategy.flushToDatabase()).willReturn(Mono.empty());
+        strategy.addLike(1L).block();
+
+        // when
+        StepVerifier.create(strategy.flush()).expectNext(true).verifyComplete();
+
+        // then
+        InOrder inOrder = inOrder(redisStrategy);
+        inOrder.verify(redisStrategy).recordDeltas(any(), any());
+        inOrder.verify(redisStrategy).flushToDatabase();
+    }
+
+    @Test
+    @DisplayName("버퍼 곡 수는 Redis 버퍼와 로컬 버퍼의 곡 수를 합산한다")
+    void bufferStatsIncludeLocalBuffer() {
+        // given
+        given(redisStrategy.pendingSongCount()).willReturn(Mono.just(10L));
+        strategy.addLike(1L).block();
+        strategy.addLike(2L).block();
+
+        // when & then
+        StepVerifier.create(strategy.bufferStats())
+                .expectNext(new LikeWriteStrategy.BufferStats(12, 2))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("반영과 동시에 들어온 증감분은 교체된 버퍼에 남지 않고 이번 반영 또는 다음 반영에 포함된다")
+    void concurrentAddDuringPushIsNotLost() throws InterruptedException {
+        // given
+        AtomicLong pushed = new AtomicLong();
+        given(redisStrategy.recordDeltas(any(), any())).willAnswer(invocation -> {
+            LongCountSnapshot deltas = invocation.getArgument(0);
+            deltas.forEach((songId, delta) -> pushed.addAndGet(delta));
+            return Mono.just(0L);
+        });
+        int threadCount = 4;
+        int perThread = 20_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when: 기록 중 반복 반영
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        strategy.addLike((long) i % 10).block();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        while (latch.getCount() > 0) {
+            strategy.pushToRedis().block();
+        }
+        latch.await();
+        executorService.shutdown();
+        strategy.pushToRedis().block();
+
+        // then
+        assertThat(pushed.get()).isEqualTo((long) threadCount * perThread);
+    }
+
+    @Test
+    @DisplayName("종료 시 진행 중인 주기 반영을 취소하지 않고 기다린 뒤, 실패로 되돌아온 증감분까지 반영한다")
+    void shutdownWaitsForInFlightPush() {
+        // given: 첫 반영은 지연 후 곡 1 실패
+        HybridLikeWriteStrategy periodic = new HybridLikeWriteStrategy(redisStrategy, Duration.ofMillis(10));
+        given(redisStrategy.recordDeltas(any(), any()))
+                .willAnswer(invocation -> {
+                    LongLongConsumer onFailure = invocation.getArgument(1);
+                    return Mono.delay(Duration.ofMillis(200)).then(Mono.fromSupplier(() -> {
+                        onFailure.accept(1L, 2L);
+                        return 1L;
+                    }));
+                })
+                .willReturn(Mono.just(0L));
+        periodic.addLike(1L).block();
+        periodic.addLike(1L).block();
+        verify(redisStrategy, timeout(1000)).recordDeltas(any(), any());
+
+        // when
+        periodic.onDestroy();
+
+        // then
+        ArgumentCaptor<LongCountSnapshot> captor = ArgumentCaptor.forClass(LongCountSnapshot.class);
+        verify(redisStrategy, times(2)).recordDeltas(captor.capture(), any());
+        assertThat(captor.getAllValues().get(1)).isEqualTo(LongCountSnapshot.of(Map.of(1L, 2L)));
+    }
+}
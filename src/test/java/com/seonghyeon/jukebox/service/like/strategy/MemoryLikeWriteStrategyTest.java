@@ -1,5 +1,8 @@
 package com.seonghyeon.jukebox.service.like.strategy;
 
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+import com.seonghyeon.jukebox.service.like.journal.LikeJournal;
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import org.testcontainers.shaded.com.fasterxml.jackson.core.type.TypeReference;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.io.File;
@@ -19,12 +24,21 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,22 +49,34 @@ import static org.mockito.Mockito.*;
 class MemoryLikeWriteStrategyTest {
 
     @Mock
-    private Function<Map<Long, Long>, Mono<Void>> likeBatchWriter;
+    private Function<LongCountSnapshot, Mono<Void>> likeBatchWriter;
 
     @Mock
     private TransactionalOperator transactionalOperator;
 
+    private final Clock clock = Clock.fixed(Instant.parse("2025-12-30T10:00:00Z"), ZoneId.of("UTC"));
+
     private MemoryLikeWriteStrategy strategy;
 
+    // like_flush_checkpoints 대체
+    private final Set<String> journalCheckpoints = ConcurrentHashMap.newKeySet();
+    private final List<String> uncommittedCheckpoints = new CopyOnWriteArrayList<>();
+
     @BeforeEach
     void setUp() {
-        strategy = new MemoryLikeWriteStrategy(likeBatchWriter, transactionalOperator);
+        strategy = new MemoryLikeWriteStrategy(likeBatchWriter, transactionalOperator, clock);
 
         strategy.setBackupPath(tempDir.toString());
 
         // lenient()를 추가하여 모든 테스트에서 사용되지 않더라도 예외를 발생시키지 않음
+        // 저널 반영 기록은 트랜잭션이 실패하면 함께 취소
         lenient().when(transactionalOperator.transactional(any(Mono.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+                .thenAnswer(invocation -> invocation.<Mono<?>>getArgument(0)
+                        .doOnSuccess(v -> uncommittedCheckpoints.clear())
+                        .doOnError(e -> {
+                            journalCheckpoints.removeAll(uncommittedCheckpoints);
+                            uncommittedCheckpoints.clear();
+                        }));
     }
 
     @TempDir
@@ -84,9 +110,9 @@ class MemoryLikeWriteStrategyTest {
 
         strategy.flushToDatabase().block();
 
-        // batchWriter에 전달된 Map의 값 확인 (1 + 1 - 1 = 1)
-        verify(likeBatchWriter).apply(argThat(map -> {
-            assertThat(map.get(songId)).isEqualTo(1L);
+        // batchWriter에 전달된 스냅샷의 값 확인 (1 + 1 - 1 = 1)
+        verify(likeBatchWriter).apply(argThat(snapshot -> {
+            assertThat(snapshot.toMap().get(songId)).isEqualTo(1L);
             return true;
         }));
     }
@@ -159,8 +185,8 @@ class MemoryLikeWriteStrategyTest {
         // then: flush 후 합계가 1000인지 확인
         strategy.flushToDatabase().block();
 
-        verify(likeBatchWriter).apply(argThat(map -> {
-            assertThat(map.get(songId)).isEqualTo((long) threadCount);
+        verify(likeBatchWriter).apply(argThat(snapshot -> {
+            assertThat(snapshot.toMap().get(songId)).isEqualTo((long) threadCount);
             return true;
         }));
 
@@ -218,4 +244,184 @@ class MemoryLikeWriteStrategyTest {
         assertThat(backupData).containsKey(String.valueOf(songId));
         assertThat(backupData.get(String.valueOf(songId))).isEqualTo(likeCount.intValue());
     }
+
+    @Test
+    @DisplayName("버퍼 상태는 곡 수와 증감 횟수를 반환하고, Flush가 진행 중이면 다음 Flush는 겹쳐 실행되지 않는다")
+    void bufferStatsAndOverlappingFlush() {
+        // given
+        strategy.addLike(1L).block();
+        strategy.addLike(1L).block();
+        strategy.removeLike(2L).block();
+
+        StepVerifier.create(strategy.bufferStats())
+                .expectNext(new LikeWriteStrategy.BufferStats(2, 3))
+                .verifyComplete();
+
+        // DB 반영이 끝나지 않은 상태
+        Sinks.Empty<Void> pendingWrite = Sinks.empty();
+        given(likeBatchWriter.apply(any())).willReturn(pendingWrite.asMono());
+
+        // when
+        StepVerifier.create(strategy.flush())
+                .then(() -> StepVerifier.create(strategy.flush()).expectNext(false).verifyComplete())
+                .then(pendingWrite::tryEmitEmpty)
+                .expectNext(true)
+                .verifyComplete();
+
+        // then: 진행 중인 Flush 완료 후에는 다시 실행 가능
+        StepVerifier.create(strategy.flush()).expectNext(true).verifyComplete();
+        verify(likeBatchWriter, times(1)).apply(any());
+        StepVerifier.create(strategy.bufferStats())
+                .expectNext(new LikeWriteStrategy.BufferStats(0, 0))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("저널: 강제 종료로 반영되지 못한 증감분은 재기동 시 버퍼로 복구되어 다음 Flush에서 반영된다")
+    void recoverFromJournalAfterCrash() {
+        // given: 저널을 사용하는 인스턴스가 Flush 없이 중단됨
+        Path journalPath = tempDir.resolve("journal");
+        attachJournal(strategy, journalPath);
+        strategy.addLike(1L).block();
+        strategy.addLike(1L).block();
+        strategy.removeLike(2L).block();
+
+        // when: 재기동
+        MemoryLikeWriteStrategy restarted = new MemoryLikeWriteStrategy(likeBatchWriter, transactionalOperator, clock);
+        attachJournal(restarted, journalPath);
+        given(likeBatchWriter.apply(any())).willReturn(Mono.empty());
+        restarted.flushToDatabase().block();
+
+        // then
+        verify(likeBatchWriter).apply(LongCountSnapshot.of(Map.of(1L, 2L, 2L, -1L)));
+        assertThat(LikeJournal.open(journalPath, 100).replay()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저널: Flush가 실패하면 저널을 유지하고, 종료 시 백업 파일을 만들지 않는다")
+    void keepJournalOnFlushFailure() {
+        // given
+        Path journalPath = tempDir.resolve("journal");
+        attachJournal(strategy, journalPath);
+        strategy.addLike(1L).block();
+        given(likeBatchWriter.apply(any())).willReturn(Mono.error(new RuntimeException("DB Error")));
+
+        // when
+        strategy.flushToDatabase().onErrorResume(e -> Mono.empty()).block();
+        strategy.onDestroy();
+
+        // then
+        assertThat(LikeJournal.open(journalPath, 100).replay()).containsExactlyEntriesOf(Map.of(1L, 1L));
+        assertThat(tempDir.toFile().listFiles((dir, name) -> name.startsWith("backup-"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저널: DB 반영 커밋 후 세그먼트 삭제 전에 중단되어도, 재기동 시 같은 증감분을 다시 반영하지 않는다")
+    void skipAppliedSegmentsAfterCrash() throws IOException {
+        // given: Flush 커밋 후 세그먼트가 삭제되지 않은 상태를 재현 (삭제된 세그먼트 복원)
+        Path journalPath = tempDir.resolve("journal");
+        attachJournal(strategy, journalPath);
+        strategy.addLike(1L).block();
+        Path backupPath = tempDir.resolve("journal-backup");
+        copyFiles(journalPath, backupPath);
+        given(likeBatchWriter.apply(any())).willReturn(Mono.empty());
+        strategy.flushToDatabase().block();
+        copyFiles(backupPath, journalPath);
+
+        // when: 재기동 후 새 증감분과 함께 Flush
+        MemoryLikeWriteStrategy restarted = new MemoryLikeWriteStrategy(likeBatchWriter, transactionalOperator, clock);
+        attachJournal(restarted, journalPath);
+        restarted.addLike(2L).block();
+        restarted.flushToDatabase().block();
+
+        // then: 곡 1은 처음 Flush에서만 반영
+        verify(likeBatchWriter).apply(LongCountSnapshot.of(Map.of(1L, 1L)));
+        verify(likeBatchWriter).apply(LongCountSnapshot.of(Map.of(2L, 1L)));
+        verifyNoMoreInteractions(likeBatchWriter);
+    }
+
+    @Test
+    @DisplayName("저널: Flush와 동시에 들어온 증감분은 버퍼와 저널 세그먼트가 같은 쪽에 기록되어 유실되지 않는다")
+    void concurrentAddDuringFlushIsNotLost() throws InterruptedException {
+        // given
+        Path journalPath = tempDir.resolve("journal");
+        attachJournal(strategy, journalPath);
+        given(likeBatchWriter.apply(any())).willReturn(Mono.empty());
+        int threadCount = 4;
+        int perThread = 5_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when: 기록 중 반복 Flush
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        strategy.addLike(1L).block();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        while (latch.getCount() > 0) {
+            strategy.flushToDatabase().block();
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then: DB 반영분 + 저널에 남은 증감분 = 전체 요청 수
+        long applied = mockingDetails(likeBatchWriter).getInvocations().stream()
+                .mapToLong(invocation -> invocation.<LongCountSnapshot>getArgument(0).toMap().getOrDefault(1L, 0L))
+                .sum();
+        long pending = LikeJournal.open(journalPath, 100).replay().getOrDefault(1L, 0L);
+        assertThat(applied + pending).isEqualTo((long) threadCount * perThread);
+    }
+
+    @Test
+    @DisplayName("인기 곡 집계: 주입된 Clock 기준으로 윈도우가 채워진 후에만 메모리에서 응답한다")
+    void trendingUsesInjectedClock() {
+        // given: 기동 시각 이후 1시간이 지난 것으로 보이는 Clock
+        Instant startedAt = clock.instant();
+        Clock steppingClock = mock(Clock.class);
+        given(steppingClock.instant()).willReturn(startedAt, startedAt.plusSeconds(60), startedAt.plus(Duration.ofHours(1)));
+        given(steppingClock.millis()).willReturn(startedAt.toEpochMilli());
+        MemoryLikeWriteStrategy trendingStrategy = new MemoryLikeWriteStrategy(likeBatchWriter, transactionalOperator, steppingClock);
+        trendingStrategy.addLike(1L).block();
+
+        // when & then: 윈도우가 채워지기 전에는 DB 집계로 대체, 채워진 후에는 메모리에서 응답
+        StepVerifier.create(trendingStrategy.findTopLiked(Duration.ofHours(1), 10)).verifyComplete();
+        StepVerifier.create(trendingStrategy.findTopLiked(Duration.ofHours(1), 10))
+                .assertNext(scores -> assertThat(scores).extracting(SongLikeScore::songId).isEqualTo(List.of(1L)))
+                .verifyComplete();
+    }
+
+    private void attachJournal(MemoryLikeWriteStrategy target, Path journalPath) {
+        target.attachJournal(LikeJournal.open(journalPath, 100), this::claimCheckpoint, this::findLastCheckpoint);
+    }
+
+    private Mono<Boolean> claimCheckpoint(String checkpointId) {
+        return Mono.fromSupplier(() -> {
+            boolean claimed = journalCheckpoints.add(checkpointId);
+            if (claimed) uncommittedCheckpoints.add(checkpointId);
+            return claimed;
+        });
+    }
+
+    private Mono<Long> findLastCheckpoint(String prefix) {
+        return Flux.fromIterable(journalCheckpoints)
+                .filter(checkpointId -> checkpointId.startsWith(prefix))
+                .map(checkpointId -> Long.parseLong(checkpointId.substring(prefix.length())))
+                .reduce(Math::max);
+    }
+
+    private static void copyFiles(Path from, Path to) throws IOException {
+        Files.createDirectories(to);
+        try (Stream<Path> files = Files.list(from)) {
+            for (Path file : files.toList()) {
+                Path target = to.resolve(file.getFileName());
+                if (Files.notExists(target)) Files.copy(file, target);
+            }
+        }
+    }
 }
@@ -1,20 +1,35 @@
 package com.seonghyeon.jukebox.service.like.strategy;
 
 import com.seonghyeon.jukebox.AbstractIntegrationTest;
+import com.seonghyeon.jukebox.common.collection.LongCountSnapshot;
+import com.seonghyeon.jukebox.entity.like.Action;
 import com.seonghyeon.jukebox.service.like.LikeBatchWriter;
+import com.seonghyeon.jukebox.service.like.LikeFlushCheckpoints;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy.ApplyResult;
+import com.seonghyeon.jukebox.service.like.strategy.LikeStateStrategy.LikeChange;
+import com.seonghyeon.jukebox.service.like.trending.SongLikeScore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,30 +43,49 @@ class RedisLikeWriteStrategyTest extends AbstractIntegrationTest {
     @Autowired
     private TransactionalOperator transactionalOperator;
 
+    @Autowired
+    private LikeFlushCheckpoints likeFlushCheckpoints;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
     @MockitoBean
     private LikeBatchWriter likeBatchWriter;
 
     private RedisLikeWriteStrategy strategy;
 
-    private static final String REDIS_KEY = "jukebox:like:buffer";
-    private static final String SNAPSHOT_KEY = "jukebox:like:buffer:snapshot";
-    private static final String LOCK_KEY = "jukebox:like:lock";
+    // DB 좋아요 상태 조회 대체 (곡 100은 사용자 1, 2가 이미 좋아요 상태)
+    private final AtomicInteger stateLoadCount = new AtomicInteger();
+    private final Function<Long, Flux<Long>> likedUsersLoader = songId -> {
+        stateLoadCount.incrementAndGet();
+        return songId == 100L ? Flux.just(1L, 2L) : Flux.empty();
+    };
+
+    // 기본 전략은 샤드 1개로 생성하여 버퍼 키를 고정
+    private static final String REDIS_KEY = "jukebox:like:buffer:{0}";
+    private static final String SNAPSHOT_KEY = "jukebox:like:buffer:{0}:snapshot";
+    private static final String LOCK_KEY = "jukebox:like:lock:{0}";
+    private static final String INFLIGHT_KEY = "jukebox:like:buffer:{0}:inflight";
+    private static final String PROGRESS_KEY = "jukebox:like:buffer:{0}:progress";
+    private static final String LEGACY_REDIS_KEY = "jukebox:like:buffer";
+    private static final int SHARDS = 4;
+    private static final String TRENDING_SINCE_KEY = "jukebox:like:trending:{0}:since";
+
+    private static final Instant NOW = Instant.parse("2025-12-30T10:00:30Z");
+    private static final Duration WINDOW = Duration.ofHours(1);
 
     @BeforeEach
     @SuppressWarnings("unchecked")
     void setUp() {
         // 1. Redis 초기화 (테스트 간 데이터 간섭 방지)
         reactiveRedisTemplate.execute(conn -> conn.serverCommands().flushAll()).blockLast();
+        databaseClient.sql("DELETE FROM like_flush_checkpoints").fetch().rowsUpdated().block();
 
         // 2. Writer Mocking
         when(likeBatchWriter.updateLike(any())).thenReturn(Mono.empty());
 
         // 3. 전략 객체 수동 생성 (Mock 주입을 위해)
-        strategy = new RedisLikeWriteStrategy(
-                reactiveRedisTemplate,
-                likeBatchWriter::updateLike,
-                transactionalOperator
-        );
+        strategy = strategyAt(NOW);
     }
 
     @Test
@@ -128,7 +162,7 @@ class RedisLikeWriteStrategyTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @DisplayName("DB 실패 시: 트랜잭션이 롤백되고 스냅샷은 Redis에 안전하게 보존되어야 한다")
+    @DisplayName("DB 실패 시: 트랜잭션이 롤백되고 처리 중 청크는 Redis에 안전하게 보존되어야 한다")
     void flushToDatabase_DbFailure_ShouldPreserveSnapshot() {
         // given
         reactiveRedisTemplate.opsForHash().put(REDIS_KEY, "1", "10").block();
@@ -142,8 +176,8 @@ class RedisLikeWriteStrategyTest extends AbstractIntegrationTest {
                 .verify();
 
         // then
-        // 1. 스냅샷 키가 지워지지 않고 남아있어야 함 (데이터 유실 방지 핵심)
-        StepVerifier.create(reactiveRedisTemplate.hasKey(SNAPSHOT_KEY)).expectNext(true).verifyComplete();
+        // 1. 처리 중 청크가 지워지지 않고 남아있어야 함 (데이터 유실 방지 핵심)
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().get(INFLIGHT_KEY, "1")).expectNext("10").verifyComplete();
 
         // 2. 락은 해제되어야 함 (데드락 방지)
         StepVerifier.create(reactiveRedisTemplate.hasKey(LOCK_KEY)).expectNext(false).verifyComplete();
@@ -242,7 +276,7 @@ class RedisLikeWriteStrategyTest extends AbstractIntegrationTest {
     @DisplayName("배치 처리: 버퍼 사이즈(500)를 초과하는 대량 데이터는 나누어서 처리한다")
     void flushToDatabase_LargeData_ShouldProcessInBatches() {
         // given: 버퍼 사이즈(500)보다 많은 502개의 데이터 생성
-        Map<String, String> largeData = new java.util.HashMap<>();
+        Map<String, String> largeData = new HashMap<>();
         for (int i = 0; i < 502; i++) {
             largeData.put(String.valueOf(i), "1");
         }
@@ -339,4 +373,348 @@ class RedisLikeWriteStrategyTest extends AbstractIntegrationTest {
         // 4. Redis 정리 확인
         StepVerifier.create(reactiveRedisTemplate.hasKey(SNAPSHOT_KEY)).expectNext(false).verifyComplete();
     }
+
+    @Test
+    @DisplayName("인기 곡 조회: 윈도우 내 분 버킷을 합산하여 좋아요 증가량 순으로 반환하고, 0 이하인 곡은 제외한다")
+    void findTopLiked_ShouldUnionMinuteBuckets() {
+        // given: 1시간 전부터 버킷 기록 중이었던 상태
+        reactiveRedisTemplate.opsForValue().set(TRENDING_SINCE_KEY, String.valueOf(NOW.minus(WINDOW).toEpochMilli())).block();
+
+        // 30분 전 버킷 (다른 인스턴스가 기록한 것으로 가정)
+        RedisLikeWriteStrategy otherInstance = strategyAt(NOW.minus(Duration.ofMinutes(30)));
+        otherInstance.addLike(1L).block();
+        otherInstance.addLike(2L).block();
+        otherInstance.addLike(2L).block();
+
+        // 현재 분 버킷
+        strategy.addLike(1L).block();
+        strategy.addLike(1L).block();
+        strategy.addLike(3L).block();
+        strategy.removeLike(3L).block(); // 좋아요 후 취소 -> 0
+
+        // when & then
+        StepVerifier.create(strategy.findTopLiked(WINDOW, 10))
+                .expectNext(List.of(new SongLikeScore(1L, 3L), new SongLikeScore(2L, 2L)))
+                .verifyComplete();
+
+        StepVerifier.create(strategy.findTopLiked(WINDOW, 1))
+                .expectNext(List.of(new SongLikeScore(1L, 3L)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("인기 곡 조회: 윈도우를 벗어난 분 버킷은 합산하지 않는다")
+    void findTopLiked_ShouldExcludeBucketsOutsideWindow() {
+        // given
+        reactiveRedisTemplate.opsForValue().set(TRENDING_SINCE_KEY, String.valueOf(NOW.minus(Duration.ofHours(2)).toEpochMilli())).block();
+        strategyAt(NOW.minus(Duration.ofMinutes(61))).addLike(1L).block();
+        strategy.addLike(2L).block();
+
+        // when & then
+        StepVerifier.create(strategy.findTopLiked(WINDOW, 10))
+                .expectNext(List.of(new SongLikeScore(2L, 1L)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("인기 곡 조회: 버킷 기록 시작 후 윈도우 크기만큼 지나지 않았거나, 지원하지 않는 윈도우이면 빈 결과로 DB 집계에 위임한다")
+    void findTopLiked_NotWarmedUp_ShouldReturnEmpty() {
+        // given: 첫 좋아요 기록 시 기록 시작 시각이 현재로 설정됨
+        strategy.addLike(1L).block();
+
+        // when & then
+        StepVerifier.create(strategy.findTopLiked(WINDOW, 10)).verifyComplete();
+        StepVerifier.create(strategy.findTopLiked(Duration.ofHours(2), 10)).verifyComplete();
+
+        StepVerifier.create(reactiveRedisTemplate.opsForValue().get(TRENDING_SINCE_KEY))
+                .expectNext(String.valueOf(NOW.toEpochMilli()))
+                .verifyComplete();
+        // 기록이 끊기면 버킷보다 조금 늦게 만료되어 Warm-up을 다시 판단
+        StepVerifier.create(reactiveRedisTemplate.getExpire(TRENDING_SINCE_KEY))
+                .assertNext(ttl -> assertThat(ttl).isGreaterThan(Duration.ofMinutes(61)).isLessThanOrEqualTo(Duration.ofMinutes(62)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("인기 곡 조회: 한 샤드라도 Warm-up 전이면 빈 결과로 DB 집계에 위임한다")
+    void findTopLiked_ShardNotWarmedUp_ShouldReturnEmpty() {
+        // given: 샤드 0만 기록 시작 시각이 있는 상태
+        RedisLikeWriteStrategy sharded = newStrategy(NOW, SHARDS);
+        reactiveRedisTemplate.opsForValue().set(TRENDING_SINCE_KEY, String.valueOf(NOW.minus(WINDOW).toEpochMilli())).block();
+
+        // when & then
+        StepVerifier.create(sharded.findTopLiked(WINDOW, 10)).verifyComplete();
+    }
+
+    private RedisLikeWriteStrategy strategyAt(Instant instant) {
+        return newStrategy(instant, 1);
+    }
+
+    private RedisLikeWriteStrategy newStrategy(Instant instant, int shards) {
+        return new RedisLikeWriteStrategy(
+                reactiveRedisTemplate,
+                likeBatchWriter::updateLike,
+                transactionalOperator,
+                Clock.fixed(instant, ZoneId.of("UTC")),
+                likedUsersLoader,
+                shards,
+                likeFlushCheckpoints::claim
+        );
+    }
+
+    @Test
+    @DisplayName("원자적 좋아요: 최초 요청 시 DB 상태를 적재한 뒤 상태 변경과 버퍼 증감을 함께 반영한다")
+    void applyLike_ShouldLoadStateAndApply() {
+        // when & then: 사용자 3의 좋아요 -> 반영
+        StepVerifier.create(strategy.applyLike(100L, 3L, Action.LIKE))
+                .expectNext(true)
+                .verifyComplete();
+
+        // DB에서 이미 좋아요 상태였던 사용자 1의 좋아요 -> 충돌
+        StepVerifier.create(strategy.applyLike(100L, 1L, Action.LIKE))
+                .expectNext(false)
+                .verifyComplete();
+
+        // 사용자 1의 좋아요 취소 -> 반영
+        StepVerifier.create(strategy.applyLike(100L, 1L, Action.UNLIKE))
+                .expectNext(true)
+                .verifyComplete();
+
+        // then: 상태 적재는 한 번만 수행되고, 버퍼에는 +1 -1 = 0 누적
+        assertThat(stateLoadCount.get()).isEqualTo(1);
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().get(REDIS_KEY, "100"))
+                .expectNext("0")
+                .verifyComplete();
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().hasKey("jukebox:like:state:{0}:100", "1"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("원자적 좋아요: 좋아요하지 않은 곡의 취소는 충돌로 처리하고 버퍼를 변경하지 않는다")
+    void applyLike_UnlikeWithoutLike_ShouldConflict() {
+        StepVerifier.create(strategy.applyLike(200L, 1L, Action.UNLIKE))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().hasKey(REDIS_KEY, "200"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("원자적 좋아요: 동시에 같은 좋아요 요청이 들어와도 한 건만 반영된다")
+    void applyLike_Concurrent_ShouldApplyOnce() {
+        // when
+        List<Boolean> results = Flux.range(0, 20)
+                .flatMap(i -> strategy.applyLike(300L, 1L, Action.LIKE))
+                .collectList()
+                .block();
+
+        // then
+        assertThat(results).containsOnlyOnce(true);
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().get(REDIS_KEY, "300"))
+                .expectNext("1")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("원자적 좋아요: 되돌리기는 반영한 상태와 버퍼 증감을 원래대로 돌리고, 상태 키에는 TTL이 설정된다")
+    void revertLike_ShouldRestoreStateAndBuffer() {
+        // given
+        strategy.applyLike(100L, 3L, Action.LIKE).block();
+
+        // when
+        StepVerifier.create(strategy.revertLike(100L, 3L, Action.LIKE)).verifyComplete();
+
+        // then: 상태 미반영, 버퍼 +1 -1 = 0, 같은 요청을 다시 반영 가능
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().hasKey("jukebox:like:state:{0}:100", "3"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().get(REDIS_KEY, "100"))
+                .expectNext("0")
+                .verifyComplete();
+        StepVerifier.create(reactiveRedisTemplate.getExpire("jukebox:like:state:{0}:100"))
+                .assertNext(ttl -> assertThat(ttl).isPositive())
+                .verifyComplete();
+        StepVerifier.create(strategy.applyLike(100L, 3L, Action.LIKE))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("일괄 좋아요: 같은 조합의 요청은 순서대로 적용하고, 상태가 없는 곡은 적재한 뒤 다시 반영한다")
+    void applyLikes_ShouldApplyInOrderAndLoadMissingState() {
+        // given: 곡 200의 상태만 미리 적재
+        strategy.applyLike(200L, 1L, Action.LIKE).block();
+        stateLoadCount.set(0);
+
+        // when
+        StepVerifier.create(strategy.applyLikes(List.of(
+                        new LikeChange(100L, 3L, Action.LIKE),   // 상태 적재 후 반영
+                        new LikeChange(200L, 1L, Action.LIKE),   // 이미 좋아요 -> 충돌
+                        new LikeChange(100L, 1L, Action.LIKE),   // DB에서 좋아요 상태 -> 충돌
+                        new LikeChange(100L, 3L, Action.UNLIKE), // 앞선 좋아요 이후 취소 -> 반영
+                        new LikeChange(200L, 2L, Action.LIKE)
+                )))
+                .expectNext(List.of(ApplyResult.APPLIED, ApplyResult.CONFLICT, ApplyResult.CONFLICT, ApplyResult.APPLIED, ApplyResult.APPLIED))
+                .verifyComplete();
+
+        // then: 곡 100의 상태만 한 번 적재하고, 버퍼에는 반영된 증감만 누적
+        assertThat(stateLoadCount.get()).isEqualTo(1);
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().get(REDIS_KEY, "100"))
+                .expectNext("0")
+                .verifyComplete();
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().get(REDIS_KEY, "200"))
+                .expectNext("2")
+                .verifyComplete();
+        StepVerifier.create(reactiveRedisTemplate.opsForHash().hasKey("jukebox:like:state:{0}:200", "2"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("샤딩: 곡별 증감은 여러 샤드에 나뉘어 쌓이고, 한 번의 Flush로 모든 샤드가 반영된다")
+    void flushToDatabase_Sharded_ShouldFlushAllShards() {
+        // given
+        RedisLikeWriteStrategy sharded = newStrategy(NOW, SHARDS);
+        Flux.range(1, 100).concatMap(i -> sharded.addLike((long) i)).blockLast();
+
+        List<String> shardKeys = reactiveRedisTemplate.keys("jukebox:like:buffer:{*}").collectList().block();
+        assertThat(shardKeys).hasSizeGreaterThan(1).allMatch(key -> !key.endsWith(":snapshot"));
+        StepVerifier.create(sharded.bufferStats())
+                .assertNext(stats -> assertThat(stats.pendingSongs()).isEqualTo(100))
+                .verifyComplete();
+
+        // when
+        StepVerifier.create(sharded.flushToDatabase()).verifyComplete();
+
+        // then: 샤드마다 별도 배치로 반영되며, 합계는 전체 곡 수와 같음
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(likeBatchWriter, times(shardKeys.size())).updateLike(captor.capture());
+        assertThat(captor.getAllValues().stream().mapToInt(Map::size).sum()).isEqualTo(100);
+        StepVerifier.create(reactiveRedisTemplate.keys("jukebox:like:*").collectList())
+                .assertNext(keys -> assertThat(keys).noneMatch(key -> key.startsWith("jukebox:like:buffer") || key.startsWith("jukebox:like:lock")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("샤딩: 다른 인스턴스가 락을 잡은 샤드만 건너뛰고 나머지 샤드는 Flush 한다")
+    void flushToDatabase_Sharded_ShouldSkipOnlyLockedShard() {
+        // given
+        RedisLikeWriteStrategy sharded = newStrategy(NOW, SHARDS);
+        Flux.range(1, 100).concatMap(i -> sharded.addLike((long) i)).blockLast();
+        String lockedBuffer = reactiveRedisTemplate.keys("jukebox:like:buffer:{*}").blockFirst();
+        String lockedShardTag = lockedBuffer.substring(lockedBuffer.indexOf('{'));
+        reactiveRedisTemplate.opsForValue().set("jukebox:like:lock:" + lockedShardTag, "other-server", Duration.ofSeconds(60)).block();
+        Long lockedSongs = reactiveRedisTemplate.opsForHash().size(lockedBuffer).block();
+
+        // when
+        StepVerifier.create(sharded.flushToDatabase()).verifyComplete();
+
+        // then
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(likeBatchWriter, atLeastOnce()).updateLike(captor.capture());
+        assertThat(captor.getAllValues().stream().mapToLong(Map::size).sum()).isEqualTo(100 - lockedSongs);
+        StepVerifier.create(reactiveRedisTemplate.keys("jukebox:like:buffer:{*}").collectList())
+                .assertNext(keys -> assertThat(keys).containsExactly(lockedBuffer))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("샤딩 전환: 샤딩 이전의 단일 버퍼가 남아 있으면 함께 Flush 한다")
+    void flushToDatabase_LegacyBuffer_ShouldBeDrained() {
+        // given
+        reactiveRedisTemplate.opsForHash().put(LEGACY_REDIS_KEY, "1", "3").block();
+
+        // when
+        StepVerifier.create(strategy.flushToDatabase()).verifyComplete();
+
+        // then
+        verify(likeBatchWriter, times(1)).updateLike(Map.of(1L, 3L));
+        StepVerifier.create(reactiveRedisTemplate.hasKey(LEGACY_REDIS_KEY)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("청크 재처리: DB 실패로 남은 청크는 다음 Flush에서 이어서 한 번만 반영된다")
+    void flushToDatabase_AfterDbFailure_ShouldResumeChunk() {
+        // given: 첫 Flush는 DB 실패
+        reactiveRedisTemplate.opsForHash().put(REDIS_KEY, "1", "10").block();
+        when(likeBatchWriter.updateLike(any()))
+                .thenReturn(Mono.error(new RuntimeException("DB Connection Fail")))
+                .thenReturn(Mono.empty());
+        StepVerifier.create(strategy.flushToDatabase()).expectError(RuntimeException.class).verify();
+
+        // when
+        StepVerifier.create(strategy.flushToDatabase()).verifyComplete();
+
+        // then: 롤백된 청크 기록은 남지 않으므로 재처리 시 반영됨
+        verify(likeBatchWriter, times(2)).updateLike(Map.of(1L, 10L));
+        StepVerifier.create(reactiveRedisTemplate.hasKey(INFLIGHT_KEY)).expectNext(false).verifyComplete();
+        StepVerifier.create(reactiveRedisTemplate.hasKey(PROGRESS_KEY)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("청크 재처리: DB 반영 후 Redis 정리 전에 중단된 청크는 다시 반영하지 않고 정리만 한다")
+    void flushToDatabase_AlreadyAppliedChunk_ShouldNotApplyTwice() {
+        // given: 청크 반영은 커밋되었지만 처리 중 청크가 남아 있는 상태
+        String chunkId = "jukebox:like:buffer:{0}:applied-chunk";
+        likeFlushCheckpoints.claim(chunkId).block();
+        reactiveRedisTemplate.opsForHash().put(INFLIGHT_KEY, "1", "10").block();
+        reactiveRedisTemplate.opsForHash().put(PROGRESS_KEY, "chunk", chunkId).block();
+        reactiveRedisTemplate.opsForHash().put(SNAPSHOT_KEY, "2", "5").block();
+
+        // when
+        StepVerifier.create(strategy.flushToDatabase()).verifyComplete();
+
+        // then: 남은 스냅샷만 반영
+        verify(likeBatchWriter, times(1)).updateLike(Map.of(2L, 5L));
+        verify(likeBatchWriter, never()).updateLike(Map.of(1L, 10L));
+        StepVerifier.create(reactiveRedisTemplate.hasKey(INFLIGHT_KEY)).expectNext(false).verifyComplete();
+        StepVerifier.create(reactiveRedisTemplate.hasKey(SNAPSHOT_KEY)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("일괄 반영: 곡별로 합산된 증감분을 샤드 버퍼와 분 버킷에 한 번에 반영한다")
+    void recordDeltas_ShouldApplyToShardsAndTrendingBuckets() {
+        // given
+        RedisLikeWriteStrategy sharded = newStrategy(NOW, SHARDS);
+        Map<Long, Long> deltas = new HashMap<>();
+        for (long songId = 1; songId <= 100; songId++) {
+            deltas.put(songId, songId % 2 == 0 ? songId : -1L);
+        }
+
+        // when
+        StepVerifier.create(sharded.recordDeltas(LongCountSnapshot.of(deltas), (songId, delta) -> {
+                    throw new AssertionError("Unexpected failure: " + songId);
+                }))
+                .expectNext(0L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(sharded.bufferStats())
+                .assertNext(stats -> assertThat(stats.pendingSongs()).isEqualTo(100))
+                .verifyComplete();
+        StepVerifier.create(sharded.flushToDatabase()).verifyComplete();
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(likeBatchWriter, atLeastOnce()).updateLike(captor.capture());
+        Map<Long, Long> written = new HashMap<>();
+        captor.getAllValues().forEach(written::putAll);
+        assertThat(written).isEqualTo(deltas);
+
+        // 분 버킷은 곡의 샤드별로 나뉘어 기록되고, 조회 시 샤드별 상위 곡을 합쳐 반환
+        long recordedShards = Flux.range(0, SHARDS)
+                .filterWhen(shard -> reactiveRedisTemplate.hasKey("jukebox:like:trending:{" + shard + "}:" + NOW.getEpochSecond() / 60))
+                .count()
+                .block();
+        assertThat(recordedShards).isEqualTo(SHARDS);
+        for (int shard = 0; shard < SHARDS; shard++) {
+            reactiveRedisTemplate.opsForValue()
+                    .set("jukebox:like:trending:{" + shard + "}:since", String.valueOf(NOW.minus(WINDOW).toEpochMilli()))
+                    .block();
+        }
+        StepVerifier.create(sharded.findTopLiked(WINDOW, 3))
+                .expectNext(List.of(new SongLikeScore(100L, 100L), new SongLikeScore(98L, 98L), new SongLikeScore(96L, 96L)))
+                .verifyComplete();
+    }
 }
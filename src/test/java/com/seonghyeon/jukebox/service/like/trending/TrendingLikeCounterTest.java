@@ -0,0 +1,127 @@
+package com.seonghyeon.jukebox.service.like.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingLikeCounterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(60);
+
+    private MutableClock clock;
+    private TrendingLikeCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-30T10:00:00Z"));
+        counter = new TrendingLikeCounter(WINDOW, clock);
+    }
+
+    @Test
+    @DisplayName("윈도우 합계 기준 내림차순으로 상위 곡을 반환하고, 합계가 0 이하인 곡은 제외한다")
+    void topLikedOrderAndExcludeNonPositive() {
+        // given
+        counter.record(1L, 1);
+        counter.record(2L, 1);
+        counter.record(2L, 1);
+        counter.record(3L, 1);
+        counter.record(3L, -1); // 좋아요 후 취소
+
+        // when
+        List<SongLikeScore> result = counter.topLiked(10);
+
+        // then
+        assertThat(result).containsExactly(new SongLikeScore(2L, 2), new SongLikeScore(1L, 1));
+    }
+
+    @Test
+    @DisplayName("limit 개수만큼만 반환한다")
+    void topLikedLimit() {
+        // given
+        for (long songId = 1; songId <= 20; songId++) {
+            counter.record(songId, songId);
+        }
+
+        // when
+        List<SongLikeScore> result = counter.topLiked(3);
+
+        // then
+        assertThat(result).extracting(SongLikeScore::songId).containsExactly(20L, 19L, 18L);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 분 버킷의 좋아요는 합계에서 제외된다")
+    void expireOldBuckets() {
+        // given
+        counter.record(1L, 5);
+        clock.advance(Duration.ofMinutes(30));
+        counter.record(2L, 3);
+
+        // when: 첫 기록으로부터 60분 경과 -> 곡 1의 버킷 만료
+        clock.advance(Duration.ofMinutes(30));
+
+        // then
+        assertThat(counter.topLiked(10)).containsExactly(new SongLikeScore(2L, 3));
+    }
+
+    @Test
+    @DisplayName("윈도우보다 오래 기록이 없으면 모든 버킷이 만료된다")
+    void expireAllAfterLongIdle() {
+        // given
+        counter.record(1L, 5);
+
+        // when
+        clock.advance(Duration.ofHours(5));
+
+        // then
+        assertThat(counter.topLiked(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기동 후 윈도우 크기만큼 지나야 하며, 윈도우 크기가 일치해야 집계 결과를 제공한다")
+    void covers() {
+        assertThat(counter.covers(WINDOW)).isFalse();
+
+        clock.advance(WINDOW);
+
+        assertThat(counter.covers(WINDOW)).isTrue();
+        assertThat(counter.covers(Duration.ofMinutes(30))).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.seonghyeon.jukebox.service.song;
+
+import com.seonghyeon.jukebox.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SongCatalogIndexTest {
+
+    @Mock
+    private SongRepository songRepository;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    private SongCatalogIndex songCatalogIndex;
+
+    @BeforeEach
+    void setUp() {
+        songCatalogIndex = new SongCatalogIndex(songRepository, databaseClient);
+    }
+
+    @Test
+    @DisplayName("인덱스에 등록된 곡은 DB 조회 없이 존재하는 것으로 판별한다")
+    void indexedSongSkipsDatabase() {
+        // given
+        songCatalogIndex.addAll(List.of(1L, 2L));
+
+        // when & then
+        StepVerifier.create(songCatalogIndex.exists(1L)).expectNext(true).verifyComplete();
+        verify(songRepository, never()).existsById(any(Long.class));
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 곡은 DB로 확인하고, 존재하면 인덱스에 추가한다")
+    void missFallsBackToDatabase() {
+        // given
+        given(songRepository.existsById(3L)).willReturn(Mono.just(true));
+
+        // when & then
+        StepVerifier.create(songCatalogIndex.exists(3L)).expectNext(true).verifyComplete();
+        StepVerifier.create(songCatalogIndex.exists(3L)).expectNext(true).verifyComplete();
+        verify(songRepository, times(1)).existsById(3L);
+    }
+
+    @Test
+    @DisplayName("DB에도 없는 곡은 존재하지 않는 것으로 판별하며 인덱스에 추가하지 않는다")
+    void unknownSongIsNotIndexed() {
+        // given
+        given(songRepository.existsById(999L)).willReturn(Mono.just(false));
+
+        // when & then
+        StepVerifier.create(songCatalogIndex.exists(999L)).expectNext(false).verifyComplete();
+        StepVerifier.create(songCatalogIndex.exists(999L)).expectNext(false).verifyComplete();
+        verify(songRepository, times(2)).existsById(999L);
+    }
+
+    @Test
+    @DisplayName("인덱스 구축이 완료된 후에는 인덱스에 없는 곡을 DB 조회 없이 존재하지 않는 것으로 판별한다")
+    void missAfterRebuildSkipsDatabase() {
+        // given
+        givenSongIdsInDatabase(1L, 2L);
+        songCatalogIndex.rebuild();
+
+        // when & then
+        assertThat(songCatalogIndex.isComplete()).isTrue();
+        StepVerifier.create(songCatalogIndex.exists(2L)).expectNext(true).verifyComplete();
+        StepVerifier.create(songCatalogIndex.exists(999L)).expectNext(false).verifyComplete();
+        StepVerifier.create(songCatalogIndex.existingIds(List.of(1L, 999L))).expectNext(Set.of(1L)).verifyComplete();
+        verify(songRepository, never()).existsById(any(Long.class));
+        verify(songRepository, never()).findExistingIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("인덱스 구축에 실패하면 예외를 전파하지 않고 계속 DB로 확인한다")
+    void failedRebuildKeepsDatabaseFallback() {
+        // given
+        given(databaseClient.sql(any(String.class))).willThrow(new IllegalStateException("connection refused"));
+        given(songRepository.existsById(3L)).willReturn(Mono.just(true));
+
+        // when
+        songCatalogIndex.rebuild();
+
+        // then
+        assertThat(songCatalogIndex.isComplete()).isFalse();
+        StepVerifier.create(songCatalogIndex.exists(3L)).expectNext(true).verifyComplete();
+        verify(songRepository).existsById(3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSongIdsInDatabase(Long... ids) {
+        DatabaseClient.GenericExecuteSpec executeSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Long> fetchSpec = mock(RowsFetchSpec.class);
+        given(databaseClient.sql(any(String.class))).willReturn(executeSpec);
+        given(executeSpec.map(any(Function.class))).willReturn(fetchSpec);
+        given(fetchSpec.all()).willReturn(Flux.just(ids));
+    }
+}